@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) 1997, 2015 by ProSyst Software GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.automation.core.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.smarthome.automation.Action;
+import org.eclipse.smarthome.automation.Condition;
+import org.eclipse.smarthome.automation.Rule;
+import org.eclipse.smarthome.automation.Trigger;
+import org.eclipse.smarthome.config.core.Configuration;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test the compiled context of rules
+ *
+ * @author agent - Initial contribution
+ */
+public class RuleContextTest {
+
+    private RuntimeRule createRule() {
+        List<Trigger> triggers = new ArrayList<Trigger>();
+        triggers.add(new Trigger("trigger", "typeA", new Configuration()));
+
+        Map<String, String> conditionInputs = new HashMap<String, String>();
+        conditionInputs.put("event", "trigger.event");
+        conditionInputs.put("missing", "trigger.missing");
+        List<Condition> conditions = new ArrayList<Condition>();
+        conditions.add(new Condition("condition", "typeB", new Configuration(), conditionInputs));
+
+        Map<String, String> actionInputs = new HashMap<String, String>();
+        actionInputs.put("value", "condition2.result");
+        actionInputs.put("ref", "$event");
+        actionInputs.put("unknownRef", "$unknown");
+        List<Action> actions = new ArrayList<Action>();
+        actions.add(new Action("action", "typeC", new Configuration(), actionInputs));
+
+        return new RuntimeRule(new Rule("rule", triggers, conditions, actions, null, null, null, null));
+    }
+
+    @Test
+    public void testConnectionsAreResolved() {
+        RuleContextLayout layout = new RuleContextLayout(createRule(), null);
+        RuleContext context = layout.newContext();
+
+        context.setOutputs("trigger", Collections.singletonMap("event", "ON"));
+        context.bindInputs("condition");
+
+        Assert.assertEquals("ON", context.get("trigger.event"));
+        Assert.assertEquals("ON", context.get("event"));
+        Assert.assertTrue("Connected outputs without value are set to null", context.containsKey("missing"));
+        Assert.assertNull(context.get("missing"));
+
+        context.put("condition2.result", 42);
+        context.bindInputs("action");
+        Assert.assertEquals(42, context.get("value"));
+        Assert.assertEquals("ON", context.get("ref"));
+        Assert.assertFalse("References without value are not set", context.containsKey("unknownRef"));
+    }
+
+    @Test
+    public void testUnknownKeys() {
+        RuleContextLayout layout = new RuleContextLayout(createRule(), null);
+        RuleContext context = layout.newContext();
+
+        context.setOutputs("trigger", Collections.singletonMap("undeclared", "value"));
+        context.put("handlerKey", "handlerValue");
+
+        Assert.assertEquals("value", context.get("trigger.undeclared"));
+        Assert.assertEquals("handlerValue", context.get("handlerKey"));
+        Assert.assertEquals(2, context.size());
+        Assert.assertEquals("handlerValue", context.remove("handlerKey"));
+        Assert.assertEquals(1, context.size());
+    }
+
+    @Test
+    public void testContextsAreIndependent() {
+        RuleContextLayout layout = new RuleContextLayout(createRule(), null);
+        RuleContext context1 = layout.newContext();
+        RuleContext context2 = layout.newContext();
+
+        context1.setOutputs("trigger", Collections.singletonMap("event", "ON"));
+
+        Assert.assertEquals("ON", context1.get("trigger.event"));
+        Assert.assertNull(context2.get("trigger.event"));
+        Assert.assertTrue(context2.isEmpty());
+    }
+
+}
@@ -247,7 +247,7 @@ public class ReferenceResolverUtil {
         return obj instanceof String || obj instanceof Number || obj instanceof Boolean;
     }
 
-    private static boolean isReference(Object value) {
+    static boolean isReference(Object value) {
         boolean result = false;
         if (value instanceof String) {
             String strVal = ((String) value).trim();
@@ -0,0 +1,170 @@
+/**
+ * Copyright (c) 1997, 2015 by ProSyst Software GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.automation.core.internal;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.smarthome.automation.core.internal.RuleContextLayout.InputBinding;
+
+/**
+ * This class is the context of a single execution of a {@link RuntimeRule}. The values of the keys known by the
+ * {@link RuleContextLayout} of the rule are kept in an array, all other keys, which are put by the module handlers, in
+ * a map. As every execution gets a context of its own, executions of different rules don't share any state.
+ *
+ * @author agent - Initial Contribution
+ */
+class RuleContext extends AbstractMap<String, Object> {
+
+    /** marks a slot which contains the value null, in contrast to an empty slot */
+    private static final Object NULL = new Object();
+
+    private final RuleContextLayout layout;
+    private final Object[] values;
+    private Map<String, Object> others;
+
+    RuleContext(RuleContextLayout layout) {
+        this.layout = layout;
+        this.values = new Object[layout.size()];
+    }
+
+    /**
+     * Sets the values of the outputs of a module.
+     *
+     * @param moduleId the id of the module
+     * @param outputs the values by output name
+     */
+    void setOutputs(String moduleId, Map<String, ?> outputs) {
+        Map<String, Integer> slots = layout.getOutputSlots(moduleId);
+        for (Map.Entry<String, ?> entry : outputs.entrySet()) {
+            Integer slot = slots.get(entry.getKey());
+            if (slot != null) {
+                setSlot(slot, entry.getValue());
+            } else {
+                put(moduleId + RuleEngine.OUTPUT_SEPARATOR + entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Sets the inputs of a module from the outputs and references they are connected to.
+     *
+     * @param moduleId the id of the module
+     */
+    void bindInputs(String moduleId) {
+        InputBinding[] bindings = layout.getInputBindings(moduleId);
+        if (bindings == null) {
+            return;
+        }
+        for (InputBinding binding : bindings) {
+            if (binding.source < 0) {
+                values[binding.input] = binding.constant;
+            } else if (binding.reference) {
+                Object value = values[binding.source];
+                if (value != null && value != NULL) {
+                    values[binding.input] = value;
+                }
+            } else {
+                Object value = values[binding.source];
+                values[binding.input] = value != null ? value : NULL;
+            }
+        }
+    }
+
+    void setSlot(int slot, Object value) {
+        values[slot] = value != null ? value : NULL;
+    }
+
+    @Override
+    public Object get(Object key) {
+        Integer slot = key instanceof String ? layout.getSlot((String) key) : null;
+        if (slot != null) {
+            Object value = values[slot];
+            return value != NULL ? value : null;
+        }
+        return others != null ? others.get(key) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        Integer slot = key instanceof String ? layout.getSlot((String) key) : null;
+        if (slot != null) {
+            return values[slot] != null;
+        }
+        return others != null && others.containsKey(key);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        Integer slot = layout.getSlot(key);
+        if (slot != null) {
+            Object previous = get(key);
+            setSlot(slot, value);
+            return previous;
+        }
+        if (others == null) {
+            others = new HashMap<String, Object>();
+        }
+        return others.put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        Integer slot = key instanceof String ? layout.getSlot((String) key) : null;
+        if (slot != null) {
+            Object previous = get(key);
+            values[slot] = null;
+            return previous;
+        }
+        return others != null ? others.remove(key) : null;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = null;
+        }
+        others = null;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<Entry<String, Object>>() {
+
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return entries().iterator();
+            }
+
+            @Override
+            public int size() {
+                return entries().size();
+            }
+        };
+    }
+
+    private List<Entry<String, Object>> entries() {
+        List<Entry<String, Object>> entries = new ArrayList<Entry<String, Object>>();
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                entries.add(new SimpleEntry<String, Object>(layout.getKey(i), values[i] != NULL ? values[i] : null));
+            }
+        }
+        if (others != null) {
+            entries.addAll(others.entrySet());
+        }
+        return entries;
+    }
+
+}
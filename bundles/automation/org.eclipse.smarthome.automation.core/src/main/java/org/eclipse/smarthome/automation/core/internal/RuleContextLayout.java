@@ -0,0 +1,188 @@
+/**
+ * Copyright (c) 1997, 2015 by ProSyst Software GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.automation.core.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.smarthome.automation.Action;
+import org.eclipse.smarthome.automation.Condition;
+import org.eclipse.smarthome.automation.Module;
+import org.eclipse.smarthome.automation.Trigger;
+import org.eclipse.smarthome.automation.core.internal.type.ModuleTypeManager;
+import org.eclipse.smarthome.automation.type.ActionType;
+import org.eclipse.smarthome.automation.type.ModuleType;
+import org.eclipse.smarthome.automation.type.Output;
+import org.eclipse.smarthome.automation.type.TriggerType;
+
+/**
+ * This class is the compiled form of the context of a {@link RuntimeRule}. It is created once, when the rule is
+ * registered in the {@link RuleEngine}, and assigns a fixed slot to every output of the rule's modules and to every
+ * input of its conditions and actions. The {@link Connection}s of the modules are resolved to pairs of slot indexes, so
+ * that an execution of the rule only copies values between the slots of its {@link RuleContext}.
+ *
+ * @author agent - Initial Contribution
+ */
+class RuleContextLayout {
+
+    private final Map<String, Integer> slots = new HashMap<String, Integer>();
+    private final List<String> keys = new ArrayList<String>();
+    private final Map<String, Map<String, Integer>> outputSlots = new HashMap<String, Map<String, Integer>>();
+    private final Map<String, InputBinding[]> inputBindings = new HashMap<String, InputBinding[]>();
+    private final Map<Integer, Object> defaultValues = new HashMap<Integer, Object>();
+
+    /**
+     * Compiles the context of a rule.
+     *
+     * @param rule the rule to compile
+     * @param mtManager the module type manager providing the outputs of the modules or null
+     */
+    RuleContextLayout(RuntimeRule rule, ModuleTypeManager mtManager) {
+        for (Trigger trigger : rule.getTriggers()) {
+            addOutputs(trigger, mtManager);
+        }
+        for (Action action : rule.getActions()) {
+            addOutputs(action, mtManager);
+        }
+        for (Condition condition : rule.getConditions()) {
+            addInputs(condition.getId(), ((RuntimeCondition) condition).getConnections());
+        }
+        for (Action action : rule.getActions()) {
+            addInputs(action.getId(), ((RuntimeAction) action).getConnections());
+        }
+    }
+
+    /**
+     * Creates a new, empty context for an execution of the rule, which only contains the default values of the
+     * module outputs.
+     *
+     * @return the new context
+     */
+    RuleContext newContext() {
+        RuleContext context = new RuleContext(this);
+        for (Map.Entry<Integer, Object> entry : defaultValues.entrySet()) {
+            context.setSlot(entry.getKey(), entry.getValue());
+        }
+        return context;
+    }
+
+    int size() {
+        return keys.size();
+    }
+
+    String getKey(int slot) {
+        return keys.get(slot);
+    }
+
+    /**
+     * @return the slot of the given key or null, if the key is not part of the layout
+     */
+    Integer getSlot(String key) {
+        return slots.get(key);
+    }
+
+    /**
+     * @return the slots of the outputs of a module by output name
+     */
+    Map<String, Integer> getOutputSlots(String moduleId) {
+        Map<String, Integer> result = outputSlots.get(moduleId);
+        return result != null ? result : Collections.<String, Integer> emptyMap();
+    }
+
+    /**
+     * @return the compiled connections of the inputs of a module
+     */
+    InputBinding[] getInputBindings(String moduleId) {
+        return inputBindings.get(moduleId);
+    }
+
+    private void addOutputs(Module module, ModuleTypeManager mtManager) {
+        ModuleType mt = mtManager != null ? mtManager.get(module.getTypeUID()) : null;
+        List<Output> outputs = null;
+        if (mt instanceof TriggerType) {
+            outputs = ((TriggerType) mt).getOutputs();
+        } else if (mt instanceof ActionType) {
+            outputs = ((ActionType) mt).getOutputs();
+        }
+        if (outputs != null) {
+            for (Output output : outputs) {
+                int slot = addOutputSlot(module.getId(), output.getName());
+                if (output.getDefaultValue() != null) {
+                    defaultValues.put(slot, output.getDefaultValue());
+                }
+            }
+        }
+    }
+
+    private void addInputs(String moduleId, Set<Connection> connections) {
+        if (connections == null || connections.isEmpty()) {
+            return;
+        }
+        InputBinding[] bindings = new InputBinding[connections.size()];
+        int i = 0;
+        for (Connection c : connections) {
+            String outputModuleId = c.getOuputModuleId();
+            int input = addSlot(c.getInputName());
+            if (outputModuleId != null) {
+                bindings[i++] = new InputBinding(input, addOutputSlot(outputModuleId, c.getOutputName()), false, null);
+            } else if (ReferenceResolverUtil.isReference(c.getOutputName())) {
+                // references are resolved the same way as by ReferenceResolverUtil.resolveReference()
+                String key = c.getOutputName().trim().substring(1);
+                bindings[i++] = new InputBinding(input, addSlot(key), true, null);
+            } else {
+                bindings[i++] = new InputBinding(input, -1, false, c.getOutputName());
+            }
+        }
+        inputBindings.put(moduleId, bindings);
+    }
+
+    private int addOutputSlot(String moduleId, String outputName) {
+        int slot = addSlot(moduleId + RuleEngine.OUTPUT_SEPARATOR + outputName);
+        Map<String, Integer> moduleSlots = outputSlots.get(moduleId);
+        if (moduleSlots == null) {
+            moduleSlots = new HashMap<String, Integer>();
+            outputSlots.put(moduleId, moduleSlots);
+        }
+        moduleSlots.put(outputName, slot);
+        return slot;
+    }
+
+    private int addSlot(String key) {
+        Integer slot = slots.get(key);
+        if (slot == null) {
+            slot = keys.size();
+            slots.put(key, slot);
+            keys.add(key);
+        }
+        return slot;
+    }
+
+    /**
+     * A connection of an input to an output, to a reference or to a constant value, which has been resolved to slot
+     * indexes. Outputs are copied in any case, while references are only copied if they have a value.
+     */
+    static class InputBinding {
+
+        final int input;
+        final int source;
+        final boolean reference;
+        final Object constant;
+
+        InputBinding(int input, int source, boolean reference, Object constant) {
+            this.input = input;
+            this.source = source;
+            this.reference = reference;
+            this.constant = constant;
+        }
+    }
+
+}
@@ -18,7 +18,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -56,6 +56,7 @@ import org.eclipse.smarthome.config.core.ConfigDescriptionParameter;
 import org.eclipse.smarthome.config.core.ConfigDescriptionParameter.Type;
 import org.eclipse.smarthome.config.core.ConfigUtil;
 import org.eclipse.smarthome.config.core.Configuration;
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.ServiceReference;
 import org.osgi.service.cm.ConfigurationException;
@@ -101,6 +102,18 @@ public class RuleEngine
      */
     public static final long DEFAULT_REINITIALIZATION_DELAY = 500;
 
+    /**
+     * Name of the shared scheduled thread pool the rules are re-initialized on.
+     */
+    static final String THREAD_POOL_NAME = "automation";
+
+    /**
+     * Name of the shared thread pool the rules are executed on. The executions of a single rule run one after another,
+     * different rules run in parallel. The size of the pool can be configured by
+     * {@code org.eclipse.smarthome.threadpool:ruleExecution=<poolSize>}.
+     */
+    static final String RULE_EXECUTION_POOL_NAME = "ruleExecution";
+
     /**
      * Delay between rule's re-initialization tries.
      */
@@ -158,17 +171,14 @@ public class RuleEngine
 
     private StatusInfoCallback statusInfoCallback;
 
-    private Map<String, Map<String, Object>> contextMap;
-
     private ModuleTypeManager mtManager;
 
     private CompositeModuleHandlerFactory compositeFactory;
 
     private int ruleMaxID = 0;
 
-    private Map<String, Future> scheduleTasks = new HashMap<String, Future>(31);
-
-    private ScheduledExecutorService executor;
+    // the re-initialization tasks run on a shared pool and may complete concurrently
+    private Map<String, Future> scheduleTasks = new ConcurrentHashMap<String, Future>(31);
 
     /**
      * Constructor of {@link RuleEngine}. It initializes the logger and starts tracker for {@link ModuleHandlerFactory}
@@ -180,7 +190,6 @@ public class RuleEngine
     public RuleEngine(BundleContext bc) {
         this.bc = bc;
         logger = LoggerFactory.getLogger(getClass());
-        contextMap = new HashMap<String, Map<String, Object>>();
         if (rules == null) {
             rules = new HashMap<String, RuntimeRule>(20);
         }
@@ -381,13 +390,6 @@ public class RuleEngine
                 }
             }
 
-            if (scheduleTasks.isEmpty()) {
-                if (executor != null) {
-                    executor.shutdown();
-                    executor = null;
-                }
-            }
-
         } else {
             unregister(r);
 
@@ -504,6 +506,7 @@ public class RuleEngine
      * @param rule an initialized rule which has to starts tracking the triggers.
      */
     private void register(RuntimeRule rule) {
+        rule.setContextLayout(new RuleContextLayout(rule, mtManager));
         RuleEngineCallback reCallback = getRuleEngineCallback(rule);
         for (Iterator<Trigger> it = rule.getTriggers().iterator(); it.hasNext();) {
             RuntimeTrigger t = (RuntimeTrigger) it.next();
@@ -914,12 +917,12 @@ public class RuleEngine
         }
 
         try {
-            clearContext(rule);
-
-            setTriggerOutputs(uid, td);
-            boolean isSatisfied = calculateConditions(rule);
+            // every execution gets a context of its own, which is laid out when the rule is registered
+            RuleContext context = rule.getContextLayout().newContext();
+            context.setOutputs(td.getTrigger().getId(), td.getOutputs());
+            boolean isSatisfied = calculateConditions(rule, context);
             if (isSatisfied) {
-                executeActions(rule);
+                executeActions(rule, context);
                 logger.debug("The rule '{}' is executed.", uid);
             } else {
                 logger.debug("The rule '{}' is NOT executed, since it has unsatisfied conditions.", uid);
@@ -936,81 +939,14 @@ public class RuleEngine
         }
     }
 
-    private void clearContext(RuntimeRule rule) {
-        Map<String, Object> context = contextMap.get(rule.getUID());
-        if (context != null) {
-            context.clear();
-        }
-    }
-
-    /**
-     * The method updates {@link Output} of the {@link Trigger} with a new triggered data.
-     *
-     * @param td new Triggered data.
-     */
-    private void setTriggerOutputs(String ruleUID, TriggerData td) {
-        Trigger t = td.getTrigger();
-        updateContext(ruleUID, t.getId(), td.getOutputs());
-    }
-
-    /**
-     * Updates current context of rule engine.
-     *
-     * @param moduleUID uid of updated module.
-     *
-     * @param outputs new output values.
-     */
-    private void updateContext(String ruleUID, String moduleUID, Map<String, ?> outputs) {
-        Map<String, Object> context = getContext(ruleUID);
-        for (Map.Entry<String, ?> entry : outputs.entrySet()) {
-            String key = moduleUID + OUTPUT_SEPARATOR + entry.getKey();
-            context.put(key, entry.getValue());
-        }
-    }
-
-    /**
-     * @return copy of current context in rule engine
-     */
-    private Map<String, Object> getContext(String ruleUID) {
-        return getContext(ruleUID, null);
-    }
-
-    private Map<String, Object> getContext(String ruleUID, Set<Connection> connections) {
-        Map<String, Object> context = contextMap.get(ruleUID);
-        if (context == null) {
-            context = new HashMap<String, Object>();
-            contextMap.put(ruleUID, context);
-        }
-        if (connections != null) {
-            StringBuffer sb = new StringBuffer();
-            for (Connection c : connections) {
-                String outputModuleId = c.getOuputModuleId();
-                if (outputModuleId != null) {
-                    sb.append(outputModuleId).append(OUTPUT_SEPARATOR).append(c.getOutputName());
-                    context.put(c.getInputName(), context.get(sb.toString()));
-                    sb.setLength(0);
-                } else {
-                    // get reference from context
-                    String ref = c.getOutputName();
-                    final Object value = ReferenceResolverUtil.resolveReference(ref, context);
-
-                    if (value != null) {
-                        context.put(c.getInputName(), value);
-                    }
-                }
-
-            }
-        }
-        return context;
-    }
-
     /**
      * This method checks if all rule's condition are satisfied or not.
      *
      * @param rule the checked rule
+     * @param context the context of the execution
      * @return true when all conditions of the rule are satisfied, false otherwise.
      */
-    private boolean calculateConditions(Rule rule) {
+    private boolean calculateConditions(Rule rule, RuleContext context) {
         List<Condition> conditions = ((RuntimeRule) rule).getConditions();
         if (conditions == null || conditions.size() == 0) {
             return true;
@@ -1018,7 +954,7 @@ public class RuleEngine
         for (Iterator<Condition> it = conditions.iterator(); it.hasNext();) {
             RuntimeCondition c = (RuntimeCondition) it.next();
             ConditionHandler tHandler = c.getModuleHandler();
-            Map<String, Object> context = getContext(rule.getUID(), c.getConnections());
+            context.bindInputs(c.getId());
             if (!tHandler.isSatisfied(context)) {
                 logger.debug("The condition '{}' of rule '{}' is unsatisfied.",
                         new Object[] { c.getId(), rule.getUID() });
@@ -1032,8 +968,9 @@ public class RuleEngine
      * This method evaluates actions of the {@link Rule} and set their {@link Output}s when they exists.
      *
      * @param rule executed rule.
+     * @param context the context of the execution
      */
-    private void executeActions(Rule rule) {
+    private void executeActions(Rule rule, RuleContext context) {
         List<Action> actions = ((RuntimeRule) rule).getActions();
         if (actions == null || actions.size() == 0) {
             return;
@@ -1042,12 +979,10 @@ public class RuleEngine
             RuntimeAction a = (RuntimeAction) it.next();
             ActionHandler aHandler = a.getModuleHandler();
             try {
-                String rUID = rule.getUID();
-                Map<String, Object> context = getContext(rUID, a.getConnections());
+                context.bindInputs(a.getId());
                 Map<String, ?> outputs = aHandler.execute(context);
                 if (outputs != null) {
-                    context = getContext(rUID);
-                    updateContext(rUID, a.getId(), outputs);
+                    context.setOutputs(a.getId(), outputs);
                 }
             } catch (Throwable t) {
                 logger.error("Fail to execute the action: " + a.getId(), t);
@@ -1081,18 +1016,8 @@ public class RuleEngine
         for (Future f : scheduleTasks.values()) {
             f.cancel(true);
         }
-        if (scheduleTasks.isEmpty()) {
-            if (executor != null) {
-                executor.shutdown();
-                executor = null;
-            }
-        }
         scheduleTasks = null;
 
-        if (contextMap != null) {
-            contextMap.clear();
-            contextMap = null;
-        }
         statusInfoCallback = null;
     }
 
@@ -1196,12 +1121,12 @@ public class RuleEngine
     }
 
     private void resolveDefaultValues(RuntimeRule r) {
-        setDefaultAndNormalizeConfigValues(r.getUID(), r.getTriggers());
-        setDefaultAndNormalizeConfigValues(r.getUID(), r.getConditions());
-        setDefaultAndNormalizeConfigValues(r.getUID(), r.getActions());
+        setDefaultAndNormalizeConfigValues(r.getTriggers());
+        setDefaultAndNormalizeConfigValues(r.getConditions());
+        setDefaultAndNormalizeConfigValues(r.getActions());
     }
 
-    private <T extends Module> void setDefaultAndNormalizeConfigValues(String ruleUID, List<T> modules) {
+    private <T extends Module> void setDefaultAndNormalizeConfigValues(List<T> modules) {
         for (T module : modules) {
             Configuration moduleConfiguration = module.getConfiguration();
             String typeId = module.getTypeUID();
@@ -1222,34 +1147,11 @@ public class RuleEngine
                     }
                 } // for
             }
-
-            List<Output> outputs = null;
-            if (mt instanceof TriggerType) {
-                outputs = ((TriggerType) mt).getOutputs();
-            } else if (mt instanceof ActionType) {
-                outputs = ((ActionType) mt).getOutputs();
-            }
-
-            if (outputs != null) {
-                Map<String, Object> result = new HashMap<String, Object>(11);
-                for (Output output : outputs) {
-                    Object defaultValue = output.getDefaultValue();
-                    if (defaultValue != null) {
-                        result.put(output.getName(), defaultValue);
-                    }
-                }
-                if (result.size() > 0) {
-                    updateContext(ruleUID, module.getId(), result);
-                }
-            }
         }
     }
 
     private ScheduledExecutorService getScheduledExecutor() {
-        if (executor == null || executor.isShutdown()) {
-            executor = Executors.newSingleThreadScheduledExecutor();
-        }
-        return executor;
+        return ThreadPoolManager.getScheduledPool(THREAD_POOL_NAME);
     }
 
     @Override
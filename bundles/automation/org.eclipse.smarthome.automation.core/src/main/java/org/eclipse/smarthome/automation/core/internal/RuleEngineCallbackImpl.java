@@ -8,18 +8,21 @@
 package org.eclipse.smarthome.automation.core.internal;
 
 import java.util.Map;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.eclipse.smarthome.automation.Rule;
 import org.eclipse.smarthome.automation.Trigger;
 import org.eclipse.smarthome.automation.handler.RuleEngineCallback;
+import org.eclipse.smarthome.core.common.SerialExecutor;
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
 
 /**
  * This class is implementation of {@link RuleEngineCallback} used by the {@link Trigger}s to notify rule engine about
  * appearing of new triggered data. There is one and only one {@link RuleEngineCallback} per Rule and it is used by all
- * rule's {@link Trigger}s.
+ * rule's {@link Trigger}s. The executions of a rule are run one after another on the shared rule execution pool, which
+ * is separate from the pool the rules are re-initialized on.
  *
  * @author Yordan Mihaylov - Initial Contribution
  * @author Kai Kreuzer - improved stability
@@ -28,7 +31,7 @@ public class RuleEngineCallbackImpl implements RuleEngineCallback {
 
     private RuntimeRule r;
 
-    private ExecutorService executor;
+    private SerialExecutor executor;
 
     private Future<?> feature;
 
@@ -37,7 +40,7 @@ public class RuleEngineCallbackImpl implements RuleEngineCallback {
     protected RuleEngineCallbackImpl(RuleEngine re, RuntimeRule r) {
         this.re = re;
         this.r = r;
-        executor = Executors.newSingleThreadExecutor();
+        executor = new SerialExecutor(ThreadPoolManager.getPool(RuleEngine.RULE_EXECUTION_POOL_NAME));
     }
 
     @Override
@@ -46,7 +49,14 @@ public class RuleEngineCallbackImpl implements RuleEngineCallback {
             re.logger.debug("The trigger '{}' of rule '{}' is triggred.", trigger.getId(), r.getUID());
             synchronized (executor) {
                 if (executor != null) {
-                    feature = executor.submit(new TriggerData(trigger, outputs));
+                    FutureTask<?> task = new FutureTask<Object>(new TriggerData(trigger, outputs), null);
+                    try {
+                        executor.execute(task);
+                        feature = task;
+                    } catch (RejectedExecutionException e) {
+                        re.logger.debug("The trigger '{}' of rule '{}' has been rejected.", trigger.getId(),
+                                r.getUID());
+                    }
                 }
             }
         }
@@ -87,7 +97,10 @@ public class RuleEngineCallbackImpl implements RuleEngineCallback {
 
     public void dispose() {
         synchronized (executor) {
-            executor.shutdownNow();
+            executor.shutdown();
+            if (feature != null) {
+                feature.cancel(true);
+            }
             executor = null;
         }
         r = null;
@@ -29,6 +29,8 @@ public class RuntimeRule extends Rule {
 
     private Map<String, Module> moduleMap;
 
+    private RuleContextLayout contextLayout;
+
     /**
      * Utility constructor creating copy of the Rule or create a new empty instance.
      *
@@ -71,6 +73,17 @@ public class RuntimeRule extends Rule {
         uid = rUID;
     }
 
+    /**
+     * @return the compiled context of the rule or null, if the rule has not been registered in the rule engine yet
+     */
+    RuleContextLayout getContextLayout() {
+        return contextLayout;
+    }
+
+    void setContextLayout(RuleContextLayout contextLayout) {
+        this.contextLayout = contextLayout;
+    }
+
     private static List<Action> getRuntimeActionsCopy(List<Action> actions) {
         List<Action> res = new ArrayList<Action>();
         if (actions != null) {
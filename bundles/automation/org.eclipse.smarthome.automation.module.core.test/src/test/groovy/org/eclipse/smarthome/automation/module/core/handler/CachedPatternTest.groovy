@@ -0,0 +1,52 @@
+/**
+ * Copyright (c) 1997, 2015 by ProSyst Software GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.automation.module.core.handler
+
+import static org.hamcrest.CoreMatchers.*
+import static org.junit.Assert.*
+
+import java.util.regex.PatternSyntaxException
+
+import org.junit.Test
+
+/**
+ * Tests that the {@link CachedPattern} only compiles a regular expression again when it changes.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+class CachedPatternTest {
+
+    CachedPattern pattern = new CachedPattern()
+
+    @Test
+    void 'assert that the compiled pattern is reused for the same expression'() {
+        def compiled = pattern.get("a.*")
+        assertThat pattern.get(new String("a.*")), is(sameInstance(compiled))
+    }
+
+    @Test
+    void 'assert that a changed expression is compiled again'() {
+        def compiled = pattern.get("a.*")
+        def changed = pattern.get("b.*")
+        assertThat changed, is(not(sameInstance(compiled)))
+        assertThat changed.pattern(), is("b.*")
+    }
+
+    @Test
+    void 'assert that the value has to match as a whole'() {
+        assertThat pattern.matches("ab+", "abb"), is(true)
+        assertThat pattern.matches("ab+", "abbc"), is(false)
+        assertThat pattern.matches("b+", "abb"), is(false)
+    }
+
+    @Test(expected = PatternSyntaxException)
+    void 'assert that an invalid expression is reported'() {
+        pattern.matches("a(", "a")
+    }
+}
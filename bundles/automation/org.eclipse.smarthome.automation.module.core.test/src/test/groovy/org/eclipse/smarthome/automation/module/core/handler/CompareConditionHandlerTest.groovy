@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 1997, 2015 by ProSyst Software GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.automation.module.core.handler
+
+import static org.hamcrest.CoreMatchers.*
+import static org.junit.Assert.*
+
+import org.eclipse.smarthome.automation.Condition
+import org.eclipse.smarthome.config.core.Configuration
+import org.junit.Test
+
+/**
+ * Tests that the {@link CompareConditionHandler} keeps the getters of the input property and the converted right
+ * operand per class of the input and drops them when the configuration changes.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+class CompareConditionHandlerTest {
+
+    static class Temperature {
+        Integer value
+    }
+
+    static class Humidity {
+        Integer value
+    }
+
+    static class Label {
+        String value
+    }
+
+    Condition condition = new Condition("condition", CompareConditionHandler.MODULE_TYPE, new Configuration([
+        (CompareConditionHandler.INPUT_LEFT_FIELD): "value",
+        (CompareConditionHandler.OPERATOR): ">",
+        (CompareConditionHandler.RIGHT_OP): "20"
+    ]), [:])
+    CompareConditionHandler handler = new CompareConditionHandler(condition)
+
+    @Test
+    void 'assert that the getters are cached per class of the input'() {
+        assertThat isSatisfied(new Temperature(value: 25)), is(true)
+        assertThat isSatisfied(new Temperature(value: 15)), is(false)
+        assertThat handler.getters.size(), is(1)
+
+        def getter = handler.getters.get(Temperature)
+        assertThat isSatisfied(new Temperature(value: 30)), is(true)
+        assertThat handler.getters.get(Temperature), is(sameInstance(getter))
+
+        assertThat isSatisfied(new Humidity(value: 25)), is(true)
+        assertThat handler.getters.size(), is(2)
+        assertThat handler.getters.get(Humidity), is(not(sameInstance(getter)))
+    }
+
+    @Test
+    void 'assert that a class without the getter is remembered'() {
+        assertThat isSatisfied(new Object()), is(false)
+        assertThat isSatisfied(new Object()), is(false)
+        assertThat handler.getters.containsKey(Object), is(true)
+    }
+
+    @Test
+    void 'assert that the getters are dropped when the input property changes'() {
+        assertThat isSatisfied(new Temperature(value: 25)), is(true)
+        assertThat handler.getters.size(), is(1)
+
+        condition.getConfiguration().put(CompareConditionHandler.INPUT_LEFT_FIELD, "unknown")
+        assertThat isSatisfied(new Temperature(value: 25)), is(false)
+        assertThat handler.getters.size(), is(1)
+        assertThat handler.leftField, is("unknown")
+    }
+
+    @Test
+    void 'assert that the right operand is converted once per class and again when it changes'() {
+        assertThat isSatisfied(new Temperature(value: 25)), is(true)
+        assertThat isSatisfied(new Label(value: "3")), is(true)
+        assertThat handler.rightValues, is([(Integer): 20, (String): "20"])
+
+        condition.getConfiguration().put(CompareConditionHandler.RIGHT_OP, "30")
+        assertThat isSatisfied(new Temperature(value: 25)), is(false)
+        assertThat handler.rightValues, is([(Integer): 30])
+    }
+
+    boolean isSatisfied(Object input) {
+        handler.isSatisfied([(CompareConditionHandler.INPUT_LEFT_OBJECT): input])
+    }
+}
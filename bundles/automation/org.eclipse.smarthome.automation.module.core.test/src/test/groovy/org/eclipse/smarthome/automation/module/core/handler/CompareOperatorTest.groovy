@@ -0,0 +1,58 @@
+/**
+ * Copyright (c) 1997, 2015 by ProSyst Software GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.automation.module.core.handler
+
+import static org.hamcrest.CoreMatchers.*
+import static org.junit.Assert.*
+
+import org.junit.Test
+
+/**
+ * Tests that the comparing conditions resolve only the operator notations they have always accepted.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+class CompareOperatorTest {
+
+    @Test
+    void 'assert that the compare condition notations are resolved'() {
+        ["eq", "EQ", "=", "==", "equals", "EQUALS"].each {
+            assertThat CompareOperator.parseCompareCondition(it), is(CompareOperator.EQUALS)
+        }
+        ["gt", "GT", ">"].each {
+            assertThat CompareOperator.parseCompareCondition(it), is(CompareOperator.GREATER)
+        }
+        ["lt", "LT", "<"].each {
+            assertThat CompareOperator.parseCompareCondition(it), is(CompareOperator.LESS)
+        }
+        assertThat CompareOperator.parseCompareCondition("matches"), is(CompareOperator.MATCHES)
+    }
+
+    @Test
+    void 'assert that unknown compare condition notations are not resolved'() {
+        [null, "", "!=", "Equals", "ge", "MATCHES"].each {
+            assertThat CompareOperator.parseCompareCondition(it), is(nullValue())
+        }
+    }
+
+    @Test
+    void 'assert that the item state condition notations are resolved'() {
+        assertThat CompareOperator.parseItemStateCondition("="), is(CompareOperator.EQUALS)
+        assertThat CompareOperator.parseItemStateCondition("!="), is(CompareOperator.NOT_EQUALS)
+        assertThat CompareOperator.parseItemStateCondition(">"), is(CompareOperator.GREATER)
+        assertThat CompareOperator.parseItemStateCondition("<"), is(CompareOperator.LESS)
+    }
+
+    @Test
+    void 'assert that unknown item state condition notations are not resolved'() {
+        [null, "", "eq", "==", "equals", "gt", "lt", "matches"].each {
+            assertThat CompareOperator.parseItemStateCondition(it), is(nullValue())
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/**
+ * Copyright (c) 1997, 2015 by ProSyst Software GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.automation.module.core.internal
+
+import static org.hamcrest.CoreMatchers.*
+import static org.junit.Assert.*
+
+import org.eclipse.smarthome.automation.Trigger
+import org.eclipse.smarthome.automation.handler.RuleEngineCallback
+import org.eclipse.smarthome.automation.module.core.handler.GenericEventTriggerHandler
+import org.eclipse.smarthome.automation.module.core.handler.GenericEventTriggerSubscriber
+import org.eclipse.smarthome.config.core.Configuration
+import org.eclipse.smarthome.core.events.Event
+import org.junit.Before
+import org.junit.Test
+
+/**
+ * Tests that the {@link GenericEventTriggerSubscriber} passes events only to the triggers whose type and topic match.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+class GenericEventTriggerSubscriberTest {
+
+    GenericEventTriggerSubscriber subscriber
+    List<String> triggered
+
+    @Before
+    void setUp() {
+        subscriber = new GenericEventTriggerSubscriber()
+        triggered = []
+    }
+
+    @Test
+    void 'assert that an exact topic only matches the same topic'() {
+        createTrigger("exact", "smarthome/items/myItem/state", "ItemStateEvent")
+
+        receive("smarthome/items/myItem/state", "ItemStateEvent")
+        receive("smarthome/items/myItem/statechanged", "ItemStateEvent")
+        receive("smarthome/items/otherItem/state", "ItemStateEvent")
+
+        assertThat triggered, is(["exact"])
+    }
+
+    @Test
+    void 'assert that a topic ending with a wildcard matches by prefix'() {
+        createTrigger("prefix", "smarthome/items/*", "ItemStateEvent")
+
+        receive("smarthome/items/myItem/state", "ItemStateEvent")
+        receive("smarthome/items/otherItem/statechanged", "ItemStateEvent")
+        receive("smarthome/things/myThing/status", "ItemStateEvent")
+
+        assertThat triggered, is(["prefix", "prefix"])
+    }
+
+    @Test
+    void 'assert that a topic with an inner wildcard matches by pattern'() {
+        createTrigger("pattern", "smarthome/items/*/statechanged", "ItemStateChangedEvent")
+
+        receive("smarthome/items/myItem/statechanged", "ItemStateChangedEvent")
+        receive("smarthome/items/myItem/state", "ItemStateChangedEvent")
+        receive("smarthome/items/my.Item/statechanged", "ItemStateChangedEvent")
+        receive("smarthome/items.myItem.statechanged", "ItemStateChangedEvent")
+
+        assertThat triggered, is(["pattern", "pattern"])
+    }
+
+    @Test
+    void 'assert that a trigger without a topic receives all events of its types'() {
+        createTrigger("all", null, "ItemStateEvent,ItemCommandEvent")
+
+        receive("smarthome/items/myItem/state", "ItemStateEvent")
+        receive("smarthome/items/myItem/command", "ItemCommandEvent")
+        receive("smarthome/items/myItem/statechanged", "ItemStateChangedEvent")
+
+        assertThat triggered, is(["all", "all"])
+    }
+
+    @Test
+    void 'assert that events of other types are not passed to a trigger'() {
+        createTrigger("typed", "smarthome/items/*", "ItemCommandEvent")
+
+        receive("smarthome/items/myItem/state", "ItemStateEvent")
+
+        assertThat triggered, is([])
+    }
+
+    @Test
+    void 'assert that every matching trigger receives the event once'() {
+        createTrigger("exact", "smarthome/items/myItem/state", "ItemStateEvent")
+        createTrigger("prefix", "smarthome/items/*", "ItemStateEvent")
+        createTrigger("pattern", "smarthome/*/myItem/*", "ALL")
+
+        receive("smarthome/items/myItem/state", "ItemStateEvent")
+
+        assertThat triggered.sort(), is(["exact", "pattern", "prefix"])
+    }
+
+    @Test
+    void 'assert that a disposed trigger does not receive events anymore'() {
+        def handler = createTrigger("disposed", "smarthome/items/*", "ItemStateEvent")
+        handler.dispose()
+
+        receive("smarthome/items/myItem/state", "ItemStateEvent")
+
+        assertThat triggered, is([])
+    }
+
+    GenericEventTriggerHandler createTrigger(String id, String topic, String types) {
+        def configuration = new Configuration([eventTopic: topic, eventTypes: types])
+        def handler = new GenericEventTriggerHandler(new Trigger(id, GenericEventTriggerHandler.MODULE_TYPE_ID,
+                configuration), subscriber)
+        handler.setRuleEngineCallback([
+            triggered: { Trigger trigger, Map context ->
+                triggered.add(trigger.getId())
+            }
+        ] as RuleEngineCallback)
+        handler
+    }
+
+    void receive(String topic, String type) {
+        subscriber.receive([
+            getTopic: { topic },
+            getType: { type },
+            getPayload: { "" },
+            getSource: { null }
+        ] as Event)
+    }
+}
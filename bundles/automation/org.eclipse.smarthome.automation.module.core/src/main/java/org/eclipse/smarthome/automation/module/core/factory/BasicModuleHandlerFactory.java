@@ -19,10 +19,13 @@ import org.eclipse.smarthome.automation.handler.ModuleHandler;
 import org.eclipse.smarthome.automation.module.core.handler.CompareConditionHandler;
 import org.eclipse.smarthome.automation.module.core.handler.EventConditionHandler;
 import org.eclipse.smarthome.automation.module.core.handler.GenericEventTriggerHandler;
+import org.eclipse.smarthome.automation.module.core.handler.GenericEventTriggerSubscriber;
 import org.eclipse.smarthome.automation.module.core.handler.ItemPostCommandActionHandler;
 import org.eclipse.smarthome.automation.module.core.handler.ItemStateConditionHandler;
 import org.eclipse.smarthome.core.events.EventPublisher;
+import org.eclipse.smarthome.core.events.EventSubscriber;
 import org.eclipse.smarthome.core.items.ItemRegistry;
+import org.osgi.framework.ServiceRegistration;
 import org.osgi.service.component.ComponentContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -47,11 +50,21 @@ public class BasicModuleHandlerFactory extends BaseModuleHandlerFactory {
     private ItemRegistry itemRegistry;
     private EventPublisher eventPublisher;
 
+    private final GenericEventTriggerSubscriber eventTriggerSubscriber = new GenericEventTriggerSubscriber();
+    @SuppressWarnings("rawtypes")
+    private ServiceRegistration eventTriggerSubscriberRegistration;
+
     protected void activate(ComponentContext componentContext) {
         super.activate(componentContext.getBundleContext());
+        eventTriggerSubscriberRegistration = bundleContext.registerService(EventSubscriber.class.getName(),
+                eventTriggerSubscriber, null);
     }
 
     protected void deactivate(ComponentContext componentContext) {
+        if (eventTriggerSubscriberRegistration != null) {
+            eventTriggerSubscriberRegistration.unregister();
+            eventTriggerSubscriberRegistration = null;
+        }
         super.deactivate();
     }
 
@@ -146,7 +159,7 @@ public class BasicModuleHandlerFactory extends BaseModuleHandlerFactory {
                     return handler;
                 } else {
                     final GenericEventTriggerHandler triggerHandler = new GenericEventTriggerHandler((Trigger) module,
-                            this.bundleContext);
+                            eventTriggerSubscriber);
                     return triggerHandler;
                 }
             }
@@ -0,0 +1,51 @@
+/**
+ * Copyright (c) 1997, 2015 by ProSyst Software GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.automation.module.core.handler;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Holds the compiled {@link Pattern} of a configured regular expression, so that a condition does not have to compile
+ * the expression again for every evaluation. The pattern is only compiled again if the expression changes.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+class CachedPattern {
+
+    private String regex;
+    private Pattern pattern;
+
+    /**
+     * Returns the compiled pattern of a regular expression.
+     *
+     * @param regex the regular expression
+     * @return the compiled pattern
+     * @throws PatternSyntaxException if the expression is invalid
+     */
+    synchronized Pattern get(String regex) {
+        if (pattern == null || !regex.equals(this.regex)) {
+            pattern = Pattern.compile(regex);
+            this.regex = regex;
+        }
+        return pattern;
+    }
+
+    /**
+     * Checks whether a value matches a regular expression as a whole, like {@link String#matches(String)} does.
+     *
+     * @param regex the regular expression
+     * @param value the value to check
+     * @return true, if the value matches the expression
+     * @throws PatternSyntaxException if the expression is invalid
+     */
+    boolean matches(String regex, String value) {
+        return get(regex).matcher(value).matches();
+    }
+}
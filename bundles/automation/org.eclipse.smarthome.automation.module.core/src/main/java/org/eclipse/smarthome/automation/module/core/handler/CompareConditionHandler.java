@@ -12,6 +12,8 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.eclipse.smarthome.automation.Condition;
 import org.eclipse.smarthome.automation.handler.BaseModuleHandler;
@@ -39,6 +41,23 @@ public class CompareConditionHandler extends BaseModuleHandler<Condition>impleme
     public static final String RIGHT_OP = "right";
     public static final String OPERATOR = "operator";
 
+    private static final Object UNSUPPORTED = new Object();
+
+    private final CachedPattern pattern = new CachedPattern();
+
+    /**
+     * The right operand converted to the type of the left operand, by the class of the left operand. The conversion
+     * only depends on the configured right operand, so it is done once per type.
+     */
+    private final ConcurrentMap<Class<?>, Object> rightValues = new ConcurrentHashMap<>();
+    private String rightOperand;
+
+    /**
+     * The getter of the configured field, by the class of the left object.
+     */
+    private final ConcurrentMap<Class<?>, Object> getters = new ConcurrentHashMap<>();
+    private String leftField;
+
     public CompareConditionHandler(Condition module) {
         super(module);
     }
@@ -60,22 +79,20 @@ public class CompareConditionHandler extends BaseModuleHandler<Condition>impleme
             Object rightValue = getRightOperandValue(rightOperandString, toCompare);
             if (rightValue == null) {
                 if (leftObj != null) {
-                    logger.info("unsupported type for compare condition: " + leftObj.getClass());
+                    logger.info("unsupported type for compare condition: {}", leftObj.getClass());
                 } else {
-                    logger.info("unsupported type for compare condition: null ("
-                            + module.getInputs().get(INPUT_LEFT_FIELD) + ")");
+                    logger.info("unsupported type for compare condition: null ({})",
+                            module.getInputs().get(INPUT_LEFT_FIELD));
                 }
                 return false;
             }
+            CompareOperator compareOperator = CompareOperator.parseCompareCondition(operator);
+            if (compareOperator == null) {
+                return false;
+            }
             try {
-                switch (operator) {
-                    case "eq":
-                    case "EQ":
-                    case "=":
-                    case "==":
-                    case "equals":
-                    case "EQUALS":
-                        // EQUALS
+                switch (compareOperator) {
+                    case EQUALS:
                         if (toCompare == null) {
                             if (rightOperandString.equals("null") || rightOperandString.equals("")) {
                                 return true;
@@ -85,28 +102,23 @@ public class CompareConditionHandler extends BaseModuleHandler<Condition>impleme
                         } else {
                             return toCompare.equals(rightValue);
                         }
-                    case "gt":
-                    case "GT":
-                    case ">":
-                        // Greater
+                    case GREATER:
                         if (toCompare == null || rightValue == null) {
                             return false;
                         } else {
                             return compare(toCompare, rightValue) > 0;
                         }
-                    case "lt":
-                    case "LT":
-                    case "<":
+                    case LESS:
                         if (toCompare == null || rightValue == null) {
                             return false;
                         } else {
                             return compare(toCompare, rightValue) < 0;
                         }
-                    case "matches":
-                        // Matcher...
+                    case MATCHES:
                         if (toCompare instanceof String && rightValue != null && rightValue instanceof String) {
-                            return ((String) toCompare).matches((String) rightValue);
+                            return pattern.matches((String) rightValue, (String) toCompare);
                         }
+                        break;
                     default:
                         break;
                 }
@@ -121,7 +133,7 @@ public class CompareConditionHandler extends BaseModuleHandler<Condition>impleme
 
     @SuppressWarnings({ "rawtypes", "unchecked" })
     private int compare(Object a, Object b) throws UncomparableException {
-        if (Comparable.class.isAssignableFrom(a.getClass()) && a.getClass().equals(b.getClass())) {
+        if (a instanceof Comparable && a.getClass().equals(b.getClass())) {
             try {
                 return ((Comparable) a).compareTo(b);
             } catch (ClassCastException e) {
@@ -136,6 +148,25 @@ public class CompareConditionHandler extends BaseModuleHandler<Condition>impleme
         if (rightOperandString2.equals("null")) {
             return rightOperandString2;
         }
+        if (toCompare == null) {
+            return null;
+        }
+        synchronized (rightValues) {
+            if (!rightOperandString2.equals(rightOperand)) {
+                rightValues.clear();
+                rightOperand = rightOperandString2;
+            }
+        }
+        Class<?> type = toCompare.getClass();
+        Object value = rightValues.get(type);
+        if (value == null) {
+            value = convertRightOperand(rightOperandString2, toCompare);
+            rightValues.put(type, value != null ? value : UNSUPPORTED);
+        }
+        return value != UNSUPPORTED ? value : null;
+    }
+
+    private Object convertRightOperand(String rightOperandString2, Object toCompare) {
         if (toCompare instanceof State) {
             List<Class<? extends State>> stateTypeList = new ArrayList<Class<? extends State>>();
             stateTypeList.add(((State) toCompare).getClass());
@@ -157,15 +188,36 @@ public class CompareConditionHandler extends BaseModuleHandler<Condition>impleme
                 || leftObj instanceof Integer || leftObj instanceof Long || leftObj instanceof Double) {
             return leftObj;
         } else {
+            Method m = getGetter(leftObj.getClass(), leftObjFieldName);
+            if (m == null) {
+                return null;
+            }
             try {
-                Method m = leftObj.getClass().getMethod(
-                        "get" + leftObjFieldName.substring(0, 1).toUpperCase() + leftObjFieldName.substring(1));
                 return m.invoke(leftObj);
-            } catch (NoSuchMethodException | SecurityException | StringIndexOutOfBoundsException
-                    | IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+            } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
                 return null;
             }
         }
     }
 
+    private Method getGetter(Class<?> type, String leftObjFieldName) {
+        synchronized (getters) {
+            if (!leftObjFieldName.equals(leftField)) {
+                getters.clear();
+                leftField = leftObjFieldName;
+            }
+        }
+        Object getter = getters.get(type);
+        if (getter == null) {
+            try {
+                getter = type.getMethod(
+                        "get" + leftObjFieldName.substring(0, 1).toUpperCase() + leftObjFieldName.substring(1));
+            } catch (NoSuchMethodException | SecurityException e) {
+                getter = UNSUPPORTED;
+            }
+            getters.put(type, getter);
+        }
+        return getter != UNSUPPORTED ? (Method) getter : null;
+    }
+
 }
@@ -0,0 +1,81 @@
+/**
+ * Copyright (c) 1997, 2015 by ProSyst Software GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.automation.module.core.handler;
+
+/**
+ * The operators of the comparing conditions. Each condition resolves only the notations it has always accepted.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+enum CompareOperator {
+    EQUALS,
+    NOT_EQUALS,
+    GREATER,
+    LESS,
+    MATCHES;
+
+    /**
+     * Resolves the configured notation of an operator of the {@link CompareConditionHandler}, which accepts "eq", "EQ",
+     * "=", "==", "equals", "EQUALS", "gt", "GT", "&gt;", "lt", "LT", "&lt;" and "matches".
+     *
+     * @param operator the configured operator
+     * @return the operator or null, if the notation is unknown
+     */
+    static CompareOperator parseCompareCondition(String operator) {
+        if (operator == null) {
+            return null;
+        }
+        switch (operator) {
+            case "eq":
+            case "EQ":
+            case "=":
+            case "==":
+            case "equals":
+            case "EQUALS":
+                return EQUALS;
+            case "gt":
+            case "GT":
+            case ">":
+                return GREATER;
+            case "lt":
+            case "LT":
+            case "<":
+                return LESS;
+            case "matches":
+                return MATCHES;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Resolves the configured notation of an operator of the {@link ItemStateConditionHandler}, which accepts "=",
+     * "!=", "&lt;" and "&gt;".
+     *
+     * @param operator the configured operator
+     * @return the operator or null, if the notation is unknown
+     */
+    static CompareOperator parseItemStateCondition(String operator) {
+        if (operator == null) {
+            return null;
+        }
+        switch (operator) {
+            case "=":
+                return EQUALS;
+            case "!=":
+                return NOT_EQUALS;
+            case ">":
+                return GREATER;
+            case "<":
+                return LESS;
+            default:
+                return null;
+        }
+    }
+}
@@ -7,6 +7,7 @@
  */
 package org.eclipse.smarthome.automation.module.core.handler;
 
+import java.util.HashMap;
 import java.util.Map;
 
 import org.eclipse.smarthome.automation.Condition;
@@ -33,8 +34,13 @@ public class EventConditionHandler extends BaseModuleHandler<Condition>implement
     private static final String SOURCE = "source";
     private static final String PAYLOAD = "payload";
 
+    private final Map<String, CachedPattern> patterns = new HashMap<>();
+
     public EventConditionHandler(Condition module) {
         super(module);
+        for (String keyParam : new String[] { TOPIC, EVENTTYPE, SOURCE, PAYLOAD }) {
+            patterns.put(keyParam, new CachedPattern());
+        }
     }
 
     private boolean isConfiguredAndMatches(String keyParam, String value) {
@@ -47,7 +53,7 @@ public class EventConditionHandler extends BaseModuleHandler<Condition>implement
                 configValue = configValue.endsWith("*") ? configValue : configValue + ".*";
             }
             if (value != null) {
-                return value.matches(configValue);
+                return patterns.get(keyParam).matches(configValue, value);
             } else {
                 return false;
             }
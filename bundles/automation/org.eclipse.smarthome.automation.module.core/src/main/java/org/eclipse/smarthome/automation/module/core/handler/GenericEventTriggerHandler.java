@@ -7,8 +7,6 @@
  */
 package org.eclipse.smarthome.automation.module.core.handler;
 
-import java.util.Dictionary;
-import java.util.Hashtable;
 import java.util.Map;
 import java.util.Set;
 
@@ -17,10 +15,6 @@ import org.eclipse.smarthome.automation.handler.BaseModuleHandler;
 import org.eclipse.smarthome.automation.handler.RuleEngineCallback;
 import org.eclipse.smarthome.automation.handler.TriggerHandler;
 import org.eclipse.smarthome.core.events.Event;
-import org.eclipse.smarthome.core.events.EventFilter;
-import org.eclipse.smarthome.core.events.EventSubscriber;
-import org.osgi.framework.BundleContext;
-import org.osgi.framework.ServiceRegistration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,24 +26,24 @@ import com.google.common.collect.Maps;
  * if an event occurs. The eventType, eventSource and topic can be set with the
  * configuration. It is an generic approach which makes it easier to specify
  * more concrete event based triggers with the composite module approach of the
- * automation component. Each GenericTriggerHandler instance registers as
- * EventSubscriber, so the dispose method must be called for unregistering the
- * service.
+ * automation component. The events are received through the
+ * {@link GenericEventTriggerSubscriber} shared by all GenericTriggerHandler
+ * instances, so the dispose method must be called for removing the trigger
+ * from it.
  *
  * @author Benedikt Niehues - Initial contribution and API
  * @author Kai Kreuzer - refactored and simplified customized module handling
  *
  */
-public class GenericEventTriggerHandler extends BaseModuleHandler<Trigger>
-        implements TriggerHandler, EventSubscriber, EventFilter {
+public class GenericEventTriggerHandler extends BaseModuleHandler<Trigger>implements TriggerHandler {
 
     private final Logger logger = LoggerFactory.getLogger(GenericEventTriggerHandler.class);
 
     private RuleEngineCallback callback;
-    private String source;
-    private String topic;
-    private Set<String> types;
-    private BundleContext bundleContext;
+    private final String source;
+    private final String topic;
+    private final Set<String> types;
+    private GenericEventTriggerSubscriber subscriber;
 
     public static final String MODULE_TYPE_ID = "GenericEventTrigger";
 
@@ -57,20 +51,13 @@ public class GenericEventTriggerHandler extends BaseModuleHandler<Trigger>
     private static final String CFG_EVENT_SOURCE = "eventSource";
     private static final String CFG_EVENT_TYPES = "eventTypes";
 
-    @SuppressWarnings("rawtypes")
-    private ServiceRegistration eventSubscriberRegistration;
-
-    public GenericEventTriggerHandler(Trigger module, BundleContext bundleContext) {
+    public GenericEventTriggerHandler(Trigger module, GenericEventTriggerSubscriber subscriber) {
         super(module);
         this.source = (String) module.getConfiguration().get(CFG_EVENT_SOURCE);
         this.topic = (String) module.getConfiguration().get(CFG_EVENT_TOPIC);
         this.types = ImmutableSet.copyOf(((String) module.getConfiguration().get(CFG_EVENT_TYPES)).split(","));
-        this.bundleContext = bundleContext;
-        Dictionary<String, Object> properties = new Hashtable<String, Object>();
-        properties.put("event.topics", topic);
-        eventSubscriberRegistration = this.bundleContext.registerService(EventSubscriber.class.getName(), this,
-                properties);
-        logger.trace("Registered EventSubscriber: Topic: {} Type: {} Source: {}", topic, types, source);
+        this.subscriber = subscriber;
+        subscriber.addTrigger(this);
     }
 
     @Override
@@ -78,23 +65,24 @@ public class GenericEventTriggerHandler extends BaseModuleHandler<Trigger>
         this.callback = ruleCallback;
     }
 
-    @Override
-    public Set<String> getSubscribedEventTypes() {
+    /**
+     * @return the event types the trigger listens to
+     */
+    public Set<String> getTypes() {
         return types;
     }
 
-    @Override
-    public EventFilter getEventFilter() {
-        return null;
-    }
-
-    @Override
-    public void receive(Event event) {
+    /**
+     * Called by the {@link GenericEventTriggerSubscriber} for the events of the configured types and topic.
+     *
+     * @param event the event
+     */
+    void receive(Event event) {
         if (callback != null) {
-            logger.trace("Received Event: Source: " + event.getSource() + " Topic: " + event.getTopic() + " Type: "
-                    + event.getType() + " Payload: " + event.getPayload());
+            logger.trace("Received Event: Source: {} Topic: {} Type: {} Payload: {}", event.getSource(),
+                    event.getTopic(), event.getType(), event.getPayload());
 
-            if (!event.getTopic().contains(source)) {
+            if (source != null && !event.getTopic().contains(source)) {
                 return;
             }
             Map<String, Object> values = Maps.newHashMap();
@@ -112,28 +100,21 @@ public class GenericEventTriggerHandler extends BaseModuleHandler<Trigger>
     }
 
     /**
-     * @param topic
-     *            the topic to set
+     * @return the source
      */
-    public void setTopic(String topic) {
-        this.topic = topic;
+    public String getSource() {
+        return source;
     }
 
     /**
-     * do the cleanup: unregistering eventSubscriber...
+     * do the cleanup: removing the trigger from the subscriber...
      */
     @Override
     public void dispose() {
-        if (eventSubscriberRegistration != null) {
-            eventSubscriberRegistration.unregister();
-            eventSubscriberRegistration = null;
+        if (subscriber != null) {
+            subscriber.removeTrigger(this);
+            subscriber = null;
         }
     }
 
-    @Override
-    public boolean apply(Event event) {
-        logger.trace("->FILTER: {}:{}", event.getTopic(), source);
-        return event.getTopic().contains(source);
-    }
-
 }
@@ -0,0 +1,211 @@
+/**
+ * Copyright (c) 1997, 2015 by ProSyst Software GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.automation.module.core.handler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.eclipse.smarthome.core.events.Event;
+import org.eclipse.smarthome.core.events.EventFilter;
+import org.eclipse.smarthome.core.events.EventSubscriber;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This is the single {@link EventSubscriber} of all {@link GenericEventTriggerHandler}s. Instead of registering one
+ * subscriber per trigger, the triggers are kept in an index by event type and topic, so that every event is only
+ * passed to the triggers it is configured for.
+ *
+ * The topic of a trigger may contain '*' as a wildcard for any number of characters, e.g. "smarthome/items/*".
+ * Triggers without a topic receive all events of their types.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+public class GenericEventTriggerSubscriber implements EventSubscriber {
+
+    private final Logger logger = LoggerFactory.getLogger(GenericEventTriggerSubscriber.class);
+
+    private final Set<String> subscribedEventTypes = Collections.singleton(ALL_EVENT_TYPES);
+
+    /**
+     * The triggers by event type. Triggers which listen to all event types are kept under {@link #ALL_EVENT_TYPES}.
+     */
+    private final Map<String, TopicIndex> index = new HashMap<>();
+
+    /**
+     * Adds a trigger to the index.
+     *
+     * @param trigger the trigger which should receive the events it is configured for
+     */
+    public synchronized void addTrigger(GenericEventTriggerHandler trigger) {
+        for (String type : trigger.getTypes()) {
+            TopicIndex topicIndex = index.get(type);
+            if (topicIndex == null) {
+                topicIndex = new TopicIndex();
+                index.put(type, topicIndex);
+            }
+            topicIndex.add(trigger.getTopic(), trigger);
+        }
+        logger.trace("Added trigger: Topic: {} Type: {} Source: {}", trigger.getTopic(), trigger.getTypes(),
+                trigger.getSource());
+    }
+
+    /**
+     * Removes a trigger from the index.
+     *
+     * @param trigger the trigger which should not receive events anymore
+     */
+    public synchronized void removeTrigger(GenericEventTriggerHandler trigger) {
+        for (String type : trigger.getTypes()) {
+            TopicIndex topicIndex = index.get(type);
+            if (topicIndex != null) {
+                topicIndex.remove(trigger.getTopic(), trigger);
+                if (topicIndex.isEmpty()) {
+                    index.remove(type);
+                }
+            }
+        }
+    }
+
+    @Override
+    public Set<String> getSubscribedEventTypes() {
+        return subscribedEventTypes;
+    }
+
+    @Override
+    public EventFilter getEventFilter() {
+        return null;
+    }
+
+    @Override
+    public void receive(Event event) {
+        Set<GenericEventTriggerHandler> triggers = new LinkedHashSet<>();
+        synchronized (this) {
+            collectTriggers(event.getType(), event.getTopic(), triggers);
+            collectTriggers(ALL_EVENT_TYPES, event.getTopic(), triggers);
+        }
+        for (GenericEventTriggerHandler trigger : triggers) {
+            try {
+                trigger.receive(event);
+            } catch (RuntimeException e) {
+                logger.error("Passing event '{}' to a trigger failed: {}", event.getTopic(), e.getMessage(), e);
+            }
+        }
+    }
+
+    private void collectTriggers(String type, String topic, Set<GenericEventTriggerHandler> triggers) {
+        TopicIndex topicIndex = index.get(type);
+        if (topicIndex != null) {
+            topicIndex.collect(topic, triggers);
+        }
+    }
+
+    /**
+     * The triggers of one event type by topic. Topics without wildcards are looked up directly, the topics with
+     * wildcards are matched one after the other.
+     */
+    private static class TopicIndex {
+
+        private final Map<String, Set<GenericEventTriggerHandler>> topics = new HashMap<>();
+        private final Map<String, TopicFilter> filters = new HashMap<>();
+
+        void add(String topic, GenericEventTriggerHandler trigger) {
+            if (TopicFilter.isFilter(topic)) {
+                TopicFilter filter = filters.get(topic);
+                if (filter == null) {
+                    filter = new TopicFilter(topic);
+                    filters.put(topic, filter);
+                }
+                filter.triggers.add(trigger);
+            } else {
+                Set<GenericEventTriggerHandler> triggers = topics.get(topic);
+                if (triggers == null) {
+                    triggers = new LinkedHashSet<>();
+                    topics.put(topic, triggers);
+                }
+                triggers.add(trigger);
+            }
+        }
+
+        void remove(String topic, GenericEventTriggerHandler trigger) {
+            if (TopicFilter.isFilter(topic)) {
+                TopicFilter filter = filters.get(topic);
+                if (filter != null && filter.triggers.remove(trigger) && filter.triggers.isEmpty()) {
+                    filters.remove(topic);
+                }
+            } else {
+                Set<GenericEventTriggerHandler> triggers = topics.get(topic);
+                if (triggers != null && triggers.remove(trigger) && triggers.isEmpty()) {
+                    topics.remove(topic);
+                }
+            }
+        }
+
+        boolean isEmpty() {
+            return topics.isEmpty() && filters.isEmpty();
+        }
+
+        void collect(String topic, Set<GenericEventTriggerHandler> result) {
+            Set<GenericEventTriggerHandler> triggers = topics.get(topic);
+            if (triggers != null) {
+                result.addAll(triggers);
+            }
+            for (TopicFilter filter : filters.values()) {
+                if (filter.matches(topic)) {
+                    result.addAll(filter.triggers);
+                }
+            }
+        }
+    }
+
+    /**
+     * A topic with wildcards. Topics that only end with a wildcard are matched by their prefix, all others by a
+     * regular expression.
+     */
+    private static class TopicFilter {
+
+        private final String prefix;
+        private final Pattern pattern;
+        private final List<GenericEventTriggerHandler> triggers = new ArrayList<>();
+
+        TopicFilter(String topic) {
+            if (topic == null || topic.isEmpty()) {
+                prefix = "";
+                pattern = null;
+            } else if (topic.indexOf('*') == topic.length() - 1) {
+                prefix = topic.substring(0, topic.length() - 1);
+                pattern = null;
+            } else {
+                StringBuilder regex = new StringBuilder();
+                int start = 0;
+                for (int end; (end = topic.indexOf('*', start)) != -1; start = end + 1) {
+                    regex.append(Pattern.quote(topic.substring(start, end))).append(".*");
+                }
+                regex.append(Pattern.quote(topic.substring(start)));
+                prefix = null;
+                pattern = Pattern.compile(regex.toString());
+            }
+        }
+
+        static boolean isFilter(String topic) {
+            return topic == null || topic.isEmpty() || topic.indexOf('*') != -1;
+        }
+
+        boolean matches(String topic) {
+            return pattern == null ? topic.startsWith(prefix) : pattern.matcher(topic).matches();
+        }
+    }
+
+}
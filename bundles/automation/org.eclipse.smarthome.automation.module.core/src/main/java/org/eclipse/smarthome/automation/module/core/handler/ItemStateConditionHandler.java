@@ -7,6 +7,8 @@
  */
 package org.eclipse.smarthome.automation.module.core.handler;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.smarthome.automation.Condition;
@@ -36,6 +38,10 @@ public class ItemStateConditionHandler extends BaseModuleHandler<Condition>imple
 
     private ItemRegistry itemRegistry;
 
+    private String parsedState;
+    private List<Class<? extends State>> parsedDataTypes;
+    private State compareState;
+
     /**
      * Constants for Config-Parameters corresponding to Definition in
      * ItemModuleTypeDefinition.json
@@ -87,22 +93,26 @@ public class ItemStateConditionHandler extends BaseModuleHandler<Condition>imple
         }
         try {
             Item item = itemRegistry.getItem(itemName);
-            State compareState = TypeParser.parseState(item.getAcceptedDataTypes(), state);
+            State compareState = getCompareState(item, state);
             State itemState = item.getState();
-            logger.debug("ItemStateCondition '" + module.getId() + "'checking if {} (State={}) {} {}", itemName,
+            logger.debug("ItemStateCondition '{}' checking if {} (State={}) {} {}", module.getId(), itemName,
                     itemState, operator, compareState);
-            switch (operator) {
-                case "=":
-                    logger.debug("ConditionSatisfied --> " + itemState.equals(compareState));
+            CompareOperator compareOperator = CompareOperator.parseItemStateCondition(operator);
+            if (compareOperator == null) {
+                return false;
+            }
+            switch (compareOperator) {
+                case EQUALS:
+                    logger.debug("ConditionSatisfied --> {}", itemState.equals(compareState));
                     return itemState.equals(compareState);
-                case "!=":
+                case NOT_EQUALS:
                     return !itemState.equals(compareState);
-                case "<":
+                case LESS:
                     if (itemState instanceof DecimalType && compareState instanceof DecimalType) {
                         return ((DecimalType) itemState).compareTo((DecimalType) compareState) < 0 ? true : false;
                     }
                     break;
-                case ">":
+                case GREATER:
                     if (itemState instanceof DecimalType && compareState instanceof DecimalType) {
                         return ((DecimalType) itemState).compareTo((DecimalType) compareState) > 0 ? true : false;
                     }
@@ -117,4 +127,18 @@ public class ItemStateConditionHandler extends BaseModuleHandler<Condition>imple
         return false;
     }
 
+    /**
+     * Parses the configured state for the accepted data types of the item. As the configuration and the data types of
+     * an item rarely change, the parsed state is kept until one of them does.
+     */
+    private synchronized State getCompareState(Item item, String state) {
+        List<Class<? extends State>> acceptedDataTypes = item.getAcceptedDataTypes();
+        if (!state.equals(parsedState) || !acceptedDataTypes.equals(parsedDataTypes)) {
+            compareState = TypeParser.parseState(acceptedDataTypes, state);
+            parsedState = state;
+            parsedDataTypes = new ArrayList<>(acceptedDataTypes);
+        }
+        return compareState;
+    }
+
 }
@@ -0,0 +1,156 @@
+/**
+ * Copyright (c) 1997, 2015 by ProSyst Software GmbH and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.automation.module.script.internal.handler
+
+import static org.hamcrest.CoreMatchers.*
+import static org.junit.Assert.*
+
+import javax.script.AbstractScriptEngine
+import javax.script.Bindings
+import javax.script.Compilable
+import javax.script.CompiledScript
+import javax.script.ScriptContext
+import javax.script.ScriptEngine
+import javax.script.ScriptEngineFactory
+import javax.script.ScriptException
+import javax.script.SimpleBindings
+
+import org.eclipse.smarthome.automation.Action
+import org.eclipse.smarthome.config.core.Configuration
+import org.junit.Before
+import org.junit.Test
+
+/**
+ * Tests the compilation of scripts and the execution context of the {@link AbstractScriptModuleHandler}.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+class ScriptModuleHandlerTest {
+
+    ScriptActionHandler handler
+
+    @Before
+    void setUp() {
+        // the script type is left out, so that the handler does not look up an engine when it is created
+        handler = new ScriptActionHandler(new Action("action", ScriptActionHandler.SCRIPT_ACTION_ID,
+                new Configuration(), null))
+    }
+
+    @Test
+    void 'assert that a script is compiled once and its compiled form is executed'() {
+        TestEngine engine = new CompilableTestEngine()
+
+        assertThat handler.eval(engine, "a", engine.getContext()), is("compiled a")
+        assertThat handler.eval(engine, "a", engine.getContext()), is("compiled a")
+        assertThat engine.compilations, is(["a"])
+        assertThat engine.interpretations, is([])
+
+        assertThat handler.eval(engine, "b", engine.getContext()), is("compiled b")
+        assertThat engine.compilations, is(["a", "b"])
+
+        TestEngine otherEngine = new CompilableTestEngine()
+        assertThat handler.eval(otherEngine, "b", otherEngine.getContext()), is("compiled b")
+        assertThat otherEngine.compilations, is(["b"])
+    }
+
+    @Test
+    void 'assert that a script that cannot be compiled is interpreted without compiling it again'() {
+        TestEngine engine = new CompilableTestEngine(failingScript: "a")
+
+        assertThat handler.eval(engine, "a", engine.getContext()), is("interpreted a")
+        assertThat handler.eval(engine, "a", engine.getContext()), is("interpreted a")
+        assertThat engine.compilations, is(["a"])
+        assertThat engine.interpretations, is(["a", "a"])
+
+        assertThat handler.eval(engine, "b", engine.getContext()), is("compiled b")
+        assertThat engine.compilations, is(["a", "b"])
+    }
+
+    @Test
+    void 'assert that scripts of engines that are not compilable are interpreted'() {
+        TestEngine engine = new TestEngine()
+
+        assertThat handler.eval(engine, "a", engine.getContext()), is("interpreted a")
+        assertThat handler.eval(engine, "a", engine.getContext()), is("interpreted a")
+        assertThat engine.interpretations, is(["a", "a"])
+    }
+
+    @Test
+    void 'assert that the outputs of a module are grouped into one object'() {
+        TestEngine engine = new TestEngine()
+
+        ScriptContext context = handler.getExecutionContext(engine, ["trigger.oldState": "OFF",
+            "trigger.newState": "ON", "other.value": 1, "plain": "value"])
+        assertThat context, is(sameInstance(engine.getContext()))
+        assertThat context.getAttribute("trigger", ScriptContext.ENGINE_SCOPE), is([oldState: "OFF", newState: "ON"])
+        assertThat context.getAttribute("other", ScriptContext.ENGINE_SCOPE), is([value: 1])
+        assertThat context.getAttribute("plain", ScriptContext.ENGINE_SCOPE), is("value")
+
+        // the outputs of the next run replace the ones of the previous run
+        handler.getExecutionContext(engine, ["trigger.newState": "OFF"])
+        assertThat context.getAttribute("trigger", ScriptContext.ENGINE_SCOPE), is([newState: "OFF"])
+    }
+
+    static class TestEngine extends AbstractScriptEngine {
+
+        List<String> interpretations = []
+
+        @Override
+        Object eval(String script, ScriptContext context) throws ScriptException {
+            interpretations.add(script)
+            "interpreted " + script
+        }
+
+        @Override
+        Object eval(Reader reader, ScriptContext context) throws ScriptException {
+            eval(reader.text, context)
+        }
+
+        @Override
+        Bindings createBindings() {
+            new SimpleBindings()
+        }
+
+        @Override
+        ScriptEngineFactory getFactory() {
+            null
+        }
+    }
+
+    static class CompilableTestEngine extends TestEngine implements Compilable {
+
+        List<String> compilations = []
+        String failingScript
+
+        @Override
+        CompiledScript compile(String script) throws ScriptException {
+            compilations.add(script)
+            if (script == failingScript) {
+                throw new ScriptException("cannot compile " + script)
+            }
+            ScriptEngine engine = this
+            new CompiledScript() {
+                @Override
+                Object eval(ScriptContext context) throws ScriptException {
+                    "compiled " + script
+                }
+
+                @Override
+                ScriptEngine getEngine() {
+                    engine
+                }
+            }
+        }
+
+        @Override
+        CompiledScript compile(Reader reader) throws ScriptException {
+            compile(reader.text)
+        }
+    }
+}
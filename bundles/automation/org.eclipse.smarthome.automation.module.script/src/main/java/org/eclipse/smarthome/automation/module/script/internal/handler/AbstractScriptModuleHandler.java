@@ -11,14 +11,23 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 
+import javax.script.Compilable;
+import javax.script.CompiledScript;
 import javax.script.ScriptContext;
 import javax.script.ScriptEngine;
+import javax.script.ScriptException;
 
 import org.eclipse.smarthome.automation.Module;
 import org.eclipse.smarthome.automation.handler.BaseModuleHandler;
+import org.eclipse.smarthome.automation.module.script.internal.ScriptModuleActivator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * This is an abstract class that can be used when implementing any module handler that handles scripts.
+ * If the script engine supports it, the script of the module is compiled once, when the handler is created, and only
+ * compiled again if the script of the module changes. A script that cannot be compiled is interpreted instead, until
+ * its source changes.
  *
  * @author Kai Kreuzer - Initial contribution
  *
@@ -26,6 +35,8 @@ import org.eclipse.smarthome.automation.handler.BaseModuleHandler;
  */
 abstract public class AbstractScriptModuleHandler<T extends Module> extends BaseModuleHandler<T> {
 
+    private final Logger logger = LoggerFactory.getLogger(AbstractScriptModuleHandler.class);
+
     /** Constant defining the configuration parameter of modules that specifies the mime type of a script */
     protected static final String SCRIPT_TYPE = "type";
 
@@ -34,8 +45,21 @@ abstract public class AbstractScriptModuleHandler<T extends Module> extends Base
 
     private ScriptContext executionContext;
 
+    // the engine and source of the last compilation, the compiled script is null if the compilation failed
+    private ScriptEngine compiledEngine;
+    private String compiledSource;
+    private CompiledScript compiledScript;
+
     public AbstractScriptModuleHandler(T module) {
         super(module);
+        Object type = module.getConfiguration().get(SCRIPT_TYPE);
+        Object script = module.getConfiguration().get(SCRIPT);
+        if (type instanceof String && script instanceof String) {
+            ScriptEngine engine = ScriptModuleActivator.getScriptEngine((String) type);
+            if (engine != null) {
+                getCompiledScript(engine, (String) script);
+            }
+        }
     }
 
     /**
@@ -51,18 +75,26 @@ abstract public class AbstractScriptModuleHandler<T extends Module> extends Base
         if (executionContext == null) {
             executionContext = engine.getContext();
         }
-        // add the rule context to the script engine (only for this execution)
+        // add the rule context to the script engine (only for this execution), the outputs of a module are grouped
+        // into one object per module
+        Map<String, Map<String, Object>> moduleOutputs = null;
         for (Entry<String, ?> entry : context.entrySet()) {
-
-            final HashMap<String, Object> jsonObj = new HashMap<String, Object>();
             Object value = entry.getValue();
             String key = entry.getKey();
             int dotIndex = key.indexOf('.');
             if (dotIndex != -1) {
                 String jsonKey = key.substring(dotIndex + 1);
                 key = key.substring(0, dotIndex);
+                if (moduleOutputs == null) {
+                    moduleOutputs = new HashMap<String, Map<String, Object>>();
+                }
+                Map<String, Object> jsonObj = moduleOutputs.get(key);
+                if (jsonObj == null) {
+                    jsonObj = new HashMap<String, Object>();
+                    moduleOutputs.put(key, jsonObj);
+                    executionContext.setAttribute(key, jsonObj, ScriptContext.ENGINE_SCOPE);
+                }
                 jsonObj.put(jsonKey, value);
-                executionContext.setAttribute(key, jsonObj, ScriptContext.ENGINE_SCOPE);
             } else {
                 executionContext.setAttribute(key, value, ScriptContext.ENGINE_SCOPE);
             }
@@ -70,4 +102,42 @@ abstract public class AbstractScriptModuleHandler<T extends Module> extends Base
         return executionContext;
     }
 
+    /**
+     * Evaluates the script of the module. Scripts of engines, which are {@link Compilable}, are not parsed again, but
+     * their compiled form is executed. Scripts that cannot be compiled are interpreted.
+     *
+     * @param engine the script engine of the script type
+     * @param script the script to evaluate
+     * @param executionContext the context to evaluate the script in
+     * @return the value returned by the script
+     * @throws ScriptException if the script fails
+     */
+    protected Object eval(ScriptEngine engine, String script, ScriptContext executionContext) throws ScriptException {
+        CompiledScript compiled = getCompiledScript(engine, script);
+        if (compiled != null) {
+            return compiled.eval(executionContext);
+        } else {
+            return engine.eval(script, executionContext);
+        }
+    }
+
+    private synchronized CompiledScript getCompiledScript(ScriptEngine engine, String script) {
+        if (!(engine instanceof Compilable)) {
+            return null;
+        }
+        // the script is compiled again, if the configuration of the module or the engine of the script type changed
+        if (engine != compiledEngine || !script.equals(compiledSource)) {
+            compiledEngine = engine;
+            compiledSource = script;
+            compiledScript = null;
+            try {
+                compiledScript = ((Compilable) engine).compile(script);
+            } catch (ScriptException e) {
+                logger.warn("Script of module '{}' cannot be compiled, it is interpreted instead: {}", module.getId(),
+                        e.getMessage());
+            }
+        }
+        return compiledScript;
+    }
+
 }
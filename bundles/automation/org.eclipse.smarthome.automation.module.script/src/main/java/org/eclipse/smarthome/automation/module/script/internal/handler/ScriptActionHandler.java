@@ -54,7 +54,7 @@ public class ScriptActionHandler extends AbstractScriptModuleHandler<Action>impl
                 if (engine != null) {
                     ScriptContext executionContext = getExecutionContext(engine, context);
                     try {
-                        Object result = engine.eval((String) script, executionContext);
+                        Object result = eval(engine, (String) script, executionContext);
                         HashMap<String, Object> resultMap = new HashMap<String, Object>();
                         resultMap.put("result", result);
                         return resultMap;
@@ -45,7 +45,7 @@ public class ScriptConditionHandler extends AbstractScriptModuleHandler<Conditio
                 if (engine != null) {
                     ScriptContext executionContext = getExecutionContext(engine, context);
                     try {
-                        Object returnVal = engine.eval((String) script, executionContext);
+                        Object returnVal = eval(engine, (String) script, executionContext);
                         if (returnVal instanceof Boolean) {
                             return (boolean) returnVal;
                         } else {
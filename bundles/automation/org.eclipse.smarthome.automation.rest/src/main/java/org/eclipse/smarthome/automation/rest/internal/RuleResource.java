@@ -9,19 +9,21 @@ package org.eclipse.smarthome.automation.rest.internal;
 
 import java.io.IOException;
 import java.net.URLEncoder;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Map;
 
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
 import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
@@ -51,6 +53,9 @@ import org.eclipse.smarthome.io.rest.RESTResource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.base.Function;
+import com.google.common.collect.Iterables;
+
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
@@ -87,17 +92,20 @@ public class RuleResource implements RESTResource {
     @Produces(MediaType.APPLICATION_JSON)
     @ApiOperation(value = "Get all available rules.", response = EnrichedRuleDTO.class, responseContainer = "Collection")
     @ApiResponses(value = { @ApiResponse(code = 200, message = "OK") })
-    public Response getAll() {
-        Collection<EnrichedRuleDTO> rules = enrich(ruleRegistry.getAll());
-        return Response.ok(rules).build();
+    public Response getAll(@HeaderParam(HttpHeaders.ACCEPT_ENCODING) @ApiParam(value = "encoding") String encoding,
+            @QueryParam("fields") @ApiParam(value = "limit output to the given comma separated fields", required = false) String fields) {
+        Iterable<EnrichedRuleDTO> rules = enrich(ruleRegistry.getAll());
+        return JSONResponse.createStreamingResponse(rules, fields, encoding);
     }
 
-    private Collection<EnrichedRuleDTO> enrich(Collection<Rule> rules) {
-        Collection<EnrichedRuleDTO> enrichedRules = new ArrayList<EnrichedRuleDTO>(rules.size());
-        for (Rule rule : rules) {
-            enrichedRules.add(EnrichedRuleDTOMapper.map(rule, ruleRegistry));
-        }
-        return enrichedRules;
+    private Iterable<EnrichedRuleDTO> enrich(Collection<Rule> rules) {
+        // the rules are enriched one by one while they are written to the response
+        return Iterables.transform(rules, new Function<Rule, EnrichedRuleDTO>() {
+            @Override
+            public EnrichedRuleDTO apply(Rule rule) {
+                return EnrichedRuleDTOMapper.map(rule, ruleRegistry);
+            }
+        });
     }
 
     @POST
@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2014-2016 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.config.xml.test
+
+import static org.hamcrest.CoreMatchers.*
+import static org.junit.Assert.*
+
+import org.eclipse.smarthome.config.core.ConfigDescription
+import org.eclipse.smarthome.config.xml.XmlConfigDescriptionProvider
+import org.junit.Before
+import org.junit.Test
+import org.osgi.framework.Bundle
+
+/**
+ * Tests that the URI index of the {@link XmlConfigDescriptionProvider} finds the same config descriptions as a lookup
+ * in the config descriptions of all bundles, also after a bundle has been removed.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+class XmlConfigDescriptionProviderTest {
+
+    XmlConfigDescriptionProvider provider
+    Bundle bundleA = [getSymbolicName: { "a" }] as Bundle
+    Bundle bundleB = [getSymbolicName: { "b" }] as Bundle
+
+    @Before
+    void setUp() {
+        provider = new XmlConfigDescriptionProvider()
+    }
+
+    @Test
+    void 'assert that the index finds the same config descriptions as a linear lookup'() {
+        provider.addConfigDescription(bundleA, new ConfigDescription(new URI("test:a1")))
+        provider.addConfigDescriptions(bundleA, [new ConfigDescription(new URI("test:a2"))])
+        provider.addConfigDescription(bundleB, new ConfigDescription(new URI("test:b1")))
+
+        ["test:a1", "test:a2", "test:b1"].each {
+            URI uri = new URI(it)
+            assertThat provider.getConfigDescription(uri, null), is(sameInstance(linearLookup(uri)))
+            assertThat provider.getConfigDescription(uri, null).getURI(), is(uri)
+        }
+        assertThat provider.getConfigDescription(new URI("test:unknown"), null), is(nullValue())
+    }
+
+    @Test
+    void 'assert that the index is updated when a bundle is removed'() {
+        ConfigDescription configDescriptionA = new ConfigDescription(new URI("test:shared"))
+        provider.addConfigDescription(bundleA, configDescriptionA)
+        provider.addConfigDescription(bundleA, new ConfigDescription(new URI("test:a1")))
+        provider.addConfigDescription(bundleB, new ConfigDescription(new URI("test:shared")))
+        provider.addConfigDescription(bundleB, new ConfigDescription(new URI("test:b1")))
+
+        provider.removeAllConfigDescriptions(bundleB)
+        URI sharedURI = new URI("test:shared")
+        assertThat provider.getConfigDescription(sharedURI, null), is(sameInstance(configDescriptionA))
+        assertThat provider.getConfigDescription(sharedURI, null), is(sameInstance(linearLookup(sharedURI)))
+        assertThat provider.getConfigDescription(new URI("test:b1"), null), is(nullValue())
+        assertThat provider.getConfigDescription(new URI("test:a1"), null), is(notNullValue())
+
+        provider.removeAllConfigDescriptions(bundleA)
+        assertThat provider.getConfigDescription(sharedURI, null), is(nullValue())
+        assertThat provider.getConfigDescription(new URI("test:a1"), null), is(nullValue())
+        assertThat provider.getConfigDescriptions(null).isEmpty(), is(true)
+    }
+
+    ConfigDescription linearLookup(URI uri) {
+        provider.getConfigDescriptions(null).find { it.getURI().equals(uri) }
+    }
+}
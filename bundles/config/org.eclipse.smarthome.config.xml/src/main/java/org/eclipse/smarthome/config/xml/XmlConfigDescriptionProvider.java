@@ -15,6 +15,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.smarthome.config.core.ConfigDescription;
 import org.eclipse.smarthome.config.core.ConfigDescriptionProvider;
@@ -41,6 +42,13 @@ public class XmlConfigDescriptionProvider implements ConfigDescriptionProvider {
 
     private Map<Bundle, List<ConfigDescription>> bundleConfigDescriptionsMap;
 
+    /** index of all config descriptions by their URI, mapping to the bundle which provides the config description */
+    private Map<URI, Bundle> configDescriptionBundleIndex = new ConcurrentHashMap<>();
+    private Map<URI, ConfigDescription> configDescriptionIndex = new ConcurrentHashMap<>();
+
+    /** localized config descriptions by URI and language tag of the locale */
+    private Map<URI, Map<String, ConfigDescription>> localizedConfigDescriptionCache = new ConcurrentHashMap<>();
+
     private ConfigI18nLocalizationService configI18nLocalizerService;
 
     public XmlConfigDescriptionProvider() {
@@ -82,6 +90,7 @@ public class XmlConfigDescriptionProvider implements ConfigDescriptionProvider {
 
             if (configDescriptionList != null) {
                 configDescriptionList.add(configDescription);
+                addToIndex(bundle, configDescription);
             }
         }
     }
@@ -108,6 +117,7 @@ public class XmlConfigDescriptionProvider implements ConfigDescriptionProvider {
             if (currentConfigDescriptionList != null) {
                 for (ConfigDescription configDescription : configDescriptions) {
                     currentConfigDescriptionList.add(configDescription);
+                    addToIndex(bundle, configDescription);
                 }
             }
         }
@@ -131,6 +141,7 @@ public class XmlConfigDescriptionProvider implements ConfigDescriptionProvider {
 
             if (configDescriptions != null) {
                 this.bundleConfigDescriptionsMap.remove(bundle);
+                removeFromIndex(bundle, configDescriptions);
             }
         }
     }
@@ -145,7 +156,13 @@ public class XmlConfigDescriptionProvider implements ConfigDescriptionProvider {
         if (configDescriptionsList != null) {
             for (Entry<Bundle, List<ConfigDescription>> configDescriptions : configDescriptionsList) {
                 for (ConfigDescription configDescription : configDescriptions.getValue()) {
-                    allConfigDescriptions.add(tryLocalization(configDescriptions.getKey(), configDescription, locale));
+                    if (configDescription == configDescriptionIndex.get(configDescription.getURI())) {
+                        // use the localization cache, so that unchanged config descriptions keep their identity
+                        allConfigDescriptions.add(getConfigDescription(configDescription.getURI(), locale));
+                    } else {
+                        allConfigDescriptions
+                                .add(tryLocalization(configDescriptions.getKey(), configDescription, locale));
+                    }
                 }
             }
         }
@@ -155,32 +172,68 @@ public class XmlConfigDescriptionProvider implements ConfigDescriptionProvider {
 
     @Override
     public synchronized ConfigDescription getConfigDescription(URI uri, Locale locale) {
-        Collection<Entry<Bundle, List<ConfigDescription>>> configDescriptionsList = this.bundleConfigDescriptionsMap
-                .entrySet();
+        ConfigDescription configDescription = configDescriptionIndex.get(uri);
+        Bundle bundle = configDescriptionBundleIndex.get(uri);
+        if (configDescription == null || bundle == null) {
+            return null;
+        }
 
-        // Loop through the config description list looking for the one
-        // associated with this URI
-        if (configDescriptionsList != null) {
-            for (Entry<Bundle, List<ConfigDescription>> configDescriptions : configDescriptionsList) {
-                for (ConfigDescription configDescription : configDescriptions.getValue()) {
-                    if (configDescription.getURI().equals(uri)) {
-                        return tryLocalization(configDescriptions.getKey(), configDescription, locale);
-                    }
-                }
+        String localeKey = locale != null ? locale.toLanguageTag() : "";
+        Map<String, ConfigDescription> localizedConfigDescriptions = localizedConfigDescriptionCache.get(uri);
+        if (localizedConfigDescriptions != null) {
+            ConfigDescription cachedEntry = localizedConfigDescriptions.get(localeKey);
+            if (cachedEntry != null) {
+                return cachedEntry;
             }
+        } else {
+            localizedConfigDescriptions = new ConcurrentHashMap<>();
+            localizedConfigDescriptionCache.put(uri, localizedConfigDescriptions);
         }
 
-        return null;
+        ConfigDescription localizedConfigDescription = tryLocalization(bundle, configDescription, locale);
+        if (configI18nLocalizerService != null) {
+            localizedConfigDescriptions.put(localeKey, localizedConfigDescription);
+        }
+        return localizedConfigDescription;
     }
 
     @Bind
     public void setConfigI18nLocalizerService(ConfigI18nLocalizationService configI18nLocalizerService) {
         this.configI18nLocalizerService = configI18nLocalizerService;
+        this.localizedConfigDescriptionCache.clear();
     }
 
     @Unbind
     public void unsetConfigI18nLocalizerService(ConfigI18nLocalizationService configI18nLocalizerService) {
         this.configI18nLocalizerService = null;
+        this.localizedConfigDescriptionCache.clear();
+    }
+
+    private void addToIndex(Bundle bundle, ConfigDescription configDescription) {
+        configDescriptionIndex.put(configDescription.getURI(), configDescription);
+        configDescriptionBundleIndex.put(configDescription.getURI(), bundle);
+        // just make sure no old entry remains in the cache
+        localizedConfigDescriptionCache.remove(configDescription.getURI());
+    }
+
+    private void removeFromIndex(Bundle bundle, List<ConfigDescription> configDescriptions) {
+        for (ConfigDescription configDescription : configDescriptions) {
+            URI uri = configDescription.getURI();
+            localizedConfigDescriptionCache.remove(uri);
+            if (bundle.equals(configDescriptionBundleIndex.get(uri))) {
+                configDescriptionIndex.remove(uri);
+                configDescriptionBundleIndex.remove(uri);
+                // another bundle might provide a config description with the same URI
+                for (Entry<Bundle, List<ConfigDescription>> otherConfigDescriptions : this.bundleConfigDescriptionsMap
+                        .entrySet()) {
+                    for (ConfigDescription otherConfigDescription : otherConfigDescriptions.getValue()) {
+                        if (otherConfigDescription.getURI().equals(uri)) {
+                            addToIndex(otherConfigDescriptions.getKey(), otherConfigDescription);
+                        }
+                    }
+                }
+            }
+        }
     }
 
     private ConfigDescription tryLocalization(final Bundle bundle, final ConfigDescription configDescription,
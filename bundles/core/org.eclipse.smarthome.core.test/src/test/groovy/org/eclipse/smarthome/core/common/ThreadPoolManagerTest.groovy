@@ -95,4 +95,57 @@ class ThreadPoolManagerTest {
         tpm.modified(["test6":"3"])
         assertThat result.getMaximumPoolSize(), is(3)
     }
+
+    @Test
+    void 'get configured queue size'() {
+
+        def tpm = new ThreadPoolManager()
+        tpm.modified(["test7.queueSize":"10"])
+        QueueingThreadPoolExecutor result = ThreadPoolManager.getPool("test7")
+
+        assertThat result.getMaximumQueueSize(), is(10)
+        assertThat result.getMaximumPoolSize(), is(ThreadPoolManager.DEFAULT_THREAD_POOL_SIZE)
+
+        tpm.modified(["test7.queueSize":"20"])
+        assertThat result.getMaximumQueueSize(), is(20)
+    }
+
+    @Test
+    void 'get pool statistics'() {
+        ThreadPoolManager.getScheduledPool("test8")
+        ThreadPoolManager.getPool("test9")
+
+        def statistics = ThreadPoolManager.getPoolStatistics()
+        def scheduled = statistics.find { it.name == "test8" }
+        def queueing = statistics.find { it.name == "test9" }
+
+        assertTrue scheduled.scheduled
+        assertThat scheduled.maximumPoolSize, is(ThreadPoolManager.DEFAULT_THREAD_POOL_SIZE)
+        assertFalse queueing.scheduled
+        assertThat queueing.maximumPoolSize, is(ThreadPoolManager.DEFAULT_THREAD_POOL_SIZE)
+    }
+
+    @Test
+    void 'thread budget keeps one thread per pool'() {
+        def tpm = new ThreadPoolManager()
+        tpm.modified(["threadBudget":"1"])
+        try {
+            def latch = new java.util.concurrent.CountDownLatch(1)
+            def started = new java.util.concurrent.CountDownLatch(2)
+            ThreadPoolExecutor pool1 = ThreadPoolManager.getScheduledPool("test10")
+            ThreadPoolExecutor pool2 = ThreadPoolManager.getScheduledPool("test11")
+            3.times {
+                pool1.execute { started.countDown(); latch.await() }
+                pool2.execute { started.countDown(); latch.await() }
+            }
+            // each pool runs one task, the others wait for a thread
+            assertTrue started.await(5, TimeUnit.SECONDS)
+
+            assertThat pool1.getPoolSize(), is(1)
+            assertThat pool2.getPoolSize(), is(1)
+            latch.countDown()
+        } finally {
+            tpm.modified(["threadBudget":"0"])
+        }
+    }
 }
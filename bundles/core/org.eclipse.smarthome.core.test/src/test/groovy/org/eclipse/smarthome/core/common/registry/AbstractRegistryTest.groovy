@@ -0,0 +1,78 @@
+/**
+ * Copyright (c) 2014-2016 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.core.common.registry
+
+import static org.hamcrest.CoreMatchers.*
+import static org.junit.Assert.*
+
+import org.junit.Before
+import org.junit.Test
+
+/**
+ * Tests that the version of the {@link AbstractRegistry} is increased on every change of its content.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+class AbstractRegistryTest {
+
+    AbstractRegistry<String, String> registry
+    Provider<String> provider
+
+    @Before
+    void setUp() {
+        registry = new AbstractRegistry<String, String>() {}
+        provider = [
+            getAll: { ["a", "b"] },
+            addProviderChangeListener: {},
+            removeProviderChangeListener: {}
+        ] as Provider
+    }
+
+    @Test
+    void 'assert that the version is increased when a provider is added or removed'() {
+        long version = registry.getVersion()
+
+        registry.addProvider(provider)
+        assertThat registry.getVersion() > version, is(true)
+
+        version = registry.getVersion()
+        registry.removeProvider(provider)
+        assertThat registry.getVersion() > version, is(true)
+        assertThat registry.getAll().isEmpty(), is(true)
+    }
+
+    @Test
+    void 'assert that the version is increased when an element is added, updated or removed'() {
+        registry.addProvider(provider)
+
+        long version = registry.getVersion()
+        registry.added(provider, "c")
+        assertThat registry.getVersion() > version, is(true)
+
+        version = registry.getVersion()
+        registry.updated(provider, "c", "d")
+        assertThat registry.getVersion() > version, is(true)
+
+        version = registry.getVersion()
+        registry.removed(provider, "d")
+        assertThat registry.getVersion() > version, is(true)
+    }
+
+    @Test
+    void 'assert that the version is not increased without a change'() {
+        registry.addProvider(provider)
+        long version = registry.getVersion()
+
+        registry.getAll()
+        registry.addProvider(provider)
+        // elements of unknown providers are ignored
+        registry.added([getAll: { [] }] as Provider, "c")
+        assertThat registry.getVersion(), is(version)
+    }
+}
@@ -7,7 +7,7 @@
  */
 package org.eclipse.smarthome.core.scheduler;
 
-import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.*;
 
 import java.text.ParseException;
 import java.util.Calendar;
@@ -63,4 +63,71 @@ public class CronExpressionTest {
 
         assertEquals(checkDate, nextDate);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void getTimeAfterSpecialDaysCheck() throws ParseException {
+
+        Calendar cal = Calendar.getInstance();
+        cal.set(2016, 0, 1, 0, 0, 0); // set to Jan 1st 2016, 00:00
+        Date startDate = cal.getTime();
+
+        // Fire at noon on the last weekday of every month
+        CronExpression expr = new CronExpression("0 0 12 LW * ?", startDate);
+        cal.set(2016, 0, 29, 12, 0, 0);
+        assertEquals(cal.getTime(), expr.getTimeAfter(startDate));
+
+        // Fire at noon on the weekday nearest to the 16th of every month
+        expr = new CronExpression("0 0 12 16W * ?", startDate);
+        cal.set(2016, 0, 15, 12, 0, 0);
+        assertEquals(cal.getTime(), expr.getTimeAfter(startDate));
+
+        // Fire at noon two days before the last day of every month
+        expr = new CronExpression("0 0 12 L-2 * ?", startDate);
+        cal.set(2016, 0, 29, 12, 0, 0);
+        Date nextDate = expr.getTimeAfter(startDate);
+        assertEquals(cal.getTime(), nextDate);
+        cal.set(2016, 1, 27, 12, 0, 0);
+        assertEquals(cal.getTime(), expr.getTimeAfter(nextDate));
+    }
+
+    @Test
+    public void getTimeAfterSequenceCheck() throws ParseException {
+
+        Calendar cal = Calendar.getInstance();
+        cal.set(2016, 0, 1, 0, 0, 0); // set to Jan 1st 2016, 00:00
+        Date startDate = cal.getTime();
+
+        // Fire every 20 seconds
+        CronExpression expr = new CronExpression("*/20 * * * * ?", startDate);
+        Date nextDate = startDate;
+        for (int i = 0; i < 4; i++) {
+            nextDate = expr.getTimeAfter(nextDate);
+        }
+        cal.set(2016, 0, 1, 0, 1, 20);
+        assertEquals(cal.getTime(), nextDate);
+
+        // Fire at midnight on every 29th of February
+        expr = new CronExpression("0 0 0 29 2 ?", startDate);
+        nextDate = expr.getTimeAfter(startDate);
+        cal.set(2016, 1, 29, 0, 0, 0);
+        assertEquals(cal.getTime(), nextDate);
+        cal.set(2020, 1, 29, 0, 0, 0);
+        assertEquals(cal.getTime(), expr.getTimeAfter(nextDate));
+    }
+
+    @Test
+    public void getTimeAfterExhaustedCheck() throws ParseException {
+
+        Calendar cal = Calendar.getInstance();
+        cal.set(2016, 0, 1, 0, 0, 0); // set to Jan 1st 2016, 00:00
+        Date startDate = cal.getTime();
+
+        // Fire at 10:15am on the last day of every month during 2016
+        CronExpression expr = new CronExpression("0 15 10 L * ? 2016", startDate);
+
+        cal.set(2016, 11, 31, 10, 15, 0);
+        Date finalDate = cal.getTime();
+        assertEquals(finalDate, expr.getTimeAfter(new Date(finalDate.getTime() - 1000)));
+        assertNull(expr.getTimeAfter(finalDate));
+    }
+}
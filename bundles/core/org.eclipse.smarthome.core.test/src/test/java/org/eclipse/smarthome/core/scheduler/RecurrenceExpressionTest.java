@@ -7,7 +7,7 @@
  */
 package org.eclipse.smarthome.core.scheduler;
 
-import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.*;
 
 import java.text.ParseException;
 import java.util.Calendar;
@@ -79,4 +79,46 @@ public class RecurrenceExpressionTest {
 
         assertEquals(checkDate, nextDate);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void getTimeAfterWithoutCountCheck() throws ParseException {
+
+        Calendar cal = Calendar.getInstance();
+        cal.set(2016, 0, 1, 8, 30, 0); // set to Jan 1st 2016, 08:30
+        Date startDate = cal.getTime();
+
+        // Every Tuesday and Thursday at 08:30, until the end of 2017
+        RecurrenceExpression expr = new RecurrenceExpression("FREQ=WEEKLY;BYDAY=TU,TH;UNTIL=20171231", startDate);
+
+        Date nextDate = expr.getTimeAfter(startDate);
+        cal.set(2016, 0, 5, 8, 30, 0);
+        assertEquals(cal.getTime(), nextDate);
+
+        nextDate = expr.getTimeAfter(nextDate);
+        cal.set(2016, 0, 7, 8, 30, 0);
+        assertEquals(cal.getTime(), nextDate);
+
+        cal.set(2017, 11, 28, 8, 30, 0);
+        Date lastDate = cal.getTime();
+        assertEquals(lastDate, expr.getTimeAfter(new Date(lastDate.getTime() - 1000)));
+        assertNull(expr.getTimeAfter(lastDate));
+    }
+
+    @Test
+    public void getTimeAfterMonthDayCheck() throws ParseException {
+
+        Calendar cal = Calendar.getInstance();
+        cal.set(2016, 0, 1, 0, 0, 0); // set to Jan 1st 2016, 00:00
+        Date startDate = cal.getTime();
+
+        // The last day of every month at 18:00
+        RecurrenceExpression expr = new RecurrenceExpression("FREQ=MONTHLY;BYMONTHDAY=-1;BYHOUR=18", startDate);
+
+        Date nextDate = expr.getTimeAfter(startDate);
+        cal.set(2016, 0, 31, 18, 0, 0);
+        assertEquals(cal.getTime(), nextDate);
+
+        cal.set(2016, 1, 29, 18, 0, 0);
+        assertEquals(cal.getTime(), expr.getTimeAfter(nextDate));
+    }
+}
@@ -0,0 +1,150 @@
+/**
+ * Copyright (c) 2014-2016 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.core.scheduler;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.smarthome.core.scheduler.TimingWheel.Timeout;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TimingWheelTest {
+
+    private final Executor directExecutor = new Executor() {
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+    };
+
+    private TimingWheel wheel;
+
+    @Before
+    public void setup() {
+        wheel = new TimingWheel(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "TimingWheelTest");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    @Test
+    public void timeoutsExpireInOrder() throws InterruptedException {
+        final StringBuffer order = new StringBuffer();
+        final CountDownLatch latch = new CountDownLatch(3);
+        long now = System.currentTimeMillis();
+
+        wheel.schedule(new Appender(order, "c", latch), now + 300, directExecutor);
+        wheel.schedule(new Appender(order, "a", latch), now + 50, directExecutor);
+        wheel.schedule(new Appender(order, "b", latch), now + 150, directExecutor);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals("abc", order.toString());
+        assertTrue(System.currentTimeMillis() >= now + 300);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void timeoutInThePastExpiresImmediately() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        wheel.schedule(new Appender(new StringBuffer(), "a", latch), System.currentTimeMillis() - 1000,
+                directExecutor);
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void cancelledTimeoutDoesNotExpire() throws InterruptedException {
+        final AtomicInteger counter = new AtomicInteger();
+        final CountDownLatch latch = new CountDownLatch(1);
+        long now = System.currentTimeMillis();
+
+        Timeout timeout = wheel.schedule(new Runnable() {
+            @Override
+            public void run() {
+                counter.incrementAndGet();
+            }
+        }, now + 100, directExecutor);
+        wheel.schedule(new Appender(new StringBuffer(), "a", latch), now + 200, directExecutor);
+
+        assertTrue(timeout.cancel());
+        assertFalse(timeout.cancel());
+        assertTrue(timeout.isCancelled());
+        assertEquals(1, wheel.size());
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(0, counter.get());
+    }
+
+    @Test
+    public void rescheduledTimeoutExpiresAtNewDeadline() throws InterruptedException {
+        final StringBuffer order = new StringBuffer();
+        final CountDownLatch latch = new CountDownLatch(2);
+        long now = System.currentTimeMillis();
+
+        Timeout timeout = wheel.schedule(new Appender(order, "a", latch), now + 100, directExecutor);
+        wheel.schedule(new Appender(order, "b", latch), now + 200, directExecutor);
+        timeout.reschedule(now + 400);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals("ba", order.toString());
+        assertEquals(now + 400, timeout.getDeadline());
+        assertFalse(timeout.isPending());
+    }
+
+    @Test
+    public void distantTimeoutsArePending() {
+        long now = System.currentTimeMillis();
+
+        // one hour, one day and one year ahead, the last one beyond the span of a single level
+        Timeout hour = wheel.schedule(new Appender(new StringBuffer(), "a", null), now + 3600000L, directExecutor);
+        Timeout day = wheel.schedule(new Appender(new StringBuffer(), "b", null), now + 86400000L, directExecutor);
+        Timeout year = wheel.schedule(new Appender(new StringBuffer(), "c", null), now + 31536000000L,
+                directExecutor);
+
+        assertEquals(3, wheel.size());
+        assertTrue(hour.isPending() && day.isPending() && year.isPending());
+
+        assertTrue(day.cancel());
+        assertTrue(year.cancel());
+        assertTrue(hour.cancel());
+        assertEquals(0, wheel.size());
+    }
+
+    private static class Appender implements Runnable {
+
+        private final StringBuffer buffer;
+        private final String value;
+        private final CountDownLatch latch;
+
+        Appender(StringBuffer buffer, String value, CountDownLatch latch) {
+            this.buffer = buffer;
+            this.value = value;
+            this.latch = latch;
+        }
+
+        @Override
+        public void run() {
+            buffer.append(value);
+            if (latch != null) {
+                latch.countDown();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2014-2016 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.core.thing.xml.internal
+
+import static org.hamcrest.CoreMatchers.*
+import static org.junit.Assert.*
+
+import org.eclipse.smarthome.core.thing.type.ChannelGroupType
+import org.eclipse.smarthome.core.thing.type.ChannelGroupTypeUID
+import org.eclipse.smarthome.core.thing.type.ChannelType
+import org.eclipse.smarthome.core.thing.type.ChannelTypeUID
+import org.junit.Before
+import org.junit.Test
+import org.osgi.framework.Bundle
+
+/**
+ * Tests that the UID indexes of the {@link XmlChannelTypeProvider} find the same channel (group) types as a lookup in
+ * the types of all bundles, also after a bundle has been removed.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+class XmlChannelTypeProviderTest {
+
+    XmlChannelTypeProvider provider
+    Bundle bundleA = [getSymbolicName: { "a" }] as Bundle
+    Bundle bundleB = [getSymbolicName: { "b" }] as Bundle
+
+    @Before
+    void setUp() {
+        provider = new XmlChannelTypeProvider()
+    }
+
+    @Test
+    void 'assert that the index finds the same channel types as a linear lookup'() {
+        provider.addChannelType(bundleA, channelType("a1"))
+        provider.addChannelType(bundleA, channelType("a2"))
+        provider.addChannelType(bundleB, channelType("b1"))
+
+        ["a1", "a2", "b1"].each {
+            ChannelTypeUID uid = new ChannelTypeUID("binding", it)
+            assertThat provider.getChannelType(uid, null), is(sameInstance(linearLookup(uid)))
+            assertThat provider.getChannelType(uid, null).getUID(), is(uid)
+        }
+        assertThat provider.getChannelType(new ChannelTypeUID("binding", "unknown"), null), is(nullValue())
+    }
+
+    @Test
+    void 'assert that the channel type index is updated when a bundle is removed'() {
+        ChannelType typeA = channelType("shared")
+        provider.addChannelType(bundleA, typeA)
+        provider.addChannelType(bundleB, channelType("shared"))
+        provider.addChannelType(bundleB, channelType("b1"))
+
+        provider.removeAllChannelTypes(bundleB)
+        ChannelTypeUID sharedUID = new ChannelTypeUID("binding", "shared")
+        assertThat provider.getChannelType(sharedUID, null), is(sameInstance(typeA))
+        assertThat provider.getChannelType(sharedUID, null), is(sameInstance(linearLookup(sharedUID)))
+        assertThat provider.getChannelType(new ChannelTypeUID("binding", "b1"), null), is(nullValue())
+
+        provider.removeAllChannelTypes(bundleA)
+        assertThat provider.getChannelType(sharedUID, null), is(nullValue())
+        assertThat provider.getChannelTypes(null).isEmpty(), is(true)
+    }
+
+    @Test
+    void 'assert that the channel group type index is updated when a bundle is removed'() {
+        ChannelGroupType typeA = channelGroupType("shared")
+        provider.addChannelGroupType(bundleA, typeA)
+        provider.addChannelGroupType(bundleA, channelGroupType("a1"))
+        provider.addChannelGroupType(bundleB, channelGroupType("shared"))
+        provider.addChannelGroupType(bundleB, channelGroupType("b1"))
+
+        ChannelGroupTypeUID a1UID = new ChannelGroupTypeUID("binding", "a1")
+        assertThat provider.getChannelGroupType(a1UID, null), is(sameInstance(
+                provider.getChannelGroupTypes(null).find { it.getUID().equals(a1UID) }))
+
+        provider.removeAllChannelGroupTypes(bundleB)
+        ChannelGroupTypeUID sharedUID = new ChannelGroupTypeUID("binding", "shared")
+        assertThat provider.getChannelGroupType(sharedUID, null), is(sameInstance(typeA))
+        assertThat provider.getChannelGroupType(new ChannelGroupTypeUID("binding", "b1"), null), is(nullValue())
+
+        provider.removeAllChannelGroupTypes(bundleA)
+        assertThat provider.getChannelGroupType(sharedUID, null), is(nullValue())
+        assertThat provider.getChannelGroupType(a1UID, null), is(nullValue())
+    }
+
+    ChannelType channelType(String id) {
+        new ChannelType(new ChannelTypeUID("binding", id), false, "Switch", id, null, null, null, null, null)
+    }
+
+    ChannelGroupType channelGroupType(String id) {
+        new ChannelGroupType(new ChannelGroupTypeUID("binding", id), false, id, null, null)
+    }
+
+    ChannelType linearLookup(ChannelTypeUID uid) {
+        provider.getChannelTypes(null).find { it.getUID().equals(uid) }
+    }
+}
@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2014-2016 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.core.thing.xml.internal
+
+import static org.hamcrest.CoreMatchers.*
+import static org.junit.Assert.*
+
+import org.eclipse.smarthome.core.thing.ThingTypeUID
+import org.eclipse.smarthome.core.thing.type.ThingType
+import org.junit.Before
+import org.junit.Test
+import org.osgi.framework.Bundle
+
+/**
+ * Tests that the UID index of the {@link XmlThingTypeProvider} finds the same thing types as a lookup in the thing
+ * types of all bundles, also after a bundle has been removed.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+class XmlThingTypeProviderTest {
+
+    XmlThingTypeProvider provider
+    Bundle bundleA = [getSymbolicName: { "a" }] as Bundle
+    Bundle bundleB = [getSymbolicName: { "b" }] as Bundle
+
+    @Before
+    void setUp() {
+        provider = new XmlThingTypeProvider()
+    }
+
+    @Test
+    void 'assert that the index finds the same thing types as a linear lookup'() {
+        provider.addThingType(bundleA, new ThingType("binding", "a1", "A1"))
+        provider.addThingType(bundleA, new ThingType("binding", "a2", "A2"))
+        provider.addThingType(bundleB, new ThingType("binding", "b1", "B1"))
+
+        ["a1", "a2", "b1"].each {
+            ThingTypeUID uid = new ThingTypeUID("binding", it)
+            assertThat provider.getThingType(uid, null), is(sameInstance(linearLookup(uid)))
+            assertThat provider.getThingType(uid, null).getUID(), is(uid)
+        }
+        assertThat provider.getThingType(new ThingTypeUID("binding", "unknown"), null), is(nullValue())
+    }
+
+    @Test
+    void 'assert that the index is updated when a bundle is removed'() {
+        ThingType typeA = new ThingType("binding", "shared", "A")
+        provider.addThingType(bundleA, typeA)
+        provider.addThingType(bundleA, new ThingType("binding", "a1", "A1"))
+        provider.addThingType(bundleB, new ThingType("binding", "shared", "B"))
+        provider.addThingType(bundleB, new ThingType("binding", "b1", "B1"))
+
+        provider.removeAllThingTypes(bundleB)
+        ThingTypeUID sharedUID = new ThingTypeUID("binding", "shared")
+        assertThat provider.getThingType(sharedUID, null), is(sameInstance(typeA))
+        assertThat provider.getThingType(sharedUID, null), is(sameInstance(linearLookup(sharedUID)))
+        assertThat provider.getThingType(new ThingTypeUID("binding", "b1"), null), is(nullValue())
+        assertThat provider.getThingType(new ThingTypeUID("binding", "a1"), null), is(notNullValue())
+
+        provider.removeAllThingTypes(bundleA)
+        assertThat provider.getThingType(sharedUID, null), is(nullValue())
+        assertThat provider.getThingType(new ThingTypeUID("binding", "a1"), null), is(nullValue())
+        assertThat provider.getThingTypes(null).isEmpty(), is(true)
+    }
+
+    ThingType linearLookup(ThingTypeUID uid) {
+        provider.getThingTypes(null).find { it.getUID().equals(uid) }
+    }
+}
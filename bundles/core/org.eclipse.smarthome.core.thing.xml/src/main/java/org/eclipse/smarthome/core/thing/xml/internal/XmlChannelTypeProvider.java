@@ -100,6 +100,12 @@ public class XmlChannelTypeProvider implements ChannelTypeProvider {
 
     private Map<Bundle, List<ChannelType>> bundleChannelTypesMap;
 
+    /** indexes of all channel (group) types by their UID, mapping to the bundle which provides the type */
+    private Map<ChannelGroupTypeUID, Bundle> channelGroupTypeBundleIndex = new ConcurrentHashMap<>();
+    private Map<ChannelGroupTypeUID, ChannelGroupType> channelGroupTypeIndex = new ConcurrentHashMap<>();
+    private Map<ChannelTypeUID, Bundle> channelTypeBundleIndex = new ConcurrentHashMap<>();
+    private Map<ChannelTypeUID, ChannelType> channelTypeIndex = new ConcurrentHashMap<>();
+
     private Map<LocalizedChannelTypeKey, ChannelGroupType> localizedChannelGroupTypeCache = new ConcurrentHashMap<>();
     private Map<LocalizedChannelTypeKey, ChannelType> localizedChannelTypeCache = new ConcurrentHashMap<>();
 
@@ -116,6 +122,8 @@ public class XmlChannelTypeProvider implements ChannelTypeProvider {
 
             if (channelGroupTypes != null) {
                 channelGroupTypes.add(channelGroupType);
+                channelGroupTypeIndex.put(channelGroupType.getUID(), channelGroupType);
+                channelGroupTypeBundleIndex.put(channelGroupType.getUID(), bundle);
                 // just make sure no old entry remains in the cache
                 removeCachedChannelGroupTypes(channelGroupType);
             }
@@ -128,6 +136,8 @@ public class XmlChannelTypeProvider implements ChannelTypeProvider {
 
             if (channelTypes != null) {
                 channelTypes.add(channelType);
+                channelTypeIndex.put(channelType.getUID(), channelType);
+                channelTypeBundleIndex.put(channelType.getUID(), bundle);
                 // just make sure no old entry remains in the cache
                 removeCachedChannelTypes(channelType);
             }
@@ -135,24 +145,17 @@ public class XmlChannelTypeProvider implements ChannelTypeProvider {
     }
 
     @Override
-    public ChannelGroupType getChannelGroupType(ChannelGroupTypeUID channelGroupTypeUID, Locale locale) {
-        Collection<Entry<Bundle, List<ChannelGroupType>>> channelGroupTypesList = this.bundleChannelGroupTypesMap
-                .entrySet();
-
-        if (channelGroupTypesList != null) {
-            for (Entry<Bundle, List<ChannelGroupType>> channelGroupTypes : channelGroupTypesList) {
-                for (ChannelGroupType channelGroupType : channelGroupTypes.getValue()) {
-                    if (channelGroupType.getUID().equals(channelGroupTypeUID)) {
-                        return createLocalizedChannelGroupType(channelGroupTypes.getKey(), channelGroupType, locale);
-                    }
-                }
-            }
+    public synchronized ChannelGroupType getChannelGroupType(ChannelGroupTypeUID channelGroupTypeUID, Locale locale) {
+        ChannelGroupType channelGroupType = channelGroupTypeIndex.get(channelGroupTypeUID);
+        Bundle bundle = channelGroupTypeBundleIndex.get(channelGroupTypeUID);
+        if (channelGroupType != null && bundle != null) {
+            return createLocalizedChannelGroupType(bundle, channelGroupType, locale);
         }
         return null;
     }
 
     @Override
-    public Collection<ChannelGroupType> getChannelGroupTypes(Locale locale) {
+    public synchronized Collection<ChannelGroupType> getChannelGroupTypes(Locale locale) {
         List<ChannelGroupType> allChannelGroupTypes = new ArrayList<>(10);
 
         Collection<Entry<Bundle, List<ChannelGroupType>>> channelGroupTypesList = this.bundleChannelGroupTypesMap
@@ -172,18 +175,11 @@ public class XmlChannelTypeProvider implements ChannelTypeProvider {
     }
 
     @Override
-    public ChannelType getChannelType(ChannelTypeUID channelTypeUID, Locale locale) {
-        Collection<Entry<Bundle, List<ChannelType>>> channelTypesList = this.bundleChannelTypesMap.entrySet();
-
-        if (channelTypesList != null) {
-            for (Entry<Bundle, List<ChannelType>> channelTypes : channelTypesList) {
-                for (ChannelType channelType : channelTypes.getValue()) {
-                    if (channelType.getUID().equals(channelTypeUID)) {
-                        return createLocalizedChannelType(channelTypes.getKey(), channelType, locale);
-                    }
-                }
-            }
-        } else {
+    public synchronized ChannelType getChannelType(ChannelTypeUID channelTypeUID, Locale locale) {
+        ChannelType channelType = channelTypeIndex.get(channelTypeUID);
+        Bundle bundle = channelTypeBundleIndex.get(channelTypeUID);
+        if (channelType != null && bundle != null) {
+            return createLocalizedChannelType(bundle, channelType, locale);
         }
         return null;
     }
@@ -213,6 +209,7 @@ public class XmlChannelTypeProvider implements ChannelTypeProvider {
 
             if (channelGroupTypes != null) {
                 this.bundleChannelGroupTypesMap.remove(bundle);
+                removeChannelGroupTypesFromIndex(bundle, channelGroupTypes);
                 removeCachedChannelGroupTypes(channelGroupTypes);
             }
         }
@@ -224,6 +221,7 @@ public class XmlChannelTypeProvider implements ChannelTypeProvider {
 
             if (channelTypes != null) {
                 this.bundleChannelTypesMap.remove(bundle);
+                removeChannelTypesFromIndex(bundle, channelTypes);
                 removeCachedChannelTypes(channelTypes);
             }
         }
@@ -232,11 +230,53 @@ public class XmlChannelTypeProvider implements ChannelTypeProvider {
     @Bind
     public void setI18nProvider(I18nProvider i18nProvider) {
         this.thingTypeI18nUtil = new ThingTypeI18nUtil(i18nProvider);
+        this.localizedChannelTypeCache.clear();
+        this.localizedChannelGroupTypeCache.clear();
     }
 
     @Unbind
     public void unsetI18nProvider(I18nProvider i18nProvider) {
         this.thingTypeI18nUtil = null;
+        this.localizedChannelTypeCache.clear();
+        this.localizedChannelGroupTypeCache.clear();
+    }
+
+    private void removeChannelGroupTypesFromIndex(Bundle bundle, List<ChannelGroupType> channelGroupTypes) {
+        for (ChannelGroupType channelGroupType : channelGroupTypes) {
+            ChannelGroupTypeUID uid = channelGroupType.getUID();
+            if (bundle.equals(channelGroupTypeBundleIndex.get(uid))) {
+                channelGroupTypeIndex.remove(uid);
+                channelGroupTypeBundleIndex.remove(uid);
+                // another bundle might provide a channel group type with the same UID
+                for (Entry<Bundle, List<ChannelGroupType>> otherTypes : this.bundleChannelGroupTypesMap.entrySet()) {
+                    for (ChannelGroupType otherType : otherTypes.getValue()) {
+                        if (otherType.getUID().equals(uid)) {
+                            channelGroupTypeIndex.put(uid, otherType);
+                            channelGroupTypeBundleIndex.put(uid, otherTypes.getKey());
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private void removeChannelTypesFromIndex(Bundle bundle, List<ChannelType> channelTypes) {
+        for (ChannelType channelType : channelTypes) {
+            ChannelTypeUID uid = channelType.getUID();
+            if (bundle.equals(channelTypeBundleIndex.get(uid))) {
+                channelTypeIndex.remove(uid);
+                channelTypeBundleIndex.remove(uid);
+                // another bundle might provide a channel type with the same UID
+                for (Entry<Bundle, List<ChannelType>> otherTypes : this.bundleChannelTypesMap.entrySet()) {
+                    for (ChannelType otherType : otherTypes.getValue()) {
+                        if (otherType.getUID().equals(uid)) {
+                            channelTypeIndex.put(uid, otherType);
+                            channelTypeBundleIndex.put(uid, otherTypes.getKey());
+                        }
+                    }
+                }
+            }
+        }
     }
 
     private List<ChannelGroupType> acquireChannelGroupTypes(Bundle bundle) {
@@ -103,6 +103,10 @@ public class XmlThingTypeProvider implements ThingTypeProvider {
 
     private Map<Bundle, List<ThingType>> bundleThingTypesMap;
 
+    /** index of all thing types by their UID, mapping to the bundle which provides the thing type */
+    private Map<ThingTypeUID, Bundle> thingTypeBundleIndex = new ConcurrentHashMap<>();
+    private Map<ThingTypeUID, ThingType> thingTypeIndex = new ConcurrentHashMap<>();
+
     private ThingTypeI18nUtil thingTypeI18nUtil;
 
     public XmlThingTypeProvider() {
@@ -142,6 +146,7 @@ public class XmlThingTypeProvider implements ThingTypeProvider {
 
             if (thingTypes != null) {
                 thingTypes.add(thingType);
+                addToIndex(bundle, thingType);
                 // just make sure no old entry remains in the cache
                 removeCachedEntries(thingType);
             }
@@ -196,6 +201,29 @@ public class XmlThingTypeProvider implements ThingTypeProvider {
         return thingType;
     }
 
+    private void addToIndex(Bundle bundle, ThingType thingType) {
+        thingTypeIndex.put(thingType.getUID(), thingType);
+        thingTypeBundleIndex.put(thingType.getUID(), bundle);
+    }
+
+    private void removeFromIndex(Bundle bundle, List<ThingType> thingTypes) {
+        for (ThingType thingType : thingTypes) {
+            ThingTypeUID uid = thingType.getUID();
+            if (bundle.equals(thingTypeBundleIndex.get(uid))) {
+                thingTypeIndex.remove(uid);
+                thingTypeBundleIndex.remove(uid);
+                // another bundle might provide a thing type with the same UID
+                for (Entry<Bundle, List<ThingType>> otherThingTypes : this.bundleThingTypesMap.entrySet()) {
+                    for (ThingType otherThingType : otherThingTypes.getValue()) {
+                        if (otherThingType.getUID().equals(uid)) {
+                            addToIndex(otherThingTypes.getKey(), otherThingType);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
     private LocalizedThingTypeKey getLocalizedThingTypeKey(ThingType thingType, Locale locale) {
         String localeString = locale != null ? locale.toLanguageTag() : null;
         LocalizedThingTypeKey localizedThingTypeKey = new LocalizedThingTypeKey(thingType.getUID(),
@@ -220,17 +248,11 @@ public class XmlThingTypeProvider implements ThingTypeProvider {
     }
 
     @Override
-    public ThingType getThingType(ThingTypeUID thingTypeUID, Locale locale) {
-        Collection<Entry<Bundle, List<ThingType>>> thingTypesList = this.bundleThingTypesMap.entrySet();
-
-        if (thingTypesList != null) {
-            for (Entry<Bundle, List<ThingType>> thingTypes : thingTypesList) {
-                for (ThingType thingType : thingTypes.getValue()) {
-                    if (thingType.getUID().equals(thingTypeUID)) {
-                        return createLocalizedThingType(thingTypes.getKey(), thingType, locale);
-                    }
-                }
-            }
+    public synchronized ThingType getThingType(ThingTypeUID thingTypeUID, Locale locale) {
+        ThingType thingType = thingTypeIndex.get(thingTypeUID);
+        Bundle bundle = thingTypeBundleIndex.get(thingTypeUID);
+        if (thingType != null && bundle != null) {
+            return createLocalizedThingType(bundle, thingType, locale);
         }
         return null;
     }
@@ -269,6 +291,7 @@ public class XmlThingTypeProvider implements ThingTypeProvider {
 
             if (thingTypes != null) {
                 this.bundleThingTypesMap.remove(bundle);
+                removeFromIndex(bundle, thingTypes);
                 removeCachedEntries(thingTypes);
             }
         }
@@ -277,10 +300,12 @@ public class XmlThingTypeProvider implements ThingTypeProvider {
     @Bind
     public void setI18nProvider(I18nProvider i18nProvider) {
         this.thingTypeI18nUtil = new ThingTypeI18nUtil(i18nProvider);
+        this.localizedThingTypeCache.clear();
     }
 
     @Unbind
     public void unsetI18nProvider(I18nProvider i18nProvider) {
         this.thingTypeI18nUtil = null;
+        this.localizedThingTypeCache.clear();
     }
 }
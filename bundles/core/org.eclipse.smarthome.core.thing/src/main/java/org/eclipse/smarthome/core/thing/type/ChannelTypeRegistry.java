@@ -11,6 +11,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
@@ -24,6 +26,10 @@ public class ChannelTypeRegistry {
 
     private List<ChannelTypeProvider> channelTypeProviders = new CopyOnWriteArrayList<>();
 
+    /** remembers which provider has provided a type, so that lookups do not need to ask all providers */
+    private Map<ChannelTypeUID, ChannelTypeProvider> channelTypeProviderIndex = new ConcurrentHashMap<>();
+    private Map<ChannelGroupTypeUID, ChannelTypeProvider> channelGroupTypeProviderIndex = new ConcurrentHashMap<>();
+
     /**
      * Returns all channel types with the default {@link Locale}.
      *
@@ -63,9 +69,19 @@ public class ChannelTypeRegistry {
      * @return channel type or null if no channel type for the given UID exists
      */
     public ChannelType getChannelType(ChannelTypeUID channelTypeUID, Locale locale) {
+        ChannelTypeProvider indexedProvider = channelTypeProviderIndex.get(channelTypeUID);
+        if (indexedProvider != null) {
+            ChannelType channelType = indexedProvider.getChannelType(channelTypeUID, locale);
+            if (channelType != null) {
+                return channelType;
+            }
+            channelTypeProviderIndex.remove(channelTypeUID);
+        }
+
         for (ChannelTypeProvider channelTypeProvider : channelTypeProviders) {
             ChannelType channelType = channelTypeProvider.getChannelType(channelTypeUID, locale);
             if (channelType != null) {
+                channelTypeProviderIndex.put(channelTypeUID, channelTypeProvider);
                 return channelType;
             }
         }
@@ -111,9 +127,19 @@ public class ChannelTypeRegistry {
      * @return channel group type or null if no channel group type for the given UID exists
      */
     public ChannelGroupType getChannelGroupType(ChannelGroupTypeUID channelGroupTypeUID, Locale locale) {
+        ChannelTypeProvider indexedProvider = channelGroupTypeProviderIndex.get(channelGroupTypeUID);
+        if (indexedProvider != null) {
+            ChannelGroupType channelGroupType = indexedProvider.getChannelGroupType(channelGroupTypeUID, locale);
+            if (channelGroupType != null) {
+                return channelGroupType;
+            }
+            channelGroupTypeProviderIndex.remove(channelGroupTypeUID);
+        }
+
         for (ChannelTypeProvider channelTypeProvider : channelTypeProviders) {
             ChannelGroupType channelGroupType = channelTypeProvider.getChannelGroupType(channelGroupTypeUID, locale);
             if (channelGroupType != null) {
+                channelGroupTypeProviderIndex.put(channelGroupTypeUID, channelTypeProvider);
                 return channelGroupType;
             }
         }
@@ -122,10 +148,17 @@ public class ChannelTypeRegistry {
 
     protected void addChannelTypeProvider(ChannelTypeProvider channelTypeProviders) {
         this.channelTypeProviders.add(channelTypeProviders);
+        clearProviderIndexes();
     }
 
     protected void removeChannelTypeProvider(ChannelTypeProvider channelTypeProviders) {
         this.channelTypeProviders.remove(channelTypeProviders);
+        clearProviderIndexes();
+    }
+
+    private void clearProviderIndexes() {
+        this.channelTypeProviderIndex.clear();
+        this.channelGroupTypeProviderIndex.clear();
     }
 
 }
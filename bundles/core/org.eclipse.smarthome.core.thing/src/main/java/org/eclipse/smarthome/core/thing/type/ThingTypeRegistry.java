@@ -11,6 +11,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.eclipse.smarthome.core.thing.Channel;
@@ -30,6 +32,9 @@ public class ThingTypeRegistry {
 
     private List<ThingTypeProvider> thingTypeProviders = new CopyOnWriteArrayList<>();
 
+    /** remembers which provider has provided a thing type, so that lookups do not need to ask all providers */
+    private Map<ThingTypeUID, ThingTypeProvider> thingTypeProviderIndex = new ConcurrentHashMap<>();
+
     /**
      * Returns all thing types.
      *
@@ -97,9 +102,19 @@ public class ThingTypeRegistry {
      *         was found
      */
     public ThingType getThingType(ThingTypeUID thingTypeUID, Locale locale) {
+        ThingTypeProvider indexedProvider = thingTypeProviderIndex.get(thingTypeUID);
+        if (indexedProvider != null) {
+            ThingType thingType = indexedProvider.getThingType(thingTypeUID, locale);
+            if (thingType != null) {
+                return thingType;
+            }
+            thingTypeProviderIndex.remove(thingTypeUID);
+        }
+
         for (ThingTypeProvider thingTypeProvider : thingTypeProviders) {
             ThingType thingType = thingTypeProvider.getThingType(thingTypeUID, locale);
             if (thingType != null) {
+                thingTypeProviderIndex.put(thingTypeUID, thingTypeProvider);
                 return thingType;
             }
         }
@@ -161,12 +176,14 @@ public class ThingTypeRegistry {
     protected void addThingTypeProvider(ThingTypeProvider thingTypeProvider) {
         if (thingTypeProvider != null) {
             this.thingTypeProviders.add(thingTypeProvider);
+            this.thingTypeProviderIndex.clear();
         }
     }
 
     protected void removeThingTypeProvider(ThingTypeProvider thingTypeProvider) {
         if (thingTypeProvider != null) {
             this.thingTypeProviders.remove(thingTypeProvider);
+            this.thingTypeProviderIndex.clear();
         }
     }
 
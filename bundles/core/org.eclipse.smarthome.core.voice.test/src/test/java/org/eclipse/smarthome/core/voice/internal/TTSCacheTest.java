@@ -0,0 +1,196 @@
+/**
+ * Copyright (c) 2014-2016 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.core.voice.internal;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.eclipse.smarthome.core.audio.AudioFormat;
+import org.eclipse.smarthome.core.audio.AudioStream;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the {@link TTSCache}.
+ *
+ * @author agent - Initial contribution
+ */
+public class TTSCacheTest {
+
+    private static final AudioFormat FORMAT = new AudioFormat(AudioFormat.CONTAINER_WAVE, AudioFormat.CODEC_PCM_SIGNED,
+            false, 16, 705600, 44100L);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testMiss() {
+        TTSCache cache = new TTSCache(folder.getRoot(), 1024);
+
+        assertNull(cache.get("first", FORMAT));
+    }
+
+    @Test
+    public void testHitAfterCompleteRead() throws IOException {
+        TTSCache cache = new TTSCache(folder.getRoot(), 1024);
+
+        assertArrayEquals(bytes(4), readAndClose(cache.put("first", new TestAudioStream(bytes(4)))));
+
+        AudioStream cached = cache.get("first", FORMAT);
+        assertNotNull(cached);
+        assertEquals(FORMAT, cached.getFormat());
+        assertArrayEquals(bytes(4), readAndClose(cached));
+    }
+
+    @Test
+    public void testEntriesArePickedUpAgain() throws IOException {
+        TTSCache cache = new TTSCache(folder.getRoot(), 1024);
+        readAndClose(cache.put("first", new TestAudioStream(bytes(4))));
+
+        TTSCache restarted = new TTSCache(folder.getRoot(), 1024);
+
+        assertArrayEquals(bytes(4), readAndClose(restarted.get("first", FORMAT)));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntryIsEvicted() throws IOException {
+        TTSCache cache = new TTSCache(folder.getRoot(), 10);
+        readAndClose(cache.put("first", new TestAudioStream(bytes(6))));
+        readAndClose(cache.put("second", new TestAudioStream(bytes(4))));
+
+        // "first" is used again, so "second" is the least recently used entry
+        readAndClose(cache.get("first", FORMAT));
+        readAndClose(cache.put("third", new TestAudioStream(bytes(4))));
+
+        assertNotNull(cache.get("first", FORMAT));
+        assertNull(cache.get("second", FORMAT));
+        assertNotNull(cache.get("third", FORMAT));
+    }
+
+    @Test
+    public void testReducingMaxSizeEvictsEntries() throws IOException {
+        TTSCache cache = new TTSCache(folder.getRoot(), 10);
+        readAndClose(cache.put("first", new TestAudioStream(bytes(6))));
+        readAndClose(cache.put("second", new TestAudioStream(bytes(4))));
+
+        cache.setMaxSize(5);
+
+        assertNull(cache.get("first", FORMAT));
+        assertNotNull(cache.get("second", FORMAT));
+    }
+
+    @Test
+    public void testPartlyReadStreamIsNotCached() throws IOException {
+        TTSCache cache = new TTSCache(folder.getRoot(), 1024);
+
+        AudioStream stream = cache.put("first", new TestAudioStream(bytes(8)));
+        assertEquals(4, stream.read(new byte[4]));
+        stream.close();
+
+        assertNull(cache.get("first", FORMAT));
+        assertEquals(0, folder.getRoot().list().length);
+    }
+
+    @Test
+    public void testFailedStreamIsNotCached() throws IOException {
+        TTSCache cache = new TTSCache(folder.getRoot(), 1024);
+
+        AudioStream stream = cache.put("first", new TestAudioStream(new FailingInputStream(bytes(4))));
+        try {
+            IOUtils.toByteArray(stream);
+            fail("the failure of the TTS service has not been passed on");
+        } catch (IOException e) {
+            // expected
+        } finally {
+            stream.close();
+        }
+
+        assertNull(cache.get("first", FORMAT));
+        assertEquals(0, folder.getRoot().list().length);
+    }
+
+    @Test
+    public void testStreamIsNotWrappedIfCacheIsDisabled() {
+        TTSCache cache = new TTSCache(folder.getRoot(), 0);
+        AudioStream stream = new TestAudioStream(bytes(4));
+
+        assertSame(stream, cache.put("first", stream));
+    }
+
+    private static byte[] bytes(int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) i;
+        }
+        return bytes;
+    }
+
+    private static byte[] readAndClose(AudioStream stream) throws IOException {
+        try {
+            return IOUtils.toByteArray(stream);
+        } finally {
+            stream.close();
+        }
+    }
+
+    private static class TestAudioStream extends AudioStream {
+
+        private final InputStream stream;
+
+        TestAudioStream(byte[] data) {
+            this(new ByteArrayInputStream(data));
+        }
+
+        TestAudioStream(InputStream stream) {
+            this.stream = stream;
+        }
+
+        @Override
+        public AudioFormat getFormat() {
+            return FORMAT;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return stream.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return stream.read(b, off, len);
+        }
+    }
+
+    /**
+     * Returns the given data and fails afterwards instead of signaling the end of the stream.
+     */
+    private static class FailingInputStream extends InputStream {
+
+        private final InputStream stream;
+
+        FailingInputStream(byte[] data) {
+            this.stream = new ByteArrayInputStream(data);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = stream.read();
+            if (b < 0) {
+                throw new IOException("TTS service failed");
+            }
+            return b;
+        }
+    }
+
+}
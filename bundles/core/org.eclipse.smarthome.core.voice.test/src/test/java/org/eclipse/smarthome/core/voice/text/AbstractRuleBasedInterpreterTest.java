@@ -0,0 +1,353 @@
+/**
+ * Copyright (c) 2014-2016 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.core.voice.text;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.eclipse.smarthome.core.common.registry.RegistryChangeListener;
+import org.eclipse.smarthome.core.items.GenericItem;
+import org.eclipse.smarthome.core.items.GroupItem;
+import org.eclipse.smarthome.core.items.Item;
+import org.eclipse.smarthome.core.items.ItemNotFoundException;
+import org.eclipse.smarthome.core.items.ItemRegistry;
+import org.eclipse.smarthome.core.library.items.SwitchItem;
+import org.eclipse.smarthome.core.library.types.OnOffType;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that the item token index of the {@link AbstractRuleBasedInterpreter} finds the same items as matching the
+ * token sets of all paths through the groups one after the other.
+ *
+ * @author agent - Initial contribution
+ */
+public class AbstractRuleBasedInterpreterTest {
+
+    private TestItemRegistry registry;
+    private AbstractRuleBasedInterpreter interpreter;
+    private ResourceBundle language;
+
+    @Before
+    public void setUp() {
+        registry = new TestItemRegistry();
+        group("gHouse", "House");
+        group("gFF", "First Floor", "gHouse");
+        group("gGF", "Ground Floor", "gHouse");
+        group("gLiving", "Living Room", "gGF");
+        group("gKitchen", "Kitchen", "gGF");
+        group("gBath", "Bath Room", "gFF");
+        group("gLights", "Lights");
+        item("Living_Light", "Ceiling Light", "gLiving");
+        item("Living_Light_Color", "Ceiling Light Color", "gLiving");
+        item("Kitchen_Light", "Ceiling Light", "gKitchen", "gLights");
+        item("Kitchen_Heating", "Heating", "gKitchen");
+        item("Bath_Light", "Mirror Light", "gBath", "gLights");
+        item("Garden_Light", "Garden Light");
+
+        interpreter = new AbstractRuleBasedInterpreter() {
+            @Override
+            protected void createRules() {
+            }
+
+            @Override
+            public String getId() {
+                return "test";
+            }
+
+            @Override
+            public String getLabel(Locale locale) {
+                return "Test";
+            }
+        };
+        interpreter.setItemRegistry(registry);
+        language = ResourceBundle.getBundle("LanguageSupport", Locale.ENGLISH);
+    }
+
+    @Test
+    public void testMatchingItems() {
+        assertEquals(names("Kitchen_Light"), getMatchingItems("kitchen", "light"));
+        assertEquals(names("Living_Light", "Kitchen_Light"), getMatchingItems("Ceiling", "LIGHT"));
+        assertEquals(names("gLights", "Kitchen_Light", "Bath_Light"), getMatchingItems("lights"));
+        assertEquals(names("Living_Light_Color"), getMatchingItems("color"));
+        assertEquals(names(), getMatchingItems("garage"));
+    }
+
+    @Test
+    public void testIndexMatchesLinearMatcher() {
+        assertSameMatches();
+    }
+
+    @Test
+    public void testIndexIsUpdatedOnRegistryChanges() {
+        getMatchingItems("light");
+
+        item("Kitchen_Fan", "Ceiling Fan", "gKitchen");
+        registry.remove("Garden_Light");
+        GenericItem bathLight = item("Bath_Light", "Shower Light", "gBath", "gLights");
+
+        assertEquals(names("Kitchen_Fan"), getMatchingItems("ceiling", "fan"));
+        assertEquals(names(), getMatchingItems("garden"));
+        assertEquals(names("Bath_Light"), getMatchingItems("shower"));
+        assertEquals(names(), getMatchingItems("mirror"));
+        assertSameMatches();
+
+        registry.remove(bathLight.getName());
+        assertEquals(names(), getMatchingItems("shower"));
+        assertSameMatches();
+    }
+
+    private void assertSameMatches() {
+        List<String> tokens = new ArrayList<String>(new TreeSet<String>(interpreter.getAllItemTokens(Locale.ENGLISH)));
+        tokens.add("garage");
+        List<String[]> queries = new ArrayList<String[]>();
+        queries.add(new String[0]);
+        for (int i = 0; i < tokens.size(); i++) {
+            queries.add(new String[] { tokens.get(i) });
+            for (int j = i + 1; j < tokens.size(); j++) {
+                queries.add(new String[] { tokens.get(i), tokens.get(j) });
+                for (int k = j + 1; k < tokens.size(); k++) {
+                    queries.add(new String[] { tokens.get(i), tokens.get(j), tokens.get(k) });
+                }
+            }
+        }
+        for (String[] query : queries) {
+            for (Class<?> commandType : Arrays.asList(null, OnOffType.class)) {
+                assertEquals(Arrays.toString(query), new HashSet<Item>(getLinearMatchingItems(query, commandType)),
+                        new HashSet<Item>(interpreter.getMatchingItems(language, query, commandType)));
+            }
+        }
+    }
+
+    private Set<String> getMatchingItems(String... labelFragments) {
+        Set<String> names = new HashSet<String>();
+        for (Item item : interpreter.getMatchingItems(language, labelFragments, null)) {
+            names.add(item.getName());
+        }
+        return names;
+    }
+
+    private Set<String> names(String... names) {
+        return new HashSet<String>(Arrays.asList(names));
+    }
+
+    /**
+     * Matches the fragments against the label tokens of every path from a top level item down to every item, like the
+     * interpreter did before it used an index.
+     */
+    private List<Item> getLinearMatchingItems(String[] labelFragments, Class<?> commandType) {
+        Locale locale = language.getLocale();
+        Map<Item, List<Set<String>>> itemTokens = new HashMap<Item, List<Set<String>>>();
+        for (Item item : registry.getItems()) {
+            if (item.getGroupNames().isEmpty()) {
+                addTokens(locale, itemTokens, new HashSet<String>(), item);
+            }
+        }
+
+        List<Item> items = new ArrayList<Item>();
+        for (Item item : itemTokens.keySet()) {
+            for (Set<String> parts : itemTokens.get(item)) {
+                boolean allMatch = true;
+                for (String fragment : labelFragments) {
+                    if (!parts.contains(fragment.toLowerCase(locale))) {
+                        allMatch = false;
+                        break;
+                    }
+                }
+                if (allMatch && (commandType == null || item.getAcceptedCommandTypes().contains(commandType))) {
+                    String name = item.getName();
+                    boolean insert = true;
+                    for (Item si : items) {
+                        if (name.startsWith(si.getName())) {
+                            insert = false;
+                        }
+                    }
+                    if (insert) {
+                        for (int i = 0; i < items.size(); i++) {
+                            if (items.get(i).getName().startsWith(name)) {
+                                items.remove(i);
+                                i--;
+                            }
+                        }
+                        items.add(item);
+                    }
+                }
+            }
+        }
+        return items;
+    }
+
+    private void addTokens(Locale locale, Map<Item, List<Set<String>>> target, Set<String> tokens, Item item) {
+        Set<String> itemTokens = new HashSet<String>(tokens);
+        itemTokens.addAll(interpreter.tokenize(locale, item.getLabel()));
+        List<Set<String>> list = target.get(item);
+        if (list == null) {
+            target.put(item, list = new ArrayList<Set<String>>());
+        }
+        list.add(itemTokens);
+        if (item instanceof GroupItem) {
+            for (Item member : ((GroupItem) item).getMembers()) {
+                addTokens(locale, target, itemTokens, member);
+            }
+        }
+    }
+
+    private GenericItem group(String name, String label, String... groupNames) {
+        return register(new GroupItem(name), label, groupNames);
+    }
+
+    private GenericItem item(String name, String label, String... groupNames) {
+        return register(new SwitchItem(name), label, groupNames);
+    }
+
+    private GenericItem register(GenericItem item, String label, String... groupNames) {
+        item.setLabel(label);
+        item.addGroupNames(groupNames);
+        if (registry.get(item.getName()) == null) {
+            registry.add(item);
+        } else {
+            registry.update(item);
+        }
+        return item;
+    }
+
+    /**
+     * An item registry, which keeps the members of its groups up to date and notifies its listeners about all changes.
+     */
+    private static class TestItemRegistry implements ItemRegistry {
+
+        private final Map<String, Item> items = new LinkedHashMap<String, Item>();
+        private final List<RegistryChangeListener<Item>> listeners = new ArrayList<RegistryChangeListener<Item>>();
+
+        @Override
+        public void addRegistryChangeListener(RegistryChangeListener<Item> listener) {
+            listeners.add(listener);
+        }
+
+        @Override
+        public void removeRegistryChangeListener(RegistryChangeListener<Item> listener) {
+            listeners.remove(listener);
+        }
+
+        @Override
+        public Collection<Item> getAll() {
+            return Collections.unmodifiableCollection(new ArrayList<Item>(items.values()));
+        }
+
+        @Override
+        public Collection<Item> getItems() {
+            return getAll();
+        }
+
+        @Override
+        public Item get(String name) {
+            return items.get(name);
+        }
+
+        @Override
+        public Item getItem(String name) throws ItemNotFoundException {
+            Item item = items.get(name);
+            if (item == null) {
+                throw new ItemNotFoundException(name);
+            }
+            return item;
+        }
+
+        @Override
+        public Item add(Item element) {
+            items.put(element.getName(), element);
+            addToGroups(element);
+            for (RegistryChangeListener<Item> listener : listeners) {
+                listener.added(element);
+            }
+            return element;
+        }
+
+        @Override
+        public Item update(Item element) {
+            Item oldElement = items.put(element.getName(), element);
+            removeFromGroups(oldElement);
+            addToGroups(element);
+            for (RegistryChangeListener<Item> listener : listeners) {
+                listener.updated(oldElement, element);
+            }
+            return oldElement;
+        }
+
+        @Override
+        public Item remove(String name) {
+            Item element = items.remove(name);
+            removeFromGroups(element);
+            for (RegistryChangeListener<Item> listener : listeners) {
+                listener.removed(element);
+            }
+            return element;
+        }
+
+        private void addToGroups(Item element) {
+            for (String groupName : element.getGroupNames()) {
+                ((GroupItem) items.get(groupName)).addMember(element);
+            }
+        }
+
+        private void removeFromGroups(Item element) {
+            for (String groupName : element.getGroupNames()) {
+                ((GroupItem) items.get(groupName)).removeMember(element);
+            }
+        }
+
+        @Override
+        public Item remove(String itemName, boolean recursive) {
+            return remove(itemName);
+        }
+
+        @Override
+        public Item getItemByPattern(String name) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Collection<Item> getItemsOfType(String type) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Collection<Item> getItems(String pattern) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Collection<Item> getItemsByTag(String... tags) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Collection<Item> getItemsByTagAndType(String type, String... tags) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T extends GenericItem> Collection<T> getItemsByTag(Class<T> typeFilter, String... tags) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+}
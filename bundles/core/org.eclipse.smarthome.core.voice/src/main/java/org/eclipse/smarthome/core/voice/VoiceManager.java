@@ -7,6 +7,7 @@
  */
 package org.eclipse.smarthome.core.voice;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -15,6 +16,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 
+import org.eclipse.smarthome.config.core.ConfigConstants;
 import org.eclipse.smarthome.core.audio.AudioFormat;
 import org.eclipse.smarthome.core.audio.AudioSink;
 import org.eclipse.smarthome.core.audio.AudioSource;
@@ -22,6 +24,7 @@ import org.eclipse.smarthome.core.audio.AudioStream;
 import org.eclipse.smarthome.core.audio.UnsupportedAudioFormatException;
 import org.eclipse.smarthome.core.i18n.LocaleProvider;
 import org.eclipse.smarthome.core.voice.internal.DialogProcessor;
+import org.eclipse.smarthome.core.voice.internal.TTSCache;
 import org.eclipse.smarthome.core.voice.text.HumanLanguageInterpreter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,6 +39,12 @@ public class VoiceManager {
     // the default keyword to use if no other is configured
     private static final String DEFAULT_KEYWORD = "Wakeup";
 
+    // the default maximum size of the cache of synthesized texts in kilobytes
+    private static final long DEFAULT_CACHE_SIZE = 10240;
+
+    // the folder below the user data folder the synthesized texts are cached in
+    private static final String CACHE_FOLDER = "tts";
+
     // constants for the configuration properties
     private static final String CONFIG_KEYWORD = "keyword";
     private static final String CONFIG_DEFAULT_HLI = "defaultHLI";
@@ -45,6 +54,7 @@ public class VoiceManager {
     private static final String CONFIG_DEFAULT_SINK = "defaultSink";
     private static final String CONFIG_DEFAULT_SOURCE = "defaultSource";
     private static final String CONFIG_PREFIX_DEFAULT_VOICE = "defaultVoice.";
+    private static final String CONFIG_CACHE_SIZE = "cacheSize";
 
     private final Logger logger = LoggerFactory.getLogger(VoiceManager.class);
 
@@ -70,6 +80,8 @@ public class VoiceManager {
     private String defaultHLI = null;
     private Map<String, String> defaultVoices = new HashMap<>();
 
+    private TTSCache cache = null;
+
     protected void activate(Map<String, Object> config) {
         modified(config);
     }
@@ -96,6 +108,22 @@ public class VoiceManager {
                 }
             }
         }
+
+        long cacheSize = DEFAULT_CACHE_SIZE;
+        if (config != null && config.containsKey(CONFIG_CACHE_SIZE)) {
+            String cacheSizeString = config.get(CONFIG_CACHE_SIZE).toString();
+            try {
+                cacheSize = Long.parseLong(cacheSizeString.trim());
+            } catch (NumberFormatException e) {
+                logger.warn("Ignoring invalid TTS cache size '{}' - using {} kB instead", cacheSizeString,
+                        DEFAULT_CACHE_SIZE);
+            }
+        }
+        if (cache == null) {
+            cache = new TTSCache(new File(ConfigConstants.getUserDataFolder(), CACHE_FOLDER), cacheSize * 1024);
+        } else {
+            cache.setMaxSize(cacheSize * 1024);
+        }
     }
 
     /**
@@ -161,7 +189,7 @@ public class VoiceManager {
             if (sink != null) {
                 AudioFormat audioFormat = getBestMatch(audioFormats, sink.getSupportedFormats());
                 if (audioFormat != null) {
-                    AudioStream audioStream = tts.synthesize(text, voice, audioFormat);
+                    AudioStream audioStream = synthesize(tts, voice, text, audioFormat);
 
                     try {
                         sink.process(audioStream);
@@ -178,6 +206,25 @@ public class VoiceManager {
         }
     }
 
+    /**
+     * Synthesizes a text, cached audio data is reused for texts that have already been spoken with the same voice and
+     * audio format.
+     */
+    private AudioStream synthesize(TTSService tts, Voice voice, String text, AudioFormat audioFormat)
+            throws TTSException {
+        TTSCache cache = this.cache;
+        if (cache == null) {
+            return tts.synthesize(text, voice, audioFormat);
+        }
+        String key = TTSCache.getKey(tts, voice, text, audioFormat);
+        AudioStream audioStream = cache.get(key, audioFormat);
+        if (audioStream != null) {
+            logger.debug("Using cached audio data for '{}'", text);
+            return audioStream;
+        }
+        return cache.put(key, tts.synthesize(text, voice, audioFormat));
+    }
+
     private Voice getVoice(Set<Voice> voices, String id) {
         for (Voice voice : voices) {
             if (voice.getUID().endsWith(":" + id)) {
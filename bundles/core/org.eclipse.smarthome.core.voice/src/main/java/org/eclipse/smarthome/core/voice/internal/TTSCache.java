@@ -0,0 +1,333 @@
+/**
+ * Copyright (c) 2014-2016 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.core.voice.internal;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.commons.io.IOUtils;
+import org.eclipse.smarthome.core.audio.AudioFormat;
+import org.eclipse.smarthome.core.audio.AudioStream;
+import org.eclipse.smarthome.core.voice.TTSService;
+import org.eclipse.smarthome.core.voice.Voice;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A size bounded cache of synthesized speech on disk. The audio data is stored in one file per combination of TTS
+ * service, voice, text and audio format, the least recently used files are deleted if the cache grows beyond its
+ * maximum size.
+ *
+ * @author agent - Initial contribution
+ */
+public class TTSCache {
+
+    private static final String FILE_EXTENSION = ".snd";
+    private static final String TEMP_EXTENSION = ".tmp";
+
+    private final Logger logger = LoggerFactory.getLogger(TTSCache.class);
+
+    private final File folder;
+    private final Map<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long maxSize;
+    private long size;
+
+    /**
+     * Creates a cache in the given folder and picks up the files already stored there.
+     *
+     * @param folder the folder to store the audio files in
+     * @param maxSize the maximum size of all audio files in bytes
+     */
+    public TTSCache(File folder, long maxSize) {
+        this.folder = folder;
+        this.maxSize = maxSize;
+
+        if (!folder.exists() && !folder.mkdirs()) {
+            logger.warn("Cannot create TTS cache folder '{}'", folder.getAbsolutePath());
+        }
+        File[] files = folder.listFiles();
+        if (files != null) {
+            // restore the usage order from the modification times
+            Arrays.sort(files, new Comparator<File>() {
+                @Override
+                public int compare(File f1, File f2) {
+                    return Long.compare(f1.lastModified(), f2.lastModified());
+                }
+            });
+            for (File file : files) {
+                String name = file.getName();
+                if (name.endsWith(FILE_EXTENSION)) {
+                    entries.put(name.substring(0, name.length() - FILE_EXTENSION.length()), file.length());
+                    size += file.length();
+                } else if (name.endsWith(TEMP_EXTENSION)) {
+                    file.delete();
+                }
+            }
+        }
+        evict();
+    }
+
+    /**
+     * Sets the maximum size of the cache and deletes the least recently used files, if necessary.
+     *
+     * @param maxSize the maximum size of all audio files in bytes
+     */
+    public synchronized void setMaxSize(long maxSize) {
+        this.maxSize = maxSize;
+        evict();
+    }
+
+    /**
+     * Computes the key of a synthesized text.
+     *
+     * @param tts the TTS service
+     * @param voice the voice
+     * @param text the text
+     * @param format the audio format
+     * @return the key of the text
+     */
+    public static String getKey(TTSService tts, Voice voice, String text, AudioFormat format) {
+        String content = tts.getId() + "\n" + voice.getUID() + "\n" + format + "\n" + text;
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(content.getBytes("UTF-8"));
+            StringBuilder key = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                key.append(String.format("%02x", b & 0xff));
+            }
+            return key.toString();
+        } catch (NoSuchAlgorithmException | UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns a stream of the cached audio data.
+     *
+     * @param key the key of the synthesized text
+     * @param format the audio format of the data
+     * @return the audio stream or null, if the text isn't cached
+     */
+    public AudioStream get(String key, AudioFormat format) {
+        synchronized (this) {
+            if (entries.get(key) == null) {
+                return null;
+            }
+        }
+        File file = getFile(key);
+        try {
+            file.setLastModified(System.currentTimeMillis());
+            return new CachedAudioStream(new FileInputStream(file), format);
+        } catch (FileNotFoundException e) {
+            synchronized (this) {
+                Long length = entries.remove(key);
+                if (length != null) {
+                    size -= length;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Wraps a freshly synthesized audio stream, so that all data read from it is also written to the cache. The data
+     * is only added to the cache once the stream has been read completely.
+     *
+     * @param key the key of the synthesized text
+     * @param audioStream the audio stream returned by the TTS service
+     * @return the audio stream to use instead
+     */
+    public AudioStream put(String key, AudioStream audioStream) {
+        if (maxSize <= 0) {
+            return audioStream;
+        }
+        try {
+            File tempFile = File.createTempFile(key + "-", TEMP_EXTENSION, folder);
+            return new WriteThroughAudioStream(key, audioStream, tempFile);
+        } catch (IOException e) {
+            logger.debug("Cannot create TTS cache file: {}", e.getMessage());
+            return audioStream;
+        }
+    }
+
+    private File getFile(String key) {
+        return new File(folder, key + FILE_EXTENSION);
+    }
+
+    private void added(String key, File tempFile) {
+        File file = getFile(key);
+        synchronized (this) {
+            Long length = entries.remove(key);
+            if (length != null) {
+                size -= length;
+            }
+            file.delete();
+            if (!tempFile.renameTo(file)) {
+                logger.debug("Cannot move TTS cache file '{}'", tempFile.getAbsolutePath());
+                tempFile.delete();
+                return;
+            }
+            entries.put(key, file.length());
+            size += file.length();
+            evict();
+        }
+    }
+
+    private synchronized void evict() {
+        Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+        while (size > maxSize && iterator.hasNext()) {
+            Map.Entry<String, Long> entry = iterator.next();
+            iterator.remove();
+            size -= entry.getValue();
+            getFile(entry.getKey()).delete();
+        }
+    }
+
+    /**
+     * An audio stream of a file in the cache.
+     */
+    private static class CachedAudioStream extends AudioStream {
+
+        private final InputStream stream;
+        private final AudioFormat format;
+
+        CachedAudioStream(InputStream stream, AudioFormat format) {
+            this.stream = stream;
+            this.format = format;
+        }
+
+        @Override
+        public AudioFormat getFormat() {
+            return format;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return stream.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return stream.read(b, off, len);
+        }
+
+        @Override
+        public int available() throws IOException {
+            return stream.available();
+        }
+
+        @Override
+        public void close() throws IOException {
+            stream.close();
+        }
+    }
+
+    /**
+     * An audio stream that copies the data read from a TTS service into a cache file.
+     */
+    private class WriteThroughAudioStream extends AudioStream {
+
+        private final String key;
+        private final AudioStream stream;
+        private final File tempFile;
+        private OutputStream out;
+
+        WriteThroughAudioStream(String key, AudioStream stream, File tempFile) throws FileNotFoundException {
+            this.key = key;
+            this.stream = stream;
+            this.tempFile = tempFile;
+            this.out = new FileOutputStream(tempFile);
+        }
+
+        @Override
+        public AudioFormat getFormat() {
+            return stream.getFormat();
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = stream.read();
+            if (b < 0) {
+                complete();
+            } else {
+                write(new byte[] { (byte) b }, 0, 1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = stream.read(b, off, len);
+            if (read < 0) {
+                complete();
+            } else {
+                write(b, off, read);
+            }
+            return read;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return stream.available();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                stream.close();
+            } finally {
+                // the stream hasn't been read completely, so the data must not be cached
+                if (out != null) {
+                    IOUtils.closeQuietly(out);
+                    out = null;
+                    tempFile.delete();
+                }
+            }
+        }
+
+        private void write(byte[] b, int off, int len) {
+            if (out != null) {
+                try {
+                    out.write(b, off, len);
+                } catch (IOException e) {
+                    logger.debug("Cannot write TTS cache file '{}': {}", tempFile.getAbsolutePath(), e.getMessage());
+                    IOUtils.closeQuietly(out);
+                    out = null;
+                    tempFile.delete();
+                }
+            }
+        }
+
+        private void complete() {
+            if (out != null) {
+                try {
+                    out.close();
+                    added(key, tempFile);
+                } catch (IOException e) {
+                    logger.debug("Cannot write TTS cache file '{}': {}", tempFile.getAbsolutePath(), e.getMessage());
+                    tempFile.delete();
+                } finally {
+                    out = null;
+                }
+            }
+        }
+    }
+
+}
@@ -11,6 +11,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.ResourceBundle;
@@ -47,8 +48,7 @@ public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInter
     private static final String LANGUAGE_SUPPORT = "LanguageSupport";
 
     private HashMap<Locale, ArrayList<Rule>> languageRules;
-    private HashMap<Locale, HashSet<String>> allItemTokens = null;
-    private HashMap<Locale, HashMap<Item, ArrayList<HashSet<String>>>> itemTokens = null;
+    private final HashMap<Locale, ItemTokenIndex> itemTokenIndexes = new HashMap<Locale, ItemTokenIndex>();
 
     private ItemRegistry itemRegistry;
     private EventPublisher eventPublisher;
@@ -56,16 +56,32 @@ public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInter
     private RegistryChangeListener<Item> registryChangeListener = new RegistryChangeListener<Item>() {
         @Override
         public void added(Item element) {
+            synchronized (itemTokenIndexes) {
+                for (ItemTokenIndex index : itemTokenIndexes.values()) {
+                    index.add(element);
+                }
+            }
             invalidate();
         }
 
         @Override
         public void removed(Item element) {
+            synchronized (itemTokenIndexes) {
+                for (ItemTokenIndex index : itemTokenIndexes.values()) {
+                    index.remove(element.getName());
+                }
+            }
             invalidate();
         }
 
         @Override
         public void updated(Item oldElement, Item element) {
+            synchronized (itemTokenIndexes) {
+                for (ItemTokenIndex index : itemTokenIndexes.values()) {
+                    index.remove(oldElement.getName());
+                    index.add(element);
+                }
+            }
             invalidate();
         }
     };
@@ -107,8 +123,6 @@ public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInter
     }
 
     private void invalidate() {
-        allItemTokens = null;
-        itemTokens = null;
         languageRules = null;
     }
 
@@ -119,58 +133,27 @@ public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInter
      * @return the identifier tokens
      */
     HashSet<String> getAllItemTokens(Locale locale) {
-        if (allItemTokens == null) {
-            allItemTokens = new HashMap<Locale, HashSet<String>>();
-        }
-        HashSet<String> localeTokens = allItemTokens.get(locale);
-        if (localeTokens == null) {
-            allItemTokens.put(locale, localeTokens = new HashSet<String>());
-            for (Item item : itemRegistry.getAll()) {
-                localeTokens.addAll(tokenize(locale, item.getLabel()));
-            }
+        synchronized (itemTokenIndexes) {
+            return new HashSet<String>(getItemTokenIndex(locale).itemNamesByToken.keySet());
         }
-        return localeTokens;
     }
 
     /**
-     * Retrieves the list of identifier token sets per item currently contained in the {@link ItemRegistry}.
-     * Each item entry in the resulting hash map will feature a list of different token sets. Each token set
-     * represents one possible way "through" a chain of parent groups, where each groups tokenized name is
-     * part of the set.
+     * Retrieves the token index of the items currently contained in the {@link ItemRegistry}. The index is built on
+     * first use per locale and from then on kept up to date by the registry change listener.
      *
      * @param locale The locale that is to be used for preparing the tokens.
-     * @return the list of identifier token sets per item
+     * @return the item token index
      */
-    HashMap<Item, ArrayList<HashSet<String>>> getItemTokens(Locale locale) {
-        if (itemTokens == null) {
-            itemTokens = new HashMap<Locale, HashMap<Item, ArrayList<HashSet<String>>>>();
-        }
-        HashMap<Item, ArrayList<HashSet<String>>> localeTokens = itemTokens.get(locale);
-        if (localeTokens == null) {
-            itemTokens.put(locale, localeTokens = new HashMap<Item, ArrayList<HashSet<String>>>());
+    private ItemTokenIndex getItemTokenIndex(Locale locale) {
+        ItemTokenIndex index = itemTokenIndexes.get(locale);
+        if (index == null) {
+            itemTokenIndexes.put(locale, index = new ItemTokenIndex(locale));
             for (Item item : itemRegistry.getItems()) {
-                if (item.getGroupNames().isEmpty()) {
-                    addItem(locale, localeTokens, new HashSet<String>(), item);
-                }
-            }
-        }
-        return localeTokens;
-    }
-
-    private void addItem(Locale locale, HashMap<Item, ArrayList<HashSet<String>>> target, HashSet<String> tokens,
-            Item item) {
-        HashSet<String> nt = new HashSet<String>(tokens);
-        nt.addAll(tokenize(locale, item.getLabel()));
-        ArrayList<HashSet<String>> list = target.get(item);
-        if (list == null) {
-            target.put(item, list = new ArrayList<HashSet<String>>());
-        }
-        list.add(nt);
-        if (item instanceof GroupItem) {
-            for (Item member : ((GroupItem) item).getMembers()) {
-                addItem(locale, target, nt, member);
+                index.add(item);
             }
         }
+        return index;
     }
 
     /**
@@ -512,42 +495,129 @@ public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInter
      */
     protected ArrayList<Item> getMatchingItems(ResourceBundle language, String[] labelFragments, Class<?> commandType) {
         ArrayList<Item> items = new ArrayList<Item>();
-        HashMap<Item, ArrayList<HashSet<String>>> map = getItemTokens(language.getLocale());
-        for (Item item : map.keySet()) {
-            for (HashSet<String> parts : map.get(item)) {
-                boolean allMatch = true;
-                for (String fragment : labelFragments) {
-                    if (!parts.contains(fragment.toLowerCase(language.getLocale()))) {
-                        allMatch = false;
-                        break;
+        for (Item item : getItemsMatchingFragments(language.getLocale(), labelFragments)) {
+            if (commandType == null || item.getAcceptedCommandTypes().contains(commandType)) {
+                String name = item.getName();
+                boolean insert = true;
+                for (Item si : items) {
+                    if (name.startsWith(si.getName())) {
+                        insert = false;
                     }
                 }
-                if (allMatch) {
-                    if (commandType == null || item.getAcceptedCommandTypes().contains(commandType)) {
-                        String name = item.getName();
-                        boolean insert = true;
-                        for (Item si : items) {
-                            if (name.startsWith(si.getName())) {
-                                insert = false;
-                            }
-                        }
-                        if (insert) {
-                            for (int i = 0; i < items.size(); i++) {
-                                Item si = items.get(i);
-                                if (si.getName().startsWith(name)) {
-                                    items.remove(i);
-                                    i--;
-                                }
-                            }
-                            items.add(item);
+                if (insert) {
+                    for (int i = 0; i < items.size(); i++) {
+                        Item si = items.get(i);
+                        if (si.getName().startsWith(name)) {
+                            items.remove(i);
+                            i--;
                         }
                     }
+                    items.add(item);
                 }
             }
         }
         return items;
     }
 
+    /**
+     * Looks up the items having every fragment among the label tokens of one of their paths through the parent
+     * groups. Only the items carrying the rarest fragment in their own label and the members of these items are
+     * considered as candidates, so the cost does not depend on the overall number of items.
+     *
+     * @param locale the locale that should be used for lower casing
+     * @param labelFragments label fragments that are used to match an item's label
+     * @return the matching items
+     */
+    private Set<Item> getItemsMatchingFragments(Locale locale, String[] labelFragments) {
+        HashSet<String> fragments = new HashSet<String>();
+        for (String fragment : labelFragments) {
+            fragments.add(fragment.toLowerCase(locale));
+        }
+
+        Set<Item> result = new LinkedHashSet<Item>();
+        synchronized (itemTokenIndexes) {
+            ItemTokenIndex index = getItemTokenIndex(locale);
+            HashSet<String> rarest = null;
+            for (String fragment : fragments) {
+                HashSet<String> names = index.itemNamesByToken.get(fragment);
+                if (names == null) {
+                    return result;
+                }
+                if (rarest == null || names.size() < rarest.size()) {
+                    rarest = names;
+                }
+            }
+
+            Set<Item> candidates = new LinkedHashSet<Item>();
+            if (rarest == null) {
+                // without any fragment, every item that can be reached from a top level item matches
+                for (Item item : itemRegistry.getItems()) {
+                    if (item.getGroupNames().isEmpty()) {
+                        addWithMembers(candidates, item);
+                    }
+                }
+            } else {
+                for (String name : rarest) {
+                    Item item = itemRegistry.get(name);
+                    if (item != null) {
+                        addWithMembers(candidates, item);
+                    }
+                }
+            }
+
+            for (Item candidate : candidates) {
+                if (matchesPath(index, candidate, fragments, new HashSet<String>())) {
+                    result.add(candidate);
+                }
+            }
+        }
+        return result;
+    }
+
+    private void addWithMembers(Set<Item> target, Item item) {
+        if (target.add(item) && item instanceof GroupItem) {
+            for (Item member : ((GroupItem) item).getMembers()) {
+                addWithMembers(target, member);
+            }
+        }
+    }
+
+    /**
+     * Checks whether there is a path from a top level item down to the given item, whose label tokens contain all of
+     * the given fragments.
+     *
+     * @param index the token index to look up the label tokens
+     * @param item the item to check
+     * @param missing the fragments that haven't been found on the path below the item
+     * @param path the names of the items on the path below the item
+     * @return true, if there is such a path
+     */
+    private boolean matchesPath(ItemTokenIndex index, Item item, Set<String> missing, Set<String> path) {
+        HashSet<String> remaining = new HashSet<String>(missing);
+        HashSet<String> tokens = index.tokensByItemName.get(item.getName());
+        if (tokens != null) {
+            remaining.removeAll(tokens);
+        }
+        if (item.getGroupNames().isEmpty()) {
+            return remaining.isEmpty();
+        }
+        path.add(item.getName());
+        try {
+            for (String groupName : item.getGroupNames()) {
+                if (path.contains(groupName)) {
+                    continue;
+                }
+                Item group = itemRegistry.get(groupName);
+                if (group instanceof GroupItem && matchesPath(index, group, remaining, path)) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            path.remove(item.getName());
+        }
+    }
+
     /**
      * Tokenizes text. Filters out all unsupported punctuation. Tokens will be lower case.
      *
@@ -580,6 +650,48 @@ public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInter
         return supportedGrammars;
     }
 
+    /**
+     * Inverted index from the label tokens of a locale to the names of the items carrying them in their label.
+     */
+    private class ItemTokenIndex {
+
+        private final Locale locale;
+        private final HashMap<String, HashSet<String>> itemNamesByToken = new HashMap<String, HashSet<String>>();
+        private final HashMap<String, HashSet<String>> tokensByItemName = new HashMap<String, HashSet<String>>();
+
+        ItemTokenIndex(Locale locale) {
+            this.locale = locale;
+        }
+
+        void add(Item item) {
+            HashSet<String> tokens = new HashSet<String>(tokenize(locale, item.getLabel()));
+            tokensByItemName.put(item.getName(), tokens);
+            for (String token : tokens) {
+                HashSet<String> names = itemNamesByToken.get(token);
+                if (names == null) {
+                    itemNamesByToken.put(token, names = new HashSet<String>());
+                }
+                names.add(item.getName());
+            }
+        }
+
+        void remove(String itemName) {
+            HashSet<String> tokens = tokensByItemName.remove(itemName);
+            if (tokens == null) {
+                return;
+            }
+            for (String token : tokens) {
+                HashSet<String> names = itemNamesByToken.get(token);
+                if (names != null) {
+                    names.remove(itemName);
+                    if (names.isEmpty()) {
+                        itemNamesByToken.remove(token);
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * Helper class to generate a JSGF grammar from the rules of the interpreter.
      *
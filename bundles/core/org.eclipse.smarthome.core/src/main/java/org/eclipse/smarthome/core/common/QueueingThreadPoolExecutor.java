@@ -9,6 +9,7 @@ package org.eclipse.smarthome.core.common;
 
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedTransferQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
@@ -40,7 +41,8 @@ import org.slf4j.LoggerFactory;
  * a thread rather than queuing it.</li>
  * <li>If threadPoolSize threads are busy, new requests will be put in a FIFO queue and processed as soon as a thread
  * becomes idle.</li>
- * <li>The queue size is unbound, i.e. requests will never be rejected.
+ * <li>The queue size is unbound by default, i.e. requests will never be rejected. If a maximum queue size is set,
+ * requests exceeding it are rejected with a {@link RejectedExecutionException}.
  * <li>Threads are terminated after being idle for at least 10 seconds.
  * </ul>
  * Please note that this implementation (with its partially hard-coded settings) is specifically targeted for use
@@ -60,6 +62,9 @@ public class QueueingThreadPoolExecutor extends ThreadPoolExecutor {
     /** Our queue for queueing tasks that wait for a thread to become available */
     private LinkedTransferQueue<Runnable> taskQueue = new LinkedTransferQueue<>();
 
+    /** The maximum number of tasks in the queue, 0 if unbound */
+    private volatile int maximumQueueSize = 0;
+
     /** The thread for processing the queued tasks */
     private Thread queueThread;
 
@@ -98,12 +103,38 @@ public class QueueingThreadPoolExecutor extends ThreadPoolExecutor {
                 new QueueingThreadPoolExecutor.QueueingRejectionHandler());
     }
 
+    /**
+     * Sets the maximum number of tasks that may wait for a thread to become available.
+     *
+     * @param maximumQueueSize the maximum number of queued tasks, 0 if unbound
+     */
+    public void setMaximumQueueSize(int maximumQueueSize) {
+        this.maximumQueueSize = Math.max(0, maximumQueueSize);
+    }
+
+    /**
+     * Returns the maximum number of tasks that may wait for a thread to become available.
+     *
+     * @return the maximum number of queued tasks, 0 if unbound
+     */
+    public int getMaximumQueueSize() {
+        return maximumQueueSize;
+    }
+
     /**
      * Adds a new task to the queue
      *
      * @param runnable the task to add
+     * @throws RejectedExecutionException if the queue is full
      */
     protected void addToQueue(Runnable runnable) {
+        int maxSize = maximumQueueSize;
+        // the size of the queue is only computed if it is bound, as this requires a traversal of the queue; tasks
+        // which are handed back by the queue thread itself are never rejected, as they have been accepted already
+        if (maxSize > 0 && Thread.currentThread() != queueThread && taskQueue.size() >= maxSize) {
+            logger.warn("Queue of thread pool '{}' is full, rejecting task.", threadPoolName);
+            throw new RejectedExecutionException("Queue of thread pool '" + threadPoolName + "' is full");
+        }
         taskQueue.add(runnable);
 
         if (queueThread == null || !queueThread.isAlive()) {
@@ -213,7 +244,8 @@ public class QueueingThreadPoolExecutor extends ThreadPoolExecutor {
 
         @Override
         public Thread newThread(Runnable r) {
-            Thread t = new Thread(group, r, name + "-" + threadNumber.getAndIncrement(), 0);
+            Thread t = new Thread(group, new ThreadPoolManager.CountingRunnable(r),
+                    name + "-" + threadNumber.getAndIncrement(), 0);
             if (t.isDaemon()) {
                 t.setDaemon(false);
             }
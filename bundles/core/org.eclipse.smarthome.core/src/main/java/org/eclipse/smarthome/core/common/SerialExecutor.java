@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2014-2016 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.core.common;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * An executor which executes its tasks one after another in the order of their submission, but on the threads of a
+ * shared executor, e.g. a pool of the {@link ThreadPoolManager}. It is meant as a replacement for single threaded
+ * executors, which keep a thread of their own even if they are idle most of the time.
+ *
+ * @author agent - Initial contribution
+ */
+public class SerialExecutor implements Executor {
+
+    private final Executor executor;
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    private Runnable active;
+    private boolean shutdown;
+
+    /**
+     * Creates a new serial executor.
+     *
+     * @param executor the executor to run the tasks on
+     */
+    public SerialExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public synchronized void execute(final Runnable command) {
+        if (command == null) {
+            throw new NullPointerException();
+        }
+        if (shutdown) {
+            throw new RejectedExecutionException("The executor has been shut down");
+        }
+        tasks.add(new Runnable() {
+
+            @Override
+            public void run() {
+                try {
+                    command.run();
+                } finally {
+                    scheduleNext();
+                }
+            }
+        });
+        if (active == null) {
+            scheduleNext();
+        }
+    }
+
+    /**
+     * Discards all pending tasks and rejects any further tasks. A task which is already running is not interrupted.
+     */
+    public synchronized void shutdown() {
+        shutdown = true;
+        tasks.clear();
+    }
+
+    /**
+     * @return true, if the executor has been shut down
+     */
+    public synchronized boolean isShutdown() {
+        return shutdown;
+    }
+
+    private synchronized void scheduleNext() {
+        active = tasks.poll();
+        if (active != null) {
+            try {
+                executor.execute(active);
+            } catch (RejectedExecutionException e) {
+                active = null;
+                tasks.clear();
+                throw e;
+            }
+        }
+    }
+}
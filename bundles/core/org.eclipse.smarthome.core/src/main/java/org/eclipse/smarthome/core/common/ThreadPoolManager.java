@@ -7,6 +7,9 @@
  */
 package org.eclipse.smarthome.core.common;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.WeakHashMap;
@@ -38,6 +41,19 @@ import org.slf4j.LoggerFactory;
  * <br/>
  * All threads will time out after {@link THREAD_TIMEOUT}.
  * </p>
+ * <p>
+ * The number of tasks that may wait in the queue of a non-scheduled pool can be limited by
+ * <br/>
+ * {@code org.eclipse.smarthome.threadpool:<poolName>.queueSize=<queueSize>}
+ * <br/>
+ * and the total number of threads of all pools can be limited by a global thread budget
+ * <br/>
+ * {@code org.eclipse.smarthome.threadpool:threadBudget=<threads>}
+ * <br/>
+ * If the budget is exhausted, a scheduled pool does not start additional threads, but lets its existing threads
+ * process the pending tasks. Every pool keeps at least one thread, so that no pool can starve. The
+ * {@link ThreadPoolStatistics} of all pools can be retrieved through {@link #getPoolStatistics()}.
+ * </p>
  *
  * @author Kai Kreuzer - Initial contribution
  *
@@ -51,10 +67,24 @@ public class ThreadPoolManager {
     protected static final long THREAD_TIMEOUT = 65L;
     protected static final long THREAD_MONITOR_SLEEP = 60000;
 
+    /** the configuration key of the global thread budget */
+    protected static final String CONFIG_THREAD_BUDGET = "threadBudget";
+
+    /** the suffix of the configuration keys of the queue sizes */
+    protected static final String CONFIG_QUEUE_SIZE_SUFFIX = ".queueSize";
+
     static protected Map<String, ExecutorService> pools = new WeakHashMap<>();
 
     static private Map<String, Integer> configs = new ConcurrentHashMap<>();
 
+    static private Map<String, Integer> queueConfigs = new ConcurrentHashMap<>();
+
+    /** the number of live threads that have been created by the thread factories of this class */
+    static private final AtomicInteger liveThreads = new AtomicInteger();
+
+    /** the maximum number of threads of all pools, 0 if unlimited */
+    static private volatile int threadBudget = 0;
+
     protected void activate(Map<String, Object> properties) {
         modified(properties);
     }
@@ -65,30 +95,71 @@ public class ThreadPoolManager {
                     || entry.getKey().equals("component.name")) {
                 continue;
             }
-            String poolName = entry.getKey();
+            String key = entry.getKey();
             Object config = entry.getValue();
-            if (config == null) {
-                configs.remove(poolName);
+            if (key.equals(CONFIG_THREAD_BUDGET)) {
+                modifiedThreadBudget(config);
+            } else if (key.endsWith(CONFIG_QUEUE_SIZE_SUFFIX)) {
+                modifiedQueueSize(key.substring(0, key.length() - CONFIG_QUEUE_SIZE_SUFFIX.length()), config);
+            } else {
+                modifiedPoolSize(key, config);
             }
-            if (config instanceof String) {
-                try {
-                    Integer poolSize = Integer.valueOf((String) config);
-                    configs.put(poolName, poolSize);
-                    ThreadPoolExecutor pool = (ThreadPoolExecutor) pools.get(poolName);
-                    if (pool instanceof ScheduledThreadPoolExecutor) {
-                        pool.setCorePoolSize(poolSize);
-                        logger.debug("Updated scheduled thread pool '{}' to size {}",
-                                new Object[] { poolName, poolSize });
-                    } else if (pool instanceof QueueingThreadPoolExecutor) {
-                        pool.setMaximumPoolSize(poolSize);
-                        logger.debug("Updated queuing thread pool '{}' to size {}",
-                                new Object[] { poolName, poolSize });
-                    }
-                } catch (NumberFormatException e) {
-                    logger.warn("Ignoring invalid configuration for pool '{}': {} - value must be an integer",
-                            new Object[] { poolName, config });
-                    continue;
+        }
+    }
+
+    private void modifiedPoolSize(String poolName, Object config) {
+        if (config == null) {
+            configs.remove(poolName);
+        }
+        if (config instanceof String) {
+            try {
+                Integer poolSize = Integer.valueOf((String) config);
+                configs.put(poolName, poolSize);
+                ThreadPoolExecutor pool = (ThreadPoolExecutor) pools.get(poolName);
+                if (pool instanceof ScheduledThreadPoolExecutor) {
+                    pool.setCorePoolSize(poolSize);
+                    logger.debug("Updated scheduled thread pool '{}' to size {}", new Object[] { poolName, poolSize });
+                } else if (pool instanceof QueueingThreadPoolExecutor) {
+                    pool.setMaximumPoolSize(poolSize);
+                    logger.debug("Updated queuing thread pool '{}' to size {}", new Object[] { poolName, poolSize });
+                }
+            } catch (NumberFormatException e) {
+                logger.warn("Ignoring invalid configuration for pool '{}': {} - value must be an integer",
+                        new Object[] { poolName, config });
+            }
+        }
+    }
+
+    private void modifiedQueueSize(String poolName, Object config) {
+        if (config == null) {
+            queueConfigs.remove(poolName);
+        }
+        if (config instanceof String) {
+            try {
+                Integer queueSize = Integer.valueOf((String) config);
+                queueConfigs.put(poolName, queueSize);
+                ExecutorService pool = pools.get(poolName);
+                if (pool instanceof QueueingThreadPoolExecutor) {
+                    ((QueueingThreadPoolExecutor) pool).setMaximumQueueSize(queueSize);
+                    logger.debug("Updated queue of thread pool '{}' to size {}", poolName, queueSize);
                 }
+            } catch (NumberFormatException e) {
+                logger.warn("Ignoring invalid queue size for pool '{}': {} - value must be an integer", poolName,
+                        config);
+            }
+        }
+    }
+
+    private void modifiedThreadBudget(Object config) {
+        if (config == null) {
+            threadBudget = 0;
+        }
+        if (config instanceof String) {
+            try {
+                threadBudget = Math.max(0, Integer.parseInt((String) config));
+                logger.debug("Updated thread budget to {}", threadBudget);
+            } catch (NumberFormatException e) {
+                logger.warn("Ignoring invalid thread budget: {} - value must be an integer", config);
             }
         }
     }
@@ -108,7 +179,9 @@ public class ThreadPoolManager {
                 pool = pools.get(poolName);
                 if (pool == null) {
                     int cfg = getConfig(poolName);
-                    pool = Executors.newScheduledThreadPool(cfg, new NamedThreadFactory(poolName));
+                    BudgetedThreadFactory threadFactory = new BudgetedThreadFactory(poolName);
+                    pool = Executors.newScheduledThreadPool(cfg, threadFactory);
+                    threadFactory.setPool((ThreadPoolExecutor) pool);
                     ((ThreadPoolExecutor) pool).setKeepAliveTime(THREAD_TIMEOUT, TimeUnit.SECONDS);
                     ((ThreadPoolExecutor) pool).allowCoreThreadTimeOut(true);
                     pools.put(poolName, pool);
@@ -139,6 +212,10 @@ public class ThreadPoolManager {
                 if (pool == null) {
                     int cfg = getConfig(poolName);
                     pool = QueueingThreadPoolExecutor.createInstance(poolName, cfg);
+                    Integer queueSize = queueConfigs.get(poolName);
+                    if (queueSize != null) {
+                        ((QueueingThreadPoolExecutor) pool).setMaximumQueueSize(queueSize);
+                    }
                     ((ThreadPoolExecutor) pool).setKeepAliveTime(THREAD_TIMEOUT, TimeUnit.SECONDS);
                     ((ThreadPoolExecutor) pool).allowCoreThreadTimeOut(true);
                     pools.put(poolName, pool);
@@ -154,6 +231,42 @@ public class ThreadPoolManager {
         return (cfg != null) ? cfg : DEFAULT_THREAD_POOL_SIZE;
     }
 
+    /**
+     * Returns the current statistics of all thread pools.
+     *
+     * @return the statistics of all pools, sorted by pool name
+     */
+    static public List<ThreadPoolStatistics> getPoolStatistics() {
+        List<ThreadPoolStatistics> statistics = new ArrayList<>();
+        synchronized (pools) {
+            for (Entry<String, ExecutorService> entry : pools.entrySet()) {
+                if (entry.getValue() instanceof ThreadPoolExecutor) {
+                    statistics.add(new ThreadPoolStatistics(entry.getKey(), (ThreadPoolExecutor) entry.getValue()));
+                }
+            }
+        }
+        Collections.sort(statistics);
+        return statistics;
+    }
+
+    /**
+     * Returns the number of live threads of all pools created by this class.
+     *
+     * @return the number of live threads
+     */
+    static public int getLiveThreadCount() {
+        return liveThreads.get();
+    }
+
+    /**
+     * Returns the global thread budget.
+     *
+     * @return the maximum number of threads, 0 if unlimited
+     */
+    static public int getThreadBudget() {
+        return threadBudget;
+    }
+
     /**
      * This is a normal thread factory, which adds a named prefix to all created threads.
      */
@@ -173,7 +286,7 @@ public class ThreadPoolManager {
 
         @Override
         public Thread newThread(Runnable r) {
-            Thread t = new Thread(group, r, namePrefix + threadNumber.getAndIncrement(), 0);
+            Thread t = new Thread(group, new CountingRunnable(r), namePrefix + threadNumber.getAndIncrement(), 0);
             if (!t.isDaemon()) {
                 t.setDaemon(true);
             }
@@ -189,4 +302,54 @@ public class ThreadPoolManager {
         }
     }
 
+    /**
+     * This thread factory refuses to create threads for a pool that already has threads, as long as the global thread
+     * budget is exhausted. The pool then processes its tasks with the threads it already has.
+     */
+    private static class BudgetedThreadFactory extends NamedThreadFactory {
+
+        private ThreadPoolExecutor pool;
+
+        public BudgetedThreadFactory(String threadPool) {
+            super(threadPool);
+        }
+
+        void setPool(ThreadPoolExecutor pool) {
+            this.pool = pool;
+        }
+
+        @Override
+        public Thread newThread(Runnable r) {
+            int budget = threadBudget;
+            if (budget > 0 && liveThreads.get() >= budget && pool != null && pool.getPoolSize() > 0) {
+                logger.trace("Thread budget of {} exhausted, not adding a thread to pool '{}'", budget, name);
+                return null;
+            }
+            return super.newThread(r);
+        }
+    }
+
+    /**
+     * Keeps track of the number of live threads. A thread is counted from its creation on, so that the budget also
+     * covers the threads which have not been started yet.
+     */
+    static class CountingRunnable implements Runnable {
+
+        private final Runnable runnable;
+
+        CountingRunnable(Runnable runnable) {
+            this.runnable = runnable;
+            liveThreads.incrementAndGet();
+        }
+
+        @Override
+        public void run() {
+            try {
+                runnable.run();
+            } finally {
+                liveThreads.decrementAndGet();
+            }
+        }
+    }
+
 }
@@ -0,0 +1,108 @@
+/**
+ * Copyright (c) 2014-2016 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.core.common;
+
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * A snapshot of the usage of a thread pool created by the {@link ThreadPoolManager}.
+ *
+ * @author agent - Initial contribution
+ */
+public class ThreadPoolStatistics implements Comparable<ThreadPoolStatistics> {
+
+    private final String name;
+    private final boolean scheduled;
+    private final int poolSize;
+    private final int activeCount;
+    private final int largestPoolSize;
+    private final int maximumPoolSize;
+    private final int queueSize;
+    private final long completedTaskCount;
+
+    ThreadPoolStatistics(String name, ThreadPoolExecutor pool) {
+        this.name = name;
+        this.scheduled = pool instanceof ScheduledThreadPoolExecutor;
+        this.poolSize = pool.getPoolSize();
+        this.activeCount = pool.getActiveCount();
+        this.largestPoolSize = pool.getLargestPoolSize();
+        // the threads of a scheduled pool are limited by its core size
+        this.maximumPoolSize = scheduled ? pool.getCorePoolSize() : pool.getMaximumPoolSize();
+        this.queueSize = pool.getQueue().size();
+        this.completedTaskCount = pool.getCompletedTaskCount();
+    }
+
+    /**
+     * @return the name of the pool
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return true, if the pool is a scheduled pool
+     */
+    public boolean isScheduled() {
+        return scheduled;
+    }
+
+    /**
+     * @return the current number of threads of the pool
+     */
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * @return the number of threads which are executing tasks
+     */
+    public int getActiveCount() {
+        return activeCount;
+    }
+
+    /**
+     * @return the largest number of threads the pool has ever had
+     */
+    public int getLargestPoolSize() {
+        return largestPoolSize;
+    }
+
+    /**
+     * @return the maximum number of threads of the pool
+     */
+    public int getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+
+    /**
+     * @return the number of tasks waiting for execution, including the scheduled tasks of a scheduled pool
+     */
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    /**
+     * @return the number of tasks which have been executed by the pool
+     */
+    public long getCompletedTaskCount() {
+        return completedTaskCount;
+    }
+
+    @Override
+    public int compareTo(ThreadPoolStatistics other) {
+        return name.compareTo(other.name);
+    }
+
+    @Override
+    public String toString() {
+        return "ThreadPoolStatistics [name=" + name + ", scheduled=" + scheduled + ", poolSize=" + poolSize
+                + ", activeCount=" + activeCount + ", largestPoolSize=" + largestPoolSize + ", maximumPoolSize="
+                + maximumPoolSize + ", queueSize=" + queueSize + ", completedTaskCount=" + completedTaskCount + "]";
+    }
+}
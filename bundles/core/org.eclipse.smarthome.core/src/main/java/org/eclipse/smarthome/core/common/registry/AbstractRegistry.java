@@ -11,6 +11,7 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.smarthome.core.events.Event;
 import org.eclipse.smarthome.core.events.EventPublisher;
@@ -48,6 +49,8 @@ public abstract class AbstractRegistry<E, K> implements ProviderChangeListener<E
 
     protected EventPublisher eventPublisher;
 
+    private final AtomicLong version = new AtomicLong();
+
     @Override
     public void added(Provider<E> provider, E element) {
         Collection<E> elements = elementMap.get(provider);
@@ -134,7 +137,18 @@ public abstract class AbstractRegistry<E, K> implements ProviderChangeListener<E
         }
     }
 
+    /**
+     * Returns the version of the registry content. The version is increased whenever an element is added, removed or
+     * updated, so it can be used to detect changes without comparing the elements, e.g. to create HTTP entity tags.
+     *
+     * @return the version of the registry content
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
     protected void notifyListeners(E oldElement, E element, EventType eventType) {
+        version.incrementAndGet();
         for (RegistryChangeListener<E> listener : this.listeners) {
             try {
                 switch (eventType) {
@@ -260,6 +274,7 @@ public abstract class AbstractRegistry<E, K> implements ProviderChangeListener<E
             }
 
             elementMap.remove(provider);
+            version.incrementAndGet();
 
             provider.removeProviderChangeListener(this);
 
@@ -297,10 +297,8 @@ public class ItemRegistryImpl extends AbstractRegistry<Item, String>implements I
     @Override
     protected void onUpdateElement(Item oldItem, Item item) {
         removeFromGroupItems(oldItem, oldItem.getGroupNames());
-        addToGroupItems(item, item.getGroupNames());
-        if (item instanceof GroupItem) {
-            addMembersToGroupItem((GroupItem) item);
-        }
+        // the updated item is a new instance, so it has to be wired like an added one
+        initializeItem(item);
     }
 
     @Override
@@ -37,7 +37,9 @@ public abstract class AbstractExpression<E extends AbstractExpressionPart> imple
     private ArrayList<E> expressionParts = new ArrayList<E>();
 
     private boolean continueSearch;
+    private boolean candidatesGenerated;
     private ArrayList<Date> candidates = new ArrayList<Date>();
+    private CompiledExpression compiledExpression;
     private Date startDate = null;
     private TimeZone timeZone = null;
 
@@ -151,6 +153,28 @@ public abstract class AbstractExpression<E extends AbstractExpressionPart> imple
             setStartDate(Calendar.getInstance().getTime());
         }
 
+        // expressions that can be compiled calculate their fire times on demand, the candidate dates are then only
+        // generated when explicitly asked for
+        candidatesGenerated = false;
+        compiledExpression = compile();
+        if (compiledExpression == null) {
+            generateCandidates();
+        }
+    }
+
+    /**
+     * Compile the parsed expression parts into a {@link CompiledExpression}. Implementations return null when the
+     * expression uses features that can only be resolved by generating candidate dates.
+     *
+     * @return the compiled expression, or null if the expression can not be compiled
+     */
+    CompiledExpression compile() {
+        return null;
+    }
+
+    private void generateCandidates() {
+        candidatesGenerated = true;
+
         applyExpressionParts();
 
         synchronized (this) {
@@ -207,6 +231,12 @@ public abstract class AbstractExpression<E extends AbstractExpressionPart> imple
 
     @Override
     public Date getTimeAfter(Date afterTime) {
+        CompiledExpression compiled = compiledExpression;
+        if (compiled != null) {
+            long time = compiled.getTimeAfter(afterTime.getTime());
+            return time < 0 ? null : new Date(time);
+        }
+
         if (getCandidates().isEmpty()) {
             try {
                 setStartDate(afterTime);
@@ -268,6 +298,9 @@ public abstract class AbstractExpression<E extends AbstractExpressionPart> imple
     }
 
     protected ArrayList<Date> getCandidates() {
+        if (!candidatesGenerated) {
+            generateCandidates();
+        }
         return candidates;
     }
 
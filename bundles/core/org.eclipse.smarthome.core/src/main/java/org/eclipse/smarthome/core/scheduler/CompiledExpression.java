@@ -0,0 +1,362 @@
+/**
+ * Copyright (c) 2014-2016 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.core.scheduler;
+
+import java.util.BitSet;
+import java.util.Calendar;
+import java.util.TimeZone;
+
+/**
+ * A <code>CompiledExpression</code> is the compiled form of an {@link Expression}. Every calendar field is reduced to a
+ * bit set of allowed values, so that the next fire time can be calculated field by field (year, month, day, hour,
+ * minute, second) without generating and sorting lists of candidate dates.
+ *
+ * Day constraints are split into a day-of-month and a day-of-week constraint. A day matches when it satisfies both of
+ * them, where an unconstrained side always matches. Cron expressions constrain only one side (the other is '?'),
+ * recurrence rules intersect BYMONTHDAY and BYDAY as mandated by RFC 5545.
+ *
+ * @author agent - Initial Contribution
+ *
+ */
+final class CompiledExpression {
+
+    static final int MIN_YEAR = 1970;
+    static final int MAX_YEAR = 2100;
+
+    private static final long ALL_SECONDS = (1L << 60) - 1;
+    private static final long ALL_MINUTES = (1L << 60) - 1;
+    private static final int ALL_HOURS = (1 << 24) - 1;
+    private static final int ALL_MONTHS = (1 << 12) - 1;
+
+    private final Calendar calendar;
+    private final long notBefore;
+    private final int millisOffset;
+    private long notAfter = Long.MAX_VALUE;
+
+    private long seconds = ALL_SECONDS;
+    private long minutes = ALL_MINUTES;
+    private int hours = ALL_HOURS;
+    private int months = ALL_MONTHS;
+    private BitSet years;
+
+    private boolean dayOfMonthConstrained;
+    private long daysOfMonth;
+    private long daysBeforeEndOfMonth;
+    private boolean lastWeekdayOfMonth;
+    private int nearestWeekday;
+
+    private boolean dayOfWeekConstrained;
+    private int daysOfWeek;
+    private int lastDaysOfWeekInMonth;
+    private final int[] dayOfWeekInstances = new int[8];
+
+    /**
+     * Create a compiled expression that does not fire before the given start time. The millisecond part of the start
+     * time is preserved in all fire times, as the candidate based implementation does.
+     *
+     * @param timeZone the time zone in which the expression is evaluated
+     * @param startTime the earliest time the expression can fire
+     */
+    CompiledExpression(TimeZone timeZone, long startTime) {
+        this.calendar = Calendar.getInstance(timeZone);
+        this.notBefore = startTime;
+        this.millisOffset = (int) (((startTime % 1000) + 1000) % 1000);
+    }
+
+    void setSeconds(Iterable<Integer> values) {
+        seconds = toMask(values, 0, 59);
+    }
+
+    void setMinutes(Iterable<Integer> values) {
+        minutes = toMask(values, 0, 59);
+    }
+
+    void setHours(Iterable<Integer> values) {
+        hours = (int) toMask(values, 0, 23);
+    }
+
+    /**
+     * @param values the allowed months, 1 being January
+     */
+    void setMonths(Iterable<Integer> values) {
+        months = (int) (toMask(values, 1, 12) >>> 1);
+    }
+
+    void setYears(Iterable<Integer> values) {
+        years = new BitSet(MAX_YEAR - MIN_YEAR + 1);
+        for (Integer value : values) {
+            if (value >= MIN_YEAR && value <= MAX_YEAR) {
+                years.set(value - MIN_YEAR);
+            }
+        }
+    }
+
+    void setNotAfter(long time) {
+        notAfter = time;
+    }
+
+    /**
+     * @param values days of the month, where negative values count backwards from the last day of the month (-1 being
+     *            the last day)
+     */
+    void addDaysOfMonth(Iterable<Integer> values) {
+        for (Integer value : values) {
+            if (value > 0 && value <= 31) {
+                daysOfMonth |= 1L << value;
+            } else if (value < 0 && value >= -31) {
+                daysBeforeEndOfMonth |= 1L << -value;
+            }
+        }
+        dayOfMonthConstrained = true;
+    }
+
+    /**
+     * @param offset number of days before the last day of the month, 0 being the last day itself
+     */
+    void addDayBeforeEndOfMonth(int offset) {
+        daysBeforeEndOfMonth |= 1L << (offset + 1);
+        dayOfMonthConstrained = true;
+    }
+
+    void setLastWeekdayOfMonth() {
+        lastWeekdayOfMonth = true;
+        dayOfMonthConstrained = true;
+    }
+
+    void setNearestWeekday(int dayOfMonth) {
+        nearestWeekday = dayOfMonth;
+        dayOfMonthConstrained = true;
+    }
+
+    /**
+     * @param values days of the week as defined by {@link Calendar#DAY_OF_WEEK}
+     */
+    void addDaysOfWeek(Iterable<Integer> values) {
+        for (Integer value : values) {
+            addDayOfWeek(value);
+        }
+    }
+
+    void addDayOfWeek(int dayOfWeek) {
+        daysOfWeek |= 1 << dayOfWeek;
+        dayOfWeekConstrained = true;
+    }
+
+    void addLastDayOfWeekInMonth(int dayOfWeek) {
+        lastDaysOfWeekInMonth |= 1 << dayOfWeek;
+        dayOfWeekConstrained = true;
+    }
+
+    void addDayOfWeekInstance(int dayOfWeek, int instance) {
+        dayOfWeekInstances[dayOfWeek] |= 1 << instance;
+        dayOfWeekConstrained = true;
+    }
+
+    /**
+     * Calculate the first fire time strictly after the given time.
+     *
+     * @param afterTime the time in milliseconds after which to search
+     * @return the next fire time in milliseconds, or -1 if the expression will not fire anymore
+     */
+    synchronized long getTimeAfter(long afterTime) {
+        long from = Math.max(afterTime + 1, notBefore);
+        if (from > notAfter) {
+            return -1;
+        }
+
+        // fire times are whole seconds shifted by the millisecond offset of the start time
+        long shifted = from - millisOffset;
+        long second = shifted / 1000;
+        if (shifted % 1000 != 0) {
+            second = shifted > 0 ? second + 1 : second;
+        }
+        calendar.setTimeInMillis(second * 1000);
+
+        long time = findNext();
+        if (time < 0) {
+            return -1;
+        }
+        time += millisOffset;
+        return time <= notAfter ? time : -1;
+    }
+
+    private long findNext() {
+        while (true) {
+            int year = calendar.get(Calendar.YEAR);
+            if (year > MAX_YEAR) {
+                return -1;
+            }
+            if (years != null && (year < MIN_YEAR || !years.get(year - MIN_YEAR))) {
+                int next = years.nextSetBit(Math.max(year - MIN_YEAR + 1, 0));
+                if (next < 0) {
+                    return -1;
+                }
+                setDay(next + MIN_YEAR, Calendar.JANUARY, 1);
+                continue;
+            }
+
+            int month = calendar.get(Calendar.MONTH);
+            int nextMonth = nextSetBit(months, month, 12);
+            if (nextMonth < 0) {
+                setDay(year + 1, Calendar.JANUARY, 1);
+                continue;
+            }
+            if (nextMonth != month) {
+                setDay(year, nextMonth, 1);
+                continue;
+            }
+
+            int day = calendar.get(Calendar.DAY_OF_MONTH);
+            int nextDay = nextDay(day);
+            if (nextDay < 0) {
+                if (month == Calendar.DECEMBER) {
+                    setDay(year + 1, Calendar.JANUARY, 1);
+                } else {
+                    setDay(year, month + 1, 1);
+                }
+                continue;
+            }
+            if (nextDay != day) {
+                setDay(year, month, nextDay);
+                continue;
+            }
+
+            int hour = calendar.get(Calendar.HOUR_OF_DAY);
+            int nextHour = nextSetBit(hours, hour, 24);
+            if (nextHour < 0) {
+                setTime(0, 0, 0);
+                calendar.add(Calendar.DAY_OF_MONTH, 1);
+                continue;
+            }
+            if (nextHour != hour) {
+                setTime(nextHour, 0, 0);
+                continue;
+            }
+
+            int minute = calendar.get(Calendar.MINUTE);
+            int nextMinute = nextSetBit(minutes, minute, 60);
+            if (nextMinute < 0) {
+                setTime(hour, 0, 0);
+                calendar.add(Calendar.HOUR_OF_DAY, 1);
+                continue;
+            }
+            if (nextMinute != minute) {
+                setTime(hour, nextMinute, 0);
+                continue;
+            }
+
+            int second = calendar.get(Calendar.SECOND);
+            int nextSecond = nextSetBit(seconds, second, 60);
+            if (nextSecond < 0) {
+                setTime(hour, minute, 0);
+                calendar.add(Calendar.MINUTE, 1);
+                continue;
+            }
+            calendar.set(Calendar.SECOND, nextSecond);
+            return calendar.getTimeInMillis();
+        }
+    }
+
+    private int nextDay(int day) {
+        int lastDay = calendar.getActualMaximum(Calendar.DAY_OF_MONTH);
+        int dayOfWeek = calendar.get(Calendar.DAY_OF_WEEK);
+        for (int d = day; d <= lastDay; d++) {
+            if (matchesDayOfMonth(d, lastDay, dayOfWeek) && matchesDayOfWeek(d, lastDay, dayOfWeek)) {
+                return d;
+            }
+            dayOfWeek = dayOfWeek == Calendar.SATURDAY ? Calendar.SUNDAY : dayOfWeek + 1;
+        }
+        return -1;
+    }
+
+    private boolean matchesDayOfMonth(int day, int lastDay, int dayOfWeek) {
+        if (!dayOfMonthConstrained) {
+            return true;
+        }
+        if ((daysOfMonth & (1L << day)) != 0 || (daysBeforeEndOfMonth & (1L << (lastDay - day + 1))) != 0) {
+            return true;
+        }
+        if (lastWeekdayOfMonth && day == lastWeekday(day, lastDay, dayOfWeek)) {
+            return true;
+        }
+        if (nearestWeekday > 0 && day == nearestWeekday(day, lastDay, dayOfWeek)) {
+            return true;
+        }
+        return false;
+    }
+
+    private boolean matchesDayOfWeek(int day, int lastDay, int dayOfWeek) {
+        if (!dayOfWeekConstrained) {
+            return true;
+        }
+        if ((daysOfWeek & (1 << dayOfWeek)) != 0) {
+            return true;
+        }
+        if ((lastDaysOfWeekInMonth & (1 << dayOfWeek)) != 0 && day + 7 > lastDay) {
+            return true;
+        }
+        return (dayOfWeekInstances[dayOfWeek] & (1 << ((day - 1) / 7 + 1))) != 0;
+    }
+
+    private static int lastWeekday(int day, int lastDay, int dayOfWeek) {
+        int lastDayOfWeek = dayOfWeekOf(lastDay, day, dayOfWeek);
+        if (lastDayOfWeek == Calendar.SATURDAY) {
+            return lastDay - 1;
+        }
+        if (lastDayOfWeek == Calendar.SUNDAY) {
+            return lastDay - 2;
+        }
+        return lastDay;
+    }
+
+    private int nearestWeekday(int day, int lastDay, int dayOfWeek) {
+        int target = Math.min(nearestWeekday, lastDay);
+        int targetDayOfWeek = dayOfWeekOf(target, day, dayOfWeek);
+        if (targetDayOfWeek == Calendar.SATURDAY) {
+            return target == 1 ? 3 : target - 1;
+        }
+        if (targetDayOfWeek == Calendar.SUNDAY) {
+            return target == lastDay ? target - 2 : target + 1;
+        }
+        return target;
+    }
+
+    private static int dayOfWeekOf(int target, int day, int dayOfWeek) {
+        return ((dayOfWeek - 1 + target - day) % 7 + 7) % 7 + 1;
+    }
+
+    private void setDay(int year, int month, int day) {
+        calendar.set(year, month, day, 0, 0, 0);
+    }
+
+    private void setTime(int hour, int minute, int second) {
+        calendar.set(Calendar.HOUR_OF_DAY, hour);
+        calendar.set(Calendar.MINUTE, minute);
+        calendar.set(Calendar.SECOND, second);
+    }
+
+    private static long toMask(Iterable<Integer> values, int min, int max) {
+        long mask = 0;
+        for (Integer value : values) {
+            if (value >= min && value <= max) {
+                mask |= 1L << value;
+            }
+        }
+        return mask;
+    }
+
+    private static int nextSetBit(long mask, int from, int limit) {
+        long remaining = mask & (-1L << from);
+        if (remaining == 0) {
+            return -1;
+        }
+        int bit = Long.numberOfTrailingZeros(remaining);
+        return bit < limit ? bit : -1;
+    }
+
+}
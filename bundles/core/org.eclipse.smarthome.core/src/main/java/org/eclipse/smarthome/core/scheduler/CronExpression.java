@@ -264,6 +264,62 @@ public final class CronExpression extends AbstractExpression<CronExpressionPart>
 
     }
 
+    @Override
+    CompiledExpression compile() {
+        if (getExpressionParts().size() < 6) {
+            return null;
+        }
+
+        CompiledExpression compiled = new CompiledExpression(getTimeZone(), getStartDate().getTime());
+
+        for (CronExpressionPart part : getExpressionParts()) {
+            if (part instanceof SecondsExpressionPart) {
+                compiled.setSeconds(part.getValueSet());
+            } else if (part instanceof MinutesExpressionPart) {
+                compiled.setMinutes(part.getValueSet());
+            } else if (part instanceof HoursExpressionPart) {
+                compiled.setHours(part.getValueSet());
+            } else if (part instanceof MonthsExpressionPart) {
+                compiled.setMonths(part.getValueSet());
+            } else if (part instanceof YearsExpressionPart) {
+                compiled.setYears(part.getValueSet());
+            } else if (part instanceof DayOfMonthExpressionPart) {
+                DayOfMonthExpressionPart domPart = (DayOfMonthExpressionPart) part;
+                // '*' is expanded to the length of the current month only, so it is treated as unconstrained
+                if (domPart.isNotSpecific() || domPart.getPart().equals("*")) {
+                    continue;
+                }
+                compiled.addDaysOfMonth(domPart.getValueSet());
+                if (domPart.isLastDayOfMonth()) {
+                    compiled.addDayBeforeEndOfMonth(domPart.monthOffset);
+                }
+                if (domPart.isLastWeekDayOfMonth()) {
+                    compiled.setLastWeekdayOfMonth();
+                }
+                if (domPart.isNearestWeekDay()) {
+                    compiled.setNearestWeekday(domPart.weekDay);
+                }
+            } else if (part instanceof DayOfWeekExpressionPart) {
+                DayOfWeekExpressionPart dowPart = (DayOfWeekExpressionPart) part;
+                if (dowPart.isNotSpecific() || dowPart.getPart().equals("*")) {
+                    continue;
+                }
+                compiled.addDaysOfWeek(dowPart.getValueSet());
+                if (dowPart.isLastDayOfWeek()) {
+                    compiled.addDayOfWeek(Calendar.SATURDAY);
+                }
+                if (dowPart.isLastDayOfMonth()) {
+                    compiled.addLastDayOfWeekInMonth(dowPart.monthOffset);
+                }
+                if (dowPart.isInstanceOfWeekday()) {
+                    compiled.addDayOfWeekInstance(dowPart.weekDay, dowPart.instanceOfMonth);
+                }
+            }
+        }
+
+        return compiled;
+    }
+
     @Override
     protected CronExpressionPart parseToken(String token, int position) throws ParseException {
         switch (position) {
@@ -8,28 +8,28 @@
 package org.eclipse.smarthome.core.scheduler;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
-import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.smarthome.core.common.ThreadPoolManager;
+import org.eclipse.smarthome.core.scheduler.TimingWheel.Timeout;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * This is an extended version of {@link ThreadPoolManager}, which can also handle expressions for scheduling tasks.
  *
+ * The fire times of all expressions of all pools are kept on a single shared {@link TimingWheel}, so that no pool
+ * needs a monitor thread of its own. When an expression fires, its task is handed over to the pool it was scheduled
+ * on, which also arms the expression again for its next fire time.
+ *
  * @author Karel Goderis - Initial contribution
  *
  */
@@ -37,6 +37,18 @@ public class ExpressionThreadPoolManager extends ThreadPoolManager {
 
     private final static Logger logger = LoggerFactory.getLogger(ExpressionThreadPoolManager.class);
 
+    private final static TimingWheel timingWheel = new TimingWheel(new NamedThreadFactory("expressionScheduler"));
+
+    /**
+     * Returns the timing wheel that keeps track of the fire times of all expression-driven pools. It can be used to
+     * schedule other time based tasks without the need for a thread of their own.
+     *
+     * @return the shared timing wheel
+     */
+    static public TimingWheel getTimingWheel() {
+        return timingWheel;
+    }
+
     /**
      * Returns an instance of an expression-driven scheduled thread pool service. If it is the first request for the
      * given pool name, the instance is newly created.
@@ -70,12 +82,7 @@ public class ExpressionThreadPoolManager extends ThreadPoolManager {
 
     public static class ExpressionThreadPoolExecutor extends ScheduledThreadPoolExecutor {
 
-        private List<Runnable> running = Collections.synchronizedList(new ArrayList<Runnable>());
-        private Map<Expression, Runnable> scheduled = new ConcurrentHashMap<>();
-        private Map<Runnable, Future<?>> futures = Collections.synchronizedMap(new HashMap<Runnable, Future<?>>());
-        private Map<Future<?>, Date> timestamps = Collections.synchronizedMap(new HashMap<Future<?>, Date>());
-        private Thread monitor;
-        private NamedThreadFactory monitorThreadFactory;
+        private ConcurrentMap<Expression, ExpressionTask> scheduled = new ConcurrentHashMap<>();
 
         public ExpressionThreadPoolExecutor(final String poolName, int corePoolSize) {
             this(poolName, corePoolSize, new NamedThreadFactory(poolName), new ThreadPoolExecutor.DiscardPolicy() {
@@ -93,152 +100,114 @@ public class ExpressionThreadPoolManager extends ThreadPoolManager {
         public ExpressionThreadPoolExecutor(String threadPool, int corePoolSize, NamedThreadFactory threadFactory,
                 RejectedExecutionHandler rejectedHandler) {
             super(corePoolSize, threadFactory, rejectedHandler);
-            this.monitorThreadFactory = new NamedThreadFactory(threadFactory.getName() + "-" + "Monitor");
         }
 
-        @Override
-        protected void beforeExecute(Thread thread, Runnable runnable) {
-            super.beforeExecute(thread, runnable);
-            running.add(runnable);
+        public void schedule(final Runnable task, final Expression expression) {
+            if (task == null || expression == null) {
+                throw new NullPointerException();
+            }
+
+            ExpressionTask expressionTask = new ExpressionTask(task, expression);
+            ExpressionTask previous = scheduled.put(expression, expressionTask);
+            if (previous != null) {
+                previous.cancel();
+            }
+            expressionTask.arm(new Date());
         }
 
         @Override
-        protected void afterExecute(Runnable runnable, Throwable throwable) {
-            super.afterExecute(runnable, throwable);
-            running.remove(runnable);
-            Future<?> future = futures.remove(runnable);
-            timestamps.remove(future);
-            if (throwable != null) {
-                Throwable cause = throwable.getCause();
-                if (cause instanceof InterruptedException) {
-                    // Ignore this, might happen when we shutdownNow() the executor. We can't
-                    // log at this point as the logging system might be stopped already.
-                    return;
+        public boolean remove(Runnable task) {
+            boolean removed = false;
+            for (ExpressionTask expressionTask : scheduled.values()) {
+                if (expressionTask.task == task && scheduled.remove(expressionTask.expression, expressionTask)) {
+                    expressionTask.cancel();
+                    removed = true;
                 }
             }
+            return super.remove(task) || removed;
         }
 
-        Runnable monitorTask = new Runnable() {
+        public boolean remove(Expression expression) {
+            ExpressionTask expressionTask = scheduled.remove(expression);
 
-            @Override
-            public void run() {
-                logger.trace("Starting the monitor thread '{}'", Thread.currentThread().getName());
-                while (true) {
-                    try {
-                        Date firstExecution = null;
-                        Date now = new Date();
-
-                        List<Expression> finishedExpressions = new ArrayList<Expression>();
-
-                        for (Expression e : scheduled.keySet()) {
-                            Date time = e.getTimeAfter(now);
-
-                            if (time != null) {
-                                logger.trace("Expression's '{}' next execution time is {}", e.toString(),
-                                        time.toString());
-
-                                Runnable task = scheduled.get(e);
-
-                                if (task != null) {
-                                    Future<?> future = futures.get(task);
-
-                                    boolean schedule = false;
-
-                                    if (future == null) {
-                                        schedule = true;
-                                    } else {
-                                        Date timestamp = timestamps.get(future);
-                                        if (time.after(timestamp)) {
-                                            schedule = true;
-                                        } else {
-                                            logger.trace("The task '{}' is already scheduled to execute in {} ms",
-                                                    task.toString(), time.getTime() - now.getTime());
-                                        }
-                                    }
-
-                                    if (schedule) {
-                                        logger.trace("Scheduling the task '{}' to execute in {} ms", task.toString(),
-                                                time.getTime() - now.getTime());
-                                        futures.put(task, ExpressionThreadPoolExecutor.this.schedule(task,
-                                                time.getTime() - now.getTime(), TimeUnit.MILLISECONDS));
-                                        timestamps.put(futures.get(task), time);
-                                    }
-                                } else {
-                                    logger.trace("Expressions without tasks are not valid");
-                                }
-
-                                if (firstExecution == null) {
-                                    firstExecution = time;
-                                } else {
-                                    if (time.before(firstExecution)) {
-                                        firstExecution = time;
-                                    }
-                                }
-
-                            } else {
-                                logger.info("Expression '{}' has no future executions anymore", e.toString());
-                                finishedExpressions.add(e);
-                            }
-                        }
-
-                        for (Expression e : finishedExpressions) {
-                            scheduled.remove(e);
-                        }
-
-                        if (firstExecution != null) {
-                            while (now.before(firstExecution)) {
-                                logger.trace("Putting the monitor thread '{}' to sleep for {} ms",
-                                        Thread.currentThread().getName(), firstExecution.getTime() - now.getTime());
-                                Thread.sleep(firstExecution.getTime() - now.getTime());
-                                now = new Date();
-                            }
-
-                        } else {
-                            logger.trace("Putting the monitor thread '{}' to sleep for {} ms",
-                                    Thread.currentThread().getName(), THREAD_MONITOR_SLEEP);
-                            Thread.sleep(THREAD_MONITOR_SLEEP);
-                        }
-                    } catch (RejectedExecutionException ex) {
-                        logger.error("The executor has already shutdown : '{}'", ex.getMessage());
-                    } catch (CancellationException ex) {
-                        logger.error("Non executed tasks are cancelled : '{}'", ex.getMessage());
-                    } catch (InterruptedException ex) {
-                        logger.trace("The monitor thread as interrupted : '{}'", ex.getMessage());
-                    }
-                }
+            if (expressionTask != null) {
+                expressionTask.cancel();
+                return true;
+            } else {
+                return false;
             }
-        };
+        }
 
-        public void schedule(final Runnable task, final Expression expression) {
-            if (task == null || expression == null) {
-                throw new NullPointerException();
+        @Override
+        public void shutdown() {
+            cancelAll();
+            super.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            cancelAll();
+            return super.shutdownNow();
+        }
+
+        private void cancelAll() {
+            for (Expression expression : new ArrayList<>(scheduled.keySet())) {
+                remove(expression);
             }
+        }
 
-            if (monitor == null) {
-                monitor = monitorThreadFactory.newThread(monitorTask);
-                monitor.start();
+        /**
+         * An <code>ExpressionTask</code> is put on the timing wheel for the next fire time of its expression. When it
+         * is run by the pool, it first arms itself for the following fire time and then executes the actual task.
+         */
+        private class ExpressionTask implements Runnable {
+
+            private final Runnable task;
+            private final Expression expression;
+            private Timeout timeout;
+            private volatile boolean cancelled;
+
+            ExpressionTask(Runnable task, Expression expression) {
+                this.task = task;
+                this.expression = expression;
             }
 
-            scheduled.put(expression, task);
-            monitor.interrupt();
-        }
+            private synchronized boolean arm(Date now) {
+                if (cancelled) {
+                    return false;
+                }
 
-        @Override
-        public boolean remove(Runnable task) {
-            if (futures.get(task) != null && futures.get(task).cancel(false)) {
-                running.remove(task);
+                Date time = expression.getTimeAfter(now);
+                if (time == null) {
+                    logger.info("Expression '{}' has no future executions anymore", expression.toString());
+                    scheduled.remove(expression, this);
+                    return false;
+                }
+
+                logger.trace("Scheduling the task '{}' to execute in {} ms", task.toString(),
+                        time.getTime() - now.getTime());
+                if (timeout == null) {
+                    timeout = timingWheel.schedule(this, time.getTime(), ExpressionThreadPoolExecutor.this);
+                } else {
+                    timeout.reschedule(time.getTime());
+                }
+                return true;
             }
-            futures.remove(task);
-            return super.remove(task);
-        }
 
-        public boolean remove(Expression expression) {
-            Runnable task = scheduled.remove(expression);
+            private synchronized void cancel() {
+                cancelled = true;
+                if (timeout != null) {
+                    timeout.cancel();
+                }
+            }
 
-            if (task != null) {
-                return remove(task);
-            } else {
-                return false;
+            @Override
+            public void run() {
+                if (cancelled) {
+                    return;
+                }
+                arm(new Date());
+                task.run();
             }
         }
     }
@@ -660,6 +660,79 @@ public class RecurrenceExpression extends AbstractExpression<RecurrenceExpressio
         // Nothing to do here, as the mandatory FREQ part of the Recurrence Rule is a defacto source of seeds
     }
 
+    @Override
+    CompiledExpression compile() {
+        // rules that count occurrences or select positions/weeks/year days need the full candidate expansion
+        IntervalExpressionPart intervalPart = (IntervalExpressionPart) getExpressionPart(IntervalExpressionPart.class);
+        DayExpressionPart dayPart = (DayExpressionPart) getExpressionPart(DayExpressionPart.class);
+        if ((intervalPart != null && intervalPart.getInterval() != 1)
+                || getExpressionPart(CountExpressionPart.class) != null
+                || getExpressionPart(PositionExpressionPart.class) != null
+                || getExpressionPart(YearDayExpressionPart.class) != null
+                || getExpressionPart(WeekNumberExpressionPart.class) != null || (dayPart != null && dayPart.isNumeric())) {
+            return null;
+        }
+
+        Frequency frequency = ((FrequencyExpressionPart) getExpressionPart(FrequencyExpressionPart.class))
+                .getFrequency();
+        SecondExpressionPart secondPart = (SecondExpressionPart) getExpressionPart(SecondExpressionPart.class);
+        MinuteExpressionPart minutePart = (MinuteExpressionPart) getExpressionPart(MinuteExpressionPart.class);
+        HourExpressionPart hourPart = (HourExpressionPart) getExpressionPart(HourExpressionPart.class);
+        MonthDayExpressionPart monthDayPart = (MonthDayExpressionPart) getExpressionPart(
+                MonthDayExpressionPart.class);
+        MonthExpressionPart monthPart = (MonthExpressionPart) getExpressionPart(MonthExpressionPart.class);
+        UntilExpressionPart untilPart = (UntilExpressionPart) getExpressionPart(UntilExpressionPart.class);
+
+        CompiledExpression compiled = new CompiledExpression(getTimeZone(), getStartDate().getTime());
+        Calendar start = Calendar.getInstance(getTimeZone());
+        start.setTime(getStartDate());
+
+        // rule parts that are not given default to the value of the start date, unless they are smaller than the
+        // frequency of the rule
+        if (secondPart != null) {
+            compiled.setSeconds(secondPart.getValueSet());
+        } else if (frequency != Frequency.SECONDLY) {
+            compiled.setSeconds(Collections.singleton(start.get(Calendar.SECOND)));
+        }
+        if (minutePart != null) {
+            compiled.setMinutes(minutePart.getValueSet());
+        } else if (frequency.compareTo(Frequency.MINUTELY) > 0) {
+            compiled.setMinutes(Collections.singleton(start.get(Calendar.MINUTE)));
+        }
+        if (hourPart != null) {
+            compiled.setHours(hourPart.getValueSet());
+        } else if (frequency.compareTo(Frequency.HOURLY) > 0) {
+            compiled.setHours(Collections.singleton(start.get(Calendar.HOUR_OF_DAY)));
+        }
+        if (monthPart != null) {
+            compiled.setMonths(monthPart.getValueSet());
+        } else if (frequency == Frequency.YEARLY && monthDayPart == null && dayPart == null) {
+            compiled.setMonths(Collections.singleton(start.get(Calendar.MONTH) + 1));
+        }
+
+        if (monthDayPart != null) {
+            compiled.addDaysOfMonth(monthDayPart.getValueSet());
+        }
+        if (dayPart != null) {
+            for (WeekDay day : dayPart.dayList.keySet()) {
+                compiled.addDayOfWeek(day.getCalendarDay());
+            }
+        }
+        if (monthDayPart == null && dayPart == null) {
+            if (frequency == Frequency.WEEKLY) {
+                compiled.addDayOfWeek(start.get(Calendar.DAY_OF_WEEK));
+            } else if (frequency == Frequency.MONTHLY || frequency == Frequency.YEARLY) {
+                compiled.addDaysOfMonth(Collections.singleton(start.get(Calendar.DAY_OF_MONTH)));
+            }
+        }
+
+        if (untilPart != null) {
+            compiled.setNotAfter(untilPart.getUntil().getTime());
+        }
+
+        return compiled;
+    }
+
     @Override
     protected void prune() {
         Collections.sort(getCandidates());
@@ -0,0 +1,364 @@
+/**
+ * Copyright (c) 2014-2016 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.core.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A <code>TimingWheel</code> is a hierarchical timing wheel that keeps track of a large number of timeouts with a
+ * single thread. Scheduling, rescheduling and cancelling a timeout are O(1) operations, the wheel thread only wakes up
+ * when a timeout expires or when a slot of a higher level has to be cascaded into the lower levels.
+ *
+ * The wheel has a resolution of one millisecond and consists of {@value #LEVELS} levels of 64 slots each. Timeouts that
+ * lie beyond the span of the highest level are kept in an overflow list until they come within reach. Expired tasks
+ * are not run on the wheel thread itself, but are handed over to the {@link Executor} given when scheduling them.
+ *
+ * The wheel thread is started when the first timeout is scheduled and terminates as soon as the wheel is empty.
+ *
+ * @author agent - Initial Contribution
+ *
+ */
+public class TimingWheel {
+
+    private final Logger logger = LoggerFactory.getLogger(TimingWheel.class);
+
+    static final int LEVELS = 6;
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int OVERFLOW = LEVELS;
+
+    private final Object lock = new Object();
+    private final ThreadFactory threadFactory;
+
+    private final Timeout[][] slots = new Timeout[LEVELS + 1][SLOTS];
+    private final long[] occupied = new long[LEVELS + 1];
+    private long currentTick;
+    private long wakeUpTick = -1;
+    private int size;
+    private Thread worker;
+
+    /**
+     * Creates a new timing wheel
+     *
+     * @param threadFactory the factory used to create the thread that drives the wheel
+     */
+    public TimingWheel(ThreadFactory threadFactory) {
+        this.threadFactory = threadFactory;
+        this.currentTick = System.currentTimeMillis();
+    }
+
+    /**
+     * Schedules a task to be run at the given time.
+     *
+     * @param task the task to run
+     * @param deadline the time in milliseconds since the epoch at which the task has to run
+     * @param executor the executor that runs the task once the deadline has passed
+     * @return the timeout that can be used to cancel or reschedule the task
+     */
+    public Timeout schedule(Runnable task, long deadline, Executor executor) {
+        if (task == null || executor == null) {
+            throw new NullPointerException();
+        }
+
+        Timeout timeout = new Timeout(task, executor);
+        timeout.reschedule(deadline);
+        return timeout;
+    }
+
+    /**
+     * @return the number of pending timeouts
+     */
+    public int size() {
+        synchronized (lock) {
+            return size;
+        }
+    }
+
+    private void add(Timeout timeout) {
+        long deadline = Math.max(timeout.deadline, currentTick);
+        int level = OVERFLOW;
+        int slot = 0;
+        for (int i = 0; i < LEVELS; i++) {
+            int shift = SLOT_BITS * (i + 1);
+            if ((deadline >>> shift) == (currentTick >>> shift)) {
+                level = i;
+                slot = (int) (deadline >>> (SLOT_BITS * i)) & (SLOTS - 1);
+                break;
+            }
+        }
+
+        Timeout head = slots[level][slot];
+        timeout.level = level;
+        timeout.slot = slot;
+        timeout.previous = null;
+        timeout.next = head;
+        if (head != null) {
+            head.previous = timeout;
+        }
+        slots[level][slot] = timeout;
+        occupied[level] |= 1L << slot;
+        size++;
+    }
+
+    private void unlink(Timeout timeout) {
+        if (timeout.previous != null) {
+            timeout.previous.next = timeout.next;
+        } else {
+            slots[timeout.level][timeout.slot] = timeout.next;
+            if (timeout.next == null) {
+                occupied[timeout.level] &= ~(1L << timeout.slot);
+            }
+        }
+        if (timeout.next != null) {
+            timeout.next.previous = timeout.previous;
+        }
+        timeout.previous = null;
+        timeout.next = null;
+        timeout.level = -1;
+        size--;
+    }
+
+    private Timeout detach(int level, int slot) {
+        Timeout head = slots[level][slot];
+        slots[level][slot] = null;
+        occupied[level] &= ~(1L << slot);
+        for (Timeout timeout = head; timeout != null; timeout = timeout.next) {
+            timeout.level = -1;
+            size--;
+        }
+        return head;
+    }
+
+    /**
+     * Calculates the first tick at or after the current tick at which either a level 0 slot expires or a slot of a
+     * higher level has to be cascaded.
+     *
+     * @return the next tick of interest, or -1 if the wheel is empty
+     */
+    private long nextTick() {
+        for (int level = 0; level < LEVELS; level++) {
+            if (occupied[level] == 0) {
+                continue;
+            }
+            int shift = SLOT_BITS * level;
+            int index = (int) (currentTick >>> shift) & (SLOTS - 1);
+            // level 0 includes the current slot, higher levels only contain slots after the current one
+            long candidates = occupied[level] & (-1L << (level == 0 ? index : index + 1));
+            if (index == SLOTS - 1 && level > 0) {
+                candidates = 0;
+            }
+            if (candidates != 0) {
+                long block = (currentTick >>> (shift + SLOT_BITS)) << (shift + SLOT_BITS);
+                return block | ((long) Long.numberOfTrailingZeros(candidates) << shift);
+            }
+        }
+        if (occupied[OVERFLOW] != 0) {
+            int shift = SLOT_BITS * LEVELS;
+            return ((currentTick >>> shift) + 1) << shift;
+        }
+        return -1;
+    }
+
+    /**
+     * Advances the wheel up to the given time and collects the timeouts that expired on the way.
+     */
+    private void expire(long now, List<Timeout> expired) {
+        while (true) {
+            long tick = nextTick();
+            if (tick < 0 || tick > now) {
+                currentTick = Math.max(currentTick, now);
+                return;
+            }
+            currentTick = tick;
+
+            if ((tick & ((1L << (SLOT_BITS * LEVELS)) - 1)) == 0) {
+                cascade(detach(OVERFLOW, 0));
+            }
+            for (int level = LEVELS - 1; level > 0; level--) {
+                int shift = SLOT_BITS * level;
+                if ((tick & ((1L << shift) - 1)) == 0) {
+                    int slot = (int) (tick >>> shift) & (SLOTS - 1);
+                    if ((occupied[level] & (1L << slot)) != 0) {
+                        cascade(detach(level, slot));
+                    }
+                }
+            }
+
+            int slot = (int) tick & (SLOTS - 1);
+            if ((occupied[0] & (1L << slot)) != 0) {
+                Timeout timeout = detach(0, slot);
+                while (timeout != null) {
+                    Timeout next = timeout.next;
+                    timeout.previous = null;
+                    timeout.next = null;
+                    expired.add(timeout);
+                    timeout = next;
+                }
+            }
+        }
+    }
+
+    private void cascade(Timeout head) {
+        Timeout timeout = head;
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            add(timeout);
+            timeout = next;
+        }
+    }
+
+    private void wakeUp(long deadline) {
+        if (worker == null) {
+            worker = threadFactory.newThread(wheelTask);
+            worker.start();
+        } else if (wakeUpTick < 0 || deadline < wakeUpTick) {
+            lock.notifyAll();
+        }
+    }
+
+    private final Runnable wheelTask = new Runnable() {
+
+        @Override
+        public void run() {
+            logger.trace("Starting the timing wheel thread '{}'", Thread.currentThread().getName());
+            List<Timeout> expired = new ArrayList<>();
+            while (true) {
+                synchronized (lock) {
+                    while (true) {
+                        long now = System.currentTimeMillis();
+                        expire(now, expired);
+                        if (!expired.isEmpty()) {
+                            break;
+                        }
+
+                        long tick = nextTick();
+                        if (tick < 0) {
+                            logger.trace("The timing wheel is empty, stopping thread '{}'",
+                                    Thread.currentThread().getName());
+                            worker = null;
+                            return;
+                        }
+
+                        wakeUpTick = tick;
+                        try {
+                            lock.wait(Math.max(tick - now, 1));
+                        } catch (InterruptedException e) {
+                            logger.trace("The timing wheel thread was interrupted : '{}'", e.getMessage());
+                        } finally {
+                            wakeUpTick = -1;
+                        }
+                    }
+                }
+
+                for (Timeout timeout : expired) {
+                    timeout.dispatch();
+                }
+                expired.clear();
+            }
+        }
+    };
+
+    /**
+     * A <code>Timeout</code> is a handle to a task that is scheduled on a {@link TimingWheel}.
+     */
+    public final class Timeout {
+
+        private final Runnable task;
+        private final Executor executor;
+
+        private long deadline;
+        private volatile boolean cancelled;
+        private int level = -1;
+        private int slot;
+        private Timeout previous;
+        private Timeout next;
+
+        private Timeout(Runnable task, Executor executor) {
+            this.task = task;
+            this.executor = executor;
+        }
+
+        /**
+         * @return the time in milliseconds since the epoch at which the task is due
+         */
+        public long getDeadline() {
+            synchronized (lock) {
+                return deadline;
+            }
+        }
+
+        /**
+         * @return true if the task is still waiting for its deadline
+         */
+        public boolean isPending() {
+            synchronized (lock) {
+                return level >= 0;
+            }
+        }
+
+        /**
+         * @return true if the timeout was cancelled before the task was handed over to its executor
+         */
+        public boolean isCancelled() {
+            synchronized (lock) {
+                return cancelled;
+            }
+        }
+
+        /**
+         * Cancels the timeout.
+         *
+         * @return true if the task was still pending and will not run anymore
+         */
+        public boolean cancel() {
+            synchronized (lock) {
+                if (level < 0) {
+                    return false;
+                }
+                unlink(this);
+                cancelled = true;
+                return true;
+            }
+        }
+
+        /**
+         * Moves the timeout to a new deadline. Cancelled or expired timeouts are armed again.
+         *
+         * @param deadline the time in milliseconds since the epoch at which the task has to run
+         */
+        public void reschedule(long deadline) {
+            synchronized (lock) {
+                if (level >= 0) {
+                    unlink(this);
+                }
+                this.deadline = deadline;
+                this.cancelled = false;
+                add(this);
+                wakeUp(deadline);
+            }
+        }
+
+        private void dispatch() {
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                logger.warn("The executor rejected the task '{}' : '{}'", task, e.getMessage());
+            } catch (RuntimeException e) {
+                logger.error("An exception occurred while dispatching the task '{}'", task, e);
+            }
+        }
+    }
+
+}
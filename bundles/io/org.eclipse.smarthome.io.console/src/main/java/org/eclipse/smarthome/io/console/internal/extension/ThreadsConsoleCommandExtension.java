@@ -0,0 +1,52 @@
+/**
+ * Copyright (c) 2014-2016 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.io.console.internal.extension;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
+import org.eclipse.smarthome.core.common.ThreadPoolStatistics;
+import org.eclipse.smarthome.io.console.Console;
+import org.eclipse.smarthome.io.console.extensions.AbstractConsoleCommandExtension;
+
+/**
+ * Console command extension to show the usage of the thread pools
+ *
+ * @author agent - Initial contribution
+ *
+ */
+public class ThreadsConsoleCommandExtension extends AbstractConsoleCommandExtension {
+
+    private static final String ROW_FORMAT = "%-24s %-9s %7s %7s %7s %7s %7s %10s";
+
+    public ThreadsConsoleCommandExtension() {
+        super("threads", "Show the usage of the thread pools.");
+    }
+
+    @Override
+    public List<String> getUsages() {
+        return Collections.singletonList(buildCommandUsage("lists the statistics of all thread pools"));
+    }
+
+    @Override
+    public void execute(String[] args, Console console) {
+        int budget = ThreadPoolManager.getThreadBudget();
+        console.println("Live threads: " + ThreadPoolManager.getLiveThreadCount() + ", thread budget: "
+                + (budget > 0 ? String.valueOf(budget) : "unlimited"));
+        console.println(String.format(ROW_FORMAT, "Pool", "Type", "Threads", "Active", "Largest", "Max", "Queued",
+                "Completed"));
+        for (ThreadPoolStatistics statistics : ThreadPoolManager.getPoolStatistics()) {
+            console.println(String.format(ROW_FORMAT, statistics.getName(),
+                    statistics.isScheduled() ? "scheduled" : "queueing", statistics.getPoolSize(),
+                    statistics.getActiveCount(), statistics.getLargestPoolSize(), statistics.getMaximumPoolSize(),
+                    statistics.getQueueSize(), statistics.getCompletedTaskCount()));
+        }
+    }
+
+}
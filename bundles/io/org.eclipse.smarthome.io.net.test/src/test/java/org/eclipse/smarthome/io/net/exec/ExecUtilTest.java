@@ -0,0 +1,108 @@
+/**
+ * Copyright (c) 2014-2016 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.io.net.exec;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeFalse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang.SystemUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author agent - Initial contribution
+ */
+public class ExecUtilTest {
+
+    /** a co-process answering every line with the number of lines it has received so far */
+    private static final String COUNTER = "sh@@-c@@n=0; while read line; do n=$((n+1)); echo $n; done";
+
+    @Before
+    public void setUp() {
+        assumeFalse(SystemUtils.IS_OS_WINDOWS);
+    }
+
+    @After
+    public void tearDown() {
+        ExecUtil.stopCoProcess(COUNTER);
+    }
+
+    @Test
+    public void testExecuteCommandLineAndWaitResponse() {
+        assertEquals("hello", ExecUtil.executeCommandLineAndWaitResponse("echo hello", 5000));
+    }
+
+    @Test
+    public void testPermitWaitCountsTowardsTimeout() throws Exception {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < ExecUtil.MAX_CONCURRENT_PROCESSES; i++) {
+                futures.add(executor.submit(new Callable<String>() {
+                    @Override
+                    public String call() {
+                        return ExecUtil.executeCommandLineAndWaitResponse("sleep 2", 5000);
+                    }
+                }));
+            }
+            long deadline = System.currentTimeMillis() + 5000;
+            while (ExecUtil.processPermits.availablePermits() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(0, ExecUtil.processPermits.availablePermits());
+
+            // all processes are running, so the execution gives up once its timeout has elapsed
+            long startTime = System.currentTimeMillis();
+            assertNull(ExecUtil.executeCommandLineAndWaitResponse("echo hello", 500));
+            assertTrue(System.currentTimeMillis() - startTime < 1500);
+
+            for (Future<String> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+            assertEquals(ExecUtil.MAX_CONCURRENT_PROCESSES, ExecUtil.processPermits.availablePermits());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testCoProcessIsKeptRunning() {
+        assertEquals("1", ExecUtil.executeCoProcessAndWaitResponse(COUNTER, "a", 5000));
+        assertEquals("2", ExecUtil.executeCoProcessAndWaitResponse(COUNTER, "b", 5000));
+    }
+
+    @Test
+    public void testCoProcessIsRestartedAfterStop() {
+        assertEquals("1", ExecUtil.executeCoProcessAndWaitResponse(COUNTER, "a", 5000));
+
+        ExecUtil.stopCoProcess(COUNTER);
+
+        assertEquals("1", ExecUtil.executeCoProcessAndWaitResponse(COUNTER, "b", 5000));
+    }
+
+    @Test
+    public void testCoProcessRejectsLineBreaks() {
+        assertEquals("1", ExecUtil.executeCoProcessAndWaitResponse(COUNTER, "a", 5000));
+
+        assertNull(ExecUtil.executeCoProcessAndWaitResponse(COUNTER, "b\nc", 5000));
+        assertNull(ExecUtil.executeCoProcessAndWaitResponse(COUNTER, "b\rc", 5000));
+
+        // nothing has been sent, and the co-process is still the same
+        assertEquals("2", ExecUtil.executeCoProcessAndWaitResponse(COUNTER, "d", 5000));
+    }
+
+}
@@ -7,9 +7,32 @@
  */
 package org.eclipse.smarthome.io.net.http;
 
-import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 
 import org.eclipse.jetty.http.HttpMethod;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.server.handler.AbstractHandler;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
 import org.junit.Test;
 
 /**
@@ -17,6 +40,79 @@ import org.junit.Test;
  */
 public class HttpUtilTest {
 
+    private static final String ETAG = "\"42\"";
+
+    private static Server server;
+    private static String baseUrl;
+
+    private static final AtomicInteger runningRequests = new AtomicInteger();
+    private static final AtomicInteger maxRunningRequests = new AtomicInteger();
+    private static final AtomicReference<String> lastIfNoneMatch = new AtomicReference<>();
+    private static volatile CountDownLatch release;
+
+    @BeforeClass
+    public static void startServer() throws Exception {
+        server = new Server(0);
+        server.setHandler(new AbstractHandler() {
+            @Override
+            public void handle(String target, Request baseRequest, HttpServletRequest request,
+                    HttpServletResponse response) throws IOException, ServletException {
+                baseRequest.setHandled(true);
+                switch (target) {
+                    case "/blocking":
+                        int running = runningRequests.incrementAndGet();
+                        synchronized (maxRunningRequests) {
+                            maxRunningRequests.set(Math.max(maxRunningRequests.get(), running));
+                        }
+                        try {
+                            release.await(10, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        } finally {
+                            runningRequests.decrementAndGet();
+                        }
+                        response.getWriter().write("released");
+                        break;
+                    case "/slow":
+                        try {
+                            Thread.sleep(1000);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        response.getWriter().write("slow");
+                        break;
+                    case "/etag":
+                        String ifNoneMatch = request.getHeader("If-None-Match");
+                        lastIfNoneMatch.set(ifNoneMatch);
+                        response.setHeader("ETag", ETAG);
+                        if (ETAG.equals(ifNoneMatch)) {
+                            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                        } else {
+                            response.getWriter().write("content");
+                        }
+                        break;
+                    default:
+                        response.getWriter().write("hello");
+                }
+            }
+        });
+        server.start();
+        baseUrl = "http://localhost:" + ((ServerConnector) server.getConnectors()[0]).getLocalPort();
+    }
+
+    @AfterClass
+    public static void stopServer() throws Exception {
+        server.stop();
+    }
+
+    @Before
+    public void setUp() {
+        runningRequests.set(0);
+        maxRunningRequests.set(0);
+        lastIfNoneMatch.set(null);
+        release = new CountDownLatch(1);
+    }
+
     @Test
     public void testCreateHttpMethod() {
         assertEquals(HttpMethod.GET, HttpUtil.createHttpMethod("GET"));
@@ -25,4 +121,119 @@ public class HttpUtilTest {
         assertEquals(HttpMethod.DELETE, HttpUtil.createHttpMethod("DELETE"));
     }
 
+    @Test
+    public void testExecuteUrlAsync() throws Exception {
+        final AtomicReference<String> completed = new AtomicReference<>();
+        final CountDownLatch notified = new CountDownLatch(1);
+
+        Future<String> future = HttpUtil.executeUrlAsync("GET", baseUrl + "/hello", 5000, new HttpResponseCallback() {
+            @Override
+            public void completed(String responseBody) {
+                completed.set(responseBody);
+                notified.countDown();
+            }
+
+            @Override
+            public void failed(Throwable cause) {
+                notified.countDown();
+            }
+        });
+
+        assertEquals("hello", future.get(5, TimeUnit.SECONDS));
+        assertTrue(future.isDone());
+        assertTrue(notified.await(5, TimeUnit.SECONDS));
+        assertEquals("hello", completed.get());
+    }
+
+    @Test
+    public void testExecuteUrlAsyncCancel() throws Exception {
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final CountDownLatch notified = new CountDownLatch(1);
+
+        Future<String> future = HttpUtil.executeUrlAsync("GET", baseUrl + "/slow", 5000,
+                new HttpResponseCallback() {
+                    @Override
+                    public void completed(String responseBody) {
+                        notified.countDown();
+                    }
+
+                    @Override
+                    public void failed(Throwable cause) {
+                        failure.set(cause);
+                        notified.countDown();
+                    }
+                });
+
+        assertTrue(future.cancel(true));
+        assertTrue(future.isCancelled());
+        assertTrue(notified.await(5, TimeUnit.SECONDS));
+        assertNotNull(failure.get());
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            fail("The future of a cancelled request must not return a response");
+        } catch (CancellationException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testExecuteUrlAsyncFailure() throws Exception {
+        // no server is listening on this port anymore
+        ServerSocket socket = new ServerSocket(0);
+        int port = socket.getLocalPort();
+        socket.close();
+
+        Future<String> future = HttpUtil.executeUrlAsync("GET", "http://localhost:" + port + "/hello", 5000, null);
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            fail("The future of a failed request must not return a response");
+        } catch (ExecutionException e) {
+            assertNotNull(e.getCause());
+        }
+        assertTrue(future.isDone());
+        assertFalse(future.isCancelled());
+    }
+
+    @Test
+    public void testConnectionsPerDestinationAreLimited() throws Exception {
+        List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < HttpUtil.MAX_CONNECTIONS_PER_DESTINATION * 2; i++) {
+            futures.add(HttpUtil.executeUrlAsync("GET", baseUrl + "/blocking", 15000, null));
+        }
+
+        // wait until the client has opened all the connections it may open
+        long deadline = System.currentTimeMillis() + 5000;
+        while (runningRequests.get() < HttpUtil.MAX_CONNECTIONS_PER_DESTINATION
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(HttpUtil.MAX_CONNECTIONS_PER_DESTINATION, runningRequests.get());
+
+        release.countDown();
+        for (Future<String> future : futures) {
+            assertEquals("released", future.get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(HttpUtil.MAX_CONNECTIONS_PER_DESTINATION, maxRunningRequests.get());
+    }
+
+    @Test
+    public void testExecuteUrlConditional() {
+        String url = baseUrl + "/etag?test=conditional";
+        assertEquals("content", HttpUtil.executeUrlConditional(url, null, 5000));
+        assertNull(lastIfNoneMatch.get());
+
+        // the server answers with 304, so the kept body is returned
+        assertEquals("content", HttpUtil.executeUrlConditional(url, null, 5000));
+        assertEquals(ETAG, lastIfNoneMatch.get());
+    }
+
+    @Test
+    public void testExecuteUrlDoesNotSendValidators() {
+        String url = baseUrl + "/etag?test=unconditional";
+        assertEquals("content", HttpUtil.executeUrlConditional(url, null, 5000));
+
+        assertEquals("content", HttpUtil.executeUrl("GET", url, 5000));
+        assertNull(lastIfNoneMatch.get());
+    }
+
 }
@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2014-2016 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.io.net.exec;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A long-lived process that answers every line written to its standard input with one line on its standard output.
+ *
+ * @author agent - Initial contribution
+ */
+class CoProcess {
+
+    private final Logger logger = LoggerFactory.getLogger(CoProcess.class);
+
+    private final String commandLine;
+    private final Process process;
+    private final BufferedWriter input;
+    private final BlockingQueue<String> output = new LinkedBlockingQueue<>();
+    private volatile boolean terminated = false;
+
+    CoProcess(String commandLine, List<String> command) throws IOException {
+        this.commandLine = commandLine;
+        this.process = new ProcessBuilder(command).start();
+        this.input = new BufferedWriter(new OutputStreamWriter(process.getOutputStream()));
+
+        startReader(process.getInputStream(), true);
+        startReader(process.getErrorStream(), false);
+        logger.debug("started co-process '{}'", commandLine);
+    }
+
+    /**
+     * Sends one line to the process and waits for its answer.
+     *
+     * @param line the line to send
+     * @param timeout the time to wait for the answer in milliseconds
+     * @return the answer or <code>null</code>, if the process didn't answer in time
+     * @throws IllegalArgumentException if the line contains line breaks, which would be sent as several requests
+     * @throws IOException if the process has terminated
+     * @throws InterruptedException if the thread has been interrupted while waiting for the answer
+     */
+    synchronized String execute(String line, int timeout) throws IOException, InterruptedException {
+        if (line.indexOf('\n') >= 0 || line.indexOf('\r') >= 0) {
+            throw new IllegalArgumentException("the input must not contain line breaks");
+        }
+        if (terminated) {
+            throw new IOException("co-process '" + commandLine + "' has terminated");
+        }
+        // drop answers that arrived too late for a previous request
+        output.clear();
+        input.write(line);
+        input.newLine();
+        input.flush();
+        return output.poll(timeout, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return true, if the process is still running
+     */
+    boolean isAlive() {
+        return !terminated;
+    }
+
+    /**
+     * Terminates the process.
+     */
+    void destroy() {
+        terminated = true;
+        process.destroy();
+        logger.debug("stopped co-process '{}'", commandLine);
+    }
+
+    private void startReader(final InputStream stream, final boolean stdout) {
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        if (stdout) {
+                            output.offer(line);
+                        } else {
+                            logger.debug("co-process '{}': {}", commandLine, line);
+                        }
+                    }
+                } catch (IOException e) {
+                    logger.trace("reading output of co-process '{}' failed: {}", commandLine, e.getMessage());
+                } finally {
+                    if (stdout) {
+                        terminated = true;
+                    }
+                }
+            }
+        }, "ESH-exec-" + (stdout ? "stdout" : "stderr"));
+        thread.setDaemon(true);
+        thread.start();
+    }
+}
@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2014-2016 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.io.net.exec;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The {@link ExecStatistics} record the executions of one command by {@link ExecUtil}.
+ *
+ * @author agent - Initial contribution
+ */
+public class ExecStatistics {
+
+    private final AtomicLong executions = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final AtomicLong totalTime = new AtomicLong();
+    private final AtomicLong maxTime = new AtomicLong();
+
+    /**
+     * Records a finished execution.
+     *
+     * @param time the execution took in milliseconds, including the time waiting for a free process slot
+     * @param failed true, if the command couldn't be executed
+     * @param timedOut true, if the command didn't finish in time
+     */
+    void record(long time, boolean failed, boolean timedOut) {
+        executions.incrementAndGet();
+        if (failed) {
+            failures.incrementAndGet();
+        }
+        if (timedOut) {
+            timeouts.incrementAndGet();
+        }
+        totalTime.addAndGet(time);
+        long max = maxTime.get();
+        while (time > max && !maxTime.compareAndSet(max, time)) {
+            max = maxTime.get();
+        }
+    }
+
+    /**
+     * @return the number of executions
+     */
+    public long getExecutions() {
+        return executions.get();
+    }
+
+    /**
+     * @return the number of executions that failed
+     */
+    public long getFailures() {
+        return failures.get();
+    }
+
+    /**
+     * @return the number of executions that timed out
+     */
+    public long getTimeouts() {
+        return timeouts.get();
+    }
+
+    /**
+     * @return the average time of an execution in milliseconds
+     */
+    public long getAverageTime() {
+        long count = executions.get();
+        return count > 0 ? totalTime.get() / count : 0;
+    }
+
+    /**
+     * @return the maximum time of an execution in milliseconds
+     */
+    public long getMaxTime() {
+        return maxTime.get();
+    }
+
+    @Override
+    public String toString() {
+        return "ExecStatistics [executions=" + getExecutions() + ", failures=" + getFailures() + ", timeouts="
+                + getTimeouts() + ", averageTime=" + getAverageTime() + ", maxTime=" + getMaxTime() + "]";
+    }
+}
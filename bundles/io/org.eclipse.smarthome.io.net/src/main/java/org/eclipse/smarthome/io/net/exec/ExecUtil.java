@@ -10,6 +10,12 @@ package org.eclipse.smarthome.io.net.exec;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.exec.CommandLine;
 import org.apache.commons.exec.DefaultExecuteResultHandler;
@@ -32,6 +38,18 @@ public class ExecUtil {
 
     private static final String CMD_LINE_DELIMITER = "@@";
 
+    /**
+     * The maximum number of processes started by {@link #executeCommandLineAndWaitResponse(String, int)} that may run
+     * at the same time. Further executions wait for a running process to finish.
+     */
+    public static final int MAX_CONCURRENT_PROCESSES = Math.max(4, 2 * Runtime.getRuntime().availableProcessors());
+
+    static final Semaphore processPermits = new Semaphore(MAX_CONCURRENT_PROCESSES, true);
+
+    private static final ConcurrentMap<String, ExecStatistics> statistics = new ConcurrentHashMap<>();
+
+    private static final ConcurrentMap<String, CoProcess> coProcesses = new ConcurrentHashMap<>();
+
     /**
      * <p>
      * Executes <code>commandLine</code>. Sometimes (especially observed on MacOS) the commandLine isn't executed
@@ -77,28 +95,42 @@ public class ExecUtil {
      * @param commandLine
      *            the command line to execute
      * @param timeout
-     *            timeout for execution in milliseconds
+     *            timeout for execution in milliseconds, including the time spent waiting for a running process to
+     *            finish
      * @return response data from executed command line
      */
     public static String executeCommandLineAndWaitResponse(String commandLine, int timeout) {
         String retval = null;
 
-        CommandLine cmdLine = null;
-
-        if (commandLine.contains(CMD_LINE_DELIMITER)) {
-            String[] cmdArray = commandLine.split(CMD_LINE_DELIMITER);
-            cmdLine = new CommandLine(cmdArray[0]);
+        CommandLine cmdLine = parseCommandLine(commandLine);
 
-            for (int i = 1; i < cmdArray.length; i++) {
-                cmdLine.addArgument(cmdArray[i], false);
+        Logger logger = LoggerFactory.getLogger(ExecUtil.class);
+        long startTime = System.currentTimeMillis();
+        try {
+            if (!processPermits.tryAcquire(timeout, TimeUnit.MILLISECONDS)) {
+                logger.warn("couldn't execute commandLine '{}' as {} processes are already running", commandLine,
+                        MAX_CONCURRENT_PROCESSES);
+                getStatistics(cmdLine).record(System.currentTimeMillis() - startTime, true, true);
+                return null;
             }
-        } else {
-            cmdLine = CommandLine.parse(commandLine);
+        } catch (InterruptedException e) {
+            logger.warn("Interrupted while waiting to execute commandLine '{}'", commandLine);
+            Thread.currentThread().interrupt();
+            return null;
+        }
+
+        // the time spent waiting for a permit counts towards the timeout
+        long remainingTime = timeout - (System.currentTimeMillis() - startTime);
+        if (remainingTime <= 0) {
+            processPermits.release();
+            logger.warn("Timeout occured when waiting to execute commandLine '{}'", commandLine);
+            getStatistics(cmdLine).record(System.currentTimeMillis() - startTime, true, true);
+            return null;
         }
 
         DefaultExecuteResultHandler resultHandler = new DefaultExecuteResultHandler();
 
-        ExecuteWatchdog watchdog = new ExecuteWatchdog(timeout);
+        ExecuteWatchdog watchdog = new ExecuteWatchdog(remainingTime);
         Executor executor = new DefaultExecutor();
 
         ByteArrayOutputStream stdout = new ByteArrayOutputStream();
@@ -108,32 +140,169 @@ public class ExecUtil {
         executor.setStreamHandler(streamHandler);
         executor.setWatchdog(watchdog);
 
-        Logger logger = LoggerFactory.getLogger(ExecUtil.class);
+        boolean failed = false;
         try {
-            executor.execute(cmdLine, resultHandler);
-            logger.debug("executed commandLine '{}'", commandLine);
-        } catch (ExecuteException e) {
-            logger.warn("couldn't execute commandLine '" + commandLine + "'", e);
-        } catch (IOException e) {
-            logger.warn("couldn't execute commandLine '" + commandLine + "'", e);
+            try {
+                executor.execute(cmdLine, resultHandler);
+                logger.debug("executed commandLine '{}'", commandLine);
+            } catch (ExecuteException e) {
+                failed = true;
+                logger.warn("couldn't execute commandLine '" + commandLine + "'", e);
+            } catch (IOException e) {
+                failed = true;
+                logger.warn("couldn't execute commandLine '" + commandLine + "'", e);
+            }
+
+            // some time later the result handler callback was invoked so we
+            // can safely request the exit code
+            try {
+                resultHandler.waitFor();
+                int exitCode = resultHandler.getExitValue();
+                retval = StringUtils.chomp(stdout.toString());
+                if (resultHandler.getException() != null) {
+                    failed = true;
+                    logger.warn(resultHandler.getException().getMessage());
+                } else {
+                    logger.debug("exit code '{}', result '{}'", exitCode, retval);
+                }
+            } catch (InterruptedException e) {
+                logger.warn("Timeout occured when executing commandLine '" + commandLine + "'", e);
+            }
+        } finally {
+            processPermits.release();
+            getStatistics(cmdLine).record(System.currentTimeMillis() - startTime, failed, watchdog.killedProcess());
         }
 
-        // some time later the result handler callback was invoked so we
-        // can safely request the exit code
+        return retval;
+    }
+
+    /**
+     * <p>
+     * Sends <code>input</code> as one line to a co-process and returns the line it answers with. The co-process is
+     * started by the first call for a <code>commandLine</code> and kept running for all further calls, so that scripts
+     * which support a line oriented request/response protocol on their standard input and output don't have to be
+     * started for each request. A co-process that doesn't answer in time is terminated and started again by the next
+     * call.
+     * </p>
+     * <p>
+     * The special delimiter '<code>@@</code>' is supported the same way as by
+     * {@link #executeCommandLineAndWaitResponse(String, int)}.
+     * </p>
+     *
+     * @param commandLine
+     *            the command line of the co-process
+     * @param input
+     *            the line to send to the co-process, which must not contain line breaks
+     * @param timeout
+     *            time to wait for the answer in milliseconds
+     * @return the answer of the co-process or <code>null</code>, if it couldn't be started, didn't answer in time or
+     *         the input contains line breaks
+     */
+    public static String executeCoProcessAndWaitResponse(String commandLine, String input, int timeout) {
+        Logger logger = LoggerFactory.getLogger(ExecUtil.class);
+        CommandLine cmdLine = parseCommandLine(commandLine);
+        long startTime = System.currentTimeMillis();
+        String retval = null;
+        boolean failed = false;
+        boolean timedOut = false;
+
+        CoProcess coProcess = null;
         try {
-            resultHandler.waitFor();
-            int exitCode = resultHandler.getExitValue();
-            retval = StringUtils.chomp(stdout.toString());
-            if (resultHandler.getException() != null) {
-                logger.warn(resultHandler.getException().getMessage());
+            coProcess = getCoProcess(commandLine, cmdLine);
+            retval = coProcess.execute(input, timeout);
+            if (retval == null) {
+                timedOut = true;
+                logger.warn("Timeout occured when executing co-process '{}'", commandLine);
+                stopCoProcess(commandLine, coProcess);
             } else {
-                logger.debug("exit code '{}', result '{}'", exitCode, retval);
+                logger.debug("co-process '{}' answered '{}'", commandLine, retval);
+            }
+        } catch (IllegalArgumentException e) {
+            failed = true;
+            logger.warn("couldn't send input to co-process '{}': {}", commandLine, e.getMessage());
+        } catch (IOException e) {
+            failed = true;
+            logger.warn("couldn't execute co-process '" + commandLine + "'", e);
+            if (coProcess != null) {
+                stopCoProcess(commandLine, coProcess);
             }
         } catch (InterruptedException e) {
-            logger.warn("Timeout occured when executing commandLine '" + commandLine + "'", e);
+            logger.warn("Interrupted while waiting for co-process '{}'", commandLine);
+            Thread.currentThread().interrupt();
+        } finally {
+            getStatistics(cmdLine).record(System.currentTimeMillis() - startTime, failed, timedOut);
         }
 
         return retval;
     }
 
+    /**
+     * Terminates the co-process started by {@link #executeCoProcessAndWaitResponse(String, String, int)} for the given
+     * <code>commandLine</code>, if it is running.
+     *
+     * @param commandLine
+     *            the command line of the co-process
+     */
+    public static void stopCoProcess(String commandLine) {
+        CoProcess coProcess = coProcesses.remove(commandLine);
+        if (coProcess != null) {
+            coProcess.destroy();
+        }
+    }
+
+    /**
+     * Returns the execution statistics of all commands executed so far.
+     *
+     * @return the statistics by executable
+     */
+    public static Map<String, ExecStatistics> getStatistics() {
+        return Collections.unmodifiableMap(statistics);
+    }
+
+    private static CommandLine parseCommandLine(String commandLine) {
+        CommandLine cmdLine = null;
+
+        if (commandLine.contains(CMD_LINE_DELIMITER)) {
+            String[] cmdArray = commandLine.split(CMD_LINE_DELIMITER);
+            cmdLine = new CommandLine(cmdArray[0]);
+
+            for (int i = 1; i < cmdArray.length; i++) {
+                cmdLine.addArgument(cmdArray[i], false);
+            }
+        } else {
+            cmdLine = CommandLine.parse(commandLine);
+        }
+
+        return cmdLine;
+    }
+
+    private static ExecStatistics getStatistics(CommandLine cmdLine) {
+        String executable = cmdLine.getExecutable();
+        ExecStatistics commandStatistics = statistics.get(executable);
+        if (commandStatistics == null) {
+            statistics.putIfAbsent(executable, new ExecStatistics());
+            commandStatistics = statistics.get(executable);
+        }
+        return commandStatistics;
+    }
+
+    private static CoProcess getCoProcess(String commandLine, CommandLine cmdLine) throws IOException {
+        synchronized (coProcesses) {
+            CoProcess coProcess = coProcesses.get(commandLine);
+            if (coProcess == null || !coProcess.isAlive()) {
+                if (coProcess != null) {
+                    coProcess.destroy();
+                }
+                coProcess = new CoProcess(commandLine, Arrays.asList(cmdLine.toStrings()));
+                coProcesses.put(commandLine, coProcess);
+            }
+            return coProcess;
+        }
+    }
+
+    private static void stopCoProcess(String commandLine, CoProcess coProcess) {
+        coProcesses.remove(commandLine, coProcess);
+        coProcess.destroy();
+    }
+
 }
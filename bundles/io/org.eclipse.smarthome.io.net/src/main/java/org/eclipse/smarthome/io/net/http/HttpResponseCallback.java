@@ -0,0 +1,33 @@
+/**
+ * Copyright (c) 2014-2016 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.io.net.http;
+
+/**
+ * A callback that is notified about the result of an asynchronous request sent by
+ * {@link HttpUtil#executeUrlAsync(String, String, int, HttpResponseCallback)}.
+ * The callback is called on a thread of the HTTP client, so it must not block.
+ *
+ * @author agent - Initial contribution
+ */
+public interface HttpResponseCallback {
+
+    /**
+     * Called when the response has been received.
+     *
+     * @param responseBody the response body
+     */
+    void completed(String responseBody);
+
+    /**
+     * Called when the request failed, e.g. because of a timeout or because the response exceeded the maximum size.
+     *
+     * @param cause the cause of the failure
+     */
+    void failed(Throwable cause);
+
+}
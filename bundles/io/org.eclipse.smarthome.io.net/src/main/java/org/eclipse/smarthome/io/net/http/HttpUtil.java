@@ -12,20 +12,29 @@ import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
-import java.util.List;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.apache.commons.lang.StringUtils;
 import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.jetty.client.HttpProxy;
-import org.eclipse.jetty.client.ProxyConfiguration;
-import org.eclipse.jetty.client.ProxyConfiguration.Proxy;
-import org.eclipse.jetty.client.api.AuthenticationStore;
 import org.eclipse.jetty.client.api.ContentResponse;
 import org.eclipse.jetty.client.api.Request;
+import org.eclipse.jetty.client.api.Response;
+import org.eclipse.jetty.client.api.Result;
 import org.eclipse.jetty.client.util.BasicAuthentication;
+import org.eclipse.jetty.client.util.BufferingResponseListener;
 import org.eclipse.jetty.client.util.InputStreamContentProvider;
+import org.eclipse.jetty.http.HttpField;
 import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.http.HttpMethod;
 import org.eclipse.jetty.http.HttpStatus;
@@ -46,8 +55,37 @@ public class HttpUtil {
 
     private static Logger logger = LoggerFactory.getLogger(HttpUtil.class);
 
+    /** the maximum number of connections the client opens to a single destination */
+    static final int MAX_CONNECTIONS_PER_DESTINATION = 8;
+
+    /** the maximum number of requests waiting for a connection to a single destination */
+    static final int MAX_REQUESTS_QUEUED_PER_DESTINATION = 256;
+
+    /** the maximum size of the response of an asynchronous request in bytes */
+    public static final int MAX_RESPONSE_SIZE = 2 * 1024 * 1024;
+
+    /** the number of responses kept for conditional GET requests */
+    private static final int MAX_CACHED_RESPONSES = 64;
+
+    /** the maximum length of a response body kept for conditional GET requests */
+    private static final int MAX_CACHED_RESPONSE_SIZE = 64 * 1024;
+
     private static HttpClient client = new HttpClient(new SslContextFactory());
 
+    private static volatile boolean clientStarted = false;
+
+    /** the clients used for requests routed through a proxy, keyed by the proxy and its credentials */
+    private static final Map<String, HttpClient> proxyClients = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("serial")
+    private static final Map<String, CachedResponse> responseCache = Collections
+            .synchronizedMap(new LinkedHashMap<String, CachedResponse>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                    return size() > MAX_CACHED_RESPONSES;
+                }
+            });
+
     /**
      * Executes the given <code>url</code> with the given <code>httpMethod</code>.
      * Furthermore the <code>http.proxyXXX</code> System variables are read and
@@ -100,31 +138,10 @@ public class HttpUtil {
      */
     public static String executeUrl(String httpMethod, String url, Properties httpHeaders, InputStream content,
             String contentType, int timeout) {
-        String proxySet = System.getProperty("http.proxySet");
-
-        String proxyHost = null;
-        int proxyPort = 80;
-        String proxyUser = null;
-        String proxyPassword = null;
-        String nonProxyHosts = null;
-
-        if ("true".equalsIgnoreCase(proxySet)) {
-            proxyHost = System.getProperty("http.proxyHost");
-            String proxyPortString = System.getProperty("http.proxyPort");
-            if (StringUtils.isNotBlank(proxyPortString)) {
-                try {
-                    proxyPort = Integer.valueOf(proxyPortString);
-                } catch (NumberFormatException e) {
-                    logger.warn("'{}' is not a valid proxy port - using port 80 instead");
-                }
-            }
-            proxyUser = System.getProperty("http.proxyUser");
-            proxyPassword = System.getProperty("http.proxyPassword");
-            nonProxyHosts = System.getProperty("http.nonProxyHosts");
-        }
+        ProxySettings proxySettings = new ProxySettings();
 
-        return executeUrl(httpMethod, url, httpHeaders, content, contentType, timeout, proxyHost, proxyPort, proxyUser,
-                proxyPassword, nonProxyHosts);
+        return executeUrl(httpMethod, url, httpHeaders, content, contentType, timeout, proxySettings.host,
+                proxySettings.port, proxySettings.user, proxySettings.password, proxySettings.nonProxyHosts);
 
     }
 
@@ -148,36 +165,114 @@ public class HttpUtil {
     public static String executeUrl(String httpMethod, String url, Properties httpHeaders, InputStream content,
             String contentType, int timeout, String proxyHost, Integer proxyPort, String proxyUser,
             String proxyPassword, String nonProxyHosts) {
+        return executeUrl(httpMethod, url, httpHeaders, content, contentType, timeout, proxyHost, proxyPort,
+                proxyUser, proxyPassword, nonProxyHosts, false);
+    }
+
+    /**
+     * Executes a GET request for the given <code>url</code>, which is meant to be polled.
+     * The body and validators (<code>ETag</code>, <code>Last-Modified</code>) of the last response are kept, so the
+     * server may answer with <code>304 Not Modified</code> and the kept body is returned instead. Only responses of
+     * up to {@value #MAX_CACHED_RESPONSE_SIZE} characters are kept.
+     * Furthermore the <code>http.proxyXXX</code> System variables are read and
+     * set into the {@link HttpClient}.
+     *
+     * @param url the url to execute
+     * @param httpHeaders optional http request headers which has to be sent within request
+     * @param timeout the socket timeout to wait for data
+     *
+     * @return the response body or <code>NULL</code> when the request went wrong
+     */
+    public static String executeUrlConditional(String url, Properties httpHeaders, int timeout) {
+        ProxySettings proxySettings = new ProxySettings();
 
-        startHttpClient(client);
+        return executeUrl("GET", url, httpHeaders, null, null, timeout, proxySettings.host, proxySettings.port,
+                proxySettings.user, proxySettings.password, proxySettings.nonProxyHosts, true);
+    }
 
-        HttpProxy proxy = null;
-        // only configure a proxy if a host is provided
-        if (StringUtils.isNotBlank(proxyHost) && proxyPort != null && shouldUseProxy(url, nonProxyHosts)) {
-            AuthenticationStore authStore = client.getAuthenticationStore();
-            ProxyConfiguration proxyConfig = client.getProxyConfiguration();
-            List<Proxy> proxies = proxyConfig.getProxies();
+    private static String executeUrl(String httpMethod, String url, Properties httpHeaders, InputStream content,
+            String contentType, int timeout, String proxyHost, Integer proxyPort, String proxyUser,
+            String proxyPassword, String nonProxyHosts, boolean conditional) {
 
-            proxy = new HttpProxy(proxyHost, proxyPort);
-            proxies.add(proxy);
+        HttpClient httpClient = getClient(url, proxyHost, proxyPort, proxyUser, proxyPassword, nonProxyHosts);
 
-            // This value is a replacement for any realm
-            final String anyRealm = "*";
-            authStore.addAuthentication(new BasicAuthentication(proxy.getURI(), anyRealm, proxyUser, proxyPassword) {
+        Request request = createRequest(httpClient, httpMethod, url, httpHeaders, content, contentType, timeout);
+        String cacheKey = conditional ? getCacheKey(request) : null;
+        CachedResponse cachedResponse = addConditionalHeaders(request, cacheKey);
 
-                // In version 9.2.12 Jetty HttpClient does not support adding an authentication for any realm. This is a
-                // workaround until this issue is solved
-                @Override
-                public boolean matches(String type, URI uri, String realm) {
-                    realm = anyRealm;
-                    return super.matches(type, uri, realm);
-                }
-            });
+        if (logger.isDebugEnabled()) {
+            logger.debug("About to execute {}", request.getURI());
+        }
+
+        try {
+            ContentResponse response = request.send();
+            return getResponseBody(request, response, response.getContentAsString(), cacheKey, cachedResponse);
+        } catch (Exception e) {
+            logger.error("Fatal transport error: {}", e.toString());
+        }
+
+        return null;
+    }
+
+    /**
+     * Executes the given <code>url</code> with the given <code>httpMethod</code> asynchronously.
+     * Furthermore the <code>http.proxyXXX</code> System variables are read and
+     * set into the {@link HttpClient}.
+     *
+     * @param httpMethod the HTTP method to use
+     * @param url the url to execute
+     * @param timeout the timeout of the whole request in milliseconds
+     * @param callback the callback to notify about the result or <code>null</code>
+     *
+     * @return the future of the response body, whose <code>get</code> methods throw an {@link ExecutionException} if
+     *         the request failed and a {@link CancellationException} if it was cancelled
+     */
+    public static Future<String> executeUrlAsync(String httpMethod, String url, int timeout,
+            HttpResponseCallback callback) {
+        return executeUrlAsync(httpMethod, url, null, null, null, timeout, callback);
+    }
+
+    /**
+     * Executes the given <code>url</code> with the given <code>httpMethod</code> asynchronously, so the calling thread
+     * isn't blocked while waiting for the response. The number of connections and queued requests per destination are
+     * limited, responses larger than {@value #MAX_RESPONSE_SIZE} bytes are aborted.
+     * Furthermore the <code>http.proxyXXX</code> System variables are read and
+     * set into the {@link HttpClient}.
+     *
+     * @param httpMethod the HTTP method to use
+     * @param url the url to execute
+     * @param httpHeaders optional http request headers which has to be sent within request
+     * @param content the content to be send to the given <code>url</code> or <code>null</code> if no content should be
+     *            send.
+     * @param contentType the content type of the given <code>content</code>
+     * @param timeout the timeout of the whole request in milliseconds
+     * @param callback the callback to notify about the result or <code>null</code>
+     *
+     * @return the future of the response body, whose <code>get</code> methods throw an {@link ExecutionException} if
+     *         the request failed and a {@link CancellationException} if it was cancelled
+     */
+    public static Future<String> executeUrlAsync(String httpMethod, String url, Properties httpHeaders,
+            InputStream content, String contentType, int timeout, HttpResponseCallback callback) {
+        ProxySettings proxySettings = new ProxySettings();
+        HttpClient httpClient = getClient(url, proxySettings.host, proxySettings.port, proxySettings.user,
+                proxySettings.password, proxySettings.nonProxyHosts);
+
+        Request request = createRequest(httpClient, httpMethod, url, httpHeaders, content, contentType, timeout);
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("About to execute {} asynchronously", request.getURI());
         }
 
+        ResponseFuture future = new ResponseFuture(request, callback);
+        request.send(future);
+        return future;
+    }
+
+    private static Request createRequest(HttpClient httpClient, String httpMethod, String url,
+            Properties httpHeaders, InputStream content, String contentType, int timeout) {
         HttpMethod method = HttpUtil.createHttpMethod(httpMethod);
 
-        Request request = client.newRequest(url).method(method).timeout(timeout, TimeUnit.MILLISECONDS);
+        Request request = httpClient.newRequest(url).method(method).timeout(timeout, TimeUnit.MILLISECONDS);
 
         if (httpHeaders != null) {
             for (String httpHeaderKey : httpHeaders.stringPropertyNames()) {
@@ -206,34 +301,134 @@ public class HttpUtil {
             request.content(new InputStreamContentProvider(content), contentType);
         }
 
-        if (logger.isDebugEnabled()) {
-            logger.debug("About to execute {}", request.getURI());
+        return request;
+    }
+
+    /**
+     * Returns the started client to send a request to the given <code>url</code> with. Requests routed through a proxy
+     * are sent by a client of their own, so the proxy configuration of the shared client is never changed.
+     */
+    private static HttpClient getClient(String url, String proxyHost, Integer proxyPort, String proxyUser,
+            String proxyPassword, String nonProxyHosts) {
+        // only configure a proxy if a host is provided
+        if (StringUtils.isBlank(proxyHost) || proxyPort == null || !shouldUseProxy(url, nonProxyHosts)) {
+            startHttpClient(client);
+            return client;
         }
 
-        try {
-            ContentResponse response = request.send();
-            int statusCode = response.getStatus();
-            if (statusCode >= HttpStatus.BAD_REQUEST_400) {
-                String statusLine = statusCode + " " + response.getReason();
-                logger.debug("Method failed: {}", statusLine);
+        String key = proxyHost + ":" + proxyPort + "|" + proxyUser + "|" + proxyPassword;
+        HttpClient proxyClient = proxyClients.get(key);
+        if (proxyClient == null) {
+            synchronized (proxyClients) {
+                proxyClient = proxyClients.get(key);
+                if (proxyClient == null) {
+                    proxyClient = createProxyClient(proxyHost, proxyPort, proxyUser, proxyPassword);
+                    // a client that failed to start is not kept, so the next request tries again
+                    if (proxyClient.isStarted()) {
+                        proxyClients.put(key, proxyClient);
+                    }
+                }
             }
+        }
+        return proxyClient;
+    }
 
-            String responseBody = response.getContentAsString();
-            if (!responseBody.isEmpty()) {
-                logger.trace(responseBody);
-            }
+    private static HttpClient createProxyClient(String proxyHost, int proxyPort, String proxyUser,
+            String proxyPassword) {
+        HttpClient proxyClient = new HttpClient(new SslContextFactory());
 
-            return responseBody;
+        HttpProxy proxy = new HttpProxy(proxyHost, proxyPort);
+        proxyClient.getProxyConfiguration().getProxies().add(proxy);
+
+        // This value is a replacement for any realm
+        final String anyRealm = "*";
+        proxyClient.getAuthenticationStore()
+                .addAuthentication(new BasicAuthentication(proxy.getURI(), anyRealm, proxyUser, proxyPassword) {
+
+                    // In version 9.2.12 Jetty HttpClient does not support adding an authentication for any realm.
+                    // This is a workaround until this issue is solved
+                    @Override
+                    public boolean matches(String type, URI uri, String realm) {
+                        realm = anyRealm;
+                        return super.matches(type, uri, realm);
+                    }
+                });
+
+        try {
+            configureAndStart(proxyClient);
         } catch (Exception e) {
-            logger.error("Fatal transport error: {}", e.toString());
-        } finally {
-            if (proxy != null) {
-                //Remove the proxy, that has been added for this request
-                client.getProxyConfiguration().getProxies().remove(proxy);
+            logger.warn("Cannot start HttpClient for proxy {}!", proxy.getURI(), e);
+        }
+        return proxyClient;
+    }
+
+    /**
+     * Adds the validators of a previously cached response to a GET request, so the server may answer with
+     * <code>304 Not Modified</code> instead of sending the same content again.
+     *
+     * @return the cached response or <code>null</code>, if there is none
+     */
+    private static CachedResponse addConditionalHeaders(Request request, String cacheKey) {
+        if (cacheKey == null) {
+            return null;
+        }
+        CachedResponse cachedResponse = responseCache.get(cacheKey);
+        if (cachedResponse != null) {
+            if (cachedResponse.etag != null) {
+                request.header(HttpHeader.IF_NONE_MATCH, cachedResponse.etag);
+            }
+            if (cachedResponse.lastModified != null) {
+                request.header(HttpHeader.IF_MODIFIED_SINCE, cachedResponse.lastModified);
             }
         }
+        return cachedResponse;
+    }
 
-        return null;
+    private static String getResponseBody(Request request, Response response, String responseBody, String cacheKey,
+            CachedResponse cachedResponse) {
+        int statusCode = response.getStatus();
+        if (statusCode == HttpStatus.NOT_MODIFIED_304 && cachedResponse != null) {
+            logger.trace("Content of {} has not been modified", request.getURI());
+            return cachedResponse.body;
+        }
+        if (statusCode >= HttpStatus.BAD_REQUEST_400) {
+            String statusLine = statusCode + " " + response.getReason();
+            logger.debug("Method failed: {}", statusLine);
+        }
+
+        if (!responseBody.isEmpty()) {
+            logger.trace(responseBody);
+        }
+
+        if (cacheKey != null) {
+            String etag = response.getHeaders().get(HttpHeader.ETAG);
+            String lastModified = response.getHeaders().get(HttpHeader.LAST_MODIFIED);
+            if (statusCode == HttpStatus.OK_200 && (etag != null || lastModified != null)
+                    && responseBody.length() <= MAX_CACHED_RESPONSE_SIZE) {
+                responseCache.put(cacheKey, new CachedResponse(etag, lastModified, responseBody));
+            } else if (cachedResponse != null) {
+                responseCache.remove(cacheKey);
+            }
+        }
+
+        return responseBody;
+    }
+
+    /**
+     * Computes the key of a GET request in the response cache from its URI and headers, so requests with different
+     * credentials don't share a response.
+     *
+     * @return the key or <code>null</code>, if the request is no GET request
+     */
+    private static String getCacheKey(Request request) {
+        if (!HttpMethod.GET.is(request.getMethod())) {
+            return null;
+        }
+        StringBuilder key = new StringBuilder(request.getURI().toString());
+        for (HttpField field : request.getHeaders()) {
+            key.append('\n').append(field.getName()).append(':').append(field.getValue());
+        }
+        return key.toString();
     }
 
     /**
@@ -303,14 +498,179 @@ public class HttpUtil {
         }
     }
 
+    /**
+     * Stops the clients used for requests routed through a proxy. Is called when the bundle is stopped.
+     */
+    public static void stopProxyClients() {
+        synchronized (proxyClients) {
+            for (HttpClient proxyClient : proxyClients.values()) {
+                try {
+                    proxyClient.stop();
+                } catch (Exception e) {
+                    logger.warn("Cannot stop HttpClient for proxy!", e);
+                }
+            }
+            proxyClients.clear();
+        }
+    }
+
     private static void startHttpClient(HttpClient client) {
-        if (!client.isStarted()) {
-            try {
-                client.start();
-            } catch (Exception e) {
-                logger.warn("Cannot start HttpClient!", e);
+        if (!clientStarted) {
+            synchronized (HttpUtil.class) {
+                if (!client.isStarted()) {
+                    try {
+                        configureAndStart(client);
+                    } catch (Exception e) {
+                        logger.warn("Cannot start HttpClient!", e);
+                        return;
+                    }
+                }
+                clientStarted = true;
             }
         }
     }
 
+    private static void configureAndStart(HttpClient client) throws Exception {
+        client.setMaxConnectionsPerDestination(MAX_CONNECTIONS_PER_DESTINATION);
+        client.setMaxRequestsQueuedPerDestination(MAX_REQUESTS_QUEUED_PER_DESTINATION);
+        client.start();
+    }
+
+    /**
+     * The proxy configuration read from the <code>http.proxyXXX</code> System variables.
+     */
+    private static class ProxySettings {
+
+        private String host = null;
+        private Integer port = 80;
+        private String user = null;
+        private String password = null;
+        private String nonProxyHosts = null;
+
+        ProxySettings() {
+            String proxySet = System.getProperty("http.proxySet");
+            if ("true".equalsIgnoreCase(proxySet)) {
+                host = System.getProperty("http.proxyHost");
+                String proxyPortString = System.getProperty("http.proxyPort");
+                if (StringUtils.isNotBlank(proxyPortString)) {
+                    try {
+                        port = Integer.valueOf(proxyPortString);
+                    } catch (NumberFormatException e) {
+                        logger.warn("'{}' is not a valid proxy port - using port 80 instead", proxyPortString);
+                    }
+                }
+                user = System.getProperty("http.proxyUser");
+                password = System.getProperty("http.proxyPassword");
+                nonProxyHosts = System.getProperty("http.nonProxyHosts");
+            }
+        }
+    }
+
+    /**
+     * The body and validators of a response to a GET request.
+     */
+    private static class CachedResponse {
+
+        private final String etag;
+        private final String lastModified;
+        private final String body;
+
+        CachedResponse(String etag, String lastModified, String body) {
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.body = body;
+        }
+    }
+
+    /**
+     * Buffers the response of an asynchronous request and provides its body as a {@link Future}.
+     */
+    private static class ResponseFuture extends BufferingResponseListener implements Future<String> {
+
+        private final Request request;
+        private final HttpResponseCallback callback;
+        private final CountDownLatch done = new CountDownLatch(1);
+        private volatile String responseBody;
+        private volatile Throwable failure;
+        private volatile boolean cancelled;
+
+        ResponseFuture(Request request, HttpResponseCallback callback) {
+            super(MAX_RESPONSE_SIZE);
+            this.request = request;
+            this.callback = callback;
+        }
+
+        @Override
+        public void onComplete(Result result) {
+            failure = result.getFailure();
+            if (failure == null) {
+                responseBody = getResponseBody(request, result.getResponse(), getContentAsString(), null, null);
+            } else if (cancelled || failure instanceof CancellationException) {
+                logger.debug("Request to {} has been cancelled", request.getURI());
+            } else {
+                logger.error("Fatal transport error: {}", failure.toString());
+            }
+            done.countDown();
+
+            if (callback != null) {
+                try {
+                    if (failure == null) {
+                        callback.completed(responseBody);
+                    } else {
+                        callback.failed(failure);
+                    }
+                } catch (RuntimeException e) {
+                    logger.error("An exception occurred while notifying the callback of {}", request.getURI(), e);
+                }
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            cancelled = request.abort(new CancellationException());
+            return cancelled;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public boolean isDone() {
+            return done.getCount() == 0;
+        }
+
+        @Override
+        public String get() throws InterruptedException, ExecutionException {
+            if (!cancelled) {
+                done.await();
+            }
+            return getResult();
+        }
+
+        @Override
+        public String get(long timeout, TimeUnit unit)
+                throws InterruptedException, ExecutionException, TimeoutException {
+            if (!cancelled && !done.await(timeout, unit)) {
+                throw new TimeoutException();
+            }
+            return getResult();
+        }
+
+        private String getResult() throws ExecutionException {
+            Throwable failure = this.failure;
+            if (cancelled || failure instanceof CancellationException) {
+                CancellationException e = new CancellationException(
+                        "Request to " + request.getURI() + " has been cancelled");
+                e.initCause(failure);
+                throw e;
+            }
+            if (failure != null) {
+                throw new ExecutionException(failure);
+            }
+            return responseBody;
+        }
+    }
+
 }
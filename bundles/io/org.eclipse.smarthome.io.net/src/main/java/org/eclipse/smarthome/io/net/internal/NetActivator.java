@@ -0,0 +1,37 @@
+/**
+ * Copyright (c) 2014-2016 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.io.net.internal;
+
+import org.eclipse.smarthome.io.net.http.HttpUtil;
+import org.osgi.framework.BundleActivator;
+import org.osgi.framework.BundleContext;
+
+/**
+ * Bundle activator for the Eclipse SmartHome Net I/O bundle, which stops the proxy clients of the {@link HttpUtil}
+ * when the bundle is stopped.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+public final class NetActivator implements BundleActivator {
+
+    /**
+     * Called whenever the OSGi framework starts our bundle
+     */
+    @Override
+    public void start(BundleContext bc) throws Exception {
+    }
+
+    /**
+     * Called whenever the OSGi framework stops our bundle
+     */
+    @Override
+    public void stop(BundleContext bc) throws Exception {
+        HttpUtil.stopProxyClients();
+    }
+}
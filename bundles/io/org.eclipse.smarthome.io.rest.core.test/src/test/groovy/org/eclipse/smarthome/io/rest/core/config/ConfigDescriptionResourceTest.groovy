@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2014-2016 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.io.rest.core.config
+
+import static org.hamcrest.CoreMatchers.*
+import static org.junit.Assert.*
+
+import javax.ws.rs.core.EntityTag
+import javax.ws.rs.core.Request
+import javax.ws.rs.core.Response
+
+import org.eclipse.smarthome.config.core.ConfigDescription
+import org.eclipse.smarthome.config.core.ConfigDescriptionParameterBuilder
+import org.eclipse.smarthome.config.core.ConfigDescriptionProvider
+import org.eclipse.smarthome.config.core.ConfigDescriptionRegistry
+import org.eclipse.smarthome.config.core.ConfigDescriptionParameter.Type
+import org.junit.Before
+import org.junit.Test
+
+/**
+ * Tests that the {@link ConfigDescriptionResource} answers requests for all config descriptions with
+ * "304 Not Modified" as long as the config descriptions did not change.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+class ConfigDescriptionResourceTest {
+
+    ConfigDescriptionResource resource
+    List<ConfigDescription> configDescriptions = [new ConfigDescription(new URI("binding:type"))]
+    EntityTag ifNoneMatch
+
+    @Before
+    void setUp() {
+        ConfigDescriptionRegistry configDescriptionRegistry = new ConfigDescriptionRegistry()
+        configDescriptionRegistry.addConfigDescriptionProvider([
+            getConfigDescriptions: { Locale locale -> configDescriptions },
+            getConfigDescription: { URI uri, Locale locale -> null }
+        ] as ConfigDescriptionProvider)
+
+        resource = new ConfigDescriptionResource()
+        resource.setConfigDescriptionRegistry(configDescriptionRegistry)
+        resource.request = [
+            evaluatePreconditions: { EntityTag eTag ->
+                ifNoneMatch == eTag ? Response.notModified(eTag) : null
+            }
+        ] as Request
+    }
+
+    @Test
+    void 'assert that unchanged config descriptions are not modified'() {
+        Response response = resource.getAll(null, null)
+        assertThat response.getStatus(), is(200)
+        assertThat response.getEntityTag(), is(notNullValue())
+
+        ifNoneMatch = response.getEntityTag()
+        assertThat resource.getAll(null, null).getStatus(), is(304)
+        assertThat resource.getAll(null, "gzip").getStatus(), is(200)
+    }
+
+    @Test
+    void 'assert that changed config descriptions are modified'() {
+        ifNoneMatch = resource.getAll(null, null).getEntityTag()
+
+        configDescriptions = [
+            new ConfigDescription(new URI("binding:type"), [
+                ConfigDescriptionParameterBuilder.create("param", Type.TEXT).build()
+            ])
+        ]
+        Response response = resource.getAll(null, null)
+        assertThat response.getStatus(), is(200)
+        assertThat response.getEntityTag(), is(not(ifNoneMatch))
+
+        ifNoneMatch = response.getEntityTag()
+        configDescriptions = []
+        assertThat resource.getAll(null, null).getStatus(), is(200)
+    }
+}
@@ -11,7 +11,10 @@ import static org.hamcrest.CoreMatchers.*
 import static org.junit.Assert.*
 import static org.junit.matchers.JUnitMatchers.*
 
+import javax.ws.rs.core.EntityTag
+import javax.ws.rs.core.Request
 import javax.ws.rs.core.Response
+import javax.ws.rs.core.StreamingOutput
 import javax.ws.rs.core.UriInfo
 import javax.ws.rs.core.Response.Status
 
@@ -19,12 +22,16 @@ import org.eclipse.smarthome.core.items.ItemProvider
 import org.eclipse.smarthome.core.items.ManagedItemProvider
 import org.eclipse.smarthome.core.library.items.DimmerItem
 import org.eclipse.smarthome.core.library.items.SwitchItem
+import org.eclipse.smarthome.core.library.types.OnOffType
+import org.eclipse.smarthome.io.rest.core.item.EnrichedItemDTO
 import org.eclipse.smarthome.io.rest.core.item.ItemResource
 import org.eclipse.smarthome.test.OSGiTest
 import org.junit.After
 import org.junit.Before
 import org.junit.Test
 
+import com.google.gson.Gson
+
 
 /**
  * ItemResourceOSGiTest tests the ItemResource REST resource on the OSGi level.
@@ -76,9 +83,9 @@ class ItemResourceOSGiTest extends OSGiTest {
         ] as ItemProvider
         registerService itemProvider
 
-        assertThat containsItems(itemResource.getItems(null, null, "Tag1", false).getEntity(), ["Item1", "Item2"]), is(true)
-        assertThat containsItems(itemResource.getItems(null, null, "Tag2", false).getEntity(), ["Item2", "Item3"]), is(true)
-        assertThat itemResource.getItems(null, null, "NotExistingTag", false).getEntity().size(), is(0)
+        assertThat containsItems(readItems(itemResource.getItems(null, null, null, "Tag1", false, null)), ["Item1", "Item2"]), is(true)
+        assertThat containsItems(readItems(itemResource.getItems(null, null, null, "Tag2", false, null)), ["Item2", "Item3"]), is(true)
+        assertThat readItems(itemResource.getItems(null, null, null, "NotExistingTag", false, null)).size(), is(0)
     }
 
     @Test
@@ -97,19 +104,19 @@ class ItemResourceOSGiTest extends OSGiTest {
         ] as ItemProvider
         registerService itemProvider
 
-        assertThat containsItems(itemResource.getItems(null, "Switch", null, false).getEntity(), ["Item1", "Item2"]), is(true)
-        assertThat containsItems(itemResource.getItems(null, "Dimmer", null, false).getEntity(), ["Item3"]), is(true)
-        assertThat itemResource.getItems(null, null, "Color", false).getEntity().size(), is(0)
+        assertThat containsItems(readItems(itemResource.getItems(null, null, "Switch", null, false, null)), ["Item1", "Item2"]), is(true)
+        assertThat containsItems(readItems(itemResource.getItems(null, null, "Dimmer", null, false, null)), ["Item3"]), is(true)
+        assertThat readItems(itemResource.getItems(null, null, null, "Color", false, null)).size(), is(0)
     }
 
     @Test
     void 'assert addTag and removeTag works'() {
         managedItemProvider.add(new SwitchItem("Switch"))
-        assertThat itemResource.getItems(null, null, "MyTag", false).getEntity().size(), is(0)
+        assertThat readItems(itemResource.getItems(null, null, null, "MyTag", false, null)).size(), is(0)
         itemResource.addTag("Switch", "MyTag")
-        assertThat itemResource.getItems(null, null, "MyTag", false).getEntity().size(), is(1)
+        assertThat readItems(itemResource.getItems(null, null, null, "MyTag", false, null)).size(), is(1)
         itemResource.removeTag("Switch", "MyTag")
-        assertThat itemResource.getItems(null, null, "MyTag", false).getEntity().size(), is(0)
+        assertThat readItems(itemResource.getItems(null, null, null, "MyTag", false, null)).size(), is(0)
     }
 
     @Test
@@ -135,6 +142,44 @@ class ItemResourceOSGiTest extends OSGiTest {
         assertThat response.status, is(Status.METHOD_NOT_ALLOWED.code)
     }
 
+    @Test
+    void 'assert getItems answers with not modified until the items change'() {
+        EntityTag ifNoneMatch
+        itemResource.request = [
+            evaluatePreconditions: { EntityTag eTag ->
+                ifNoneMatch == eTag ? Response.notModified(eTag) : null
+            }
+        ] as Request
+        def item = new SwitchItem("Switch")
+        managedItemProvider.add(item)
+
+        Response response = itemResource.getItems(null, null, null, null, false, null)
+        assertThat response.status, is(Status.OK.code)
+        assertThat response.entityTag, is(notNullValue())
+
+        ifNoneMatch = response.entityTag
+        assertThat itemResource.getItems(null, null, null, null, false, null).status, is(Status.NOT_MODIFIED.code)
+        assertThat itemResource.getItems(null, null, "Switch", null, false, null).status, is(Status.OK.code)
+
+        // the state of an item changes without a change of the registry
+        item.setState(OnOffType.ON)
+        response = itemResource.getItems(null, null, null, null, false, null)
+        assertThat response.status, is(Status.OK.code)
+
+        ifNoneMatch = response.entityTag
+        managedItemProvider.add(new SwitchItem("OtherSwitch"))
+        response = itemResource.getItems(null, null, null, null, false, null)
+        assertThat response.status, is(Status.OK.code)
+
+        // the links of the items contain the base URI
+        ifNoneMatch = response.entityTag
+        itemResource.uriInfo = [
+            getPath: { return "path" },
+            getBaseUri: { return new URI("otheruri")}
+        ] as UriInfo
+        assertThat itemResource.getItems(null, null, null, null, false, null).status, is(Status.OK.code)
+    }
+
     private containsItems(Object entity, List<String> itemNames) {
         def allFound = true
         itemNames.each { itemName ->
@@ -144,4 +189,10 @@ class ItemResourceOSGiTest extends OSGiTest {
         }
         return allFound
     }
+
+    private List<EnrichedItemDTO> readItems(Response response) {
+        def output = new ByteArrayOutputStream()
+        ((StreamingOutput) response.entity).write(output)
+        return new Gson().fromJson(output.toString("UTF-8"), EnrichedItemDTO[]) as List
+    }
 }
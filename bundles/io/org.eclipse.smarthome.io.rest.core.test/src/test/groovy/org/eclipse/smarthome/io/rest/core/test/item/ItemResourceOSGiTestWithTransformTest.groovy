@@ -11,6 +11,8 @@ import static org.hamcrest.CoreMatchers.*
 import static org.junit.Assert.*
 import static org.junit.matchers.JUnitMatchers.*
 
+import javax.ws.rs.core.Response
+import javax.ws.rs.core.StreamingOutput
 import javax.ws.rs.core.UriInfo
 
 import org.eclipse.smarthome.core.items.ItemProvider
@@ -28,6 +30,8 @@ import org.junit.Before
 import org.junit.Test
 import org.osgi.framework.BundleContext
 
+import com.google.gson.Gson
+
 
 /**
  * This test checks whether REST resource supports items where transformation will be applied.
@@ -96,7 +100,7 @@ class ItemResourceOSGiTestWithTransformTest extends OSGiTest {
         // set after adding to ItemProvider. Why?
         item1.setStateDescriptionProviders(stateDescriptionProviders)
 
-        def enrichedDTOResult = itemResource.getItems(null, null, null, false).getEntity()
+        def enrichedDTOResult = readItems(itemResource.getItems(null, null, null, null, false, null))
         def EnrichedItemDTO enrichedDTO = enrichedDTOResult.find() { itemBean ->
             itemBean.name == "Item1"
         }
@@ -110,4 +114,10 @@ class ItemResourceOSGiTestWithTransformTest extends OSGiTest {
         assertThat enrichedDTO.stateDescription.options[0].value, is("SOUND")
         assertThat enrichedDTO.stateDescription.options[0].label, is("My great sound.")
     }
+
+    private List<EnrichedItemDTO> readItems(Response response) {
+        def output = new ByteArrayOutputStream()
+        ((StreamingOutput) response.entity).write(output)
+        return new Gson().fromJson(output.toString("UTF-8"), EnrichedItemDTO[]) as List
+    }
 }
@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2014-2016 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.io.rest.core.thing
+
+import static org.hamcrest.CoreMatchers.*
+import static org.junit.Assert.*
+
+import javax.ws.rs.core.EntityTag
+import javax.ws.rs.core.Request
+import javax.ws.rs.core.Response
+import javax.ws.rs.core.UriInfo
+
+import org.eclipse.smarthome.core.thing.Thing
+import org.eclipse.smarthome.core.thing.ThingRegistry
+import org.eclipse.smarthome.core.thing.ThingStatus
+import org.eclipse.smarthome.core.thing.ThingTypeUID
+import org.eclipse.smarthome.core.thing.binding.builder.ThingBuilder
+import org.eclipse.smarthome.core.thing.binding.builder.ThingStatusInfoBuilder
+import org.eclipse.smarthome.core.thing.link.ItemChannelLinkRegistry
+import org.junit.Before
+import org.junit.Test
+
+/**
+ * Tests that the {@link ThingResource} answers requests for all things with "304 Not Modified" as long as the things
+ * did not change.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+class ThingResourceTest {
+
+    ThingResource resource
+    List<Thing> things
+    URI baseUri = new URI("http://localhost:8080/rest")
+    EntityTag ifNoneMatch
+
+    @Before
+    void setUp() {
+        things = [
+            ThingBuilder.create(new ThingTypeUID("binding", "type"), "thing").build()
+        ]
+
+        resource = new ThingResource()
+        resource.setThingRegistry([getAll: { new ArrayList(things) }] as ThingRegistry)
+        resource.setItemChannelLinkRegistry(new ItemChannelLinkRegistry())
+        resource.uriInfo = [
+            getPath: { "things" },
+            getBaseUri: { baseUri }
+        ] as UriInfo
+        resource.request = [
+            evaluatePreconditions: { EntityTag eTag ->
+                ifNoneMatch == eTag ? Response.notModified(eTag) : null
+            }
+        ] as Request
+    }
+
+    @Test
+    void 'assert that unchanged things are not modified'() {
+        Response response = resource.getAll(null, null, null)
+        assertThat response.getStatus(), is(200)
+        assertThat response.getEntityTag(), is(notNullValue())
+
+        ifNoneMatch = response.getEntityTag()
+        assertThat resource.getAll(null, null, null).getStatus(), is(304)
+        assertThat resource.getAll("de", null, null).getStatus(), is(200)
+        assertThat resource.getAll(null, null, "UID").getStatus(), is(200)
+    }
+
+    @Test
+    void 'assert that a changed status or list of things is modified'() {
+        ifNoneMatch = resource.getAll(null, null, null).getEntityTag()
+
+        things[0].setStatusInfo(ThingStatusInfoBuilder.create(ThingStatus.ONLINE).build())
+        Response response = resource.getAll(null, null, null)
+        assertThat response.getStatus(), is(200)
+
+        ifNoneMatch = response.getEntityTag()
+        things.add(ThingBuilder.create(new ThingTypeUID("binding", "type"), "other").build())
+        assertThat resource.getAll(null, null, null).getStatus(), is(200)
+    }
+
+    @Test
+    void 'assert that the base URI is part of the entity tag'() {
+        ifNoneMatch = resource.getAll(null, null, null).getEntityTag()
+
+        baseUri = new URI("https://example.org/rest")
+        assertThat resource.getAll(null, null, null).getStatus(), is(200)
+    }
+}
@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2014-2016 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.io.rest.core.thing
+
+import static org.hamcrest.CoreMatchers.*
+import static org.junit.Assert.*
+
+import javax.ws.rs.core.EntityTag
+import javax.ws.rs.core.Request
+import javax.ws.rs.core.Response
+
+import org.eclipse.smarthome.config.core.ConfigDescription
+import org.eclipse.smarthome.config.core.ConfigDescriptionProvider
+import org.eclipse.smarthome.config.core.ConfigDescriptionRegistry
+import org.eclipse.smarthome.core.thing.binding.ThingTypeProvider
+import org.eclipse.smarthome.core.thing.type.ThingType
+import org.eclipse.smarthome.core.thing.type.ThingTypeRegistry
+import org.junit.Before
+import org.junit.Test
+
+/**
+ * Tests that the {@link ThingTypeResource} answers requests for all thing types with "304 Not Modified" as long as
+ * the thing types and their config descriptions did not change.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+class ThingTypeResourceTest {
+
+    ThingTypeResource resource
+    ThingType thingType = new ThingType("binding", "type", "Label")
+    ConfigDescription configDescription = new ConfigDescription(new URI("binding:type"))
+    EntityTag ifNoneMatch
+
+    @Before
+    void setUp() {
+        ThingTypeRegistry thingTypeRegistry = new ThingTypeRegistry()
+        thingTypeRegistry.addThingTypeProvider([
+            getThingTypes: { Locale locale -> [thingType] },
+            getThingType: { uid, Locale locale -> uid == thingType.getUID() ? thingType : null }
+        ] as ThingTypeProvider)
+        ConfigDescriptionRegistry configDescriptionRegistry = new ConfigDescriptionRegistry()
+        configDescriptionRegistry.addConfigDescriptionProvider([
+            getConfigDescriptions: { Locale locale -> [configDescription] },
+            getConfigDescription: { URI uri, Locale locale -> null }
+        ] as ConfigDescriptionProvider)
+
+        resource = new ThingTypeResource()
+        resource.setThingTypeRegistry(thingTypeRegistry)
+        resource.setConfigDescriptionRegistry(configDescriptionRegistry)
+        resource.request = [
+            evaluatePreconditions: { EntityTag eTag ->
+                ifNoneMatch == eTag ? Response.notModified(eTag) : null
+            }
+        ] as Request
+    }
+
+    @Test
+    void 'assert that unchanged thing types are not modified'() {
+        Response response = resource.getAll(null, null)
+        assertThat response.getStatus(), is(200)
+        assertThat response.getEntityTag(), is(notNullValue())
+
+        ifNoneMatch = response.getEntityTag()
+        assertThat resource.getAll(null, null).getStatus(), is(304)
+        assertThat resource.getAll(null, "gzip").getStatus(), is(200)
+    }
+
+    @Test
+    void 'assert that changed thing types are modified'() {
+        ifNoneMatch = resource.getAll(null, null).getEntityTag()
+
+        thingType = new ThingType("binding", "type", "Other label")
+        Response response = resource.getAll(null, null)
+        assertThat response.getStatus(), is(200)
+        assertThat response.getEntityTag(), is(not(ifNoneMatch))
+    }
+
+    @Test
+    void 'assert that a new instance of unchanged thing types is not modified'() {
+        ifNoneMatch = resource.getAll(null, null).getEntityTag()
+
+        // e.g. a provider which does not cache its localized thing types
+        thingType = new ThingType("binding", "type", "Label")
+        configDescription = new ConfigDescription(new URI("binding:type"))
+        assertThat resource.getAll(null, null).getStatus(), is(304)
+    }
+}
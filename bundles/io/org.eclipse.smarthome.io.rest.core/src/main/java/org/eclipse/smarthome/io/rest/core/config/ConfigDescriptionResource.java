@@ -9,6 +9,8 @@ package org.eclipse.smarthome.io.rest.core.config;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.Collection;
+import java.util.List;
 import java.util.Locale;
 
 import javax.ws.rs.GET;
@@ -16,7 +18,9 @@ import javax.ws.rs.HeaderParam;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
 
@@ -24,11 +28,13 @@ import org.eclipse.smarthome.config.core.ConfigDescription;
 import org.eclipse.smarthome.config.core.ConfigDescriptionRegistry;
 import org.eclipse.smarthome.config.core.dto.ConfigDescriptionDTO;
 import org.eclipse.smarthome.config.core.dto.ConfigDescriptionDTOMapper;
+import org.eclipse.smarthome.io.rest.JSONEntityCache;
 import org.eclipse.smarthome.io.rest.JSONResponse;
 import org.eclipse.smarthome.io.rest.LocaleUtil;
 import org.eclipse.smarthome.io.rest.RESTResource;
 
 import com.google.common.base.Function;
+import com.google.common.base.Supplier;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 
@@ -60,15 +66,31 @@ public class ConfigDescriptionResource implements RESTResource {
 
     private ConfigDescriptionRegistry configDescriptionRegistry;
 
+    /** the serialized config descriptions by locale */
+    private final JSONEntityCache<String> cache = new JSONEntityCache<>();
+
+    @Context
+    private Request request;
+
     @GET
     @Produces(MediaType.APPLICATION_JSON)
     @ApiOperation(value = "Gets all available config descriptions.", response = ConfigDescriptionDTO.class, responseContainer = "List")
     @ApiResponses(value = @ApiResponse(code = 200, message = "OK") )
-    public Response getAll(@HeaderParam("Accept-Language") @ApiParam(value = "Accept-Language") String language) {
+    public Response getAll(@HeaderParam("Accept-Language") @ApiParam(value = "Accept-Language") String language,
+            @HeaderParam("Accept-Encoding") @ApiParam(value = "Accept-Encoding") String encoding) {
         Locale locale = LocaleUtil.getLocale(language);
-        Iterable<ConfigDescriptionDTO> transform = Iterables
-                .transform(configDescriptionRegistry.getConfigDescriptions(locale), new ConfigDescriptionConverter());
-        return Response.ok(Lists.newArrayList(transform)).build();
+        final Collection<ConfigDescription> configDescriptions = configDescriptionRegistry
+                .getConfigDescriptions(locale);
+
+        // the localized config descriptions are cached by their providers, so new instances indicate a change
+        return cache.get(String.valueOf(locale), configDescriptions, new Supplier<List<ConfigDescriptionDTO>>() {
+            @Override
+            public List<ConfigDescriptionDTO> get() {
+                Iterable<ConfigDescriptionDTO> transform = Iterables.transform(configDescriptions,
+                        new ConfigDescriptionConverter());
+                return Lists.newArrayList(transform);
+            }
+        }, request, encoding);
     }
 
     @GET
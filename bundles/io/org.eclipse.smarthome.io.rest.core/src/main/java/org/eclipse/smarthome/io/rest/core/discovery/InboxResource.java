@@ -7,9 +7,7 @@
  */
 package org.eclipse.smarthome.io.rest.core.discovery;
 
-import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Set;
 
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
@@ -19,6 +17,7 @@ import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
@@ -36,6 +35,9 @@ import org.eclipse.smarthome.core.thing.ThingUID;
 import org.eclipse.smarthome.io.rest.JSONResponse;
 import org.eclipse.smarthome.io.rest.RESTResource;
 
+import com.google.common.base.Function;
+import com.google.common.collect.Iterables;
+
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
@@ -115,11 +117,12 @@ public class InboxResource implements RESTResource {
     @Produces({ MediaType.WILDCARD })
     @ApiOperation(value = "Get all discovered things.")
     @ApiResponses(value = { @ApiResponse(code = 200, message = "OK") })
-    public Response getAll() {
+    public Response getAll(@HeaderParam(HttpHeaders.ACCEPT_ENCODING) @ApiParam(value = "encoding") String encoding,
+            @QueryParam("fields") @ApiParam(value = "limit output to the given comma separated fields", required = false) String fields) {
         List<DiscoveryResult> discoveryResults = inbox.getAll();
-        Set<DiscoveryResultDTO> discoveryResultBeans = convertToListBean(discoveryResults);
+        Iterable<DiscoveryResultDTO> discoveryResultBeans = convertToListBean(discoveryResults);
 
-        return Response.ok(discoveryResultBeans).build();
+        return JSONResponse.createStreamingResponse(discoveryResultBeans, fields, encoding);
     }
 
     @POST
@@ -140,12 +143,13 @@ public class InboxResource implements RESTResource {
         return Response.ok().build();
     }
 
-    private Set<DiscoveryResultDTO> convertToListBean(List<DiscoveryResult> discoveryResults) {
-        Set<DiscoveryResultDTO> discoveryResultBeans = new LinkedHashSet<>();
-        for (DiscoveryResult discoveryResult : discoveryResults) {
-            discoveryResultBeans.add(DiscoveryResultDTOMapper.map(discoveryResult));
-        }
-        return discoveryResultBeans;
+    private Iterable<DiscoveryResultDTO> convertToListBean(List<DiscoveryResult> discoveryResults) {
+        return Iterables.transform(discoveryResults, new Function<DiscoveryResult, DiscoveryResultDTO>() {
+            @Override
+            public DiscoveryResultDTO apply(DiscoveryResult discoveryResult) {
+                return DiscoveryResultDTOMapper.map(discoveryResult);
+            }
+        });
     }
 
 }
@@ -7,10 +7,10 @@
  */
 package org.eclipse.smarthome.io.rest.core.item;
 
+import java.net.URI;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
-import java.util.LinkedList;
-import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 
@@ -27,13 +27,16 @@ import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.ResponseBuilder;
 import javax.ws.rs.core.Response.Status;
 import javax.ws.rs.core.UriInfo;
 
+import org.eclipse.smarthome.core.common.registry.AbstractRegistry;
 import org.eclipse.smarthome.core.events.EventPublisher;
 import org.eclipse.smarthome.core.items.ActiveItem;
 import org.eclipse.smarthome.core.items.GenericItem;
@@ -53,12 +56,16 @@ import org.eclipse.smarthome.core.library.types.UpDownType;
 import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.State;
 import org.eclipse.smarthome.core.types.TypeParser;
+import org.eclipse.smarthome.io.rest.ETagUtil;
 import org.eclipse.smarthome.io.rest.JSONResponse;
 import org.eclipse.smarthome.io.rest.LocaleUtil;
 import org.eclipse.smarthome.io.rest.RESTResource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.base.Function;
+import com.google.common.collect.Iterables;
+
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
@@ -102,6 +109,9 @@ public class ItemResource implements RESTResource {
     @Context
     UriInfo localUriInfo;
 
+    @Context
+    Request request;
+
     private ItemRegistry itemRegistry;
     private EventPublisher eventPublisher;
     private ManagedItemProvider managedItemProvider;
@@ -144,14 +154,23 @@ public class ItemResource implements RESTResource {
     @ApiOperation(value = "Get all available items.", response = EnrichedItemDTO.class, responseContainer = "List")
     @ApiResponses(value = { @ApiResponse(code = 200, message = "OK") })
     public Response getItems(@HeaderParam(HttpHeaders.ACCEPT_LANGUAGE) @ApiParam(value = "language") String language,
+            @HeaderParam(HttpHeaders.ACCEPT_ENCODING) @ApiParam(value = "encoding") String encoding,
             @QueryParam("type") @ApiParam(value = "item type filter", required = false) String type,
             @QueryParam("tags") @ApiParam(value = "item tag filter", required = false) String tags,
-            @DefaultValue("false") @QueryParam("recursive") @ApiParam(value = "get member items recursivly", required = false) boolean recursive) {
+            @DefaultValue("false") @QueryParam("recursive") @ApiParam(value = "get member items recursivly", required = false) boolean recursive,
+            @QueryParam("fields") @ApiParam(value = "limit output to the given comma separated fields", required = false) String fields) {
         final Locale locale = LocaleUtil.getLocale(language);
         logger.debug("Received HTTP GET request at '{}'", uriInfo.getPath());
 
-        Object responseObject = getItemBeans(type, tags, recursive, locale);
-        return Response.ok(responseObject).build();
+        Collection<Item> items = getItems(type, tags);
+        EntityTag eTag = getETag(items, locale, type, tags, recursive, fields);
+        Response notModified = ETagUtil.evaluatePreconditions(request, eTag, encoding);
+        if (notModified != null) {
+            return notModified;
+        }
+
+        Iterable<EnrichedItemDTO> itemBeans = getItemBeans(items, recursive, locale);
+        return JSONResponse.createStreamingResponse(itemBeans, fields, encoding, eTag);
     }
 
     @GET
@@ -538,8 +557,7 @@ public class ItemResource implements RESTResource {
         return item;
     }
 
-    private List<EnrichedItemDTO> getItemBeans(String type, String tags, boolean recursive, Locale locale) {
-        List<EnrichedItemDTO> beans = new LinkedList<>();
+    private Collection<Item> getItems(String type, String tags) {
         Collection<Item> items;
         if (tags == null) {
             if (type == null) {
@@ -555,11 +573,38 @@ public class ItemResource implements RESTResource {
                 items = itemRegistry.getItemsByTagAndType(type, tagList);
             }
         }
-        if (items != null) {
-            for (Item item : items) {
-                beans.add(EnrichedItemDTOMapper.map(item, recursive, uriInfo.getBaseUri(), locale));
+        return items != null ? items : Collections.<Item> emptyList();
+    }
+
+    /**
+     * Creates the entity tag of a list of items. Besides the registry version, which covers added, removed and
+     * updated items, it contains the states of the items, as these change without a change of the registry. If the
+     * members of groups are included, the states of all items are used. The base URI is part of the tag, as the links
+     * of the items are absolute.
+     */
+    private EntityTag getETag(Collection<Item> items, Locale locale, String type, String tags, boolean recursive,
+            String fields) {
+        long version = itemRegistry instanceof AbstractRegistry ? ((AbstractRegistry<?, ?>) itemRegistry).getVersion()
+                : -1;
+        Collection<Item> stateItems = recursive ? itemRegistry.getItems() : items;
+        return ETagUtil.createETag(version, uriInfo.getBaseUri(), locale, type, tags, recursive, fields,
+                Iterables.transform(stateItems, new Function<Item, String>() {
+                    @Override
+                    public String apply(Item item) {
+                        return item.getName() + '=' + item.getState();
+                    }
+                }));
+    }
+
+    private Iterable<EnrichedItemDTO> getItemBeans(Collection<Item> items, final boolean recursive,
+            final Locale locale) {
+        // the beans are mapped one by one while they are written to the response
+        final URI baseUri = uriInfo.getBaseUri();
+        return Iterables.transform(items, new Function<Item, EnrichedItemDTO>() {
+            @Override
+            public EnrichedItemDTO apply(Item item) {
+                return EnrichedItemDTOMapper.map(item, recursive, baseUri, locale);
             }
-        }
-        return beans;
+        });
     }
 }
@@ -7,16 +7,18 @@
  */
 package org.eclipse.smarthome.io.rest.core.link;
 
-import java.util.ArrayList;
 import java.util.Collection;
 
 import javax.ws.rs.DELETE;
 import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
 import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
@@ -32,6 +34,9 @@ import org.eclipse.smarthome.core.thing.link.dto.ItemChannelLinkDTO;
 import org.eclipse.smarthome.io.rest.JSONResponse;
 import org.eclipse.smarthome.io.rest.RESTResource;
 
+import com.google.common.base.Function;
+import com.google.common.collect.Iterables;
+
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
@@ -62,9 +67,10 @@ public class ItemChannelLinkResource implements RESTResource {
     @Produces(MediaType.APPLICATION_JSON)
     @ApiOperation(value = "Gets all available links.", response = ItemChannelLinkDTO.class, responseContainer = "Collection")
     @ApiResponses(value = { @ApiResponse(code = 200, message = "OK") })
-    public Response getAll() {
+    public Response getAll(@HeaderParam(HttpHeaders.ACCEPT_ENCODING) @ApiParam(value = "encoding") String encoding,
+            @QueryParam("fields") @ApiParam(value = "limit output to the given comma separated fields", required = false) String fields) {
         Collection<ItemChannelLink> channelLinks = itemChannelLinkRegistry.getAll();
-        return Response.ok(toBeans(channelLinks)).build();
+        return JSONResponse.createStreamingResponse(toBeans(channelLinks), fields, encoding);
     }
 
     @GET
@@ -127,13 +133,13 @@ public class ItemChannelLinkResource implements RESTResource {
         this.itemChannelLinkRegistry = null;
     }
 
-    private Collection<AbstractLinkDTO> toBeans(Iterable<ItemChannelLink> links) {
-        Collection<AbstractLinkDTO> beans = new ArrayList<>();
-        for (AbstractLink link : links) {
-            ItemChannelLinkDTO bean = new ItemChannelLinkDTO(link.getItemName(), link.getUID().toString());
-            beans.add(bean);
-        }
-        return beans;
+    private Iterable<AbstractLinkDTO> toBeans(Iterable<ItemChannelLink> links) {
+        return Iterables.transform(links, new Function<AbstractLink, AbstractLinkDTO>() {
+            @Override
+            public AbstractLinkDTO apply(AbstractLink link) {
+                return new ItemChannelLinkDTO(link.getItemName(), link.getUID().toString());
+            }
+        });
     }
 
 }
@@ -8,11 +8,11 @@
 package org.eclipse.smarthome.io.rest.core.thing;
 
 import java.io.IOException;
+import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map.Entry;
@@ -31,8 +31,10 @@ import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
 import javax.ws.rs.core.UriInfo;
@@ -44,6 +46,7 @@ import org.eclipse.smarthome.config.core.Configuration;
 import org.eclipse.smarthome.config.core.status.ConfigStatusInfo;
 import org.eclipse.smarthome.config.core.status.ConfigStatusService;
 import org.eclipse.smarthome.config.core.validation.ConfigValidationException;
+import org.eclipse.smarthome.core.common.registry.AbstractRegistry;
 import org.eclipse.smarthome.core.items.GenericItem;
 import org.eclipse.smarthome.core.items.ItemFactory;
 import org.eclipse.smarthome.core.items.ItemNotFoundException;
@@ -66,12 +69,16 @@ import org.eclipse.smarthome.core.thing.link.ManagedItemChannelLinkProvider;
 import org.eclipse.smarthome.core.thing.type.ThingType;
 import org.eclipse.smarthome.core.thing.type.ThingTypeRegistry;
 import org.eclipse.smarthome.core.thing.util.ThingHelper;
+import org.eclipse.smarthome.io.rest.ETagUtil;
 import org.eclipse.smarthome.io.rest.JSONResponse;
 import org.eclipse.smarthome.io.rest.LocaleUtil;
 import org.eclipse.smarthome.io.rest.RESTResource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.base.Function;
+import com.google.common.collect.Iterables;
+
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
@@ -114,6 +121,9 @@ public class ThingResource implements RESTResource {
     @Context
     private UriInfo uriInfo;
 
+    @Context
+    private Request request;
+
     /**
      * create a new Thing
      *
@@ -191,12 +201,20 @@ public class ThingResource implements RESTResource {
     @Produces(MediaType.APPLICATION_JSON)
     @ApiOperation(value = "Get all available things.", response = EnrichedThingDTO.class, responseContainer = "Set")
     @ApiResponses(value = { @ApiResponse(code = 200, message = "OK") })
-    public Response getAll(@HeaderParam(HttpHeaders.ACCEPT_LANGUAGE) @ApiParam(value = "language") String language) {
+    public Response getAll(@HeaderParam(HttpHeaders.ACCEPT_LANGUAGE) @ApiParam(value = "language") String language,
+            @HeaderParam(HttpHeaders.ACCEPT_ENCODING) @ApiParam(value = "encoding") String encoding,
+            @QueryParam("fields") @ApiParam(value = "limit output to the given comma separated fields", required = false) String fields) {
         final Locale locale = LocaleUtil.getLocale(language);
 
         Collection<Thing> things = thingRegistry.getAll();
-        Set<EnrichedThingDTO> thingBeans = convertToListBean(things, locale);
-        return Response.ok(thingBeans).build();
+        EntityTag eTag = getETag(things, locale, fields);
+        Response notModified = ETagUtil.evaluatePreconditions(request, eTag, encoding);
+        if (notModified != null) {
+            return notModified;
+        }
+
+        Iterable<EnrichedThingDTO> thingBeans = convertToListBean(things, locale);
+        return JSONResponse.createStreamingResponse(thingBeans, fields, encoding, eTag);
     }
 
     @GET
@@ -579,14 +597,34 @@ public class ThingResource implements RESTResource {
         this.configStatusService = null;
     }
 
-    private Set<EnrichedThingDTO> convertToListBean(Collection<Thing> things, Locale locale) {
-        Set<EnrichedThingDTO> thingBeans = new LinkedHashSet<>();
-        for (Thing thing : things) {
-            EnrichedThingDTO thingBean = EnrichedThingDTOMapper.map(thing, uriInfo.getBaseUri(), locale,
-                    getLinkedItemsMap(thing));
-            thingBeans.add(thingBean);
-        }
-        return thingBeans;
+    private Iterable<EnrichedThingDTO> convertToListBean(Collection<Thing> things, final Locale locale) {
+        // the beans are mapped one by one while they are written to the response
+        final URI baseUri = uriInfo.getBaseUri();
+        return Iterables.transform(things, new Function<Thing, EnrichedThingDTO>() {
+            @Override
+            public EnrichedThingDTO apply(Thing thing) {
+                return EnrichedThingDTOMapper.map(thing, baseUri, locale, getLinkedItemsMap(thing));
+            }
+        });
+    }
+
+    /**
+     * Creates the entity tag of a list of things. Besides the versions of the thing and link registries, it contains
+     * the status and the properties of the things, as handlers change these without a change of the registry. The base
+     * URI is part of the tag, as the things are mapped with it to build absolute links.
+     */
+    private EntityTag getETag(Collection<Thing> things, Locale locale, String fields) {
+        return ETagUtil.createETag(getVersion(thingRegistry), getVersion(itemChannelLinkRegistry),
+                uriInfo.getBaseUri(), locale, fields, Iterables.transform(things, new Function<Thing, String>() {
+                    @Override
+                    public String apply(Thing thing) {
+                        return thing.getUID() + "=" + thing.getStatusInfo() + thing.getProperties();
+                    }
+                }));
+    }
+
+    private long getVersion(Object registry) {
+        return registry instanceof AbstractRegistry ? ((AbstractRegistry<?, ?>) registry).getVersion() : -1;
     }
 
     private Map<String, Set<String>> getLinkedItemsMap(Thing thing) {
@@ -18,8 +18,10 @@ import javax.ws.rs.HeaderParam;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.core.Context;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 
 import org.eclipse.smarthome.config.core.ConfigDescription;
@@ -40,11 +42,14 @@ import org.eclipse.smarthome.core.thing.type.ChannelType;
 import org.eclipse.smarthome.core.thing.type.ThingType;
 import org.eclipse.smarthome.core.thing.type.ThingTypeRegistry;
 import org.eclipse.smarthome.core.thing.type.TypeResolver;
+import org.eclipse.smarthome.io.rest.JSONEntityCache;
 import org.eclipse.smarthome.io.rest.LocaleUtil;
 import org.eclipse.smarthome.io.rest.RESTResource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.base.Supplier;
+
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
@@ -73,6 +78,12 @@ public class ThingTypeResource implements RESTResource {
     private ThingTypeRegistry thingTypeRegistry;
     private ConfigDescriptionRegistry configDescriptionRegistry;
 
+    /** the serialized thing types by locale */
+    private final JSONEntityCache<String> cache = new JSONEntityCache<>();
+
+    @Context
+    private Request request;
+
     protected void setThingTypeRegistry(ThingTypeRegistry thingTypeRegistry) {
         this.thingTypeRegistry = thingTypeRegistry;
     }
@@ -94,10 +105,21 @@ public class ThingTypeResource implements RESTResource {
     @ApiOperation(value = "Gets all available things types.", response = ThingTypeDTO.class, responseContainer = "Set")
     @ApiResponses(value = @ApiResponse(code = 200, message = "OK") )
     public Response getAll(
-            @HeaderParam(HttpHeaders.ACCEPT_LANGUAGE) @ApiParam(value = HttpHeaders.ACCEPT_LANGUAGE) String language) {
-        Locale locale = LocaleUtil.getLocale(language);
-        Set<ThingTypeDTO> thingTypeDTOs = convertToThingTypeDTOs(thingTypeRegistry.getThingTypes(locale), locale);
-        return Response.ok(thingTypeDTOs).build();
+            @HeaderParam(HttpHeaders.ACCEPT_LANGUAGE) @ApiParam(value = HttpHeaders.ACCEPT_LANGUAGE) String language,
+            @HeaderParam(HttpHeaders.ACCEPT_ENCODING) @ApiParam(value = HttpHeaders.ACCEPT_ENCODING) String encoding) {
+        final Locale locale = LocaleUtil.getLocale(language);
+        final List<ThingType> thingTypes = thingTypeRegistry.getThingTypes(locale);
+
+        // the localized thing types and config descriptions are cached by their providers, so new instances
+        // indicate a change
+        List<Object> sources = new ArrayList<Object>(thingTypes);
+        sources.addAll(configDescriptionRegistry.getConfigDescriptions(locale));
+        return cache.get(String.valueOf(locale), sources, new Supplier<Set<ThingTypeDTO>>() {
+            @Override
+            public Set<ThingTypeDTO> get() {
+                return convertToThingTypeDTOs(thingTypes, locale);
+            }
+        }, request, encoding);
     }
 
     @GET
@@ -0,0 +1,156 @@
+/**
+ * Copyright (c) 2014-2016 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.io.rest.sitemap.internal
+
+import static org.hamcrest.CoreMatchers.*
+import static org.junit.Assert.*
+
+import javax.ws.rs.core.EntityTag
+import javax.ws.rs.core.HttpHeaders
+import javax.ws.rs.core.Request
+import javax.ws.rs.core.Response
+import javax.ws.rs.core.UriBuilder
+import javax.ws.rs.core.UriInfo
+
+import org.eclipse.emf.common.util.BasicEList
+import org.eclipse.smarthome.core.items.ItemNotFoundException
+import org.eclipse.smarthome.core.library.items.SwitchItem
+import org.eclipse.smarthome.core.library.types.OnOffType
+import org.eclipse.smarthome.model.sitemap.Sitemap
+import org.eclipse.smarthome.model.sitemap.SitemapFactory
+import org.eclipse.smarthome.model.sitemap.SitemapProvider
+import org.eclipse.smarthome.model.sitemap.Text
+import org.eclipse.smarthome.ui.items.ItemUIRegistry
+import org.junit.After
+import org.junit.Before
+import org.junit.Test
+
+/**
+ * Tests that the {@link SitemapResource} serves pages from its page cache with entity tags and returns the changed
+ * page after a long poll.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+class SitemapResourceTest {
+
+    SitemapResource resource
+    SwitchItem item
+    EntityTag ifNoneMatch
+
+    @Before
+    void setUp() {
+        item = new SwitchItem("Switch")
+
+        Sitemap sitemap = SitemapFactory.eINSTANCE.createSitemap()
+        sitemap.setName("demo")
+        Text text = SitemapFactory.eINSTANCE.createText()
+        text.setItem("Switch")
+        sitemap.getChildren().add(text)
+
+        resource = new SitemapResource()
+        resource.setItemUIRegistry([
+            getItem: { String name ->
+                if (name != item.getName()) {
+                    throw new ItemNotFoundException(name)
+                }
+                item
+            },
+            getVisiblity: { true },
+            getLabel: { "Switch [" + item.getState() + "]" },
+            getCategory: { null },
+            getLabelColor: { null },
+            getValueColor: { null },
+            getChildren: { new BasicEList() },
+            addRegistryChangeListener: {},
+            removeRegistryChangeListener: {}
+        ] as ItemUIRegistry)
+        resource.addSitemapProvider([
+            getSitemap: { String name -> name == "demo" ? sitemap : null },
+            getSitemapNames: { ["demo"] as Set }
+        ] as SitemapProvider)
+        resource.uriInfo = [
+            getPath: { "sitemaps/demo/demo" },
+            getBaseUriBuilder: { UriBuilder.fromUri("http://localhost:8080/rest") }
+        ] as UriInfo
+        resource.request = [
+            evaluatePreconditions: { EntityTag eTag ->
+                ifNoneMatch == eTag ? Response.notModified(eTag) : null
+            }
+        ] as Request
+    }
+
+    @After
+    void tearDown() {
+        resource.unsetItemUIRegistry(null)
+    }
+
+    @Test
+    void 'assert that an unchanged page is not modified'() {
+        Response response = getPage(false)
+        assertThat response.getStatus(), is(200)
+        assertThat response.getEntityTag(), is(notNullValue())
+        assertThat getLabel(response), is("Switch [NULL]")
+
+        ifNoneMatch = response.getEntityTag()
+        assertThat getPage(false).getStatus(), is(304)
+    }
+
+    @Test
+    void 'assert that a changed page gets a new entity tag'() {
+        Response response = getPage(false)
+        ifNoneMatch = response.getEntityTag()
+
+        item.setState(OnOffType.ON)
+
+        long timeout = System.currentTimeMillis() + 5000
+        while (getPage(false).getStatus() == 304 && System.currentTimeMillis() < timeout) {
+            Thread.sleep(50)
+        }
+        Response changedResponse = getPage(false)
+        assertThat changedResponse.getStatus(), is(200)
+        assertThat changedResponse.getEntityTag(), is(not(response.getEntityTag()))
+        assertThat getLabel(changedResponse), is("Switch [ON]")
+    }
+
+    @Test
+    void 'assert that a long poll returns the changed page'() {
+        Response response = getPage(false)
+        assertThat getLabel(response), is("Switch [NULL]")
+        ifNoneMatch = response.getEntityTag()
+
+        Response longPollResponse
+        Thread longPoll = Thread.start { longPollResponse = getPage(true) }
+
+        // the page cache and the long poll observe the item
+        long timeout = System.currentTimeMillis() + 5000
+        while (item.listeners.size() < 2 && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10)
+        }
+        assertThat item.listeners.size(), is(2)
+        item.setState(OnOffType.ON)
+
+        longPoll.join(10000)
+        assertThat longPollResponse.getStatus(), is(200)
+        assertThat longPollResponse.getEntityTag(), is(not(response.getEntityTag()))
+        assertThat getLabel(longPollResponse), is("Switch [ON]")
+    }
+
+    Response getPage(boolean longPolling) {
+        def headers = [
+            getRequestHeader: { String name ->
+                longPolling && name == "X-Atmosphere-Transport" ? ["long-polling"]: null
+            }
+        ] as HttpHeaders
+        resource.getPageData(headers, null, "demo", "demo")
+    }
+
+    String getLabel(Response response) {
+        ((PageDTO) response.getEntity()).widgets.get(0).label
+    }
+}
@@ -15,6 +15,7 @@ import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
@@ -25,8 +26,10 @@ import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriBuilder;
 import javax.ws.rs.core.UriInfo;
@@ -38,6 +41,7 @@ import org.eclipse.smarthome.core.items.Item;
 import org.eclipse.smarthome.core.items.ItemNotFoundException;
 import org.eclipse.smarthome.core.items.StateChangeListener;
 import org.eclipse.smarthome.core.types.State;
+import org.eclipse.smarthome.io.rest.ETagUtil;
 import org.eclipse.smarthome.io.rest.LocaleUtil;
 import org.eclipse.smarthome.io.rest.RESTResource;
 import org.eclipse.smarthome.io.rest.core.item.EnrichedItemDTOMapper;
@@ -58,6 +62,7 @@ import org.eclipse.smarthome.model.sitemap.Video;
 import org.eclipse.smarthome.model.sitemap.Webview;
 import org.eclipse.smarthome.model.sitemap.Widget;
 import org.eclipse.smarthome.ui.items.ItemUIRegistry;
+import org.eclipse.smarthome.ui.items.PageCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -90,15 +95,27 @@ public class SitemapResource implements RESTResource {
     @Context
     UriInfo uriInfo;
 
+    @Context
+    Request request;
+
     private ItemUIRegistry itemUIRegistry;
 
+    private PageCache<CachedPage> pageCache;
+
+    /** the start time and the number of rendered pages make the entity tags of the pages unique */
+    private final long startTime = System.currentTimeMillis();
+    private final AtomicLong renderCount = new AtomicLong();
+
     private java.util.List<SitemapProvider> sitemapProviders = new ArrayList<>();
 
     public void setItemUIRegistry(ItemUIRegistry itemUIRegistry) {
         this.itemUIRegistry = itemUIRegistry;
+        this.pageCache = new PageCache<>(itemUIRegistry);
     }
 
     public void unsetItemUIRegistry(ItemUIRegistry itemUIRegistry) {
+        this.pageCache.dispose();
+        this.pageCache = null;
         this.itemUIRegistry = null;
     }
 
@@ -153,10 +170,69 @@ public class SitemapResource implements RESTResource {
             // Make the REST-API pseudo-compatible with openHAB 1.x
             // The client asks Atmosphere for server push functionality,
             // so we do a simply listening for changes on the appropriate items
-            blockUnlessChangeOccurs(sitemapname, pageId);
+            if (blockUnlessChangeOccurs(sitemapname, pageId)) {
+                // the page cache is notified about the change concurrently and may not have removed the page yet
+                pageCache.invalidate(getPageKey(sitemapname, pageId, uriInfo.getBaseUriBuilder().build(), locale),
+                        System.nanoTime());
+            }
         }
-        Object responseObject = getPageBean(sitemapname, pageId, uriInfo.getBaseUriBuilder().build(), locale);
-        return Response.ok(responseObject).build();
+        CachedPage page = getCachedPage(sitemapname, pageId, uriInfo.getBaseUriBuilder().build(), locale);
+        Response notModified = ETagUtil.evaluatePreconditions(request, page.eTag, null);
+        if (notModified != null) {
+            return notModified;
+        }
+        return Response.ok(page.bean).tag(page.eTag).build();
+    }
+
+    /**
+     * Returns the page from the page cache, so that concurrent requests of a page share one page bean, which is only
+     * created again once an item of the page has changed.
+     */
+    private CachedPage getCachedPage(final String sitemapName, final String pageId, final URI uri,
+            final Locale locale) {
+        Sitemap sitemap = getSitemap(sitemapName);
+        Collection<Widget> widgets = sitemap != null ? getPageWidgets(sitemap, pageId) : null;
+        if (widgets == null) {
+            // the page does not exist, which is reported by getPageBean
+            return new CachedPage(getPageBean(sitemapName, pageId, uri, locale), null);
+        }
+        return pageCache.get(sitemap, getPageKey(sitemapName, pageId, uri, locale), widgets, new PageCache.Renderer<CachedPage, RuntimeException>() {
+            @Override
+            public CachedPage render() {
+                return new CachedPage(getPageBean(sitemapName, pageId, uri, locale),
+                        ETagUtil.createETag(startTime, renderCount.incrementAndGet()));
+            }
+        });
+    }
+
+    private String getPageKey(String sitemapName, String pageId, URI uri, Locale locale) {
+        return sitemapName + "/" + pageId + "/" + locale + "/" + uri;
+    }
+
+    /**
+     * Collects the widgets a page bean depends on, i.e. the children of the page and the widgets that provide the
+     * titles of the page and its parent page.
+     *
+     * @return the widgets or null, if the page does not exist
+     */
+    private Collection<Widget> getPageWidgets(Sitemap sitemap, String pageId) {
+        if (pageId.equals(sitemap.getName())) {
+            return sitemap.getChildren();
+        }
+        Widget pageWidget = itemUIRegistry.getWidget(sitemap, pageId);
+        if (!(pageWidget instanceof LinkableWidget)) {
+            return null;
+        }
+        Collection<Widget> widgets = new ArrayList<Widget>(itemUIRegistry.getChildren((LinkableWidget) pageWidget));
+        widgets.add(pageWidget);
+        EObject parentPage = pageWidget.eContainer();
+        while (parentPage instanceof Frame) {
+            parentPage = parentPage.eContainer();
+        }
+        if (parentPage instanceof Widget) {
+            widgets.add((Widget) parentPage);
+        }
+        return widgets;
     }
 
     private PageDTO getPageBean(String sitemapName, String pageId, URI uri, Locale locale) {
@@ -428,19 +504,25 @@ public class SitemapResource implements RESTResource {
         return null;
     }
 
-    private void blockUnlessChangeOccurs(String sitemapname, String pageId) {
+    /**
+     * Blocks until an item of the page changes or the timeout is reached.
+     *
+     * @return true, if an item of the page has changed
+     */
+    private boolean blockUnlessChangeOccurs(String sitemapname, String pageId) {
         Sitemap sitemap = getSitemap(sitemapname);
         if (sitemap != null) {
             if (pageId.equals(sitemap.getName())) {
-                waitForChanges(sitemap.getChildren());
+                return waitForChanges(sitemap.getChildren());
             } else {
                 Widget pageWidget = itemUIRegistry.getWidget(sitemap, pageId);
                 if (pageWidget instanceof LinkableWidget) {
                     EList<Widget> children = itemUIRegistry.getChildren((LinkableWidget) pageWidget);
-                    waitForChanges(children);
+                    return waitForChanges(children);
                 }
             }
         }
+        return false;
     }
 
     /**
@@ -506,6 +588,20 @@ public class SitemapResource implements RESTResource {
         return items;
     }
 
+    /**
+     * A page bean together with its entity tag.
+     */
+    private static class CachedPage {
+
+        private final PageDTO bean;
+        private final EntityTag eTag;
+
+        CachedPage(PageDTO bean, EntityTag eTag) {
+            this.bean = bean;
+            this.eTag = eTag;
+        }
+    }
+
     /**
      * This is a state change listener, which is merely used to determine, if a
      * state change has occurred on one of a list of items.
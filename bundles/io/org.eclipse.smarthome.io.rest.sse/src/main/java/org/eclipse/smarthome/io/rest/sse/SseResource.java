@@ -8,8 +8,6 @@
 package org.eclipse.smarthome.io.rest.sse;
 
 import java.io.IOException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 import javax.inject.Singleton;
 import javax.servlet.http.HttpServletRequest;
@@ -24,6 +22,8 @@ import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
 import javax.ws.rs.core.UriInfo;
 
+import org.eclipse.smarthome.core.common.SerialExecutor;
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.eclipse.smarthome.core.events.Event;
 import org.eclipse.smarthome.io.rest.sse.internal.SseEventOutput;
 import org.eclipse.smarthome.io.rest.sse.internal.util.SseUtil;
@@ -51,9 +51,12 @@ public class SseResource {
 
     public final static String PATH_EVENTS = "events";
 
+    private static final String THREAD_POOL_NAME = "sse";
+
     private final SseBroadcaster broadcaster;
 
-    private final ExecutorService executorService;
+    /** broadcasts the events one after another, so that the clients receive them in order */
+    private final SerialExecutor executorService;
 
     @Context
     private UriInfo uriInfo;
@@ -65,7 +68,7 @@ public class SseResource {
     private HttpServletRequest request;
 
     public SseResource() {
-        this.executorService = Executors.newSingleThreadExecutor();
+        this.executorService = new SerialExecutor(ThreadPoolManager.getPool(THREAD_POOL_NAME));
         this.broadcaster = new SseBroadcaster();
     }
 
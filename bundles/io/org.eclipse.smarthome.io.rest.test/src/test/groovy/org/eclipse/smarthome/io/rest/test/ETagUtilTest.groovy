@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2014-2016 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.io.rest.test
+
+import static org.hamcrest.CoreMatchers.*
+import static org.junit.Assert.*
+
+import javax.ws.rs.core.EntityTag
+import javax.ws.rs.core.HttpHeaders
+import javax.ws.rs.core.Request
+import javax.ws.rs.core.Response
+
+import org.eclipse.smarthome.io.rest.ETagUtil
+import org.junit.Test
+
+/**
+ * Tests the creation and evaluation of entity tags by the {@link ETagUtil}.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+class ETagUtilTest {
+
+    @Test
+    void 'assert that equal parts create equal entity tags'() {
+        EntityTag eTag = ETagUtil.createETag(1L, Locale.GERMAN, "Switch", ["a=ON", "b=OFF"])
+        assertThat eTag.isWeak(), is(false)
+        assertThat ETagUtil.createETag(1L, Locale.GERMAN, "Switch", ["a=ON", "b=OFF"]), is(eTag)
+    }
+
+    @Test
+    void 'assert that different parts create different entity tags'() {
+        EntityTag eTag = ETagUtil.createETag(1L, Locale.GERMAN, "Switch", ["a=ON", "b=OFF"])
+        assertThat ETagUtil.createETag(2L, Locale.GERMAN, "Switch", ["a=ON", "b=OFF"]), is(not(eTag))
+        assertThat ETagUtil.createETag(1L, Locale.ENGLISH, "Switch", ["a=ON", "b=OFF"]), is(not(eTag))
+        assertThat ETagUtil.createETag(1L, Locale.GERMAN, null, ["a=ON", "b=OFF"]), is(not(eTag))
+        assertThat ETagUtil.createETag(1L, Locale.GERMAN, "Switch", ["a=ON", "b=ON"]), is(not(eTag))
+        // the boundaries of the parts are part of the tag
+        assertThat ETagUtil.createETag(1L, Locale.GERMAN, "Switch", ["a=ON"], "b=OFF"), is(not(eTag))
+        assertThat ETagUtil.createETag("ab", "c"), is(not(ETagUtil.createETag("a", "bc")))
+    }
+
+    @Test
+    void 'assert that the entity tag of a content only depends on its bytes'() {
+        EntityTag eTag = ETagUtil.createETag('[{"name":"a"}]'.getBytes("UTF-8"))
+        assertThat ETagUtil.createETag('[{"name":"a"}]'.getBytes("UTF-8")), is(eTag)
+        assertThat ETagUtil.createETag('[{"name":"b"}]'.getBytes("UTF-8")), is(not(eTag))
+    }
+
+    @Test
+    void 'assert that a matching entity tag is answered with not modified'() {
+        EntityTag eTag = ETagUtil.createETag("content")
+
+        Response response = ETagUtil.evaluatePreconditions(createRequest(eTag), eTag, null)
+        assertThat response.getStatus(), is(304)
+        assertThat response.getHeaderString(HttpHeaders.VARY), is(HttpHeaders.ACCEPT_ENCODING)
+
+        assertThat ETagUtil.evaluatePreconditions(createRequest(ETagUtil.createETag("other")), eTag, null),
+                is(nullValue())
+        assertThat ETagUtil.evaluatePreconditions(null, eTag, null), is(nullValue())
+    }
+
+    @Test
+    void 'assert that compressed and uncompressed representations have different entity tags'() {
+        EntityTag eTag = ETagUtil.createETag("content")
+        EntityTag gzipETag = new EntityTag(eTag.getValue() + "-gzip")
+
+        assertThat ETagUtil.evaluatePreconditions(createRequest(eTag), eTag, "gzip"), is(nullValue())
+        assertThat ETagUtil.evaluatePreconditions(createRequest(gzipETag), eTag, "gzip").getStatus(), is(304)
+        assertThat ETagUtil.evaluatePreconditions(createRequest(gzipETag), eTag, "deflate"), is(nullValue())
+    }
+
+    Request createRequest(EntityTag ifNoneMatch) {
+        [
+            evaluatePreconditions: { EntityTag eTag ->
+                ifNoneMatch == eTag ? Response.notModified(eTag) : null
+            }
+        ] as Request
+    }
+}
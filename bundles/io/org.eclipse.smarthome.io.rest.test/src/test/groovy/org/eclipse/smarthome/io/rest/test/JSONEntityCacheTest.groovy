@@ -0,0 +1,125 @@
+/**
+ * Copyright (c) 2014-2016 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.io.rest.test
+
+import static org.hamcrest.CoreMatchers.*
+import static org.junit.Assert.*
+
+import java.util.zip.GZIPInputStream
+
+import javax.ws.rs.core.EntityTag
+import javax.ws.rs.core.HttpHeaders
+import javax.ws.rs.core.Request
+import javax.ws.rs.core.Response
+import javax.ws.rs.core.StreamingOutput
+
+import org.eclipse.smarthome.io.rest.JSONEntityCache
+import org.junit.Before
+import org.junit.Test
+
+import com.google.common.base.Supplier
+
+/**
+ * Tests that the {@link JSONEntityCache} only builds its entities again if their sources change and answers
+ * conditional requests with "304 Not Modified".
+ *
+ * @author agent - Initial contribution
+ *
+ */
+class JSONEntityCacheTest {
+
+    JSONEntityCache<String> cache
+    int builds
+    Supplier<?> entity = { builds++; [[name: "a"]] } as Supplier
+
+    @Before
+    void setUp() {
+        cache = new JSONEntityCache<>()
+        builds = 0
+    }
+
+    @Test
+    void 'assert that the entity is only built again if the sources change'() {
+        def sources = [new Object(), new Object()]
+
+        Response response = cache.get("en", sources, entity, null, null)
+        assertThat response.getStatus(), is(200)
+        assertThat getBody(response), is('[{"name":"a"}]')
+        assertThat builds, is(1)
+
+        assertThat getBody(cache.get("en", new ArrayList(sources), entity, null, null)), is('[{"name":"a"}]')
+        assertThat builds, is(1)
+
+        // the sources are compared by identity
+        cache.get("en", [sources[0], new Object()], entity, null, null)
+        assertThat builds, is(2)
+        cache.get("en", [sources[0]], entity, null, null)
+        assertThat builds, is(3)
+
+        // every key has its own entity
+        cache.get("de", [sources[0]], entity, null, null)
+        assertThat builds, is(4)
+
+        cache.clear()
+        cache.get("en", [sources[0]], entity, null, null)
+        assertThat builds, is(5)
+    }
+
+    @Test
+    void 'assert that the entity tag only depends on the content'() {
+        EntityTag eTag = cache.get("en", [new Object()], entity, null, null).getEntityTag()
+        assertThat cache.get("en", [new Object()], entity, null, null).getEntityTag(), is(eTag)
+
+        EntityTag otherETag = cache.get("en", [new Object()], { [[name: "b"]] } as Supplier, null, null).getEntityTag()
+        assertThat otherETag, is(not(eTag))
+    }
+
+    @Test
+    void 'assert that a request with the current entity tag is not modified'() {
+        def sources = [new Object()]
+        EntityTag eTag = cache.get("en", sources, entity, null, null).getEntityTag()
+
+        Response response = cache.get("en", sources, entity, createRequest(eTag), null)
+        assertThat response.getStatus(), is(304)
+        assertThat response.getEntity(), is(nullValue())
+
+        response = cache.get("en", [new Object()], { [[name: "b"]] } as Supplier, createRequest(eTag), null)
+        assertThat response.getStatus(), is(200)
+    }
+
+    @Test
+    void 'assert that the entity is compressed if gzip is accepted'() {
+        def sources = [new Object()]
+        Response response = cache.get("en", sources, entity, null, "gzip")
+        assertThat response.getHeaderString(HttpHeaders.CONTENT_ENCODING), is("gzip")
+
+        def output = new ByteArrayOutputStream()
+        ((StreamingOutput) response.getEntity()).write(output)
+        def body = new GZIPInputStream(new ByteArrayInputStream(output.toByteArray())).getText("UTF-8")
+        assertThat body, is('[{"name":"a"}]')
+
+        Response plainResponse = cache.get("en", sources, entity, null, null)
+        assertThat plainResponse.getHeaderString(HttpHeaders.CONTENT_ENCODING), is(nullValue())
+        assertThat plainResponse.getEntityTag(), is(not(response.getEntityTag()))
+        assertThat builds, is(1)
+    }
+
+    String getBody(Response response) {
+        def output = new ByteArrayOutputStream()
+        ((StreamingOutput) response.getEntity()).write(output)
+        output.toString("UTF-8")
+    }
+
+    Request createRequest(EntityTag ifNoneMatch) {
+        [
+            evaluatePreconditions: { EntityTag eTag ->
+                ifNoneMatch == eTag ? Response.notModified(eTag) : null
+            }
+        ] as Request
+    }
+}
@@ -0,0 +1,81 @@
+/**
+ * Copyright (c) 2014-2016 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.io.rest.test
+
+import static org.hamcrest.CoreMatchers.*
+import static org.junit.Assert.*
+
+import javax.ws.rs.core.HttpHeaders
+import javax.ws.rs.core.Response
+import javax.ws.rs.core.StreamingOutput
+
+import org.eclipse.smarthome.io.rest.JSONResponse
+import org.junit.Test
+
+import com.google.common.base.Function
+import com.google.common.collect.Iterables
+
+/**
+ * Tests the content coding and the streaming of entities by the {@link JSONResponse}.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+class JSONResponseTest {
+
+    @Test
+    void 'assert that gzip is only used if it is acceptable'() {
+        assertThat JSONResponse.acceptsGzip("gzip, deflate"), is(true)
+        assertThat JSONResponse.acceptsGzip("deflate, GZIP;Q=0.5"), is(true)
+        assertThat JSONResponse.acceptsGzip("x-gzip"), is(true)
+        assertThat JSONResponse.acceptsGzip("*"), is(true)
+
+        assertThat JSONResponse.acceptsGzip(null), is(false)
+        assertThat JSONResponse.acceptsGzip("deflate"), is(false)
+        assertThat JSONResponse.acceptsGzip("gzip;q=0"), is(false)
+        assertThat JSONResponse.acceptsGzip("deflate, gzip; q=0.000"), is(false)
+        assertThat JSONResponse.acceptsGzip("*;q=0"), is(false)
+        assertThat JSONResponse.acceptsGzip("gzip;q=0, *"), is(false)
+    }
+
+    @Test
+    void 'assert that the entities are streamed as a JSON array'() {
+        Response response = JSONResponse.createStreamingResponse([[name: "a", label: "A"], [name: "b", label: "B"]],
+                "name", "gzip;q=0")
+        assertThat response.getHeaderString(HttpHeaders.CONTENT_ENCODING), is(nullValue())
+
+        def output = new ByteArrayOutputStream()
+        ((StreamingOutput) response.getEntity()).write(output)
+        assertThat output.toString("UTF-8").replaceAll("\\s", ""), is('[{"name":"a"},{"name":"b"}]')
+    }
+
+    @Test
+    void 'assert that the entities are mapped while they are written'() {
+        def mapped = []
+        def entities = Iterables.transform([1, 2, 3], { Integer value ->
+            mapped.add(value)
+            [value: value]
+        } as Function)
+
+        Response response = JSONResponse.createStreamingResponse(entities, null, null)
+        assertThat mapped, is([1])
+
+        def output = new ByteArrayOutputStream()
+        ((StreamingOutput) response.getEntity()).write(output)
+        assertThat mapped, is([1, 2, 3])
+        assertThat output.toString("UTF-8").replaceAll("\\s", ""), is('[{"value":1},{"value":2},{"value":3}]')
+    }
+
+    @Test(expected = IllegalStateException)
+    void 'assert that a failed mapping of the first entity fails before the response is sent'() {
+        def entities = Iterables.transform([1, 2, 3], { Integer value ->
+            throw new IllegalStateException("mapping failed")
+        } as Function)
+        JSONResponse.createStreamingResponse(entities, null, null)
+    }
+}
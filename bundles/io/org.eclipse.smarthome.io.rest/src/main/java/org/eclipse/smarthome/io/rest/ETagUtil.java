@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2014-2016 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.io.rest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.ResponseBuilder;
+
+/**
+ * Static helper methods for conditional GET requests. A resource creates an entity tag from everything its response
+ * depends on, e.g. the version of a registry and the query parameters, and answers with "304 Not Modified" if the
+ * client already has the current representation, before any DTO has been built.
+ *
+ * @author agent - Initial contribution
+ */
+public class ETagUtil {
+
+    private ETagUtil() {
+    }
+
+    /**
+     * Creates a strong entity tag from the given parts. Parts which are {@link Iterable}s contribute each of their
+     * elements, all other parts their string representation.
+     *
+     * @param parts the values the response depends on
+     * @return the entity tag
+     */
+    public static EntityTag createETag(Object... parts) {
+        MessageDigest digest = createDigest();
+        for (Object part : parts) {
+            if (part instanceof Iterable) {
+                for (Object element : (Iterable<?>) part) {
+                    update(digest, element);
+                }
+            } else {
+                update(digest, part);
+            }
+            digest.update((byte) '\n');
+        }
+        return createETag(digest);
+    }
+
+    /**
+     * Creates a strong entity tag from a serialized representation.
+     *
+     * @param content the bytes of the representation
+     * @return the entity tag
+     */
+    public static EntityTag createETag(byte[] content) {
+        MessageDigest digest = createDigest();
+        digest.update(content);
+        return createETag(digest);
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static EntityTag createETag(MessageDigest digest) {
+        byte[] hash = digest.digest();
+        StringBuilder value = new StringBuilder(hash.length * 2);
+        for (byte b : hash) {
+            value.append(String.format("%02x", b & 0xff));
+        }
+        return new EntityTag(value.toString());
+    }
+
+    private static void update(MessageDigest digest, Object value) {
+        digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    /**
+     * Checks if the client already has the current representation of a resource.
+     *
+     * @param request the request, may be null
+     * @param eTag the entity tag of the current content
+     * @param acceptEncoding the Accept-Encoding header of the request
+     * @return the "304 Not Modified" response, or null if the response has to be sent
+     */
+    public static Response evaluatePreconditions(Request request, EntityTag eTag, String acceptEncoding) {
+        if (request == null) {
+            return null;
+        }
+        ResponseBuilder builder = request.evaluatePreconditions(forEncoding(eTag, acceptEncoding));
+        return builder != null ? builder.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING).build() : null;
+    }
+
+    /**
+     * Returns the entity tag of the representation sent for the given Accept-Encoding header, as compressed and
+     * uncompressed responses must not share a strong entity tag.
+     */
+    static EntityTag forEncoding(EntityTag eTag, String acceptEncoding) {
+        return JSONResponse.acceptsGzip(acceptEncoding) ? new EntityTag(eTag.getValue() + "-gzip") : eTag;
+    }
+
+}
@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2014-2016 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.io.rest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+
+import com.google.common.base.Supplier;
+
+/**
+ * A cache of serialized JSON responses for resources which rarely change, like thing types or config descriptions.
+ * Every key, e.g. a locale, keeps the serialized form of its latest entity together with the source objects it has been
+ * built from. The entity only has to be built and serialized again once the registry returns other source objects.
+ * The source objects are compared by identity, so they have to be immutable and replaced on every change. The
+ * entity tag is computed from the serialized entity, so it only changes if the content does.
+ *
+ * @author agent - Initial contribution
+ *
+ * @param <K> the type of the keys
+ */
+public class JSONEntityCache<K> {
+
+    private final Map<K, CacheEntry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the response for a key, or "304 Not Modified" if the client already has the current representation.
+     *
+     * @param key the key, e.g. the locale of the request
+     * @param sources the objects the entity is built from
+     * @param entity the supplier of the entity, called if the cached entity has been built from other source objects
+     * @param request the request, may be null
+     * @param acceptEncoding the Accept-Encoding header of the request
+     * @return the response
+     */
+    public Response get(K key, Collection<?> sources, Supplier<?> entity, Request request, String acceptEncoding) {
+        CacheEntry entry = entries.get(key);
+        if (entry == null || !entry.isBuiltFrom(sources)) {
+            entry = new CacheEntry(sources, JSONResponse.GSON.toJson(entity.get()).getBytes(StandardCharsets.UTF_8));
+            entries.put(key, entry);
+        }
+        Response notModified = ETagUtil.evaluatePreconditions(request, entry.eTag, acceptEncoding);
+        return notModified != null ? notModified : entry.createResponse(acceptEncoding);
+    }
+
+    /**
+     * Removes all cached entities.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    private static class CacheEntry {
+
+        private final List<Object> sources;
+        private final EntityTag eTag;
+        private final byte[] json;
+        private volatile byte[] gzippedJson;
+
+        CacheEntry(Collection<?> sources, byte[] json) {
+            this.sources = new ArrayList<Object>(sources);
+            this.eTag = ETagUtil.createETag(json);
+            this.json = json;
+        }
+
+        boolean isBuiltFrom(Collection<?> otherSources) {
+            if (sources.size() != otherSources.size()) {
+                return false;
+            }
+            int i = 0;
+            for (Object source : otherSources) {
+                if (sources.get(i++) != source) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        Response createResponse(String acceptEncoding) {
+            if (JSONResponse.acceptsGzip(acceptEncoding)) {
+                return JSONResponse.createResponse(getGzippedJson(), true, eTag, acceptEncoding);
+            } else {
+                return JSONResponse.createResponse(json, false, eTag, acceptEncoding);
+            }
+        }
+
+        private byte[] getGzippedJson() {
+            // concurrent requests might compress the body twice, which is harmless
+            if (gzippedJson == null) {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream(json.length / 4);
+                try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+                    out.write(json);
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+                gzippedJson = bytes.toByteArray();
+            }
+            return gzippedJson;
+        }
+    }
+
+}
@@ -7,20 +7,36 @@
  */
 package org.eclipse.smarthome.io.rest;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
 import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.ResponseBuilder;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.ext.Provider;
 
 import org.eclipse.smarthome.core.library.types.DateTimeType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
 /**
  * Static helper methods to build up JSON-like Response objects and error handling.
@@ -140,6 +156,175 @@ public class JSONResponse {
         return rp.build();
     }
 
+    /**
+     * Creates a response which streams the given entities as a JSON array. The entities, e.g. DTOs mapped lazily with
+     * {@link com.google.common.collect.Iterables#transform}, are iterated and serialized one after the other while the
+     * response is written, so neither the entities nor their serialized form are kept in memory as a whole.
+     * <p>
+     * Only the first entity is fetched before the response is created, so that a mapping that fails for every entity
+     * leads to an error response. Once the status and headers have been sent, a failure, e.g. while mapping a later
+     * entity or a closed connection, can only abort the response.
+     *
+     * @param entities the entities to write
+     * @param fields comma separated names of the fields every entity should be limited to, or null for all fields
+     * @param acceptEncoding the Accept-Encoding header of the request, the response is compressed if it accepts gzip
+     * @return Response streaming the entities
+     */
+    public static Response createStreamingResponse(Iterable<?> entities, String fields, String acceptEncoding) {
+        return createStreamingResponse(entities, fields, acceptEncoding, null);
+    }
+
+    /**
+     * Creates a response which streams the given entities as a JSON array, see
+     * {@link #createStreamingResponse(Iterable, String, String)}.
+     *
+     * @param entities the entities to write
+     * @param fields comma separated names of the fields every entity should be limited to, or null for all fields
+     * @param acceptEncoding the Accept-Encoding header of the request, the response is compressed if it accepts gzip
+     * @param eTag the entity tag of the content created with {@link ETagUtil#createETag(Object...)}, or null
+     * @return Response streaming the entities
+     */
+    public static Response createStreamingResponse(Iterable<?> entities, String fields, String acceptEncoding,
+            EntityTag eTag) {
+        boolean gzip = acceptsGzip(acceptEncoding);
+        PeekingIterator<?> iterator = Iterators.peekingIterator(entities.iterator());
+        if (iterator.hasNext()) {
+            iterator.peek();
+        }
+        return encodedResponse(new JSONStreamingOutput(iterator, parseFields(fields), gzip), gzip, eTag,
+                acceptEncoding);
+    }
+
+    /**
+     * Creates a response with an already serialized JSON body.
+     *
+     * @param json the JSON body, compressed if gzip is true
+     * @param gzip true, if the body is compressed with gzip
+     * @param eTag the entity tag of the content, or null
+     * @param acceptEncoding the Accept-Encoding header of the request
+     * @return Response with the JSON body
+     */
+    static Response createResponse(final byte[] json, boolean gzip, EntityTag eTag, String acceptEncoding) {
+        return encodedResponse(new StreamingOutput() {
+            @Override
+            public void write(OutputStream output) throws IOException {
+                output.write(json);
+            }
+        }, gzip, eTag, acceptEncoding);
+    }
+
+    private static Response encodedResponse(StreamingOutput entity, boolean gzip, EntityTag eTag,
+            String acceptEncoding) {
+        ResponseBuilder rp = response(Response.Status.OK).entity(entity).header(HttpHeaders.VARY,
+                HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            rp = rp.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        if (eTag != null) {
+            rp = rp.tag(ETagUtil.forEncoding(eTag, acceptEncoding));
+        }
+        return rp.build();
+    }
+
+    /**
+     * Checks whether a client accepts gzip compressed responses. Content codings with a quality value of 0 are not
+     * acceptable, e.g. "gzip;q=0", and the wildcard "*" only applies if gzip is not listed explicitly.
+     *
+     * @param acceptEncoding the Accept-Encoding header of the request, may be null
+     * @return true, if the response may be compressed with gzip
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        boolean wildcard = false;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parameters = coding.split(";");
+            String name = parameters[0].trim().toLowerCase();
+            float quality = 1;
+            for (int i = 1; i < parameters.length; i++) {
+                String parameter = parameters[i].trim().toLowerCase();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        quality = Float.parseFloat(parameter.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (name.equals("gzip") || name.equals("x-gzip")) {
+                return quality > 0;
+            } else if (name.equals("*")) {
+                wildcard = quality > 0;
+            }
+        }
+        return wildcard;
+    }
+
+    private static Set<String> parseFields(String fields) {
+        if (fields == null || fields.trim().isEmpty()) {
+            return null;
+        }
+        Set<String> fieldSet = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            if (!field.trim().isEmpty()) {
+                fieldSet.add(field.trim());
+            }
+        }
+        return fieldSet;
+    }
+
+    /**
+     * Writes entities as JSON array directly to the response stream.
+     */
+    private static class JSONStreamingOutput implements StreamingOutput {
+
+        private final Iterator<?> entities;
+        private final Set<String> fields;
+        private final boolean gzip;
+
+        JSONStreamingOutput(Iterator<?> entities, Set<String> fields, boolean gzip) {
+            this.entities = entities;
+            this.fields = fields;
+            this.gzip = gzip;
+        }
+
+        @Override
+        public void write(OutputStream output) throws IOException, WebApplicationException {
+            OutputStream out = gzip ? new GZIPOutputStream(output) : output;
+            JsonWriter writer = new JsonWriter(new BufferedWriter(new OutputStreamWriter(out, "UTF-8")));
+            writer.beginArray();
+            while (entities.hasNext()) {
+                Object entity = entities.next();
+                if (entity == null) {
+                    writer.nullValue();
+                } else if (fields == null) {
+                    GSON.toJson(entity, entity.getClass(), writer);
+                } else {
+                    GSON.toJson(project(GSON.toJsonTree(entity)), writer);
+                }
+            }
+            writer.endArray();
+            writer.flush();
+            if (out instanceof GZIPOutputStream) {
+                ((GZIPOutputStream) out).finish();
+            }
+        }
+
+        private JsonElement project(JsonElement element) {
+            if (!element.isJsonObject()) {
+                return element;
+            }
+            JsonObject projection = new JsonObject();
+            for (Map.Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet()) {
+                if (fields.contains(entry.getKey())) {
+                    projection.add(entry.getKey(), entry.getValue());
+                }
+            }
+            return projection;
+        }
+    }
+
     /**
      * trap exceptions
      *
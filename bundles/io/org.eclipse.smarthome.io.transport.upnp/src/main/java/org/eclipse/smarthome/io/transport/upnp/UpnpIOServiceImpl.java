@@ -11,11 +11,11 @@ import java.net.URL;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.jupnp.UpnpService;
 import org.jupnp.controlpoint.ActionCallback;
 import org.jupnp.controlpoint.ControlPoint;
@@ -55,6 +55,7 @@ public class UpnpIOServiceImpl implements UpnpIOService {
     private final Logger logger = LoggerFactory.getLogger(UpnpIOServiceImpl.class);
 
     private final int DEFAULT_POLLING_INTERVAL = 60;
+    private static final String POOL_NAME = "upnp-io";
 
     private UpnpService upnpService;
 
@@ -64,7 +65,7 @@ public class UpnpIOServiceImpl implements UpnpIOService {
     private Map<UpnpIOParticipant, Boolean> currentStates = new ConcurrentHashMap<UpnpIOParticipant, Boolean>(32);
     private Map<Service, UpnpSubscriptionCallback> subscriptionCallbacks = new ConcurrentHashMap<Service, UpnpSubscriptionCallback>(
             32);
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(5);
+    private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool(POOL_NAME);
 
     public class UpnpSubscriptionCallback extends SubscriptionCallback {
 
@@ -11,6 +11,8 @@ import static org.hamcrest.CoreMatchers.*
 import static org.junit.Assert.*
 import static org.junit.matchers.JUnitMatchers.*
 
+import org.eclipse.smarthome.core.common.registry.RegistryChangeListener
+import org.eclipse.smarthome.core.items.Item
 import org.eclipse.smarthome.core.items.ItemRegistry
 import org.eclipse.smarthome.model.core.ModelRepository
 import org.eclipse.smarthome.test.OSGiTest
@@ -80,4 +82,81 @@ class GenericItemProviderTest extends OSGiTest {
         assertThat lastItem.getTags().sort().join(", "), is(equalTo("TAG1, TAG2, TAG3, TAG4-WITH-DASHES, TAG5 String Tag"))
     }
         
+    @Test
+    void 'assert that only changed items are updated when a model is modified'() {
+        String model =
+            '''
+            Group Weather
+            Number Weather_Temperature      "Outside Temperature [%.1f °C]" <temperature> (Weather)
+            Number Weather_Temp_Max         "Todays Maximum [%.1f °C]"  <temperature> (Weather)
+            Number Weather_Temp_Min         "Todays Minimum [%.1f °C]"  <temperature> (Weather)
+            '''
+        modelRepository.addOrRefreshModel(TESTMODEL_NAME, new ByteArrayInputStream(model.bytes))
+        assertThat itemRegistry.getAll().size(), is(4)
+        Item unchangedItem = itemRegistry.get("Weather_Temperature")
+
+        def added = []
+        def removed = []
+        def updated = []
+        def listener = [
+            added: { Item item -> added << item.name },
+            removed: { Item item -> removed << item.name },
+            updated: { Item oldItem, Item item -> updated << item.name }
+        ] as RegistryChangeListener<Item>
+        itemRegistry.addRegistryChangeListener(listener)
+
+        try {
+            String modifiedModel =
+                '''
+                Group Weather
+                Number Weather_Temperature      "Outside Temperature [%.1f °C]" <temperature> (Weather)
+                Number Weather_Temp_Max         "Todays Maximum Temperature [%.1f °C]"  <temperature> (Weather)
+                Number Weather_Chart_Period     "Chart Period"
+                '''
+            modelRepository.addOrRefreshModel(TESTMODEL_NAME, new ByteArrayInputStream(modifiedModel.bytes))
+        } finally {
+            itemRegistry.removeRegistryChangeListener(listener)
+        }
+
+        assertThat added, is(equalTo(["Weather_Chart_Period"]))
+        assertThat removed, is(equalTo(["Weather_Temp_Min"]))
+        assertThat updated, is(equalTo(["Weather_Temp_Max"]))
+        assertThat itemRegistry.getAll().size(), is(4)
+        assertThat itemRegistry.get("Weather_Temperature"), is(sameInstance(unchangedItem))
+        assertThat itemRegistry.get("Weather_Temp_Max").label, is(equalTo("Todays Maximum Temperature"))
+    }
+
+    @Test
+    void 'assert that a changed group membership is recognized as an update'() {
+        String model =
+            '''
+            Group Weather
+            Group Outside
+            Number Weather_Temperature      "Outside Temperature [%.1f °C]" <temperature> (Weather)
+            '''
+        modelRepository.addOrRefreshModel(TESTMODEL_NAME, new ByteArrayInputStream(model.bytes))
+
+        def updated = []
+        def listener = [
+            added: { Item item -> },
+            removed: { Item item -> },
+            updated: { Item oldItem, Item item -> updated << item.name }
+        ] as RegistryChangeListener<Item>
+        itemRegistry.addRegistryChangeListener(listener)
+
+        try {
+            String modifiedModel =
+                '''
+                Group Weather
+                Group Outside
+                Number Weather_Temperature      "Outside Temperature [%.1f °C]" <temperature> (Weather, Outside)
+                '''
+            modelRepository.addOrRefreshModel(TESTMODEL_NAME, new ByteArrayInputStream(modifiedModel.bytes))
+        } finally {
+            itemRegistry.removeRegistryChangeListener(listener)
+        }
+
+        assertThat updated, is(equalTo(["Weather_Temperature"]))
+        assertThat itemRegistry.get("Outside").members*.name, is(equalTo(["Weather_Temperature"]))
+    }
 }
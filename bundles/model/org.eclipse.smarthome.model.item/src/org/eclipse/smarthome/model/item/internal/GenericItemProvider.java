@@ -9,7 +9,10 @@ package org.eclipse.smarthome.model.item.internal;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -64,6 +67,9 @@ public class GenericItemProvider extends AbstractProvider<Item>
 
     private Map<String, StateDescription> stateDescriptions = new ConcurrentHashMap<>();
 
+    /** keeps the items that have been handed out per model, so that model changes can be applied as a diff */
+    private Map<String, Collection<Item>> itemsMap = new ConcurrentHashMap<>();
+
     public GenericItemProvider() {
     }
 
@@ -118,9 +124,13 @@ public class GenericItemProvider extends AbstractProvider<Item>
     @Override
     public Collection<Item> getAll() {
         List<Item> items = new ArrayList<Item>();
-        stateDescriptions.clear();
         for (String name : modelRepository.getAllModelNamesOfType("items")) {
-            items.addAll(getItemsFromModel(name));
+            Collection<Item> itemsFromModel = itemsMap.get(name);
+            if (itemsFromModel == null) {
+                itemsFromModel = getItemsFromModel(name);
+                itemsMap.put(name, itemsFromModel);
+            }
+            items.addAll(itemsFromModel);
         }
         return items;
     }
@@ -202,6 +212,8 @@ public class GenericItemProvider extends AbstractProvider<Item>
             if (format != null) {
                 label = StringUtils.substringBefore(label, "[").trim();
                 stateDescriptions.put(modelItem.getName(), new StateDescription(null, null, null, format, false, null));
+            } else {
+                stateDescriptions.remove(modelItem.getName());
             }
             item.setLabel(label);
             item.setCategory(modelItem.getIcon());
@@ -328,32 +340,25 @@ public class GenericItemProvider extends AbstractProvider<Item>
     /**
      * {@inheritDoc}
      * <p>
-     * Dispatches all binding configs and fires all {@link ItemsChangeListener}s if {@code modelName} ends with "items".
+     * Dispatches all binding configs and notifies all listeners about the items that have been added, removed or
+     * updated if {@code modelName} ends with "items". Items which have not been changed are kept untouched.
      */
     @Override
     public void modelChanged(String modelName, EventType type) {
         if (modelName.endsWith("items")) {
             switch (type) {
                 case ADDED:
-                    processBindingConfigsFromModel(modelName);
-                    for (ProviderChangeListener<Item> listener : listeners) {
-                        if (listener instanceof ItemsChangeListener) {
-                            ((ItemsChangeListener) listener).allItemsChanged(this, null);
-                        }
-                    }
-                    break;
                 case MODIFIED:
-                    // TODO implement "diff & merge" for items in modified resources
                     processBindingConfigsFromModel(modelName);
-                    for (ProviderChangeListener<Item> listener : listeners) {
-                        if (listener instanceof ItemsChangeListener) {
-                            ((ItemsChangeListener) listener).allItemsChanged(this, null);
-                        }
-                    }
+                    applyModelChanges(modelName, getItemsFromModel(modelName));
                     break;
                 case REMOVED:
-                    Collection<Item> itemsFromModel = getItemsFromModel(modelName);
+                    Collection<Item> itemsFromModel = itemsMap.remove(modelName);
+                    if (itemsFromModel == null) {
+                        itemsFromModel = getItemsFromModel(modelName);
+                    }
                     for (Item item : itemsFromModel) {
+                        stateDescriptions.remove(item.getName());
                         notifyListenersAboutRemovedElement(item);
                     }
                     break;
@@ -361,6 +366,106 @@ public class GenericItemProvider extends AbstractProvider<Item>
         }
     }
 
+    /**
+     * Compares the freshly created items of a model with the items which have been provided for it before and only
+     * notifies the listeners about the differences. Unchanged items keep their previous instance (and thus their
+     * state).
+     *
+     * @param modelName the name of the changed model
+     * @param newItems the items which have been created from the current version of the model
+     */
+    private void applyModelChanges(String modelName, Collection<Item> newItems) {
+        Map<String, Item> oldItems = new LinkedHashMap<>();
+        Collection<Item> previousItems = itemsMap.get(modelName);
+        if (previousItems != null) {
+            for (Item oldItem : previousItems) {
+                oldItems.put(oldItem.getName(), oldItem);
+            }
+        }
+
+        List<Item> added = new ArrayList<>();
+        Map<Item, Item> updated = new LinkedHashMap<>();
+        List<Item> items = new ArrayList<>(newItems.size());
+        for (Item newItem : newItems) {
+            Item oldItem = oldItems.remove(newItem.getName());
+            if (oldItem == null) {
+                added.add(newItem);
+                items.add(newItem);
+            } else if (hasItemChanged(oldItem, newItem)) {
+                updated.put(oldItem, newItem);
+                items.add(newItem);
+            } else {
+                items.add(oldItem);
+            }
+        }
+        itemsMap.put(modelName, items);
+
+        logger.debug("Model '{}' changed: {} items added, {} updated, {} removed", modelName, added.size(),
+                updated.size(), oldItems.size());
+
+        for (Item removedItem : oldItems.values()) {
+            if (!isProvidedByAnyModel(removedItem.getName())) {
+                stateDescriptions.remove(removedItem.getName());
+            }
+            notifyListenersAboutRemovedElement(removedItem);
+        }
+        for (Item addedItem : added) {
+            notifyListenersAboutAddedElement(addedItem);
+        }
+        for (Map.Entry<Item, Item> entry : updated.entrySet()) {
+            notifyListenersAboutUpdatedElement(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private boolean isProvidedByAnyModel(String itemName) {
+        for (Collection<Item> itemsOfModel : itemsMap.values()) {
+            for (Item item : itemsOfModel) {
+                if (item.getName().equals(itemName)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether the definition of an item has changed. Besides the attributes covered by
+     * {@link GenericItem#equals(Object)}, the group memberships as well as the base item and function of group items
+     * are compared.
+     *
+     * @param oldItem the previously provided item
+     * @param newItem the item created from the current model
+     * @return true, if the new item differs from the old one
+     */
+    private boolean hasItemChanged(Item oldItem, Item newItem) {
+        if (!oldItem.equals(newItem)) {
+            return true;
+        }
+        if (!new HashSet<>(oldItem.getGroupNames()).equals(new HashSet<>(newItem.getGroupNames()))) {
+            return true;
+        }
+        if (oldItem instanceof GroupItem) {
+            GroupItem oldGroupItem = (GroupItem) oldItem;
+            GroupItem newGroupItem = (GroupItem) newItem;
+            Item oldBaseItem = oldGroupItem.getBaseItem();
+            Item newBaseItem = newGroupItem.getBaseItem();
+            if (oldBaseItem == null ? newBaseItem != null
+                    : newBaseItem == null || !oldBaseItem.getType().equals(newBaseItem.getType())) {
+                return true;
+            }
+            GroupFunction oldFunction = oldGroupItem.getFunction();
+            GroupFunction newFunction = newGroupItem.getFunction();
+            if (oldFunction == null || newFunction == null) {
+                return oldFunction != newFunction;
+            }
+            if (!oldFunction.getClass().equals(newFunction.getClass())
+                    || !Arrays.equals(oldFunction.getParameters(), newFunction.getParameters())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Creates a new item of type {@code itemType} by utilizing an appropriate {@link ItemFactory}.
      *
@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2014-2016 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.model.rule.runtime.internal.engine;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+import org.eclipse.smarthome.io.console.Console;
+import org.eclipse.smarthome.io.console.extensions.AbstractConsoleCommandExtension;
+import org.eclipse.smarthome.model.rule.runtime.RuleEngine;
+
+/**
+ * Console command extension to show the execution statistics of the DSL rules
+ *
+ * @author agent - Initial contribution
+ *
+ */
+public class RuleEngineConsoleCommandExtension extends AbstractConsoleCommandExtension {
+
+    private static final String SUBCMD_STATISTICS = "statistics";
+
+    private static final String ROW_FORMAT = "%-40s %10s %8s %8s %15s %15s";
+
+    private RuleEngine ruleEngine;
+
+    public RuleEngineConsoleCommandExtension() {
+        super("rules", "Show information about the execution of the rules.");
+    }
+
+    @Override
+    public List<String> getUsages() {
+        return Collections.singletonList(
+                buildCommandUsage(SUBCMD_STATISTICS, "lists the execution statistics of all triggered rules"));
+    }
+
+    @Override
+    public void execute(String[] args, Console console) {
+        if (args.length == 1 && SUBCMD_STATISTICS.equals(args[0])) {
+            if (ruleEngine instanceof RuleEngineImpl) {
+                printStatistics(((RuleEngineImpl) ruleEngine).getExecutionStatistics(), console);
+            } else {
+                console.println("Rule engine is not available.");
+            }
+        } else {
+            printUsage(console);
+        }
+    }
+
+    private void printStatistics(Map<String, RuleExecutionStatistics> statistics, Console console) {
+        console.println(String.format(ROW_FORMAT, "Rule", "Executions", "Failures", "Dropped", "Queued avg/max",
+                "Runtime avg/max"));
+        for (Entry<String, RuleExecutionStatistics> entry : new TreeMap<>(statistics).entrySet()) {
+            RuleExecutionStatistics ruleStatistics = entry.getValue();
+            console.println(String.format(ROW_FORMAT, entry.getKey(), ruleStatistics.getExecutions(),
+                    ruleStatistics.getFailures(), ruleStatistics.getDropped(),
+                    ruleStatistics.getAverageQueueTime() + "/" + ruleStatistics.getMaxQueueTime() + "ms",
+                    ruleStatistics.getAverageRunTime() + "/" + ruleStatistics.getMaxRunTime() + "ms"));
+        }
+    }
+
+    protected void setRuleEngine(RuleEngine ruleEngine) {
+        this.ruleEngine = ruleEngine;
+    }
+
+    protected void unsetRuleEngine(RuleEngine ruleEngine) {
+        this.ruleEngine = null;
+    }
+}
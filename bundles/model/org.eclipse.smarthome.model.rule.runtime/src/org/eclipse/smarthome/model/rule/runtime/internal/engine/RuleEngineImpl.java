@@ -11,8 +11,10 @@ import static org.eclipse.smarthome.model.rule.runtime.internal.engine.RuleTrigg
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.Executors;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -38,7 +40,6 @@ import org.eclipse.smarthome.model.rule.runtime.RuleEngine;
 import org.eclipse.smarthome.model.script.engine.Script;
 import org.eclipse.smarthome.model.script.engine.ScriptEngine;
 import org.eclipse.smarthome.model.script.engine.ScriptExecutionException;
-import org.eclipse.smarthome.model.script.engine.ScriptExecutionThread;
 import org.eclipse.xtext.naming.QualifiedName;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,6 +52,11 @@ import com.google.inject.Injector;
  * It listens to changes to the rules folder, evaluates the trigger conditions of the rules and
  * schedules them for execution dependent on their triggering conditions.
  *
+ * Triggered rules are executed by a {@link RuleExecutor} on a bounded thread pool. The configuration property
+ * "executionMode" defines whether executions of the same rule may run concurrently ("concurrent", the default), are
+ * queued ("queue") or are dropped while the rule is running ("drop"). The mode of a single rule can be set with the
+ * property "executionMode.&lt;rule name&gt;".
+ *
  * @author Kai Kreuzer - Initial contribution and API
  * @author Oliver Libutzki - Bugfixing
  *
@@ -61,7 +67,11 @@ public class RuleEngineImpl extends AbstractItemEventSubscriber
 
     private final Logger logger = LoggerFactory.getLogger(RuleEngineImpl.class);
 
-    protected final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private static final String CONFIG_EXECUTION_MODE = "executionMode";
+
+    private final RuleExecutor ruleExecutor = new RuleExecutor();
+
+    protected final ScheduledExecutorService scheduler = ruleExecutor.getPool();
 
     private ItemRegistry itemRegistry;
     private ModelRepository modelRepository;
@@ -84,7 +94,8 @@ public class RuleEngineImpl extends AbstractItemEventSubscriber
         }
     };
 
-    public void activate() {
+    public void activate(Map<String, Object> config) {
+        applyConfig(config);
         injector = RulesStandaloneSetup.getInjector();
         triggerManager = injector.getInstance(RuleTriggerManager.class);
 
@@ -113,7 +124,44 @@ public class RuleEngineImpl extends AbstractItemEventSubscriber
         scheduleStartupRules();
     }
 
+    protected void modified(Map<String, Object> config) {
+        applyConfig(config);
+    }
+
+    private void applyConfig(Map<String, Object> config) {
+        RuleExecutionMode defaultMode = RuleExecutionMode.CONCURRENT;
+        Map<String, RuleExecutionMode> ruleModes = new HashMap<>();
+        if (config != null) {
+            for (Entry<String, Object> entry : config.entrySet()) {
+                String key = entry.getKey();
+                if (!key.startsWith(CONFIG_EXECUTION_MODE) || !(entry.getValue() instanceof String)) {
+                    continue;
+                }
+                RuleExecutionMode mode = RuleExecutionMode.fromString((String) entry.getValue());
+                if (mode == null) {
+                    logger.warn("Ignoring invalid rule execution mode '{}' for '{}'", entry.getValue(), key);
+                } else if (key.equals(CONFIG_EXECUTION_MODE)) {
+                    defaultMode = mode;
+                } else if (key.startsWith(CONFIG_EXECUTION_MODE + ".")) {
+                    ruleModes.put(key.substring(CONFIG_EXECUTION_MODE.length() + 1), mode);
+                }
+            }
+        }
+        ruleExecutor.setExecutionModes(defaultMode, ruleModes);
+    }
+
+    /**
+     * @return the execution statistics of all rules that have been triggered so far by rule name
+     */
+    public Map<String, RuleExecutionStatistics> getExecutionStatistics() {
+        return ruleExecutor.getStatistics();
+    }
+
     public void deactivate() {
+        // the thread pool is shared, so pending jobs of this instance have to be cancelled explicitly
+        if (startupJob != null) {
+            startupJob.cancel(false);
+        }
         // execute all scripts that were registered for system shutdown
         executeRules(triggerManager.getRules(SHUTDOWN));
         triggerManager.clearAll();
@@ -296,8 +344,7 @@ public class RuleEngineImpl extends AbstractItemEventSubscriber
 
         context.setGlobalContext(RuleContextHelper.getContext(rule, injector));
 
-        ScriptExecutionThread thread = new ScriptExecutionThread(rule.getName(), script, context);
-        thread.start();
+        ruleExecutor.execute(rule.getName(), script, context);
     }
 
     protected synchronized void executeRules(Iterable<Rule> rules) {
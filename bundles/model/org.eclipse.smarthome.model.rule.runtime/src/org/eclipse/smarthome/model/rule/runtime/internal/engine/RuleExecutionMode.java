@@ -0,0 +1,41 @@
+/**
+ * Copyright (c) 2014-2016 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.model.rule.runtime.internal.engine;
+
+/**
+ * Defines what happens when a rule is triggered while a previous execution of the same rule has not finished yet.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+public enum RuleExecutionMode {
+
+    /** the new execution runs in parallel to the running one */
+    CONCURRENT,
+
+    /** the new execution is started as soon as the running one (and all executions queued before) have finished */
+    QUEUE,
+
+    /** the new execution is discarded */
+    DROP;
+
+    /**
+     * Parses a configuration value into an execution mode.
+     *
+     * @param value the configuration value, e.g. "queue"
+     * @return the execution mode or null, if the value is not valid
+     */
+    public static RuleExecutionMode fromString(String value) {
+        for (RuleExecutionMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(value.trim())) {
+                return mode;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,108 @@
+/**
+ * Copyright (c) 2014-2016 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.model.rule.runtime.internal.engine;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects execution metrics of a single rule: how long executions had to wait for a free thread (or for previous
+ * executions of the same rule), how long they ran and how many of them failed or were dropped.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+public class RuleExecutionStatistics {
+
+    private final AtomicLong executions = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong totalQueueTime = new AtomicLong();
+    private final AtomicLong maxQueueTime = new AtomicLong();
+    private final AtomicLong totalRunTime = new AtomicLong();
+    private final AtomicLong maxRunTime = new AtomicLong();
+
+    void executed(long queueTime, long runTime, boolean failed) {
+        executions.incrementAndGet();
+        if (failed) {
+            failures.incrementAndGet();
+        }
+        totalQueueTime.addAndGet(queueTime);
+        updateMax(maxQueueTime, queueTime);
+        totalRunTime.addAndGet(runTime);
+        updateMax(maxRunTime, runTime);
+    }
+
+    void dropped() {
+        dropped.incrementAndGet();
+    }
+
+    private static void updateMax(AtomicLong max, long value) {
+        long current = max.get();
+        while (value > current && !max.compareAndSet(current, value)) {
+            current = max.get();
+        }
+    }
+
+    /**
+     * @return the number of finished executions, including the failed ones
+     */
+    public long getExecutions() {
+        return executions.get();
+    }
+
+    /**
+     * @return the number of executions that ended with an exception
+     */
+    public long getFailures() {
+        return failures.get();
+    }
+
+    /**
+     * @return the number of executions that were discarded because the rule was still running
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * @return the average time in milliseconds an execution waited before it was started
+     */
+    public long getAverageQueueTime() {
+        long count = executions.get();
+        return count == 0 ? 0 : totalQueueTime.get() / count;
+    }
+
+    /**
+     * @return the longest time in milliseconds an execution waited before it was started
+     */
+    public long getMaxQueueTime() {
+        return maxQueueTime.get();
+    }
+
+    /**
+     * @return the average run time of an execution in milliseconds
+     */
+    public long getAverageRunTime() {
+        long count = executions.get();
+        return count == 0 ? 0 : totalRunTime.get() / count;
+    }
+
+    /**
+     * @return the longest run time of an execution in milliseconds
+     */
+    public long getMaxRunTime() {
+        return maxRunTime.get();
+    }
+
+    @Override
+    public String toString() {
+        return "executions=" + getExecutions() + ", failures=" + getFailures() + ", dropped=" + getDropped()
+                + ", queueTime(avg/max)=" + getAverageQueueTime() + "/" + getMaxQueueTime() + "ms, runTime(avg/max)="
+                + getAverageRunTime() + "/" + getMaxRunTime() + "ms";
+    }
+}
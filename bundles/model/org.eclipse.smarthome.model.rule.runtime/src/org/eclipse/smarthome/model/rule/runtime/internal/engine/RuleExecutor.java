@@ -0,0 +1,220 @@
+/**
+ * Copyright (c) 2014-2016 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.model.rule.runtime.internal.engine;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
+import org.eclipse.smarthome.model.script.engine.Script;
+import org.eclipse.xtext.xbase.interpreter.IEvaluationContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes the scripts of triggered rules on the shared, bounded "ruleEngine" thread pool. Depending on the
+ * {@link RuleExecutionMode} of a rule, executions of the same rule may run concurrently, are queued behind each other
+ * or are dropped while the rule is running. For every rule, {@link RuleExecutionStatistics} are recorded.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+@SuppressWarnings("restriction")
+public class RuleExecutor {
+
+    /** the name of the thread pool rules are executed on */
+    public static final String THREAD_POOL_NAME = "ruleEngine";
+
+    /** the maximum number of executions that are queued per rule in {@link RuleExecutionMode#QUEUE} mode */
+    private static final int MAX_QUEUED_EXECUTIONS = 100;
+
+    private final Logger logger = LoggerFactory.getLogger(RuleExecutor.class);
+
+    private final ScheduledExecutorService pool = ThreadPoolManager.getScheduledPool(THREAD_POOL_NAME);
+
+    private final ConcurrentMap<String, RuleExecutionState> states = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, RuleExecutionStatistics> statistics = new ConcurrentHashMap<>();
+
+    private volatile RuleExecutionMode defaultMode = RuleExecutionMode.CONCURRENT;
+    private volatile Map<String, RuleExecutionMode> ruleModes = Collections.emptyMap();
+
+    /**
+     * @return the thread pool rules are executed on
+     */
+    public ScheduledExecutorService getPool() {
+        return pool;
+    }
+
+    /**
+     * Sets the execution modes to use.
+     *
+     * @param defaultMode the mode of all rules that have no mode of their own
+     * @param ruleModes the modes of individual rules by rule name
+     */
+    public void setExecutionModes(RuleExecutionMode defaultMode, Map<String, RuleExecutionMode> ruleModes) {
+        this.defaultMode = defaultMode;
+        this.ruleModes = new HashMap<>(ruleModes);
+    }
+
+    /**
+     * Returns the execution mode of a rule.
+     *
+     * @param ruleName the name of the rule
+     * @return the execution mode
+     */
+    public RuleExecutionMode getExecutionMode(String ruleName) {
+        RuleExecutionMode mode = ruleModes.get(ruleName);
+        return mode != null ? mode : defaultMode;
+    }
+
+    /**
+     * @return the execution statistics of all rules that have been triggered so far by rule name
+     */
+    public Map<String, RuleExecutionStatistics> getStatistics() {
+        return Collections.unmodifiableMap(statistics);
+    }
+
+    /**
+     * Executes the script of a rule asynchronously.
+     *
+     * @param ruleName the name of the rule
+     * @param script the script to execute
+     * @param context the evaluation context to execute the script in
+     */
+    public void execute(String ruleName, Script script, IEvaluationContext context) {
+        RuleExecutionMode mode = getExecutionMode(ruleName);
+        RuleExecutionJob job = new RuleExecutionJob(ruleName, script, context, getStatistics(ruleName),
+                mode == RuleExecutionMode.CONCURRENT ? null : getState(ruleName));
+
+        if (job.state != null) {
+            synchronized (job.state) {
+                if (job.state.running) {
+                    if (mode == RuleExecutionMode.DROP) {
+                        job.statistics.dropped();
+                        logger.debug("Dropping execution of rule '{}' as it is still running", ruleName);
+                    } else if (job.state.pending.size() >= MAX_QUEUED_EXECUTIONS) {
+                        job.statistics.dropped();
+                        logger.warn("Dropping execution of rule '{}' as {} executions are already queued", ruleName,
+                                MAX_QUEUED_EXECUTIONS);
+                    } else {
+                        logger.debug("Queueing execution of rule '{}' as it is still running", ruleName);
+                        job.state.pending.add(job);
+                    }
+                    return;
+                }
+                job.state.running = true;
+            }
+        }
+
+        submit(job);
+    }
+
+    private void submit(RuleExecutionJob job) {
+        try {
+            pool.execute(job);
+        } catch (RejectedExecutionException e) {
+            logger.warn("Execution of rule '{}' has been rejected: {}", job.ruleName, e.getMessage());
+            job.finished();
+        }
+    }
+
+    private RuleExecutionStatistics getStatistics(String ruleName) {
+        RuleExecutionStatistics ruleStatistics = statistics.get(ruleName);
+        if (ruleStatistics == null) {
+            statistics.putIfAbsent(ruleName, new RuleExecutionStatistics());
+            ruleStatistics = statistics.get(ruleName);
+        }
+        return ruleStatistics;
+    }
+
+    private RuleExecutionState getState(String ruleName) {
+        RuleExecutionState state = states.get(ruleName);
+        if (state == null) {
+            states.putIfAbsent(ruleName, new RuleExecutionState());
+            state = states.get(ruleName);
+        }
+        return state;
+    }
+
+    /**
+     * Keeps track of whether a serialized rule is running and which executions are waiting for it.
+     */
+    private static class RuleExecutionState {
+        private boolean running;
+        private final Queue<RuleExecutionJob> pending = new ArrayDeque<>();
+    }
+
+    private class RuleExecutionJob implements Runnable {
+
+        private final String ruleName;
+        private final Script script;
+        private final IEvaluationContext context;
+        private final RuleExecutionStatistics statistics;
+        private final RuleExecutionState state;
+        private final long created = System.currentTimeMillis();
+
+        RuleExecutionJob(String ruleName, Script script, IEvaluationContext context,
+                RuleExecutionStatistics statistics, RuleExecutionState state) {
+            this.ruleName = ruleName;
+            this.script = script;
+            this.context = context;
+            this.statistics = statistics;
+            this.state = state;
+        }
+
+        @Override
+        public void run() {
+            long started = System.currentTimeMillis();
+            boolean failed = false;
+            try {
+                script.execute(context);
+            } catch (Exception e) {
+                failed = true;
+                String msg = e.getMessage();
+                if (msg == null) {
+                    logger.error("Rule '{}'", ruleName, e.getCause());
+                } else {
+                    logger.error("Rule '{}': {}", ruleName, msg);
+                }
+            } finally {
+                long ended = System.currentTimeMillis();
+                statistics.executed(started - created, ended - started, failed);
+                logger.trace("Rule '{}' waited {} ms and ran for {} ms", ruleName, started - created,
+                        ended - started);
+                finished();
+            }
+        }
+
+        /**
+         * Hands over to the next queued execution of the same rule, if there is any.
+         */
+        private void finished() {
+            if (state == null) {
+                return;
+            }
+
+            RuleExecutionJob next;
+            synchronized (state) {
+                next = state.pending.poll();
+                if (next == null) {
+                    state.running = false;
+                }
+            }
+            if (next != null) {
+                submit(next);
+            }
+        }
+    }
+}
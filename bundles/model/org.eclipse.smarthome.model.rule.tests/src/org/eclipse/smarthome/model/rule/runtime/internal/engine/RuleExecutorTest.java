@@ -0,0 +1,185 @@
+/**
+ * Copyright (c) 2014-2016 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.model.rule.runtime.internal.engine;
+
+import static org.junit.Assert.*;
+
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.smarthome.model.script.engine.Script;
+import org.eclipse.smarthome.model.script.engine.ScriptExecutionException;
+import org.eclipse.xtext.xbase.interpreter.IEvaluationContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the execution policies of the {@link RuleExecutor} and the statistics it records.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+@SuppressWarnings("restriction")
+public class RuleExecutorTest {
+
+    private static final long TIMEOUT = 5000;
+
+    private RuleExecutor executor;
+    private BlockingScript script;
+
+    @Before
+    public void setUp() {
+        executor = new RuleExecutor();
+        script = new BlockingScript();
+    }
+
+    @After
+    public void tearDown() {
+        script.release.countDown();
+    }
+
+    @Test
+    public void testConcurrentExecutionsRunInParallel() throws Exception {
+        executor.setExecutionModes(RuleExecutionMode.CONCURRENT, Collections.<String, RuleExecutionMode> emptyMap());
+
+        script.started = new CountDownLatch(2);
+        executor.execute("rule", script, null);
+        executor.execute("rule", script, null);
+
+        assertTrue(script.started.await(TIMEOUT, TimeUnit.MILLISECONDS));
+        assertEquals(2, script.maxRunning.get());
+
+        script.release.countDown();
+        waitForExecutions("rule", 2);
+        assertEquals(0, executor.getStatistics().get("rule").getDropped());
+    }
+
+    @Test
+    public void testQueuedExecutionsRunOneAfterTheOther() throws Exception {
+        executor.setExecutionModes(RuleExecutionMode.QUEUE, Collections.<String, RuleExecutionMode> emptyMap());
+
+        executor.execute("rule", script, null);
+        executor.execute("rule", script, null);
+        executor.execute("rule", script, null);
+
+        assertTrue(script.started.await(TIMEOUT, TimeUnit.MILLISECONDS));
+        Thread.sleep(100);
+        assertEquals(1, script.executions.get());
+
+        script.release.countDown();
+        waitForExecutions("rule", 3);
+        assertEquals(3, script.executions.get());
+        assertEquals(1, script.maxRunning.get());
+        assertEquals(0, executor.getStatistics().get("rule").getDropped());
+    }
+
+    @Test
+    public void testExecutionsAreDroppedWhileTheRuleIsRunning() throws Exception {
+        executor.setExecutionModes(RuleExecutionMode.DROP, Collections.<String, RuleExecutionMode> emptyMap());
+
+        executor.execute("rule", script, null);
+        assertTrue(script.started.await(TIMEOUT, TimeUnit.MILLISECONDS));
+        executor.execute("rule", script, null);
+        assertEquals(1, executor.getStatistics().get("rule").getDropped());
+
+        script.release.countDown();
+        waitForExecutions("rule", 1);
+
+        // once the rule has finished, it is executed again
+        executor.execute("rule", script, null);
+        waitForExecutions("rule", 2);
+        assertEquals(2, script.executions.get());
+        assertEquals(1, executor.getStatistics().get("rule").getDropped());
+    }
+
+    @Test
+    public void testRuleModeOverridesTheDefaultMode() throws Exception {
+        executor.setExecutionModes(RuleExecutionMode.CONCURRENT,
+                Collections.singletonMap("dropped", RuleExecutionMode.DROP));
+
+        assertEquals(RuleExecutionMode.DROP, executor.getExecutionMode("dropped"));
+        assertEquals(RuleExecutionMode.CONCURRENT, executor.getExecutionMode("other"));
+
+        executor.execute("dropped", script, null);
+        assertTrue(script.started.await(TIMEOUT, TimeUnit.MILLISECONDS));
+        executor.execute("dropped", script, null);
+        assertEquals(1, executor.getStatistics().get("dropped").getDropped());
+    }
+
+    @Test
+    public void testFailedExecutionsAreCounted() throws Exception {
+        executor.setExecutionModes(RuleExecutionMode.QUEUE, Collections.<String, RuleExecutionMode> emptyMap());
+        script.release.countDown();
+        script.failure = new ScriptExecutionException("failed");
+
+        executor.execute("rule", script, null);
+        executor.execute("rule", script, null);
+
+        // a failing execution does not block the queued ones
+        waitForExecutions("rule", 2);
+        assertEquals(2, executor.getStatistics().get("rule").getFailures());
+    }
+
+    private void waitForExecutions(String ruleName, long executions) throws InterruptedException {
+        long timeout = System.currentTimeMillis() + TIMEOUT;
+        while (getExecutions(ruleName) < executions && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10);
+        }
+        assertEquals(executions, getExecutions(ruleName));
+    }
+
+    private long getExecutions(String ruleName) {
+        RuleExecutionStatistics statistics = executor.getStatistics().get(ruleName);
+        return statistics != null ? statistics.getExecutions() : 0;
+    }
+
+    /**
+     * A script that blocks until it is released and keeps track of how many of its executions run at the same time.
+     */
+    private static class BlockingScript implements Script {
+
+        private volatile CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final AtomicInteger executions = new AtomicInteger();
+        private final AtomicInteger running = new AtomicInteger();
+        private final AtomicInteger maxRunning = new AtomicInteger();
+        private volatile ScriptExecutionException failure;
+
+        @Override
+        public Object execute() throws ScriptExecutionException {
+            return execute(null);
+        }
+
+        @Override
+        public Object execute(IEvaluationContext evaluationContext) throws ScriptExecutionException {
+            int current = running.incrementAndGet();
+            try {
+                executions.incrementAndGet();
+                while (true) {
+                    int max = maxRunning.get();
+                    if (current <= max || maxRunning.compareAndSet(max, current)) {
+                        break;
+                    }
+                }
+                started.countDown();
+                release.await(TIMEOUT, TimeUnit.MILLISECONDS);
+                if (failure != null) {
+                    throw failure;
+                }
+                return null;
+            } catch (InterruptedException e) {
+                throw new ScriptExecutionException(e.getMessage());
+            } finally {
+                running.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/**
+ * Copyright (c) 2014-2016 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.model.script.tests.actions
+
+import static org.hamcrest.CoreMatchers.*
+import static org.junit.Assert.*
+
+import java.util.concurrent.atomic.AtomicInteger
+
+import org.eclipse.smarthome.model.script.actions.ScriptExecution
+import org.eclipse.smarthome.model.script.actions.Timer
+import org.eclipse.xtext.xbase.lib.Procedures.Procedure0
+import org.joda.time.DateTime
+import org.junit.Test
+
+/**
+ * Tests the execution, cancellation and rescheduling of the timers created by {@link ScriptExecution}.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+class TimerTest {
+
+    AtomicInteger executions = new AtomicInteger()
+
+    Procedure0 closure = { executions.incrementAndGet() } as Procedure0
+
+    @Test
+    void 'assert that a timer runs its code block and terminates'() {
+        Timer timer = ScriptExecution.createTimer(DateTime.now().plusMillis(100), closure)
+        assertThat timer.hasTerminated(), is(false)
+
+        waitFor { timer.hasTerminated() }
+        assertThat executions.get(), is(1)
+        assertThat timer.isRunning(), is(false)
+    }
+
+    @Test
+    void 'assert that a timer which is due immediately terminates'() {
+        Timer timer = ScriptExecution.createTimer(DateTime.now().minusSeconds(1), closure)
+
+        waitFor { timer.hasTerminated() }
+        assertThat executions.get(), is(1)
+    }
+
+    @Test
+    void 'assert that a timer which fails terminates'() {
+        Timer timer = ScriptExecution.createTimer(DateTime.now(), { throw new IllegalStateException() } as Procedure0)
+
+        waitFor { timer.hasTerminated() }
+        assertThat timer.isRunning(), is(false)
+    }
+
+    @Test
+    void 'assert that a cancelled timer does not run'() {
+        Timer timer = ScriptExecution.createTimer(DateTime.now().plusMillis(200), closure)
+        assertThat timer.cancel(), is(true)
+        assertThat timer.cancel(), is(false)
+
+        Thread.sleep(400)
+        assertThat executions.get(), is(0)
+    }
+
+    @Test
+    void 'assert that a terminated timer cannot be cancelled'() {
+        Timer timer = ScriptExecution.createTimer(DateTime.now(), closure)
+
+        waitFor { timer.hasTerminated() }
+        assertThat timer.cancel(), is(false)
+    }
+
+    @Test
+    void 'assert that a pending timer is moved when it is rescheduled'() {
+        Timer timer = ScriptExecution.createTimer(DateTime.now().plusMillis(100), closure)
+        assertThat timer.reschedule(DateTime.now().plusMillis(500)), is(true)
+
+        Thread.sleep(250)
+        assertThat executions.get(), is(0)
+        assertThat timer.hasTerminated(), is(false)
+
+        waitFor { timer.hasTerminated() }
+        assertThat executions.get(), is(1)
+    }
+
+    @Test
+    void 'assert that a terminated timer runs again when it is rescheduled'() {
+        Timer timer = ScriptExecution.createTimer(DateTime.now(), closure)
+        waitFor { timer.hasTerminated() }
+
+        assertThat timer.reschedule(DateTime.now().plusMillis(100)), is(true)
+        assertThat timer.hasTerminated(), is(false)
+
+        waitFor { timer.hasTerminated() }
+        assertThat executions.get(), is(2)
+    }
+
+    @Test
+    void 'assert that a cancelled timer runs when it is rescheduled'() {
+        Timer timer = ScriptExecution.createTimer(DateTime.now().plusSeconds(10), closure)
+        timer.cancel()
+
+        timer.reschedule(DateTime.now())
+        waitFor { timer.hasTerminated() }
+        assertThat executions.get(), is(1)
+    }
+
+    void waitFor(Closure<Boolean> condition) {
+        long timeout = System.currentTimeMillis() + 5000
+        while (!condition() && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10)
+        }
+        assertThat condition(), is(true)
+    }
+}
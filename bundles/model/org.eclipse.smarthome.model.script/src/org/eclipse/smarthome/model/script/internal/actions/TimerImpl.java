@@ -7,100 +7,58 @@
  */
 package org.eclipse.smarthome.model.script.internal.actions;
 
-import static org.quartz.TriggerBuilder.newTrigger;
-
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
+import org.eclipse.smarthome.core.scheduler.ExpressionThreadPoolManager;
+import org.eclipse.smarthome.core.scheduler.TimingWheel.Timeout;
 import org.eclipse.smarthome.model.script.actions.Timer;
-import org.joda.time.DateTime;
+import org.eclipse.xtext.xbase.lib.Procedures.Procedure0;
 import org.joda.time.base.AbstractInstant;
-import org.quartz.JobExecutionContext;
-import org.quartz.JobKey;
-import org.quartz.Scheduler;
-import org.quartz.SchedulerException;
-import org.quartz.Trigger;
-import org.quartz.TriggerKey;
-import org.quartz.impl.StdSchedulerFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * This is an implementation of the {@link Timer} interface using the Quartz
- * library for scheduling.
+ * This is an implementation of the {@link Timer} interface that keeps the timer on the shared
+ * {@link org.eclipse.smarthome.core.scheduler.TimingWheel}, so that creating, rescheduling and cancelling a timer
+ * are cheap operations. The code block is executed on the thread pool of the rule engine.
  *
  * @author Kai Kreuzer - Initial contribution and API
  *
  */
 public class TimerImpl implements Timer {
 
-    private final Logger logger = LoggerFactory.getLogger(TimerImpl.class);
-
-    // the scheduler used for timer events
-    public static Scheduler scheduler;
+    // timers are executed on the same pool as the rules that create them
+    private static final String THREAD_POOL_NAME = "ruleEngine";
 
-    static {
-        try {
-            scheduler = StdSchedulerFactory.getDefaultScheduler();
-        } catch (SchedulerException e) {
-            LoggerFactory.getLogger(TimerImpl.class).error("initializing scheduler throws exception", e);
-        }
-    }
+    private final Logger logger = LoggerFactory.getLogger(TimerImpl.class);
 
-    private JobKey jobKey;
-    private TriggerKey triggerKey;
-    private AbstractInstant startTime;
+    private final Procedure0 closure;
+    // a timer that is due immediately may run before the constructor has assigned its timeout
+    private volatile Timeout timeout;
 
-    private boolean cancelled = false;
-    private boolean terminated = false;
+    private volatile boolean running = false;
+    private volatile boolean terminated = false;
 
-    public TimerImpl(JobKey jobKey, TriggerKey triggerKey, AbstractInstant startTime) {
-        this.jobKey = jobKey;
-        this.triggerKey = triggerKey;
-        this.startTime = startTime;
+    public TimerImpl(AbstractInstant startTime, Procedure0 closure) {
+        this.closure = closure;
+        this.timeout = ExpressionThreadPoolManager.getTimingWheel().schedule(timerTask, startTime.getMillis(),
+                ThreadPoolManager.getScheduledPool(THREAD_POOL_NAME));
     }
 
     @Override
     public boolean cancel() {
-        try {
-            boolean result = scheduler.deleteJob(jobKey);
-            if (result) {
-                cancelled = true;
-            }
-        } catch (SchedulerException e) {
-            logger.warn("An error occured while cancelling the job '{}': {}",
-                    new String[] { jobKey.toString(), e.getMessage() });
-        }
-        return cancelled;
+        return timeout.cancel();
     }
 
     @Override
     public boolean reschedule(AbstractInstant newTime) {
-        try {
-            Trigger trigger = newTrigger().startAt(newTime.toDate()).build();
-            scheduler.rescheduleJob(triggerKey, trigger);
-            this.triggerKey = trigger.getKey();
-            this.cancelled = false;
-            this.terminated = false;
-            return true;
-        } catch (SchedulerException e) {
-            logger.warn("An error occured while rescheduling the job '{}': {}",
-                    new String[] { jobKey.toString(), e.getMessage() });
-            return false;
-        }
+        terminated = false;
+        timeout.reschedule(newTime.getMillis());
+        return true;
     }
 
     @Override
     public boolean isRunning() {
-        try {
-            for (JobExecutionContext context : scheduler.getCurrentlyExecutingJobs()) {
-                if (context.getJobDetail().getKey().equals(jobKey)) {
-                    return true;
-                }
-            }
-            return false;
-        } catch (SchedulerException e) {
-            // fallback implementation
-            logger.debug("An error occured getting currently running jobs: {}", e.getMessage());
-            return DateTime.now().isAfter(startTime) && !terminated;
-        }
+        return running;
     }
 
     @Override
@@ -108,7 +66,22 @@ public class TimerImpl implements Timer {
         return terminated;
     }
 
-    public void setTerminated(boolean terminated) {
-        this.terminated = terminated;
-    }
+    private final Runnable timerTask = new Runnable() {
+
+        @Override
+        public void run() {
+            logger.debug("Executing timer '{}'", closure);
+            running = true;
+            try {
+                closure.apply();
+            } catch (Exception e) {
+                logger.error("An error occurred while executing the timer '{}': {}", closure, e.getMessage(), e);
+            } finally {
+                running = false;
+                // the code block might have rescheduled its own timer
+                Timeout current = timeout;
+                terminated = current == null || !current.isPending();
+            }
+        }
+    };
 }
@@ -59,4 +59,58 @@ class AbstractResourceIconProviderTest {
         result = provider.getIcon("x", "classic", "25", Format.PNG)
         assertThat result, nullValue()
     }
+
+    @Test
+    void testNumberResourcesAreCachedForExistingCategory() {
+        def provider = new TestIconProvider(resources: ["light.png", "light-50.png"] as Set)
+        assertThat provider.getIcon("light", "classic", "60", Format.PNG).text, is("light-50.png")
+
+        provider.lookups = 0
+        assertThat provider.getIcon("light", "classic", "70", Format.PNG).text, is("light-50.png")
+        assertThat provider.lookups, is(1)
+    }
+
+    @Test
+    void testNumberResourcesAreNotCachedForUnknownCategory() {
+        def provider = new TestIconProvider(resources: [] as Set)
+        assertThat provider.getIcon("unknown", "classic", "60", Format.PNG), nullValue()
+
+        provider.lookups = 0
+        assertThat provider.getIcon("unknown", "classic", "60", Format.PNG), nullValue()
+        assertThat provider.lookups, is(103)
+    }
+
+    @Test
+    void testNumberResourcesAreLookedUpAgainWhenResourcesChanged() {
+        def provider = new TestIconProvider(resources: ["light.png", "light-50.png"] as Set)
+        assertThat provider.getIcon("light", "classic", "70", Format.PNG).text, is("light-50.png")
+
+        provider.resources.add("light-60.png")
+        assertThat provider.getIcon("light", "classic", "70", Format.PNG).text, is("light-50.png")
+
+        provider.resourcesChanged()
+        assertThat provider.getIcon("light", "classic", "70", Format.PNG).text, is("light-60.png")
+    }
+
+    static class TestIconProvider extends AbstractResourceIconProvider {
+        Set<String> resources
+        int lookups
+
+        protected InputStream getResource(String iconset, String resourceName) {
+            resources.contains(resourceName) ? new ByteArrayInputStream(resourceName.bytes) : null
+        }
+
+        protected boolean hasResource(String iconset, String resourceName) {
+            lookups++
+            resources.contains(resourceName)
+        }
+
+        Set getIconSets(Locale locale) {
+            Collections.emptySet()
+        }
+
+        Integer getPriority() {
+            0
+        }
+    }
 }
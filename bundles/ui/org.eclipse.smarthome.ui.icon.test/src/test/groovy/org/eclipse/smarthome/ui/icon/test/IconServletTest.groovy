@@ -11,10 +11,13 @@ import static org.hamcrest.CoreMatchers.*
 import static org.junit.Assert.*
 import static org.junit.matchers.JUnitMatchers.*
 
+import javax.servlet.ServletOutputStream
 import javax.servlet.http.HttpServletRequest
 import javax.servlet.http.HttpServletResponse
 
+import org.eclipse.smarthome.config.core.ConfigConstants
 import org.eclipse.smarthome.ui.icon.IconProvider
+import org.eclipse.smarthome.ui.icon.internal.CustomIconProvider
 import org.eclipse.smarthome.ui.icon.internal.IconServlet
 import org.junit.*
 
@@ -31,6 +34,9 @@ class IconServletTest {
     def provider2
     def calledProvider
     def response
+    def headers
+    def status
+    def body
 
     @Before
     void setUp() {
@@ -65,13 +71,21 @@ class IconServletTest {
 
         response = [
             setDateHeader : { s, d -> null },
+            setHeader : { s, v -> headers[s] = v },
+            setStatus : { i -> status = i },
             setContentType : { s -> null },
-            getOutputStream : { null },
+            setContentLength : { i -> null },
+            getOutputStream : {
+                [write : { int b -> body.write(b) }] as ServletOutputStream
+            },
             flushBuffer : {},
-            sendError : { i -> null }
+            sendError : { i -> status = i }
         ] as HttpServletResponse
 
         calledProvider = null
+        headers = [:]
+        status = null
+        body = new ByteArrayOutputStream()
     }
 
     @Test
@@ -80,6 +94,7 @@ class IconServletTest {
             getParameter : { p -> null },
             getRequestURI : { "/y-34.png" },
             getDateHeader : { s -> 0L },
+            getHeader : { s -> null },
         ] as HttpServletRequest
         servlet.addIconProvider(provider1)
         servlet.doGet(request, response)
@@ -99,6 +114,7 @@ class IconServletTest {
             },
             getRequestURI : { "/x" },
             getDateHeader : { s -> 0L },
+            getHeader : { s -> null },
         ] as HttpServletRequest
         servlet.addIconProvider(provider1)
         servlet.doGet(request, response)
@@ -109,4 +125,71 @@ class IconServletTest {
         servlet.doGet(request, response)
         assertThat calledProvider, equalTo(2)
     }
+
+    @Test
+    void testETag() {
+        def ifNoneMatch = null
+        def request = [
+            getParameter : { p -> null },
+            getRequestURI : { "/y-34.png" },
+            getDateHeader : { s -> 0L },
+            getHeader : { s -> s == "If-None-Match" ? ifNoneMatch : null },
+        ] as HttpServletRequest
+        servlet.addIconProvider(provider1)
+        servlet.doGet(request, response)
+        assertThat calledProvider, equalTo(1)
+        assertThat status, nullValue()
+        def eTag = headers["ETag"]
+        assertThat eTag, notNullValue()
+
+        calledProvider = null
+        ifNoneMatch = eTag
+        servlet.doGet(request, response)
+        assertThat calledProvider, nullValue()
+        assertThat status, equalTo(HttpServletResponse.SC_NOT_MODIFIED)
+    }
+
+    @Test
+    void 'assert that a replaced custom icon is served'() {
+        File configFolder = File.createTempDir()
+        String previousConfigFolder = System.getProperty(ConfigConstants.CONFIG_DIR_PROG_ARGUMENT)
+        System.setProperty(ConfigConstants.CONFIG_DIR_PROG_ARGUMENT, configFolder.getPath())
+        CustomIconProvider customProvider = new CustomIconProvider()
+        try {
+            File icon = new File(configFolder, "icons/classic/y.png")
+            icon.getParentFile().mkdirs()
+            icon.text = "old"
+            customProvider.activate(null)
+
+            def request = [
+                getParameter : { p -> null },
+                getRequestURI : { "/y.png" },
+                getDateHeader : { s -> 0L },
+                getHeader : { s -> null },
+            ] as HttpServletRequest
+            servlet.addIconProvider(provider1)
+            servlet.addIconProvider(customProvider)
+            servlet.doGet(request, response)
+            assertThat body.toString(), is("old")
+            def eTag = headers["ETag"]
+
+            icon.text = "new"
+            long timeout = System.currentTimeMillis() + 10000
+            while (body.toString() != "new" && System.currentTimeMillis() < timeout) {
+                Thread.sleep(100)
+                body.reset()
+                servlet.doGet(request, response)
+            }
+            assertThat body.toString(), is("new")
+            assertThat headers["ETag"], is(not(eTag))
+        } finally {
+            customProvider.deactivate()
+            if (previousConfigFolder == null) {
+                System.clearProperty(ConfigConstants.CONFIG_DIR_PROG_ARGUMENT)
+            } else {
+                System.setProperty(ConfigConstants.CONFIG_DIR_PROG_ARGUMENT, previousConfigFolder)
+            }
+            configFolder.deleteDir()
+        }
+    }
 }
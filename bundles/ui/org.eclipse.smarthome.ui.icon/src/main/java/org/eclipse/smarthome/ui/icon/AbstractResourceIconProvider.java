@@ -8,7 +8,12 @@
 package org.eclipse.smarthome.ui.icon;
 
 import java.io.InputStream;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.eclipse.smarthome.core.i18n.I18nProvider;
 import org.eclipse.smarthome.ui.icon.IconSet.Format;
@@ -26,7 +31,9 @@ import org.osgi.framework.BundleContext;
  * If a specific resource for a state is available, it will be used. If not, the default icon without a state postfix is
  * used. If the state is a decimal number between 0 and 100, the implementation will look for a resource with the next
  * smaller state postfix available. Example: For category "DimmableLight" and state 84, it will check for the resources
- * dimmablelight-82.png, dimmablelight-81.png, dimmablelight-80.png and return the first one it can find.
+ * dimmablelight-82.png, dimmablelight-81.png, dimmablelight-80.png and return the first one it can find. The resources
+ * for the states 0 to 100 are looked up once per icon set, existing category and format, until
+ * {@link #resourcesChanged()} is called, which also notifies the registered {@link IconChangeListener}s.
  *
  * @author Kai Kreuzer
  *
@@ -43,6 +50,22 @@ abstract public class AbstractResourceIconProvider implements IconProvider {
      */
     protected I18nProvider i18nProvider;
 
+    /* the maximum number of categories whose number resources are kept in memory */
+    private static final int MAX_CACHED_CATEGORIES = 500;
+
+    /** the resources for the states 0 to 100 by icon set, category and format */
+    private final Map<String, String[]> numberResources = Collections
+            .synchronizedMap(new LinkedHashMap<String, String[]>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, String[]> eldest) {
+                    return size() > MAX_CACHED_CATEGORIES;
+                }
+            });
+
+    private final List<IconChangeListener> listeners = new CopyOnWriteArrayList<>();
+
     /**
      * When activating the service, we need to keep the bundle context.
      *
@@ -50,6 +73,36 @@ abstract public class AbstractResourceIconProvider implements IconProvider {
      */
     protected void activate(BundleContext context) {
         this.context = context;
+        resourcesChanged();
+    }
+
+    /**
+     * Discards the resources looked up for numeric states and notifies the listeners. Subclasses have to call this
+     * method whenever resources of their icon sets have been added, changed or removed.
+     */
+    protected void resourcesChanged() {
+        numberResources.clear();
+        for (IconChangeListener listener : listeners) {
+            listener.iconsChanged(this);
+        }
+    }
+
+    /**
+     * Adds a listener, which is notified whenever the icons of this provider have changed.
+     *
+     * @param listener the listener to add
+     */
+    public void addIconChangeListener(IconChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeIconChangeListener(IconChangeListener listener) {
+        listeners.remove(listener);
     }
 
     protected void setI18nProvider(I18nProvider i18nProvider) {
@@ -82,11 +135,10 @@ abstract public class AbstractResourceIconProvider implements IconProvider {
             try {
                 Double stateAsDouble = Double.valueOf(state);
                 if (stateAsDouble >= 0 && stateAsDouble <= 100) {
-                    for (int i = stateAsDouble.intValue(); i >= 0; i--) {
-                        String resourceWithNumberState = category + "-" + i + "." + format.toString().toLowerCase();
-                        if (hasResource(iconSetId, resourceWithNumberState)) {
-                            return getResource(iconSetId, resourceWithNumberState);
-                        }
+                    String resourceWithNumberState = getNumberResources(category, iconSetId, format)[stateAsDouble
+                            .intValue()];
+                    if (resourceWithNumberState != null) {
+                        return getResource(iconSetId, resourceWithNumberState);
                     }
                 }
             } catch (NumberFormatException e) {
@@ -96,6 +148,31 @@ abstract public class AbstractResourceIconProvider implements IconProvider {
         }
     }
 
+    /**
+     * Returns the resource to use for each of the states 0 to 100, i.e. the resource with the next smaller or equal
+     * state postfix, or null if there is none. The result is only cached if the category exists, so requests for
+     * unknown categories do not fill the cache.
+     */
+    private String[] getNumberResources(String category, String iconSetId, Format format) {
+        String key = iconSetId + "/" + category + "." + format;
+        String[] resources = numberResources.get(key);
+        if (resources == null) {
+            resources = new String[101];
+            String resource = null;
+            for (int i = 0; i <= 100; i++) {
+                String resourceWithNumberState = category + "-" + i + "." + format.toString().toLowerCase();
+                if (hasResource(iconSetId, resourceWithNumberState)) {
+                    resource = resourceWithNumberState;
+                }
+                resources[i] = resource;
+            }
+            if (resource != null || hasResource(iconSetId, category + "." + format.toString().toLowerCase())) {
+                numberResources.put(key, resources);
+            }
+        }
+        return resources;
+    }
+
     /**
      * Provides the priority of this provider. A higher value will give this provider a precedence over others.
      *
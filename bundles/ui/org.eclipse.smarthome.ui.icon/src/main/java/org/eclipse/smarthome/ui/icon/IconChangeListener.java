@@ -0,0 +1,25 @@
+/**
+ * Copyright (c) 2014-2016 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.ui.icon;
+
+/**
+ * A listener, which is notified when the icons of an {@link AbstractResourceIconProvider} have changed, e.g. because
+ * an icon has been added, replaced or removed at runtime. It allows consumers to discard icons they have cached.
+ *
+ * @author agent - Initial contribution
+ */
+public interface IconChangeListener {
+
+    /**
+     * Is called after icons of the provider have been added, changed or removed.
+     *
+     * @param provider the provider whose icons have changed
+     */
+    void iconsChanged(IconProvider provider);
+
+}
@@ -7,27 +7,52 @@
  */
 package org.eclipse.smarthome.ui.icon.internal;
 
+import static java.nio.file.StandardWatchEventKinds.*;
+
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchEvent.Kind;
+import java.nio.file.WatchService;
 import java.util.Collections;
 import java.util.Locale;
 import java.util.Set;
 
 import org.eclipse.smarthome.config.core.ConfigConstants;
+import org.eclipse.smarthome.core.service.AbstractWatchQueueReader;
+import org.eclipse.smarthome.core.service.AbstractWatchService;
 import org.eclipse.smarthome.ui.icon.AbstractResourceIconProvider;
 import org.eclipse.smarthome.ui.icon.IconSet;
+import org.eclipse.smarthome.ui.icon.IconSet.Format;
+import org.osgi.framework.BundleContext;
 
 /**
  * The custom icon provider supports custom icons in the configurations/icons
  * folder. If a custom icon is found, it will be used over the standard system icon.
+ * Icons may be added, replaced or removed at runtime, which is detected by watching the icons folder, if it exists
+ * when the provider is activated.
  *
  * @author Kai Kreuzer - Initial contribution
  *
  */
 public class CustomIconProvider extends AbstractResourceIconProvider {
 
+    private final IconFolderObserver folderObserver = new IconFolderObserver();
+
+    @Override
+    protected void activate(BundleContext context) {
+        super.activate(context);
+        folderObserver.activate();
+    }
+
+    protected void deactivate() {
+        folderObserver.deactivate();
+    }
+
     private File getIconFile(String filename, String iconSetId) {
         File folder = new File(
                 ConfigConstants.getConfigFolder() + File.separator + "icons" + File.separator + iconSetId);
@@ -68,4 +93,40 @@ public class CustomIconProvider extends AbstractResourceIconProvider {
     protected Integer getPriority() {
         return 5;
     }
+
+    /**
+     * Watches the icons folder and the folders of its icon sets for added, changed and removed icons.
+     */
+    private class IconFolderObserver extends AbstractWatchService {
+
+        @Override
+        protected String getSourcePath() {
+            File folder = new File(ConfigConstants.getConfigFolder() + File.separator + "icons");
+            return folder.isDirectory() ? folder.getPath() : null;
+        }
+
+        @Override
+        protected boolean watchSubDirectories() {
+            return true;
+        }
+
+        @Override
+        protected void registerDirectory(Path subDir) throws IOException {
+            subDir.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+        }
+
+        @Override
+        protected AbstractWatchQueueReader buildWatchQueueReader(WatchService watchService, Path toWatch) {
+            return new AbstractWatchQueueReader(watchService, toWatch) {
+                @Override
+                protected void processWatchEvent(WatchEvent<?> event, Kind<?> kind, Path path) {
+                    if (kind == ENTRY_CREATE && dir.resolve(path).toFile().isDirectory()) {
+                        // a new icon set has to be watched as well
+                        initializeWatchService();
+                    }
+                    resourcesChanged();
+                }
+            };
+        }
+    }
 }
@@ -9,20 +9,24 @@ package org.eclipse.smarthome.ui.icon.internal;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.ArrayList;
-import java.util.Date;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
 import java.util.Hashtable;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import javax.servlet.ServletException;
-import javax.servlet.ServletOutputStream;
 import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang.StringUtils;
+import org.eclipse.smarthome.ui.icon.AbstractResourceIconProvider;
+import org.eclipse.smarthome.ui.icon.IconChangeListener;
 import org.eclipse.smarthome.ui.icon.IconProvider;
 import org.eclipse.smarthome.ui.icon.IconSet.Format;
 import org.osgi.service.http.HttpContext;
@@ -47,13 +51,38 @@ public class IconServlet extends HttpServlet {
     private static final String PARAM_FORMAT = "format";
     private static final String PARAM_STATE = "state";
 
-    private long startupTime;
+    /* the number of seconds clients may use an icon without asking again */
+    private static final int MAX_AGE = 3600;
+
+    /* the maximum number of icons kept in memory */
+    private static final int MAX_CACHED_ICONS = 500;
+
+    /* the time of the last change of the icon providers, rounded to seconds as HTTP dates */
+    private volatile long lastModified;
+
+    /* the icons served recently by category, icon set, state and format */
+    private final Map<String, CachedIcon> iconCache = Collections
+            .synchronizedMap(new LinkedHashMap<String, CachedIcon>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedIcon> eldest) {
+                    return size() > MAX_CACHED_ICONS;
+                }
+            });
 
     protected HttpService httpService;
 
     protected String defaultIconSetId = "classic";
 
-    private List<IconProvider> iconProvider = new ArrayList<>();
+    private List<IconProvider> iconProvider = new CopyOnWriteArrayList<>();
+
+    private final IconChangeListener iconChangeListener = new IconChangeListener() {
+        @Override
+        public void iconsChanged(IconProvider provider) {
+            IconServlet.this.iconsChanged();
+        }
+    };
 
     public void setHttpService(HttpService httpService) {
         this.httpService = httpService;
@@ -65,10 +94,24 @@ public class IconServlet extends HttpServlet {
 
     public void addIconProvider(IconProvider iconProvider) {
         this.iconProvider.add(iconProvider);
+        if (iconProvider instanceof AbstractResourceIconProvider) {
+            ((AbstractResourceIconProvider) iconProvider).addIconChangeListener(iconChangeListener);
+        }
+        iconsChanged();
     }
 
     public void removeIconProvider(IconProvider iconProvider) {
         this.iconProvider.remove(iconProvider);
+        if (iconProvider instanceof AbstractResourceIconProvider) {
+            ((AbstractResourceIconProvider) iconProvider).removeIconChangeListener(iconChangeListener);
+        }
+        iconsChanged();
+    }
+
+    private synchronized void iconsChanged() {
+        iconCache.clear();
+        // the time has to increase with every change, so that clients do not keep an icon of the same second
+        lastModified = Math.max(System.currentTimeMillis() / 1000 * 1000, lastModified + 1000);
     }
 
     protected void activate(Map<String, Object> config) {
@@ -82,7 +125,7 @@ public class IconServlet extends HttpServlet {
         } catch (ServletException e) {
             logger.error("Error during servlet startup", e);
         }
-        startupTime = System.currentTimeMillis();
+        iconsChanged();
 
         modified(config);
     }
@@ -91,6 +134,7 @@ public class IconServlet extends HttpServlet {
         Object iconSetId = config.get("default");
         if (iconSetId instanceof String) {
             defaultIconSetId = (String) iconSetId;
+            iconsChanged();
         }
     }
 
@@ -107,8 +151,9 @@ public class IconServlet extends HttpServlet {
     @Override
     protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
 
-        if (req.getDateHeader("If-Modified-Since") > startupTime) {
-            resp.setStatus(304);
+        String ifNoneMatch = req.getHeader("If-None-Match");
+        if (ifNoneMatch == null && req.getDateHeader("If-Modified-Since") >= lastModified) {
+            resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
             return;
         }
 
@@ -117,6 +162,43 @@ public class IconServlet extends HttpServlet {
         String state = getState(req);
         String iconSetId = getIconSetId(req);
 
+        String key = category + "/" + iconSetId + "/" + state + "/" + format;
+        CachedIcon icon = iconCache.get(key);
+        if (icon == null) {
+            try {
+                icon = loadIcon(category, iconSetId, state, format);
+            } catch (IOException e) {
+                logger.error("Failed reading the icon byte stream: {}", e.getMessage());
+                resp.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, e.getMessage());
+                return;
+            }
+            if (icon == null) {
+                resp.sendError(HttpServletResponse.SC_NOT_FOUND);
+                return;
+            }
+            iconCache.put(key, icon);
+        }
+
+        resp.setHeader("ETag", icon.eTag);
+        resp.setDateHeader("Last-Modified", lastModified);
+        resp.setHeader("Cache-Control", "public, max-age=" + MAX_AGE);
+        if (ifNoneMatch != null && (ifNoneMatch.contains(icon.eTag) || ifNoneMatch.trim().equals("*"))) {
+            resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        if (format.equals(Format.SVG)) {
+            resp.setContentType("image/svg+xml");
+        } else {
+            resp.setContentType("image/png");
+        }
+        resp.setContentLength(icon.data.length);
+        resp.getOutputStream().write(icon.data);
+        resp.flushBuffer();
+    }
+
+    private CachedIcon loadIcon(String category, String iconSetId, String state, Format format)
+            throws IOException {
         IconProvider topProvider = null;
         int maxPrio = Integer.MIN_VALUE;
         for (IconProvider provider : iconProvider) {
@@ -126,23 +208,14 @@ public class IconServlet extends HttpServlet {
                 topProvider = provider;
             }
         }
-        if (topProvider != null) {
-            if (format.equals(Format.SVG)) {
-                resp.setContentType("image/svg+xml");
-            } else {
-                resp.setContentType("image/png");
-            }
-            resp.setDateHeader("Last-Modified", new Date().getTime());
-            ServletOutputStream os = resp.getOutputStream();
-            try (InputStream is = topProvider.getIcon(category, iconSetId, state, format)) {
-                IOUtils.copy(is, os);
-                resp.flushBuffer();
-            } catch (IOException e) {
-                logger.error("Failed sending the icon byte stream as a response: {}", e.getMessage());
-                resp.sendError(500, e.getMessage());
+        if (topProvider == null) {
+            return null;
+        }
+        try (InputStream is = topProvider.getIcon(category, iconSetId, state, format)) {
+            if (is == null) {
+                return null;
             }
-        } else {
-            resp.sendError(404);
+            return new CachedIcon(IOUtils.toByteArray(is));
         }
     }
 
@@ -191,4 +264,31 @@ public class IconServlet extends HttpServlet {
             }
         }
     }
+
+    /**
+     * The content of an icon together with its entity tag.
+     */
+    private static class CachedIcon {
+
+        private final byte[] data;
+        private final String eTag;
+
+        CachedIcon(byte[] data) {
+            this.data = data;
+            this.eTag = createETag(data);
+        }
+
+        private static String createETag(byte[] data) {
+            try {
+                byte[] hash = MessageDigest.getInstance("MD5").digest(data);
+                StringBuilder eTag = new StringBuilder(hash.length * 2 + 2).append('"');
+                for (byte b : hash) {
+                    eTag.append(String.format("%02x", b & 0xff));
+                }
+                return eTag.append('"').toString();
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
 }
@@ -0,0 +1,226 @@
+/**
+ * Copyright (c) 2014-2016 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.ui.internal.chart;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.eclipse.smarthome.core.items.Item;
+import org.eclipse.smarthome.core.library.types.DecimalType;
+import org.eclipse.smarthome.core.persistence.FilterCriteria;
+import org.eclipse.smarthome.core.persistence.HistoricItem;
+import org.eclipse.smarthome.core.persistence.PersistenceItemInfo;
+import org.eclipse.smarthome.core.persistence.QueryablePersistenceService;
+import org.eclipse.smarthome.core.types.State;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the decimation and the incremental queries of the {@link DefaultChartProvider}.
+ *
+ * @author agent - Initial contribution
+ */
+public class DefaultChartProviderTest {
+
+    private DefaultChartProvider provider;
+    private TestPersistenceService service;
+
+    @Before
+    public void setUp() {
+        provider = new DefaultChartProvider();
+        provider.activate(Collections.<String, Object> singletonMap("incrementalServices", "other, test"));
+        service = new TestPersistenceService("test");
+    }
+
+    @Test
+    public void testSeriesWithFewValuesIsNotDecimated() {
+        service.add(1000, 1);
+        service.add(2000, 3);
+        service.add(3000, 2);
+
+        List<Date> xData = new ArrayList<>();
+        List<Number> yData = new ArrayList<>();
+        provider.getSeries(service, "Item", 0, 10000, 10, xData, yData);
+
+        assertEquals(3, xData.size());
+        assertEquals(new Date(2000), xData.get(1));
+        assertEquals(3.0, yData.get(1));
+    }
+
+    @Test
+    public void testDecimateKeepsMinimumAndMaximumOfEachPixel() {
+        // 100 values per pixel, the minimum is in the middle and the maximum at the end of each pixel
+        for (int i = 0; i < 1000; i++) {
+            service.add(i * 10, i % 100 == 50 ? -i : i % 100 == 99 ? 1000 + i : i);
+        }
+
+        List<Date> xData = new ArrayList<>();
+        List<Number> yData = new ArrayList<>();
+        provider.getSeries(service, "Item", 0, 10000, 10, xData, yData);
+
+        assertEquals(20, xData.size());
+        for (int pixel = 0; pixel < 10; pixel++) {
+            assertEquals(new Date((pixel * 100 + 50) * 10), xData.get(2 * pixel));
+            assertEquals((double) -(pixel * 100 + 50), yData.get(2 * pixel));
+            assertEquals(new Date((pixel * 100 + 99) * 10), xData.get(2 * pixel + 1));
+            assertEquals((double) (1000 + pixel * 100 + 99), yData.get(2 * pixel + 1));
+        }
+    }
+
+    @Test
+    public void testMovedTimeSpanIsQueriedIncrementally() {
+        service.add(1000, 1);
+        service.add(5000, 2);
+        provider.getSeries(service, "Item", 0, 10000, 100, new ArrayList<Date>(), new ArrayList<Number>());
+
+        service.add(11000, 3);
+        List<Date> xData = new ArrayList<>();
+        List<Number> yData = new ArrayList<>();
+        provider.getSeries(service, "Item", 2000, 12000, 100, xData, yData);
+
+        assertEquals(2, service.queries.size());
+        assertEquals(new Date(5000), service.queries.get(1).getBeginDate());
+        assertEquals(new Date(12000), service.queries.get(1).getEndDate());
+
+        // the value before the new time span is dropped, the new one is appended
+        assertEquals(2, xData.size());
+        assertEquals(new Date(5000), xData.get(0));
+        assertEquals(new Date(11000), xData.get(1));
+    }
+
+    @Test
+    public void testEarlierTimeSpanIsQueriedCompletely() {
+        service.add(1000, 1);
+        service.add(5000, 2);
+        provider.getSeries(service, "Item", 10000, 20000, 100, new ArrayList<Date>(), new ArrayList<Number>());
+
+        List<Date> xData = new ArrayList<>();
+        provider.getSeries(service, "Item", 0, 10000, 100, xData, new ArrayList<Number>());
+
+        assertEquals(new Date(0), service.queries.get(1).getBeginDate());
+        assertEquals(2, xData.size());
+    }
+
+    @Test
+    public void testServiceIsQueriedCompletelyByDefault() {
+        service = new TestPersistenceService("rrd4j");
+        service.add(1000, 1);
+        provider.getSeries(service, "Item", 0, 10000, 100, new ArrayList<Date>(), new ArrayList<Number>());
+        provider.getSeries(service, "Item", 2000, 12000, 100, new ArrayList<Date>(), new ArrayList<Number>());
+
+        assertEquals(new Date(2000), service.queries.get(1).getBeginDate());
+    }
+
+    @Test
+    public void testChangedConfigurationDropsTheHistories() {
+        service.add(1000, 1);
+        provider.getSeries(service, "Item", 0, 10000, 100, new ArrayList<Date>(), new ArrayList<Number>());
+
+        provider.modified(Collections.<String, Object> emptyMap());
+        provider.getSeries(service, "Item", 2000, 12000, 100, new ArrayList<Date>(), new ArrayList<Number>());
+        provider.getSeries(service, "Item", 3000, 13000, 100, new ArrayList<Date>(), new ArrayList<Number>());
+
+        assertEquals(new Date(2000), service.queries.get(1).getBeginDate());
+        assertEquals(new Date(3000), service.queries.get(2).getBeginDate());
+    }
+
+    @Test
+    public void testLargeHistoryIsNotKept() {
+        for (int i = 0; i <= DefaultChartProvider.MAX_CACHED_VALUES; i++) {
+            service.add(i, i);
+        }
+        provider.getSeries(service, "Item", 0, 100000, 100, new ArrayList<Date>(), new ArrayList<Number>());
+        provider.getSeries(service, "Item", 1000, 101000, 100, new ArrayList<Date>(), new ArrayList<Number>());
+
+        assertEquals(new Date(1000), service.queries.get(1).getBeginDate());
+    }
+
+    private static class TestPersistenceService implements QueryablePersistenceService {
+
+        private final String id;
+        private final List<HistoricItem> historicItems = new ArrayList<>();
+        private final List<FilterCriteria> queries = new ArrayList<>();
+
+        TestPersistenceService(String id) {
+            this.id = id;
+        }
+
+        void add(long timestamp, double value) {
+            historicItems.add(new TestHistoricItem(new Date(timestamp), new DecimalType(value)));
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public String getLabel(Locale locale) {
+            return id;
+        }
+
+        @Override
+        public void store(Item item) {
+        }
+
+        @Override
+        public void store(Item item, String alias) {
+        }
+
+        @Override
+        public Iterable<HistoricItem> query(FilterCriteria filter) {
+            queries.add(filter);
+            List<HistoricItem> result = new ArrayList<>();
+            for (HistoricItem historicItem : historicItems) {
+                if (!historicItem.getTimestamp().before(filter.getBeginDate())
+                        && !historicItem.getTimestamp().after(filter.getEndDate())) {
+                    result.add(historicItem);
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public Set<PersistenceItemInfo> getItemInfo() {
+            return Collections.emptySet();
+        }
+    }
+
+    private static class TestHistoricItem implements HistoricItem {
+
+        private final Date timestamp;
+        private final State state;
+
+        TestHistoricItem(Date timestamp, State state) {
+            this.timestamp = timestamp;
+            this.state = state;
+        }
+
+        @Override
+        public Date getTimestamp() {
+            return timestamp;
+        }
+
+        @Override
+        public State getState() {
+            return state;
+        }
+
+        @Override
+        public String getName() {
+            return "Item";
+        }
+    }
+
+}
@@ -22,6 +22,7 @@ import org.eclipse.smarthome.core.library.types.DateTimeType;
 import org.eclipse.smarthome.core.library.types.DecimalType;
 import org.eclipse.smarthome.core.library.types.OnOffType;
 import org.eclipse.smarthome.core.library.types.StringType;
+import org.eclipse.smarthome.core.types.StateDescription;
 import org.eclipse.smarthome.core.types.UnDefType;
 import org.eclipse.smarthome.model.sitemap.Sitemap;
 import org.eclipse.smarthome.model.sitemap.SitemapFactory;
@@ -302,6 +303,35 @@ public class ItemUIRegistryImplTest {
         assertNull(w);
     }
 
+    @Test
+    public void getLabel_labelChanged() throws ItemNotFoundException {
+        Widget w = mock(Widget.class);
+        Item item = mock(Item.class);
+        when(w.getLabel()).thenReturn("Label [%s]");
+        when(w.getItem()).thenReturn("Item");
+        when(registry.getItem("Item")).thenReturn(item);
+        when(item.getState()).thenReturn(new StringType("State"));
+        assertEquals("Label [State]", uiRegistry.getLabel(w));
+
+        when(w.getLabel()).thenReturn("Other label [%.3s]");
+        assertEquals("Other label [Sta]", uiRegistry.getLabel(w));
+    }
+
+    @Test
+    public void getLabel_statePatternChanged() throws ItemNotFoundException {
+        Widget w = mock(Widget.class);
+        Item item = mock(Item.class);
+        when(w.getLabel()).thenReturn("Label");
+        when(w.getItem()).thenReturn("Item");
+        when(registry.getItem("Item")).thenReturn(item);
+        when(item.getState()).thenReturn(new StringType("State"));
+        when(item.getStateDescription()).thenReturn(new StateDescription(null, null, null, "%s", true, null));
+        assertEquals("Label [State]", uiRegistry.getLabel(w));
+
+        when(item.getStateDescription()).thenReturn(new StateDescription(null, null, null, "%.3s", true, null));
+        assertEquals("Label [Sta]", uiRegistry.getLabel(w));
+    }
+
     @Test
     public void testFormatDefault() {
         assertEquals("Server [(-)]", uiRegistry.formatUndefined("Server [(%d)]"));
@@ -0,0 +1,159 @@
+/**
+ * Copyright (c) 2014-2016 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.ui.items;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.emf.common.util.BasicEList;
+import org.eclipse.smarthome.core.common.registry.RegistryChangeListener;
+import org.eclipse.smarthome.core.items.Item;
+import org.eclipse.smarthome.core.items.ItemNotFoundException;
+import org.eclipse.smarthome.core.items.StateChangeListener;
+import org.eclipse.smarthome.core.library.items.SwitchItem;
+import org.eclipse.smarthome.core.library.types.OnOffType;
+import org.eclipse.smarthome.model.sitemap.ColorArray;
+import org.eclipse.smarthome.model.sitemap.Sitemap;
+import org.eclipse.smarthome.model.sitemap.VisibilityRule;
+import org.eclipse.smarthome.model.sitemap.Widget;
+import org.eclipse.smarthome.ui.items.PageCache.Renderer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * Tests when the {@link PageCache} renders a page again.
+ *
+ * @author agent - Initial contribution
+ */
+public class PageCacheTest {
+
+    private ItemUIRegistry registry;
+    private SwitchItem item;
+    private Sitemap sitemap;
+    private List<Widget> widgets;
+    private CountingRenderer renderer;
+    private PageCache<String> cache;
+
+    @Before
+    public void setUp() throws ItemNotFoundException {
+        registry = mock(ItemUIRegistry.class);
+        item = mock(SwitchItem.class);
+        when(registry.getItem("Switch")).thenReturn(item);
+
+        Widget widget = mock(Widget.class);
+        when(widget.getItem()).thenReturn("Switch");
+        when(widget.getVisibility()).thenReturn(new BasicEList<VisibilityRule>());
+        when(widget.getLabelColor()).thenReturn(new BasicEList<ColorArray>());
+        when(widget.getValueColor()).thenReturn(new BasicEList<ColorArray>());
+        widgets = Collections.singletonList(widget);
+
+        sitemap = mock(Sitemap.class);
+        renderer = new CountingRenderer();
+        cache = new PageCache<>(registry);
+    }
+
+    @After
+    public void tearDown() {
+        cache.dispose();
+    }
+
+    @Test
+    public void testPageIsRenderedOnce() throws IOException {
+        assertEquals("page 1", cache.get(sitemap, "page", widgets, renderer));
+        assertEquals("page 1", cache.get(sitemap, "page", widgets, renderer));
+        assertEquals(1, renderer.renderings);
+    }
+
+    @Test
+    public void testPageIsRenderedAgainAfterStateChange() throws IOException {
+        cache.get(sitemap, "page", widgets, renderer);
+
+        ArgumentCaptor<StateChangeListener> listener = ArgumentCaptor.forClass(StateChangeListener.class);
+        verify(item).addStateChangeListener(listener.capture());
+        listener.getValue().stateUpdated(item, OnOffType.OFF);
+        assertEquals("page 1", cache.get(sitemap, "page", widgets, renderer));
+
+        listener.getValue().stateChanged(item, OnOffType.OFF, OnOffType.ON);
+        verify(item).removeStateChangeListener(listener.getValue());
+        assertEquals("page 2", cache.get(sitemap, "page", widgets, renderer));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testPageIsRenderedAgainAfterRegistryChange() throws IOException {
+        cache.get(sitemap, "page", widgets, renderer);
+
+        ArgumentCaptor<RegistryChangeListener> listener = ArgumentCaptor.forClass(RegistryChangeListener.class);
+        verify(registry).addRegistryChangeListener(listener.capture());
+        listener.getValue().added(mock(Item.class));
+        assertEquals("page 2", cache.get(sitemap, "page", widgets, renderer));
+
+        cache.dispose();
+        verify(registry).removeRegistryChangeListener(listener.getValue());
+    }
+
+    @Test
+    public void testPageIsRenderedAgainAfterSitemapReload() throws IOException {
+        cache.get(sitemap, "page", widgets, renderer);
+
+        Sitemap reloadedSitemap = mock(Sitemap.class);
+        assertEquals("page 2", cache.get(reloadedSitemap, "page", widgets, renderer));
+        assertEquals("page 2", cache.get(reloadedSitemap, "page", widgets, renderer));
+        verify(item).removeStateChangeListener(any(StateChangeListener.class));
+    }
+
+    @Test
+    public void testPageIsOnlyInvalidatedIfRenderedBefore() throws IOException {
+        long beforeRendering = System.nanoTime();
+        cache.get(sitemap, "page", widgets, renderer);
+
+        cache.invalidate("page", beforeRendering);
+        assertEquals("page 1", cache.get(sitemap, "page", widgets, renderer));
+
+        cache.invalidate("page", System.nanoTime());
+        assertEquals("page 2", cache.get(sitemap, "page", widgets, renderer));
+        verify(item).removeStateChangeListener(any(StateChangeListener.class));
+    }
+
+    @Test
+    public void testFailedRenderingIsNotCached() throws IOException {
+        renderer.failure = new IOException("rendering failed");
+        try {
+            cache.get(sitemap, "page", widgets, renderer);
+            fail("The exception of the renderer has not been thrown");
+        } catch (IOException e) {
+            assertSame(renderer.failure, e);
+        }
+
+        renderer.failure = null;
+        assertEquals("page 2", cache.get(sitemap, "page", widgets, renderer));
+        assertEquals("page 2", cache.get(sitemap, "page", widgets, renderer));
+    }
+
+    private static class CountingRenderer implements Renderer<String, IOException> {
+
+        private int renderings;
+        private IOException failure;
+
+        @Override
+        public String render() throws IOException {
+            renderings++;
+            if (failure != null) {
+                throw failure;
+            }
+            return "page " + renderings;
+        }
+    }
+
+}
@@ -9,10 +9,15 @@ package org.eclipse.smarthome.ui.internal.chart;
 
 import java.awt.Color;
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Hashtable;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import javax.imageio.ImageIO;
@@ -22,7 +27,11 @@ import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import org.eclipse.smarthome.core.items.GroupItem;
+import org.eclipse.smarthome.core.items.Item;
 import org.eclipse.smarthome.core.items.ItemNotFoundException;
+import org.eclipse.smarthome.core.persistence.PersistenceService;
+import org.eclipse.smarthome.core.types.State;
 import org.eclipse.smarthome.ui.chart.ChartProvider;
 import org.eclipse.smarthome.ui.items.ItemUIRegistry;
 import org.osgi.service.http.HttpContext;
@@ -42,6 +51,9 @@ import org.slf4j.LoggerFactory;
  * <li>groups: A comma separated list of group names, whose members should be displayed</li>
  * <li>service: The persistence service name. If not supplied the first service found will be used.</li>
  * </ul>
+ * <p>
+ * Rendered charts are kept in memory and served again as long as the states of their items have not changed and the
+ * chart has not moved by more than a pixel on its time axis.
  *
  * @author Chris Jackson
  *
@@ -82,6 +94,19 @@ public class ChartServlet extends HttpServlet {
         PERIODS.put("Y", 31536000000L);
     }
 
+    /* the maximum number of rendered charts kept in memory */
+    private static final int MAX_CACHED_CHARTS = 50;
+
+    private final Map<String, CachedChart> chartCache = Collections
+            .synchronizedMap(new LinkedHashMap<String, CachedChart>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedChart> eldest) {
+                    return size() > MAX_CACHED_CHARTS;
+                }
+            });
+
     protected HttpService httpService;
     protected ItemUIRegistry itemUIRegistry;
     static protected Map<String, ChartProvider> chartProviders = new HashMap<String, ChartProvider>();
@@ -104,10 +129,21 @@ public class ChartServlet extends HttpServlet {
 
     public void addChartProvider(ChartProvider provider) {
         chartProviders.put(provider.getName(), provider);
+        chartCache.clear();
     }
 
     public void removeChartProvider(ChartProvider provider) {
         chartProviders.remove(provider.getName());
+        chartCache.clear();
+    }
+
+    public void addPersistenceService(PersistenceService service) {
+        // charts without a service are drawn from the first service found, which may change now
+        chartCache.clear();
+    }
+
+    public void removePersistenceService(PersistenceService service) {
+        chartCache.clear();
     }
 
     static public Map<String, ChartProvider> getChartProviders() {
@@ -151,6 +187,7 @@ public class ChartServlet extends HttpServlet {
         final Object value = config.get("provider");
         if (value instanceof String) {
             providerName = (String) value;
+            chartCache.clear();
         }
     }
 
@@ -184,12 +221,28 @@ public class ChartServlet extends HttpServlet {
         if (provider == null)
             throw new ServletException("Could not get chart provider.");
 
+        String items = req.getParameter("items");
+        String groups = req.getParameter("groups");
+        String key = serviceName + "/" + items + "/" + groups + "/" + period + "/" + width + "x" + height;
+        List<State> states = getStates(items, groups);
+
         // Set the content type to that provided by the chart provider
         res.setContentType("image/" + provider.getChartType());
         try {
-            BufferedImage chart = provider.createChart(serviceName, null, timeBegin, timeEnd, height, width,
-                    req.getParameter("items"), req.getParameter("groups"));
-            ImageIO.write(chart, provider.getChartType().toString(), res.getOutputStream());
+            CachedChart chart = chartCache.get(key);
+            if (chart == null || chart.provider != provider || states == null || !chart.states.equals(states)
+                    || timeEnd.getTime() - chart.time >= period / Math.max(width, 1)) {
+                BufferedImage image = provider.createChart(serviceName, null, timeBegin, timeEnd, height, width,
+                        items, groups);
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                ImageIO.write(image, provider.getChartType().toString(), bytes);
+                chart = new CachedChart(provider, timeEnd.getTime(), states, bytes.toByteArray());
+                if (states != null) {
+                    chartCache.put(key, chart);
+                }
+            }
+            res.setContentLength(chart.data.length);
+            res.getOutputStream().write(chart.data);
         } catch (ItemNotFoundException e) {
             logger.debug("Item not found error while generating chart.");
         } catch (IllegalArgumentException e) {
@@ -197,6 +250,41 @@ public class ChartServlet extends HttpServlet {
         }
     }
 
+    /**
+     * Returns the current states of the items of a chart, which change if new data is persisted for a chart.
+     *
+     * @param items the comma separated item names
+     * @param groups the comma separated group names
+     * @return the states of the items and group members, or null if they cannot be determined
+     */
+    private List<State> getStates(String items, String groups) {
+        if (itemUIRegistry == null) {
+            return null;
+        }
+        List<State> states = new ArrayList<State>();
+        try {
+            if (items != null) {
+                for (String itemName : items.split(",")) {
+                    states.add(itemUIRegistry.getItem(itemName).getState());
+                }
+            }
+            if (groups != null) {
+                for (String groupName : groups.split(",")) {
+                    Item item = itemUIRegistry.getItem(groupName);
+                    if (!(item instanceof GroupItem)) {
+                        return null;
+                    }
+                    for (Item member : ((GroupItem) item).getMembers()) {
+                        states.add(member.getState());
+                    }
+                }
+            }
+        } catch (ItemNotFoundException e) {
+            return null;
+        }
+        return states;
+    }
+
     /**
      * Creates a {@link HttpContext}
      *
@@ -237,4 +325,22 @@ public class ChartServlet extends HttpServlet {
     public void destroy() {
     }
 
+    /**
+     * A rendered chart together with the item states and the time it has been rendered for.
+     */
+    private static class CachedChart {
+
+        private final ChartProvider provider;
+        private final long time;
+        private final List<State> states;
+        private final byte[] data;
+
+        CachedChart(ChartProvider provider, long time, List<State> states, byte[] data) {
+            this.provider = provider;
+            this.time = time;
+            this.states = states;
+            this.data = data;
+        }
+    }
+
 }
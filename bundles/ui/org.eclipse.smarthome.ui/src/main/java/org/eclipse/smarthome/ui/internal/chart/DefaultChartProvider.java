@@ -13,12 +13,17 @@ import java.awt.Font;
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import org.eclipse.smarthome.core.items.GroupItem;
 import org.eclipse.smarthome.core.items.Item;
@@ -51,6 +56,11 @@ import com.xeiam.xchart.StyleManager.LegendPosition;
  * <li>groups: A comma separated list of group names, whose members should be displayed</li>
  * <li>service: The persistence service name. If not supplied the first service found will be used.</li>
  * </ul>
+ * <p>
+ * The history of an item is kept for the time span of a chart, so that a chart for a time span that moves forward, like
+ * the last 24 hours, only queries the data which has been persisted since the last query. As the kept values would
+ * become outdated for persistence services which consolidate older values, this is only done for the services listed
+ * in the <code>incrementalServices</code> configuration option. Series with more values than pixels are reduced to the minimum and maximum value of each pixel before they are drawn.
  *
  * @author Chris Jackson
  *
@@ -67,6 +77,26 @@ public class DefaultChartProvider implements ChartProvider {
             new Color(0, 255, 255, 30), new Color(255, 0, 128, 30), new Color(255, 128, 128, 30),
             new Color(255, 255, 0, 30) };
 
+    /* the maximum number of item histories kept in memory */
+    private static final int MAX_CACHED_HISTORIES = 16;
+
+    /* the maximum number of values of a history kept in memory */
+    static final int MAX_CACHED_VALUES = 20000;
+
+    /* the persistence services whose histories only have to be queried for the data persisted since the last query */
+    private volatile Set<String> incrementalServices = Collections.emptySet();
+
+    /* the histories of the items by persistence service, item name and time span */
+    private final Map<String, ItemHistory> histories = Collections
+            .synchronizedMap(new LinkedHashMap<String, ItemHistory>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, ItemHistory> eldest) {
+                    return size() > MAX_CACHED_HISTORIES;
+                }
+            });
+
     protected ItemUIRegistry itemUIRegistry;
     static protected Map<String, QueryablePersistenceService> persistenceServices = new HashMap<String, QueryablePersistenceService>();
 
@@ -83,24 +113,50 @@ public class DefaultChartProvider implements ChartProvider {
     public void addPersistenceService(PersistenceService service) {
         if (service instanceof QueryablePersistenceService) {
             persistenceServices.put(service.getId(), (QueryablePersistenceService) service);
+            histories.clear();
         }
     }
 
     public void removePersistenceService(PersistenceService service) {
         persistenceServices.remove(service.getId());
+        histories.clear();
     }
 
     static public Map<String, QueryablePersistenceService> getPersistenceServices() {
         return persistenceServices;
     }
 
-    protected void activate() {
+    protected void activate(Map<String, Object> config) {
         logger.debug("Starting up default chart provider.");
+        applyConfig(config);
+    }
+
+    protected void modified(Map<String, Object> config) {
+        applyConfig(config);
     }
 
     protected void deactivate() {
     }
 
+    /**
+     * Handle the initial or an changed configuration.
+     *
+     * @param config the configuration
+     */
+    private void applyConfig(Map<String, Object> config) {
+        Set<String> services = new HashSet<String>();
+        Object value = config != null ? config.get("incrementalServices") : null;
+        if (value instanceof String) {
+            for (String service : ((String) value).split(",")) {
+                if (!service.trim().isEmpty()) {
+                    services.add(service.trim());
+                }
+            }
+        }
+        incrementalServices = services;
+        histories.clear();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -169,7 +225,7 @@ public class DefaultChartProvider implements ChartProvider {
             String[] itemNames = items.split(",");
             for (String itemName : itemNames) {
                 Item item = itemUIRegistry.getItem(itemName);
-                if (addItem(chart, persistenceService, startTime, endTime, item, seriesCounter)) {
+                if (addItem(chart, persistenceService, startTime, endTime, width, item, seriesCounter)) {
                     seriesCounter++;
                 }
             }
@@ -183,7 +239,7 @@ public class DefaultChartProvider implements ChartProvider {
                 if (item instanceof GroupItem) {
                     GroupItem groupItem = (GroupItem) item;
                     for (Item member : groupItem.getMembers()) {
-                        if (addItem(chart, persistenceService, startTime, endTime, member, seriesCounter)) {
+                        if (addItem(chart, persistenceService, startTime, endTime, width, member, seriesCounter)) {
                             seriesCounter++;
                         }
                     }
@@ -226,8 +282,8 @@ public class DefaultChartProvider implements ChartProvider {
         return lBufferedImage;
     }
 
-    boolean addItem(Chart chart, QueryablePersistenceService service, Date timeBegin, Date timeEnd, Item item,
-            int seriesCounter) {
+    boolean addItem(Chart chart, QueryablePersistenceService service, Date timeBegin, Date timeEnd, int width,
+            Item item, int seriesCounter) {
         Color color = LINECOLORS[seriesCounter % LINECOLORS.length];
 
         // Get the item label
@@ -243,30 +299,10 @@ public class DefaultChartProvider implements ChartProvider {
             label = item.getName();
         }
 
-        // Define the data filter
-        FilterCriteria filter = new FilterCriteria();
-        filter.setBeginDate(timeBegin);
-        filter.setEndDate(timeEnd);
-        filter.setItemName(item.getName());
-        filter.setOrdering(Ordering.ASCENDING);
-
-        // Get the data from the persistence store
-        Iterable<HistoricItem> result = service.query(filter);
-        Iterator<HistoricItem> it = result.iterator();
-
-        // Generate data collections
+        // Get the data from the persistence store and generate data collections
         Collection<Date> xData = new ArrayList<Date>();
         Collection<Number> yData = new ArrayList<Number>();
-
-        // Iterate through the data
-        while (it.hasNext()) {
-            HistoricItem historicItem = it.next();
-            org.eclipse.smarthome.core.types.State state = historicItem.getState();
-            if (state instanceof DecimalType) {
-                xData.add(historicItem.getTimestamp());
-                yData.add((DecimalType) state);
-            }
-        }
+        getSeries(service, item.getName(), timeBegin.getTime(), timeEnd.getTime(), width, xData, yData);
 
         // Add the new series to the chart - only if there's data elements to display
         if (xData.size() == 0) {
@@ -297,6 +333,145 @@ public class DefaultChartProvider implements ChartProvider {
         return true;
     }
 
+    /**
+     * Adds the values of an item within a time span to the data collections of a series. If the service is queried
+     * incrementally and the history for an earlier time span of the same length has been queried before, only the data
+     * persisted since then is queried.
+     */
+    void getSeries(QueryablePersistenceService service, String itemName, long begin, long end, int width,
+            Collection<Date> xData, Collection<Number> yData) {
+        if (!incrementalServices.contains(service.getId())) {
+            ItemHistory history = new ItemHistory();
+            history.append(query(service, itemName, begin, end));
+            history.decimate(begin, end, width, xData, yData);
+            return;
+        }
+
+        String key = service.getId() + "/" + itemName + "/" + (end - begin);
+        ItemHistory history = histories.get(key);
+        if (history == null) {
+            history = new ItemHistory();
+        }
+        // the history is updated in place, so concurrent requests for the same chart have to wait for each other
+        synchronized (history) {
+            if (history.end <= end && history.end >= begin) {
+                history.removeBefore(begin);
+                // query again from the last value, as values might have been stored after the last query
+                long queryBegin = history.size > 0 ? history.lastTimestamp() : history.end;
+                history.append(query(service, itemName, queryBegin, end));
+            } else {
+                history.clear();
+                history.append(query(service, itemName, begin, end));
+            }
+            history.end = end;
+            history.decimate(begin, end, width, xData, yData);
+
+            if (history.size <= MAX_CACHED_VALUES) {
+                histories.put(key, history);
+            } else {
+                histories.remove(key);
+            }
+        }
+    }
+
+    private Iterable<HistoricItem> query(QueryablePersistenceService service, String itemName, long begin, long end) {
+        // Define the data filter
+        FilterCriteria filter = new FilterCriteria();
+        filter.setBeginDate(new Date(begin));
+        filter.setEndDate(new Date(end));
+        filter.setItemName(itemName);
+        filter.setOrdering(Ordering.ASCENDING);
+        return service.query(filter);
+    }
+
+    /**
+     * The decimal values of an item within a time span, in ascending order.
+     */
+    private static class ItemHistory {
+
+        private long[] timestamps = new long[16];
+        private double[] values = new double[16];
+        private int size;
+
+        /** the end of the time span of the last query */
+        private long end;
+
+        void clear() {
+            size = 0;
+        }
+
+        long lastTimestamp() {
+            return timestamps[size - 1];
+        }
+
+        void removeBefore(long begin) {
+            int first = 0;
+            while (first < size && timestamps[first] < begin) {
+                first++;
+            }
+            if (first > 0) {
+                System.arraycopy(timestamps, first, timestamps, 0, size - first);
+                System.arraycopy(values, first, values, 0, size - first);
+                size -= first;
+            }
+        }
+
+        void append(Iterable<HistoricItem> items) {
+            for (HistoricItem historicItem : items) {
+                org.eclipse.smarthome.core.types.State state = historicItem.getState();
+                long timestamp = historicItem.getTimestamp().getTime();
+                if (state instanceof DecimalType && (size == 0 || timestamp > timestamps[size - 1])) {
+                    if (size == timestamps.length) {
+                        timestamps = Arrays.copyOf(timestamps, size * 2);
+                        values = Arrays.copyOf(values, size * 2);
+                    }
+                    timestamps[size] = timestamp;
+                    values[size] = ((DecimalType) state).doubleValue();
+                    size++;
+                }
+            }
+        }
+
+        /**
+         * Adds the values to the data collections of a series. If there are more values than twice the width, only
+         * the minimum and the maximum value of each pixel are added, as the other values would not be visible anyway.
+         */
+        void decimate(long begin, long end, int width, Collection<Date> xData, Collection<Number> yData) {
+            if (size <= 2 * width || end <= begin) {
+                for (int i = 0; i < size; i++) {
+                    xData.add(new Date(timestamps[i]));
+                    yData.add(values[i]);
+                }
+                return;
+            }
+            int i = 0;
+            while (i < size) {
+                long pixel = (timestamps[i] - begin) * width / (end - begin);
+                int min = i;
+                int max = i;
+                int j = i + 1;
+                while (j < size && (timestamps[j] - begin) * width / (end - begin) == pixel) {
+                    if (values[j] < values[min]) {
+                        min = j;
+                    }
+                    if (values[j] > values[max]) {
+                        max = j;
+                    }
+                    j++;
+                }
+                int first = Math.min(min, max);
+                int last = Math.max(min, max);
+                xData.add(new Date(timestamps[first]));
+                yData.add(values[first]);
+                if (last != first) {
+                    xData.add(new Date(timestamps[last]));
+                    yData.add(values[last]);
+                }
+                i = j;
+            }
+        }
+    }
+
     @Override
     public ImageType getChartType() {
         return (ImageType.png);
@@ -12,7 +12,10 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -45,7 +48,6 @@ import org.eclipse.smarthome.core.transform.TransformationHelper;
 import org.eclipse.smarthome.core.transform.TransformationService;
 import org.eclipse.smarthome.core.types.State;
 import org.eclipse.smarthome.core.types.StateDescription;
-import org.eclipse.smarthome.core.types.Type;
 import org.eclipse.smarthome.core.types.UnDefType;
 import org.eclipse.smarthome.model.sitemap.ColorArray;
 import org.eclipse.smarthome.model.sitemap.Default;
@@ -90,6 +92,10 @@ public class ItemUIRegistryImpl implements ItemUIRegistry {
 
     protected ItemRegistry itemRegistry;
 
+    /* the compiled labels of the widgets, which are dropped together with the widgets of a reloaded sitemap */
+    private final Map<Widget, LabelFormat> labelFormats = Collections
+            .synchronizedMap(new WeakHashMap<Widget, LabelFormat>());
+
     public ItemUIRegistryImpl() {
     }
 
@@ -274,69 +280,84 @@ public class ItemUIRegistryImpl implements ItemUIRegistry {
         // in the label
         // (i.e. it contains at least a %)
         String itemName = w.getItem();
-        if (itemName != null) {
-            State state = null;
-            String formatPattern = null;
-
-            try {
-                final Item item = getItem(itemName);
-                if (getFormatPattern(label) == null) {
-                    final StateDescription stateDescription = item.getStateDescription();
-                    if (stateDescription != null) {
-                        final String pattern = stateDescription.getPattern();
-                        if (pattern != null) {
-                            label = label + " [" + pattern + "]";
-                        }
-                    }
-                }
+        if (itemName == null) {
+            LabelFormat labelFormat = getLabelFormat(w, label, null);
+            return labelFormat.pattern != null ? labelFormat.format(labelFormat.valuePattern) : label;
+        }
 
-                String updatedPattern = getFormatPattern(label);
-                if (updatedPattern != null) {
-                    formatPattern = updatedPattern;
-
-                    // TODO: TEE: we should find a more generic solution here! When
-                    // using indexes in formatString this 'contains' will fail again
-                    // and will cause an 'java.util.IllegalFormatConversionException:
-                    // d != java.lang.String' later on when trying to format a String
-                    // as %d (number).
-                    if (label.contains("%d")) {
-                        // a number is requested
-                        state = item.getState();
-                        if (!(state instanceof DecimalType)) {
-                            state = item.getStateAs(DecimalType.class);
-                        }
-                    } else {
-                        state = item.getState();
-                    }
-                }
-            } catch (ItemNotFoundException e) {
-                logger.error("Cannot retrieve item for widget {}", w.eClass().getInstanceTypeName());
+        Item item = null;
+        try {
+            item = getItem(itemName);
+        } catch (ItemNotFoundException e) {
+            logger.error("Cannot retrieve item for widget {}", w.eClass().getInstanceTypeName());
+        }
+
+        LabelFormat labelFormat = getLabelFormat(w, label, item);
+        if (labelFormat.pattern == null) {
+            return label;
+        }
+
+        // an item that cannot be found is shown like an undefined state
+        State state = null;
+        if (item != null) {
+            // TODO: TEE: we should find a more generic solution here! When
+            // using indexes in formatString this 'contains' will fail again
+            // and will cause an 'java.util.IllegalFormatConversionException:
+            // d != java.lang.String' later on when trying to format a String
+            // as %d (number).
+            state = item.getState();
+            if (labelFormat.numeric && !(state instanceof DecimalType)) {
+                // a number is requested
+                state = item.getStateAs(DecimalType.class);
             }
+        }
 
-            if (formatPattern != null) {
-                if (state == null || state instanceof UnDefType) {
-                    formatPattern = formatUndefined(formatPattern);
-                } else if (state instanceof Type) {
-                    // The following exception handling has been added to work around a Java bug with formatting
-                    // numbers. See http://bugs.sun.com/view_bug.do?bug_id=6476425
-                    // Without this catch, the whole sitemap, or page can not be displayed!
-                    // This also handles IllegalFormatConversionException, which is a subclass of IllegalArgument.
-                    try {
-                        formatPattern = ((Type) state).format(formatPattern);
-                    } catch (IllegalArgumentException e) {
-                        logger.warn("Exception while formatting value '{}' of item {} with format '{}': {}", state,
-                                itemName, formatPattern, e);
-                        formatPattern = new String("Err");
-                    }
-                }
+        if (state == null || state instanceof UnDefType) {
+            return labelFormat.format(labelFormat.undefinedValue);
+        }
+        // The following exception handling has been added to work around a Java bug with formatting
+        // numbers. See http://bugs.sun.com/view_bug.do?bug_id=6476425
+        // Without this catch, the whole sitemap, or page can not be displayed!
+        // This also handles IllegalFormatConversionException, which is a subclass of IllegalArgument.
+        try {
+            return labelFormat.format(state.format(labelFormat.valuePattern));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Exception while formatting value '{}' of item {} with format '{}': {}", state, itemName,
+                    labelFormat.valuePattern, e);
+            return labelFormat.prefix + "Err]";
+        }
+    }
 
-                label = label.trim().substring(0, label.indexOf("[") + 1) + formatPattern + "]";
+    /**
+     * Returns the compiled label of a widget. The compiled label is kept until the label of the widget or the pattern
+     * of the state description of its item changes; it is dropped together with the widget if the sitemap is reloaded.
+     *
+     * @param w the widget
+     * @param label the label of the widget
+     * @param item the item of the widget, may be null
+     * @return the compiled label
+     */
+    private LabelFormat getLabelFormat(Widget w, String label, Item item) {
+        LabelFormat labelFormat = labelFormats.get(w);
+        if (labelFormat != null && !labelFormat.label.equals(label)) {
+            labelFormat = null;
+        }
+
+        // the pattern of the state description is only used if the label does not define one
+        String statePattern = null;
+        boolean hasPattern = labelFormat != null ? labelFormat.hasOwnPattern : getFormatPattern(label) != null;
+        if (!hasPattern && item != null) {
+            StateDescription stateDescription = item.getStateDescription();
+            if (stateDescription != null) {
+                statePattern = stateDescription.getPattern();
             }
         }
 
-        label = transform(label);
-
-        return label;
+        if (labelFormat == null || !Objects.equals(labelFormat.statePattern, statePattern)) {
+            labelFormat = new LabelFormat(label, statePattern);
+            labelFormats.put(w, labelFormat);
+        }
+        return labelFormat;
     }
 
     private String getFormatPattern(String label) {
@@ -390,39 +411,95 @@ public class ItemUIRegistryImpl implements ItemUIRegistry {
         }
     }
 
-    /*
-     * check if there is a status value being displayed on the right side of the
-     * label (the right side is signified by being enclosed in square brackets [].
-     * If so, check if the value starts with the call to a transformation service
-     * (e.g. "[MAP(en.map):%s]") and execute the transformation in this case.
+    /**
+     * A label, which has been parsed into the text in front of the value, the format pattern of the value and the
+     * transformation to apply to the formatted value, so that rendering the label only has to format the value.
      */
-    private String transform(String label) {
-        if (getFormatPattern(label) != null) {
-            Matcher matcher = EXTRACT_TRANSFORMFUNCTION_PATTERN.matcher(label);
-            if (matcher.find()) {
-                String type = matcher.group(1);
-                String pattern = matcher.group(2);
-                String value = matcher.group(3);
+    private class LabelFormat {
+
+        /** the label of the widget */
+        private final String label;
+
+        /** the pattern of the state description, if the label does not define a format pattern */
+        private final String statePattern;
+
+        private final boolean hasOwnPattern;
+
+        /** the format pattern within the square brackets, or null if the label does not show a value */
+        private String pattern;
+
+        /** the label up to and including the opening square bracket */
+        private String prefix;
+
+        /** the format pattern of the value without the transformation function */
+        private String valuePattern;
+
+        /** true, if the pattern requests a number */
+        private boolean numeric;
+
+        /** the value shown for an undefined state */
+        private String undefinedValue;
+
+        private String transformationType;
+        private String transformationFunction;
+
+        LabelFormat(String label, String statePattern) {
+            this.label = label;
+            this.statePattern = statePattern;
+
+            String formatPattern = getFormatPattern(label);
+            this.hasOwnPattern = formatPattern != null;
+            String fullLabel = label;
+            if (formatPattern == null && statePattern != null) {
+                fullLabel = label + " [" + statePattern + "]";
+                formatPattern = getFormatPattern(fullLabel);
+            }
+            if (formatPattern == null) {
+                return;
+            }
+
+            this.pattern = formatPattern;
+            String trimmedLabel = fullLabel.trim();
+            this.prefix = trimmedLabel.substring(0, trimmedLabel.indexOf("[") + 1);
+            this.numeric = fullLabel.contains("%d");
+
+            // check if the value starts with the call to a transformation service (e.g. "[MAP(en.map):%s]")
+            Matcher matcher = EXTRACT_TRANSFORMFUNCTION_PATTERN.matcher("[" + formatPattern + "]");
+            if (matcher.matches()) {
+                this.transformationType = matcher.group(1);
+                this.transformationFunction = matcher.group(2);
+                this.valuePattern = matcher.group(3);
+            } else {
+                this.valuePattern = formatPattern;
+            }
+            this.undefinedValue = formatUndefined(valuePattern);
+        }
+
+        /**
+         * Creates the label for the given value, which is transformed if the label calls a transformation service.
+         *
+         * @param value the formatted value
+         * @return the label
+         */
+        String format(String value) {
+            if (transformationType != null) {
                 TransformationService transformation = TransformationHelper
-                        .getTransformationService(UIActivator.getContext(), type);
+                        .getTransformationService(UIActivator.getContext(), transformationType);
                 if (transformation != null) {
                     try {
-                        label = label.substring(0, label.indexOf("[") + 1) + transformation.transform(pattern, value)
-                                + "]";
+                        value = transformation.transform(transformationFunction, value);
                     } catch (TransformationException e) {
                         logger.error("transformation throws exception [transformation=" + transformation + ", value="
                                 + value + "]", e);
-                        label = label.substring(0, label.indexOf("[") + 1) + value + "]";
                     }
                 } else {
                     logger.warn(
                             "couldn't transform value in label because transformationService of type '{}' is unavailable",
-                            type);
-                    label = label.substring(0, label.indexOf("[") + 1) + value + "]";
+                            transformationType);
                 }
             }
+            return prefix + value + "]";
         }
-        return label;
     }
 
     /**
@@ -0,0 +1,282 @@
+/**
+ * Copyright (c) 2014-2016 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.ui.items;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+import org.eclipse.smarthome.core.common.registry.RegistryChangeListener;
+import org.eclipse.smarthome.core.items.GenericItem;
+import org.eclipse.smarthome.core.items.GroupItem;
+import org.eclipse.smarthome.core.items.Item;
+import org.eclipse.smarthome.core.items.ItemNotFoundException;
+import org.eclipse.smarthome.core.items.StateChangeListener;
+import org.eclipse.smarthome.core.types.State;
+import org.eclipse.smarthome.model.sitemap.ColorArray;
+import org.eclipse.smarthome.model.sitemap.Frame;
+import org.eclipse.smarthome.model.sitemap.Sitemap;
+import org.eclipse.smarthome.model.sitemap.VisibilityRule;
+import org.eclipse.smarthome.model.sitemap.Widget;
+
+/**
+ * A cache of rendered sitemap pages, e.g. page DTOs or HTML code. A rendered page is kept until the state of one of the
+ * items its widgets depend on changes - the items of the widgets, of their visibility rules and color conditions and
+ * the members of groups - or until items are added, removed or updated.
+ * <p>
+ * Concurrent requests of the same page share one rendering, so a page is rendered only once per change, no matter how
+ * many clients show it.
+ *
+ * @author agent - Initial contribution
+ *
+ * @param <V> the type of the rendered pages
+ */
+public class PageCache<V> {
+
+    /**
+     * Renders a page.
+     *
+     * @param <V> the type of the rendered page
+     * @param <E> the type of exception thrown if the page cannot be rendered
+     */
+    public interface Renderer<V, E extends Exception> {
+
+        /**
+         * Renders the page.
+         *
+         * @return the rendered page
+         * @throws E if the page cannot be rendered
+         */
+        V render() throws E;
+    }
+
+    private final ItemUIRegistry itemUIRegistry;
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final RegistryChangeListener<Item> registryChangeListener = new RegistryChangeListener<Item>() {
+        @Override
+        public void added(Item element) {
+            clear();
+        }
+
+        @Override
+        public void removed(Item element) {
+            clear();
+        }
+
+        @Override
+        public void updated(Item oldElement, Item element) {
+            clear();
+        }
+    };
+
+    /**
+     * Creates a page cache, which has to be disposed if it is not used anymore.
+     *
+     * @param itemUIRegistry the registry to look up the items of the widgets
+     */
+    public PageCache(ItemUIRegistry itemUIRegistry) {
+        this.itemUIRegistry = itemUIRegistry;
+        itemUIRegistry.addRegistryChangeListener(registryChangeListener);
+    }
+
+    /**
+     * Returns a rendered page, which is rendered if it is not cached or if the rendered page is not valid anymore.
+     *
+     * @param sitemap the sitemap of the page, the page is rendered again if the sitemap has been reloaded
+     * @param key the key of the page, which has to contain everything the rendering depends on besides the sitemap and
+     *            the widgets, e.g. the page id and the locale
+     * @param widgets the widgets the page depends on, i.e. its children and the widgets of the page title
+     * @param renderer the renderer of the page
+     * @return the rendered page
+     * @throws E if the page cannot be rendered
+     */
+    public <E extends Exception> V get(Sitemap sitemap, String key, Collection<Widget> widgets,
+            final Renderer<V, E> renderer) throws E {
+        while (true) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.sitemap == sitemap) {
+                return entry.<E> getPage();
+            }
+            Entry newEntry = new Entry(key, sitemap, new Callable<V>() {
+                @Override
+                public V call() throws Exception {
+                    return renderer.render();
+                }
+            });
+            boolean added = entry == null ? entries.putIfAbsent(key, newEntry) == null
+                    : entries.replace(key, entry, newEntry);
+            if (!added) {
+                // another request has started to render the page meanwhile
+                continue;
+            }
+            if (entry != null) {
+                entry.invalidate();
+            }
+            // observe the items before rendering, so that no change during the rendering is missed
+            newEntry.observe(getItems(widgets));
+            newEntry.task.run();
+            return newEntry.<E> getPage();
+        }
+    }
+
+    /**
+     * Removes a rendered page, if it has been started to render before the given time. This is needed by callers that
+     * observe the items of a page themselves, because the listeners of an item are notified concurrently, so the page
+     * may still be cached when they learn about a change.
+     *
+     * @param key the key of the page
+     * @param nanoTime the time as returned by {@link System#nanoTime()}
+     */
+    public void invalidate(String key, long nanoTime) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.created - nanoTime < 0) {
+            entry.invalidate();
+        }
+    }
+
+    /**
+     * Removes all rendered pages.
+     */
+    public void clear() {
+        for (Entry entry : entries.values()) {
+            entry.invalidate();
+        }
+    }
+
+    /**
+     * Removes all rendered pages and stops observing the items.
+     */
+    public void dispose() {
+        itemUIRegistry.removeRegistryChangeListener(registryChangeListener);
+        clear();
+    }
+
+    private Set<GenericItem> getItems(Collection<Widget> widgets) {
+        Set<GenericItem> items = new HashSet<>();
+        for (Widget widget : widgets) {
+            addItem(items, widget.getItem());
+            for (VisibilityRule rule : widget.getVisibility()) {
+                addItem(items, rule.getItem());
+            }
+            for (ColorArray color : widget.getLabelColor()) {
+                addItem(items, color.getItem());
+            }
+            for (ColorArray color : widget.getValueColor()) {
+                addItem(items, color.getItem());
+            }
+            if (widget instanceof Frame) {
+                items.addAll(getItems(((Frame) widget).getChildren()));
+            }
+        }
+        return items;
+    }
+
+    private void addItem(Set<GenericItem> items, String itemName) {
+        if (itemName == null) {
+            return;
+        }
+        try {
+            Item item = itemUIRegistry.getItem(itemName);
+            if (item instanceof GenericItem) {
+                items.add((GenericItem) item);
+            }
+            // the state of a group is calculated from the states of its members
+            if (item instanceof GroupItem) {
+                for (Item member : ((GroupItem) item).getAllMembers()) {
+                    if (member instanceof GenericItem) {
+                        items.add((GenericItem) member);
+                    }
+                }
+            }
+        } catch (ItemNotFoundException e) {
+            // the page does not depend on items that do not exist
+        }
+    }
+
+    /**
+     * A rendered page, which removes itself from the cache as soon as one of its items changes.
+     */
+    private class Entry implements StateChangeListener {
+
+        private final String key;
+        private final Sitemap sitemap;
+        private final FutureTask<V> task;
+        private final long created = System.nanoTime();
+        private Set<GenericItem> items;
+        private boolean invalid;
+
+        Entry(String key, Sitemap sitemap, Callable<V> callable) {
+            this.key = key;
+            this.sitemap = sitemap;
+            this.task = new FutureTask<>(callable);
+        }
+
+        synchronized void observe(Set<GenericItem> items) {
+            if (invalid) {
+                return;
+            }
+            this.items = items;
+            for (GenericItem item : items) {
+                item.addStateChangeListener(this);
+            }
+        }
+
+        void invalidate() {
+            Set<GenericItem> observedItems;
+            synchronized (this) {
+                invalid = true;
+                observedItems = items;
+                items = null;
+            }
+            entries.remove(key, this);
+            if (observedItems != null) {
+                for (GenericItem item : observedItems) {
+                    item.removeStateChangeListener(this);
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        <E extends Exception> V getPage() throws E {
+            try {
+                return task.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for the page '" + key + "'", e);
+            } catch (ExecutionException e) {
+                // a failed rendering must not be cached
+                invalidate();
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                } else if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw (E) cause;
+            }
+        }
+
+        @Override
+        public void stateChanged(Item item, State oldState, State newState) {
+            invalidate();
+        }
+
+        @Override
+        public void stateUpdated(Item item, State state) {
+            // the page only changes if a state changes
+        }
+    }
+
+}
@@ -85,6 +85,21 @@ public class Config {
     public static final int DEFAULT_POLLING_FREQUENCY = 1000; // in milliseconds
     private int pollingFrequency = DEFAULT_POLLING_FREQUENCY; // in milliseconds
 
+    /**
+     * By default the states of the devices are kept up to date by the events of the digitalSTROM-Server and the
+     * apartment structure is only scanned completely in the structure reconciliation interval. If it is disabled, the
+     * apartment structure will be scanned with the polling frequency.
+     */
+    public static final boolean DEFAULT_EVENT_DRIVEN_SYNC = true;
+    private boolean eventDrivenSync = DEFAULT_EVENT_DRIVEN_SYNC;
+
+    /**
+     * Default interval in milliseconds to scan the complete apartment structure, if the event driven synchronization
+     * is enabled.
+     */
+    public static final int DEFAULT_STRUCTURE_RECONCILIATION_INTERVAL = 60000; // in milliseconds
+    private int structureReconciliationInterval = DEFAULT_STRUCTURE_RECONCILIATION_INTERVAL; // in milliseconds
+
     /* Sensordata */
     // Sensodata read config
 
@@ -130,6 +145,13 @@ public class Config {
      */
     private int eventListenerRefreshinterval = DEFAULT_POLLING_FREQUENCY;
 
+    /**
+     * Default time in milliseconds the digitalSTROM-Server holds back an event request of the {@link EventListener},
+     * if no event occurs.
+     */
+    public static final int DEFAULT_EVENT_TIMEOUT = 30000;
+    private int eventTimeout = DEFAULT_EVENT_TIMEOUT;
+
     /**
      * The default max standby active power for a device. It's needed to set a {@link Device} with output mode
      * {@link OutputModeEnum#WIPE} on if it isen't any more in standby mode.
@@ -511,6 +533,65 @@ public class Config {
         this.eventListenerRefreshinterval = eventListenerRefreshinterval;
     }
 
+    /**
+     * Returns the time in milliseconds the digitalSTROM-Server holds back an event request of the
+     * {@link EventListener}, if no event occurs.
+     *
+     * @return the event timeout in milliseconds
+     */
+    public int getEventTimeout() {
+        return eventTimeout;
+    }
+
+    /**
+     * Sets the time in milliseconds the digitalSTROM-Server holds back an event request of the {@link EventListener},
+     * if no event occurs.
+     *
+     * @param eventTimeout
+     */
+    public void setEventTimeout(int eventTimeout) {
+        this.eventTimeout = eventTimeout;
+    }
+
+    /**
+     * Returns true, if the states of the devices are synchronized by the events of the digitalSTROM-Server and the
+     * apartment structure is only scanned in the structure reconciliation interval.
+     *
+     * @return true, if the event driven synchronization is enabled
+     */
+    public boolean isEventDrivenSync() {
+        return eventDrivenSync;
+    }
+
+    /**
+     * Enables or disables the event driven synchronization of the device states.
+     *
+     * @param eventDrivenSync
+     */
+    public void setEventDrivenSync(boolean eventDrivenSync) {
+        this.eventDrivenSync = eventDrivenSync;
+    }
+
+    /**
+     * Returns the interval in milliseconds to scan the complete apartment structure, if the event driven
+     * synchronization is enabled.
+     *
+     * @return the structure reconciliation interval in milliseconds
+     */
+    public int getStructureReconciliationInterval() {
+        return structureReconciliationInterval;
+    }
+
+    /**
+     * Sets the interval in milliseconds to scan the complete apartment structure, if the event driven synchronization
+     * is enabled.
+     *
+     * @param structureReconciliationInterval
+     */
+    public void setStructureReconciliationInterval(int structureReconciliationInterval) {
+        this.structureReconciliationInterval = structureReconciliationInterval;
+    }
+
     /**
      * Returns the max standby active power for a device. It's needed to set a {@link Device} with output mode
      * {@link OutputModeEnum#WIPE} on if it isen't any more in standby mode.
@@ -575,12 +656,15 @@ public class Config {
         setTrashDeviceDeleteTime(config.getTrashDeviceDeleteTime());
         setBinCheckTime(config.getBinCheckTime());
         setPollingFrequency(config.getPollingFrequency());
+        setEventDrivenSync(config.isEventDrivenSync());
+        setStructureReconciliationInterval(config.getStructureReconciliationInterval());
         setSensordataRefreshInterval(config.getSensordataRefreshInterval());
         setTotalPowerUpdateInterval(config.getTotalPowerUpdateInterval());
         setSensorReadingWaitTime(config.getSensorReadingWaitTime());
         setMediumPriorityFactor(config.getMediumPriorityFactor());
         setLowPriorityFactor(config.getLowPriorityFactor());
         setEventListenerRefreshinterval(config.getEventListenerRefreshinterval());
+        setEventTimeout(config.getEventTimeout());
         setStandbyActivePower(config.getStandbyActivePower());
         setApplicationName(config.getApplicationName());
     }
@@ -592,10 +676,13 @@ public class Config {
                 + ", readTimeout=" + readTimeout + ", sensordataConnectionTimeout=" + sensordataConnectionTimeout
                 + ", sensordataReadTimeout=" + sensordataReadTimeout + ", trustCertPath=" + trustCertPath
                 + ", trashDeviceDeleteTime=" + trashDeviceDeleteTime + ", binCheckTime=" + binCheckTime
-                + ", pollingFrequency=" + pollingFrequency + ", sensordataRefreshInterval=" + sensordataRefreshInterval
+                + ", pollingFrequency=" + pollingFrequency + ", eventDrivenSync=" + eventDrivenSync
+                + ", structureReconciliationInterval=" + structureReconciliationInterval
+                + ", sensordataRefreshInterval=" + sensordataRefreshInterval
                 + ", totalPowerUpdateInterval=" + totalPowerUpdateInterval + ", sensorReadingWaitTime="
                 + sensorReadingWaitTime + ", mediumPriorityFactor=" + mediumPriorityFactor + ", lowPriorityFactor="
                 + lowPriorityFactor + ", eventListenerRefreshinterval=" + eventListenerRefreshinterval
+                + ", eventTimeout=" + eventTimeout
                 + ", standbyActivePower=" + standbyActivePower + "]";
     }
 }
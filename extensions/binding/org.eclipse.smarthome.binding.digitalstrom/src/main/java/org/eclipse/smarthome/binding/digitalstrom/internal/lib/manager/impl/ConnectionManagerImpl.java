@@ -26,11 +26,18 @@ import org.eclipse.smarthome.binding.digitalstrom.internal.lib.serverConnection.
  */
 public class ConnectionManagerImpl implements ConnectionManager {
 
+    /**
+     * Time in milliseconds a successful connection check is reused. Within this time the session token is not checked
+     * again against the digitalSTROM-Server, so consecutive requests don't each cost an additional round trip.
+     */
+    private static final long CONNECTION_CHECK_INTERVAL = 1000;
+
     private Config config;
     private ConnectionListener connListener = null;
     private HttpTransport transport;
     private String sessionToken;
     private Boolean lostConnectionState = false;
+    private long lastConnectionCheck = 0;
     private boolean genAppToken = true;
     private DsAPI digitalSTROMClient;
 
@@ -144,6 +151,10 @@ public class ConnectionManagerImpl implements ConnectionManager {
 
     @Override
     public synchronized boolean checkConnection() {
+        if (lostConnectionState && sessionToken != null
+                && lastConnectionCheck + CONNECTION_CHECK_INTERVAL > System.currentTimeMillis()) {
+            return true;
+        }
         int code = this.digitalSTROMClient.checkConnection(sessionToken);
         switch (code) {
             case HttpURLConnection.HTTP_OK:
@@ -201,6 +212,7 @@ public class ConnectionManagerImpl implements ConnectionManager {
                 lostConnectionState = false;
                 break;
         }
+        lastConnectionCheck = lostConnectionState ? System.currentTimeMillis() : 0;
         return lostConnectionState;
     }
 
@@ -130,6 +130,7 @@ public class DeviceStatusManagerImpl implements DeviceStatusManager {
     private class PollingRunnable implements Runnable {
         private boolean devicesLoaded = false;
         private long nextSensorUpdate = 0;
+        private long nextStructureScan = 0;
 
         @Override
         public void run() {
@@ -142,16 +143,21 @@ public class DeviceStatusManagerImpl implements DeviceStatusManager {
                         stateChanged(ManagerStates.INITIALIZING);
                     }
                 }
-                HashMap<DSID, Device> tempDeviceMap;
-                if (strucMan.getDeviceMap() != null) {
-                    tempDeviceMap = (HashMap<DSID, Device>) strucMan.getDeviceMap();
+
+                // the device states are kept up to date by the scene events of the EventListener, so the apartment
+                // structure only has to be scanned in the reconciliation interval
+                if (!config.isEventDrivenSync() || !devicesLoaded
+                        || nextStructureScan <= System.currentTimeMillis()) {
+                    scanStructure();
+                    nextStructureScan = System.currentTimeMillis() + config.getStructureReconciliationInterval();
                 } else {
-                    tempDeviceMap = new HashMap<DSID, Device>();
+                    for (Device eshDevice : strucMan.getDeviceMap().values()) {
+                        if (eshDevice.isPresent()) {
+                            checkDeviceStateUpdates(eshDevice);
+                        }
+                    }
                 }
 
-                List<Device> currentDeviceList = digitalSTROMClient.getApartmentDevices(connMan.getSessionToken(),
-                        false);
-
                 // update the current total power consumption
                 if (totalPowerConsumptionListener != null && nextSensorUpdate <= System.currentTimeMillis()) {
                     meters = digitalSTROMClient.getMeterList(connMan.getSessionToken());
@@ -160,82 +166,6 @@ public class DeviceStatusManagerImpl implements DeviceStatusManager {
                     nextSensorUpdate = System.currentTimeMillis() + config.getTotalPowerUpdateInterval();
                 }
 
-                while (!currentDeviceList.isEmpty()) {
-                    Device currentDevice = currentDeviceList.remove(0);
-                    DSID currentDeviceDSID = currentDevice.getDSID();
-                    Device eshDevice = tempDeviceMap.remove(currentDeviceDSID);
-
-                    if (eshDevice != null) {
-                        checkDeviceConfig(currentDevice, eshDevice);
-
-                        if (eshDevice.isPresent()) {
-                            // check device state updates
-                            while (!eshDevice.isDeviceUpToDate()) {
-                                DeviceStateUpdate deviceStateUpdate = eshDevice.getNextDeviceUpdateState();
-                                if (deviceStateUpdate != null) {
-                                    switch (deviceStateUpdate.getType()) {
-                                        case DeviceStateUpdate.UPDATE_BRIGHTNESS:
-                                        case DeviceStateUpdate.UPDATE_SLAT_ANGLE_INCREASE:
-                                        case DeviceStateUpdate.UPDATE_SLAT_ANGLE_DECREASE:
-                                            filterCommand(deviceStateUpdate, eshDevice);
-                                            break;
-                                        case DeviceStateUpdate.UPDATE_SCENE_CONFIG:
-                                        case DeviceStateUpdate.UPDATE_SCENE_OUTPUT:
-                                            updateSceneData(eshDevice, deviceStateUpdate);
-                                            break;
-                                        case DeviceStateUpdate.UPDATE_OUTPUT_VALUE:
-                                            readOutputValue(eshDevice);
-                                            break;
-                                        default:
-                                            sendComandsToDSS(eshDevice, deviceStateUpdate);
-                                    }
-                                }
-                            }
-                        }
-
-                    } else {
-                        logger.debug("Found new device!");
-                        if (trashDevices.isEmpty()) {
-                            currentDevice.setConfig(config);
-                            strucMan.addDeviceToStructure(currentDevice);
-                            logger.debug("trashDevices are empty, add Device with dSID "
-                                    + currentDevice.getDSID().toString() + " to the deviceMap!");
-                        } else {
-                            logger.debug("Search device in trashDevices.");
-                            TrashDevice foundTrashDevice = null;
-                            for (TrashDevice trashDevice : trashDevices) {
-                                if (trashDevice != null) {
-                                    if (trashDevice.getDevice().equals(currentDevice)) {
-                                        foundTrashDevice = trashDevice;
-                                        logger.debug(
-                                                "Found device in trashDevices, add TrashDevice with dSID {} to the StructureManager!",
-                                                currentDeviceDSID);
-                                    }
-                                }
-                            }
-                            if (foundTrashDevice != null) {
-                                trashDevices.remove(foundTrashDevice);
-                                strucMan.addDeviceToStructure(foundTrashDevice.getDevice());
-                            } else {
-                                strucMan.addDeviceToStructure(currentDevice);
-                                logger.debug(
-                                        "Can't find device in trashDevices, add Device with dSID: {} to the StructureManager!",
-                                        currentDeviceDSID);
-                            }
-                        }
-                        if (deviceDiscovery != null) {
-                            if (currentDevice.isDeviceWithOutput()) {
-                                deviceDiscovery.onDeviceAdded(currentDevice);
-                                logger.debug("inform DeviceStatusListener: {} about removed device with dSID {}",
-                                        DeviceStatusListener.DEVICE_DISCOVERY, currentDevice.getDSID().getValue());
-                            }
-                        } else {
-                            logger.debug(
-                                    "The device discovery is not registrated, can't inform device discovery about found device.");
-                        }
-                    }
-                }
-
                 if (!devicesLoaded && strucMan.getDeviceMap() != null) {
                     if (!strucMan.getDeviceMap().values().isEmpty()) {
                         logger.debug("Devices loaded");
@@ -250,36 +180,130 @@ public class DeviceStatusManagerImpl implements DeviceStatusManager {
                     sceneMan.generateScenes();
                 }
 
-                for (Device device : tempDeviceMap.values()) {
-                    logger.debug("Found removed devices.");
+                if (!trashDevices.isEmpty() && (lastBinCheck + config.getBinCheckTime() < System.currentTimeMillis())) {
+                    for (TrashDevice trashDevice : trashDevices) {
+                        if (trashDevice.isTimeToDelete(Calendar.getInstance().get(Calendar.DAY_OF_YEAR))) {
+                            logger.debug("Found trashDevice that have to delete!");
+                            trashDevices.remove(trashDevice);
+                            logger.debug("Delete trashDevice: " + trashDevice.getDevice().getDSID().getValue());
+                        }
+                    }
+                    lastBinCheck = System.currentTimeMillis();
+                }
+            }
+        }
 
-                    trashDevices.add(new TrashDevice(device));
-                    DeviceStatusListener listener = device.unregisterDeviceStateListener();
-                    if (listener != null) {
-                        listener.onDeviceRemoved(null);
+        /**
+         * Scans the complete apartment structure of the digitalSTROM-Server and compares it with the internal
+         * structure to find added, removed and changed devices.
+         */
+        private void scanStructure() {
+            HashMap<DSID, Device> tempDeviceMap;
+            if (strucMan.getDeviceMap() != null) {
+                tempDeviceMap = (HashMap<DSID, Device>) strucMan.getDeviceMap();
+            } else {
+                tempDeviceMap = new HashMap<DSID, Device>();
+            }
+
+            List<Device> currentDeviceList = digitalSTROMClient.getApartmentDevices(connMan.getSessionToken(), false);
+
+            while (!currentDeviceList.isEmpty()) {
+                Device currentDevice = currentDeviceList.remove(0);
+                DSID currentDeviceDSID = currentDevice.getDSID();
+                Device eshDevice = tempDeviceMap.remove(currentDeviceDSID);
+
+                if (eshDevice != null) {
+                    checkDeviceConfig(currentDevice, eshDevice);
+
+                    if (eshDevice.isPresent()) {
+                        checkDeviceStateUpdates(eshDevice);
                     }
-                    strucMan.deleteDevice(device);
-                    logger.debug("Add device with dSID {} to trashDevices", device.getDSID().getValue());
 
+                } else {
+                    logger.debug("Found new device!");
+                    if (trashDevices.isEmpty()) {
+                        currentDevice.setConfig(config);
+                        strucMan.addDeviceToStructure(currentDevice);
+                        logger.debug("trashDevices are empty, add Device with dSID "
+                                + currentDevice.getDSID().toString() + " to the deviceMap!");
+                    } else {
+                        logger.debug("Search device in trashDevices.");
+                        TrashDevice foundTrashDevice = null;
+                        for (TrashDevice trashDevice : trashDevices) {
+                            if (trashDevice != null) {
+                                if (trashDevice.getDevice().equals(currentDevice)) {
+                                    foundTrashDevice = trashDevice;
+                                    logger.debug(
+                                            "Found device in trashDevices, add TrashDevice with dSID {} to the StructureManager!",
+                                            currentDeviceDSID);
+                                }
+                            }
+                        }
+                        if (foundTrashDevice != null) {
+                            trashDevices.remove(foundTrashDevice);
+                            strucMan.addDeviceToStructure(foundTrashDevice.getDevice());
+                        } else {
+                            strucMan.addDeviceToStructure(currentDevice);
+                            logger.debug(
+                                    "Can't find device in trashDevices, add Device with dSID: {} to the StructureManager!",
+                                    currentDeviceDSID);
+                        }
+                    }
                     if (deviceDiscovery != null) {
-                        deviceDiscovery.onDeviceRemoved(device);
-                        logger.debug("inform DeviceStatusListener: {} about removed device with dSID {}",
-                                DeviceStatusListener.DEVICE_DISCOVERY, device.getDSID().getValue());
+                        if (currentDevice.isDeviceWithOutput()) {
+                            deviceDiscovery.onDeviceAdded(currentDevice);
+                            logger.debug("inform DeviceStatusListener: {} about removed device with dSID {}",
+                                    DeviceStatusListener.DEVICE_DISCOVERY, currentDevice.getDSID().getValue());
+                        }
                     } else {
                         logger.debug(
-                                "The device-Discovery is not registrated, can't inform device discovery about removed device.");
+                                "The device discovery is not registrated, can't inform device discovery about found device.");
                     }
                 }
+            }
 
-                if (!trashDevices.isEmpty() && (lastBinCheck + config.getBinCheckTime() < System.currentTimeMillis())) {
-                    for (TrashDevice trashDevice : trashDevices) {
-                        if (trashDevice.isTimeToDelete(Calendar.getInstance().get(Calendar.DAY_OF_YEAR))) {
-                            logger.debug("Found trashDevice that have to delete!");
-                            trashDevices.remove(trashDevice);
-                            logger.debug("Delete trashDevice: " + trashDevice.getDevice().getDSID().getValue());
-                        }
+            for (Device device : tempDeviceMap.values()) {
+                logger.debug("Found removed devices.");
+
+                trashDevices.add(new TrashDevice(device));
+                DeviceStatusListener listener = device.unregisterDeviceStateListener();
+                if (listener != null) {
+                    listener.onDeviceRemoved(null);
+                }
+                strucMan.deleteDevice(device);
+                logger.debug("Add device with dSID {} to trashDevices", device.getDSID().getValue());
+
+                if (deviceDiscovery != null) {
+                    deviceDiscovery.onDeviceRemoved(device);
+                    logger.debug("inform DeviceStatusListener: {} about removed device with dSID {}",
+                            DeviceStatusListener.DEVICE_DISCOVERY, device.getDSID().getValue());
+                } else {
+                    logger.debug(
+                            "The device-Discovery is not registrated, can't inform device discovery about removed device.");
+                }
+            }
+        }
+
+        private void checkDeviceStateUpdates(Device eshDevice) {
+            while (!eshDevice.isDeviceUpToDate()) {
+                DeviceStateUpdate deviceStateUpdate = eshDevice.getNextDeviceUpdateState();
+                if (deviceStateUpdate != null) {
+                    switch (deviceStateUpdate.getType()) {
+                        case DeviceStateUpdate.UPDATE_BRIGHTNESS:
+                        case DeviceStateUpdate.UPDATE_SLAT_ANGLE_INCREASE:
+                        case DeviceStateUpdate.UPDATE_SLAT_ANGLE_DECREASE:
+                            filterCommand(deviceStateUpdate, eshDevice);
+                            break;
+                        case DeviceStateUpdate.UPDATE_SCENE_CONFIG:
+                        case DeviceStateUpdate.UPDATE_SCENE_OUTPUT:
+                            updateSceneData(eshDevice, deviceStateUpdate);
+                            break;
+                        case DeviceStateUpdate.UPDATE_OUTPUT_VALUE:
+                            readOutputValue(eshDevice);
+                            break;
+                        default:
+                            sendComandsToDSS(eshDevice, deviceStateUpdate);
                     }
-                    lastBinCheck = System.currentTimeMillis();
                 }
             }
         }
@@ -473,7 +497,8 @@ public class DeviceStatusManagerImpl implements DeviceStatusManager {
     public synchronized void sendSceneComandsToDSS(InternalScene scene, boolean call_undo) {
         if (scene != null) {
             if (lastSceneCall + 1000 > System.currentTimeMillis()) {
-                sleepTime = System.currentTimeMillis() - lastSceneCall;
+                // wait until a second has passed since the last scene call
+                sleepTime = lastSceneCall + 1000 - System.currentTimeMillis();
                 try {
                     Thread.sleep(sleepTime);
                 } catch (InterruptedException e) {
@@ -27,7 +27,8 @@ import org.slf4j.LoggerFactory;
 
 /**
  * The {@link AbstractSensorJobExecutor} provides the working process to execute implementations of {@link SensorJobs}'s
- * in the time interval set at the {@link Config}.
+ * in the time interval set at the {@link Config}. The {@link SensorJob}s of a circuit are coalesced into a single
+ * scheduled execution, so idle circuits don't cause any load.
  * <p>
  * The following methods can be overridden by subclasses to implement a execution priority:
  * <ul>
@@ -67,9 +68,17 @@ public abstract class AbstractSensorJobExecutor {
             if (sensorJob != null && connectionManager.checkConnection()) {
                 sensorJob.execute(dSAPI, connectionManager.getSessionToken());
             }
-            if (circuit.noMoreJobs()) {
-                logger.debug("no more jobs... stop circuit schedduler with id = " + circuit.getMeterDSID().toString());
-                pollingSchedulers.get(circuit.getMeterDSID()).cancel(true);
+            synchronized (AbstractSensorJobExecutor.this) {
+                if (pollingSchedulers == null) {
+                    return;
+                }
+                if (circuit.noMoreJobs()) {
+                    logger.debug("no more jobs... stop circuit schedduler with id = {}", circuit.getMeterDSID());
+                    pollingSchedulers.remove(circuit.getMeterDSID());
+                } else {
+                    pollingSchedulers.put(circuit.getMeterDSID(),
+                            scheduler.schedule(this, circuit.getNextExecutionDelay(), TimeUnit.MILLISECONDS));
+                }
             }
         }
     };
@@ -108,13 +117,19 @@ public abstract class AbstractSensorJobExecutor {
         }
     }
 
-    private void startSchedduler(CircuitScheduler circuit) {
+    /**
+     * Schedules the next execution of the given circuit, if it isn't already scheduled. All {@link SensorJob}s of a
+     * circuit share this single execution, which reschedules itself as long as the circuit has {@link SensorJob}s
+     * left.
+     *
+     * @param circuit
+     */
+    private synchronized void startSchedduler(CircuitScheduler circuit) {
         if (pollingSchedulers != null) {
-            if (pollingSchedulers.get(circuit.getMeterDSID()) == null
-                    || pollingSchedulers.get(circuit.getMeterDSID()).isCancelled()) {
-                pollingSchedulers.put(circuit.getMeterDSID(),
-                        scheduler.scheduleAtFixedRate(new ExecutorRunnable(circuit), circuit.getNextExecutionDelay(),
-                                config.getSensorReadingWaitTime(), TimeUnit.MILLISECONDS));
+            ScheduledFuture<?> pollingScheduler = pollingSchedulers.get(circuit.getMeterDSID());
+            if (pollingScheduler == null || pollingScheduler.isDone()) {
+                pollingSchedulers.put(circuit.getMeterDSID(), scheduler.schedule(new ExecutorRunnable(circuit),
+                        circuit.getNextExecutionDelay(), TimeUnit.MILLISECONDS));
             }
         }
     }
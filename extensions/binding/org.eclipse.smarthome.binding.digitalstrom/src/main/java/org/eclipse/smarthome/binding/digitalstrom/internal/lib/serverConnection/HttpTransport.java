@@ -7,6 +7,8 @@
  */
 package org.eclipse.smarthome.binding.digitalstrom.internal.lib.serverConnection;
 
+import java.util.Map;
+
 /**
  * The {@link HttpTransport} executes an request to the DigitalSTROM-Server.
  *
@@ -62,4 +64,11 @@ public interface HttpTransport {
      * @return absolute path
      */
     public String writePEMCertFile(String path);
-}
\ No newline at end of file
+
+    /**
+     * Returns the latency statistics of the executed requests per endpoint, e.g. <i>/json/device/getOutputValue</i>.
+     *
+     * @return request statistics by endpoint
+     */
+    public Map<String, RequestStatistics> getRequestStatistics();
+}
@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2014-2016 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.binding.digitalstrom.internal.lib.serverConnection;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The {@link RequestStatistics} records the latency histogram of the requests to one endpoint of the
+ * digitalSTROM-Server.
+ *
+ * @author agent - Initial contribution
+ */
+public class RequestStatistics {
+
+    /**
+     * The upper limits in milliseconds of the histogram buckets. The last bucket takes all longer requests.
+     */
+    public static final long[] BUCKET_LIMITS = { 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000 };
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_LIMITS.length + 1);
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong failedRequests = new AtomicLong();
+    private final AtomicLong totalTime = new AtomicLong();
+    private final AtomicLong maxTime = new AtomicLong();
+
+    /**
+     * Records a finished request.
+     *
+     * @param time the request took in milliseconds
+     * @param failed true, if the request didn't return a response
+     */
+    public void record(long time, boolean failed) {
+        int bucket = 0;
+        while (bucket < BUCKET_LIMITS.length && time > BUCKET_LIMITS[bucket]) {
+            bucket++;
+        }
+        buckets.incrementAndGet(bucket);
+        requests.incrementAndGet();
+        if (failed) {
+            failedRequests.incrementAndGet();
+        }
+        totalTime.addAndGet(time);
+        long max = maxTime.get();
+        while (time > max && !maxTime.compareAndSet(max, time)) {
+            max = maxTime.get();
+        }
+    }
+
+    /**
+     * Returns the number of requests per histogram bucket, the bucket limits are defined in {@link #BUCKET_LIMITS}.
+     *
+     * @return the bucket counts
+     */
+    public long[] getHistogram() {
+        long[] histogram = new long[buckets.length()];
+        for (int i = 0; i < histogram.length; i++) {
+            histogram[i] = buckets.get(i);
+        }
+        return histogram;
+    }
+
+    /**
+     * Returns the number of recorded requests.
+     *
+     * @return number of requests
+     */
+    public long getRequests() {
+        return requests.get();
+    }
+
+    /**
+     * Returns the number of requests which didn't return a response.
+     *
+     * @return number of failed requests
+     */
+    public long getFailedRequests() {
+        return failedRequests.get();
+    }
+
+    /**
+     * Returns the average time of the requests in milliseconds.
+     *
+     * @return average time
+     */
+    public long getAverageTime() {
+        long count = requests.get();
+        return count > 0 ? totalTime.get() / count : 0;
+    }
+
+    /**
+     * Returns the maximum time of a request in milliseconds.
+     *
+     * @return maximum time
+     */
+    public long getMaxTime() {
+        return maxTime.get();
+    }
+
+    @Override
+    public String toString() {
+        return "RequestStatistics [requests=" + getRequests() + ", failedRequests=" + getFailedRequests()
+                + ", averageTime=" + getAverageTime() + ", maxTime=" + getMaxTime() + ", histogram="
+                + Arrays.toString(getHistogram()) + "]";
+    }
+}
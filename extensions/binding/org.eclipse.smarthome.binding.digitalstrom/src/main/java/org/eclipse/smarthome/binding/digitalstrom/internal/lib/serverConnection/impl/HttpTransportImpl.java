@@ -25,6 +25,10 @@ import java.security.cert.CertificateEncodingException;
 import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.HttpsURLConnection;
@@ -39,6 +43,7 @@ import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang.StringUtils;
 import org.eclipse.smarthome.binding.digitalstrom.internal.lib.config.Config;
 import org.eclipse.smarthome.binding.digitalstrom.internal.lib.serverConnection.HttpTransport;
+import org.eclipse.smarthome.binding.digitalstrom.internal.lib.serverConnection.RequestStatistics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -57,6 +62,12 @@ import org.slf4j.LoggerFactory;
  * The method {@link #writePEMCertFile(String)} saves the SSL-Certificate in a file at the given path. If all
  * SSL-Certificates shout be ignored the flag <i>exeptAllCerts</i> have to be true at the constructor
  * </p>
+ * <p>
+ * The connections are kept alive and reused for the following requests, so the TLS handshake with the
+ * digitalSTROM-Server only takes place once per pooled connection. Therefore the responses are always read completely
+ * and the connections are never disconnected explicitly. The latency of the requests is recorded per endpoint, see
+ * {@link #getRequestStatistics()}.
+ * </p>
  *
  * @author Michael Ochel - Initial contribution
  * @author Matthias Siegele - Initial contribution
@@ -76,6 +87,8 @@ public class HttpTransportImpl implements HttpTransport {
 
     private Config config = null;
 
+    private final ConcurrentMap<String, RequestStatistics> requestStatistics = new ConcurrentHashMap<>();
+
     private String cert = null;
     private SSLSocketFactory sslSocketFactory = null;
     private HostnameVerifier hostnameVerifier = new HostnameVerifier() {
@@ -205,20 +218,57 @@ public class HttpTransportImpl implements HttpTransport {
         // execute the next time, by TimeOutExceptions. By other exceptions the checkConnection() method handles it in
         // max 1 second.
         String response = null;
+        long start = System.currentTimeMillis();
         try {
             HttpsURLConnection connection = getConnection(request, connectTimeout, readTimeout);
             if (connection != null) {
-                connection.connect();
                 if (connection.getResponseCode() == HttpURLConnection.HTTP_OK) {
-                    response = IOUtils.toString(connection.getInputStream());
+                    response = readResponse(connection.getInputStream());
+                } else {
+                    readResponse(connection.getErrorStream());
                 }
-                connection.disconnect();
-                return response;
+            } else {
+                return null;
             }
         } catch (MalformedURLException e) {
         } catch (IOException e) {
         }
-        return null;
+        recordRequest(request, System.currentTimeMillis() - start, response == null);
+        return response;
+    }
+
+    /**
+     * Reads the given response stream completely and closes it, which hands the connection back to the keep-alive
+     * pool instead of closing the socket.
+     *
+     * @param inputStream can be null
+     * @return the response or null
+     * @throws IOException
+     */
+    private String readResponse(InputStream inputStream) throws IOException {
+        if (inputStream == null) {
+            return null;
+        }
+        try {
+            return IOUtils.toString(inputStream);
+        } finally {
+            IOUtils.closeQuietly(inputStream);
+        }
+    }
+
+    private void recordRequest(String request, long time, boolean failed) {
+        String endpoint = StringUtils.substringBefore(request, "?");
+        RequestStatistics statistics = requestStatistics.get(endpoint);
+        if (statistics == null) {
+            requestStatistics.putIfAbsent(endpoint, new RequestStatistics());
+            statistics = requestStatistics.get(endpoint);
+        }
+        statistics.record(time, failed);
+    }
+
+    @Override
+    public Map<String, RequestStatistics> getRequestStatistics() {
+        return Collections.unmodifiableMap(requestStatistics);
     }
 
     private HttpsURLConnection getConnection(String request, int connectTimeout, int readTimeout) throws IOException {
@@ -246,9 +296,13 @@ public class HttpTransportImpl implements HttpTransport {
         try {
             HttpsURLConnection connection = getConnection(testRequest, connectTimeout, readTimeout);
             if (connection != null) {
-                connection.connect();
-                connection.disconnect();
-                return connection.getResponseCode();
+                int responseCode = connection.getResponseCode();
+                if (responseCode == HttpURLConnection.HTTP_OK) {
+                    readResponse(connection.getInputStream());
+                } else {
+                    readResponse(connection.getErrorStream());
+                }
+                return responseCode;
             }
         } catch (SocketTimeoutException e) {
             return -4;
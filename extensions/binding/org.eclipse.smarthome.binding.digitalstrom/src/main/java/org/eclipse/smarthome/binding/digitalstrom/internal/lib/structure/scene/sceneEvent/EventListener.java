@@ -39,6 +39,7 @@ public class EventListener {
     private Logger logger = LoggerFactory.getLogger(EventListener.class);
     private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool(Config.THREADPOOL_NAME);
     private ScheduledFuture<?> pollingScheduler = null;
+    private volatile boolean running = false;
 
     private final String EVENT_NAME_CALL = "callScene";
     private final String EVENT_NAME_UNDO = "undoScene";
@@ -68,9 +69,12 @@ public class EventListener {
      * Stops this {@link EventListener}.
      */
     public synchronized void stop() {
-        if (pollingScheduler != null || !pollingScheduler.isCancelled()) {
-            pollingScheduler.cancel(true);
-            pollingScheduler = null;
+        if (running) {
+            running = false;
+            if (pollingScheduler != null) {
+                pollingScheduler.cancel(true);
+                pollingScheduler = null;
+            }
             unsubscribe();
             logger.debug("Stop EventListener");
         }
@@ -80,13 +84,26 @@ public class EventListener {
      * Starts this {@link EventListener}.
      */
     public synchronized void start() {
-        if (subscribe() && (pollingScheduler == null || pollingScheduler.isCancelled())) {
-            pollingScheduler = scheduler.scheduleAtFixedRate(runableListener, 0,
-                    config.getEventListenerRefreshinterval(), TimeUnit.MICROSECONDS);
+        if (!running && subscribe()) {
+            running = true;
+            pollingScheduler = scheduler.schedule(runableListener, 0, TimeUnit.MILLISECONDS);
             logger.debug("Start EventListener");
         }
     }
 
+    /**
+     * Schedules the next event request. As the digitalSTROM-Server holds back an event request until an event occurs
+     * or the event timeout expires, the next request is sent immediately after the last one has returned events.
+     * Only after a failed request the {@link EventListener} waits for the event listener refresh interval.
+     *
+     * @param delay in milliseconds
+     */
+    private synchronized void scheduleNextRequest(long delay) {
+        if (running) {
+            pollingScheduler = scheduler.schedule(runableListener, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
     private boolean subscribe() {
         if (connManager.checkConnection()) {
             boolean transmitted = connManager.getDigitalSTROMAPI().subscribeEvent(this.connManager.getSessionToken(),
@@ -110,40 +127,54 @@ public class EventListener {
 
         @Override
         public void run() {
-            String request = getEventAsRequest(ID, 500);
-            if (request != null) {
-                String response = connManager.getHttpTransport().execute(request);
-                JsonObject responseObj = JSONResponseHandler.toJsonObject(response);
-
-                if (JSONResponseHandler.checkResponse(responseObj)) {
-                    JsonObject obj = JSONResponseHandler.getResultJsonObject(responseObj);
-                    if (obj != null && obj.get(JSONApiResponseKeysEnum.EVENT_GET_EVENT.getKey()) instanceof JsonArray) {
-                        JsonArray array = (JsonArray) obj.get(JSONApiResponseKeysEnum.EVENT_GET_EVENT.getKey());
-                        try {
-                            handleEvent(array);
-                        } catch (Exception e) {
-                            logger.error("An Exception occurred", e);
-                        }
-                    }
-                } else {
-                    String errorStr = null;
-                    if (responseObj != null
-                            && responseObj.get(JSONApiResponseKeysEnum.EVENT_GET_EVENT_ERROR.getKey()) != null) {
-                        errorStr = responseObj.get(JSONApiResponseKeysEnum.EVENT_GET_EVENT_ERROR.getKey())
-                                .getAsString();
-                    }
-                    if (errorStr != null && (errorStr.equals(INVALID_SESSION) || errorStr.contains(UNKNOWN_TOKEN))) {
-                        unsubscribe();
-                        subscribe();
-                    } else if (errorStr != null) {
-                        pollingScheduler.cancel(true);
-                        logger.error("Unknown error message at event response: " + errorStr);
-                    }
+            long delay = config.getEventListenerRefreshinterval();
+            try {
+                if (pollEvents()) {
+                    delay = 0;
                 }
+            } catch (Exception e) {
+                logger.error("An Exception occurred", e);
             }
+            scheduleNextRequest(delay);
         }
     };
 
+    /**
+     * Sends a long-polling event request to the digitalSTROM-Server and handles the returned events.
+     *
+     * @return true, if the request was successful, otherwise false
+     */
+    private boolean pollEvents() {
+        String request = getEventAsRequest(ID, config.getEventTimeout());
+        if (request == null) {
+            return false;
+        }
+        String response = connManager.getHttpTransport().execute(request, config.getConnectionTimeout(),
+                config.getEventTimeout() + config.getReadTimeout());
+        JsonObject responseObj = JSONResponseHandler.toJsonObject(response);
+
+        if (JSONResponseHandler.checkResponse(responseObj)) {
+            JsonObject obj = JSONResponseHandler.getResultJsonObject(responseObj);
+            if (obj != null && obj.get(JSONApiResponseKeysEnum.EVENT_GET_EVENT.getKey()) instanceof JsonArray) {
+                JsonArray array = (JsonArray) obj.get(JSONApiResponseKeysEnum.EVENT_GET_EVENT.getKey());
+                handleEvent(array);
+            }
+            return true;
+        }
+
+        String errorStr = null;
+        if (responseObj != null && responseObj.get(JSONApiResponseKeysEnum.EVENT_GET_EVENT_ERROR.getKey()) != null) {
+            errorStr = responseObj.get(JSONApiResponseKeysEnum.EVENT_GET_EVENT_ERROR.getKey()).getAsString();
+        }
+        if (errorStr != null && (errorStr.equals(INVALID_SESSION) || errorStr.contains(UNKNOWN_TOKEN))) {
+            unsubscribe();
+            return subscribe();
+        } else if (errorStr != null) {
+            logger.error("Unknown error message at event response: " + errorStr);
+        }
+        return false;
+    }
+
     private String getEventAsRequest(int subscriptionID, int timeout) {
         if (connManager.checkConnection()) {
             return JSONRequestConstants.JSON_EVENT_GET + JSONRequestConstants.PARAMETER_TOKEN
@@ -155,21 +186,22 @@ public class EventListener {
 
     private boolean unsubscribeEvent(String name, int subscriptionID) {
         if (connManager.checkConnection()) {
-            return connManager.getDigitalSTROMAPI().unsubscribeEvent(connManager.getSessionToken(), EVENT_NAME_CALL,
-                    this.ID, Config.DEFAULT_CONNECTION_TIMEOUT, Config.DEFAULT_READ_TIMEOUT);
+            return connManager.getDigitalSTROMAPI().unsubscribeEvent(connManager.getSessionToken(), name,
+                    subscriptionID, Config.DEFAULT_CONNECTION_TIMEOUT, Config.DEFAULT_READ_TIMEOUT);
         }
         return false;
     }
 
     private boolean unsubscribe() {
-        return this.unsubscribeEvent(this.EVENT_NAME_CALL, this.ID);
+        boolean unsubscribed = this.unsubscribeEvent(this.EVENT_NAME_CALL, this.ID);
+        return this.unsubscribeEvent(this.EVENT_NAME_UNDO, this.ID) && unsubscribed;
     }
 
     private void handleEvent(JsonArray array) {
         if (array.size() > 0) {
             Event event = new JSONEventImpl(array);
             for (EventItem item : event.getEventItems()) {
-                logger.info(item.getProperties().toString());
+                logger.debug(item.getProperties().toString());
                 this.sceneManager.handleEvent(item);
             }
         }
@@ -11,6 +11,7 @@ import static org.eclipse.smarthome.binding.hue.HueBindingConstants.*;
 
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -31,9 +32,16 @@ import org.eclipse.smarthome.core.thing.ThingStatusDetail;
 import org.eclipse.smarthome.core.thing.ThingTypeUID;
 import org.eclipse.smarthome.core.thing.binding.BaseBridgeHandler;
 import org.eclipse.smarthome.core.types.Command;
+import org.eclipse.smarthome.io.net.http.HttpUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
 import nl.q42.jue.Config;
 import nl.q42.jue.FullConfig;
 import nl.q42.jue.FullLight;
@@ -67,6 +75,10 @@ public class HueBridgeHandler extends BaseBridgeHandler {
 
     private static final int DEFAULT_POLLING_INTERVAL = 10; // in seconds
 
+    private static final int TRANSITION_POLLING_DELAY = 1000; // in milliseconds
+
+    private static final int BRIDGE_TIMEOUT = 5000; // in milliseconds
+
     private static final String DEVICE_TYPE = "EclipseSmartHome";
 
     private Logger logger = LoggerFactory.getLogger(HueBridgeHandler.class);
@@ -79,46 +91,39 @@ public class HueBridgeHandler extends BaseBridgeHandler {
 
     private ScheduledFuture<?> pollingJob;
 
+    private ScheduledFuture<?> transitionPollingJob;
+
+    private final Object pollingLock = new Object();
+
+    private final JsonParser jsonParser = new JsonParser();
+
+    private final Gson gson = new Gson();
+
+    private Map<String, String> lastLightJson = new HashMap<>();
+
     private Runnable pollingRunnable = new Runnable() {
 
         @Override
         public void run() {
+            synchronized (pollingLock) {
+                poll();
+            }
+        }
+
+        private void poll() {
             try {
                 try {
-                    FullConfig fullConfig = bridge.getFullConfig();
-                    if (!lastBridgeConnectionState) {
-                        lastBridgeConnectionState = tryResumeBridgeConnection();
-                    }
-                    if (lastBridgeConnectionState) {
-                        Map<String, FullLight> lastLightStateCopy = new HashMap<>(lastLightStates);
-                        for (final FullLight fullLight : fullConfig.getLights()) {
-                            final String lightId = fullLight.getId();
-                            if (lastLightStateCopy.containsKey(lightId)) {
-                                final FullLight lastFullLight = lastLightStateCopy.remove(lightId);
-                                final State lastFullLightState = lastFullLight.getState();
-                                lastLightStates.put(lightId, fullLight);
-                                if (!isEqual(lastFullLightState, fullLight.getState())) {
-                                    logger.debug("Status update for Hue light {} detected.", lightId);
-                                    notifyLightStatusListeners(fullLight, LIGHT_STATE_CHANGED);
-                                }
-                            } else {
-                                lastLightStates.put(lightId, fullLight);
-                                logger.debug("Hue light {} added.", lightId);
-                                notifyLightStatusListeners(fullLight, LIGHT_STATE_ADDED);
-                            }
+                    List<FullLight> lights = lastBridgeConnectionState ? getChangedLights() : null;
+                    if (lights == null) {
+                        FullConfig fullConfig = bridge.getFullConfig();
+                        if (!lastBridgeConnectionState) {
+                            lastBridgeConnectionState = tryResumeBridgeConnection();
                         }
-                        // Check for removed lights
-                        for (Entry<String, FullLight> fullLightEntry : lastLightStateCopy.entrySet()) {
-                            lastLightStates.remove(fullLightEntry.getKey());
-                            logger.debug("Hue light {} removed.", fullLightEntry.getKey());
-                            for (LightStatusListener lightStatusListener : lightStatusListeners) {
-                                try {
-                                    lightStatusListener.onLightRemoved(bridge, fullLightEntry.getValue());
-                                } catch (Exception e) {
-                                    logger.error("An exception occurred while calling the BridgeHeartbeatListener", e);
-                                }
-                            }
+                        if (!lastBridgeConnectionState) {
+                            return;
                         }
+                        lastLightJson.clear();
+                        lights = fullConfig.getLights();
 
                         final Config config = fullConfig.getConfig();
                         if (config != null) {
@@ -128,6 +133,39 @@ public class HueBridgeHandler extends BaseBridgeHandler {
                             updateProperties(properties);
                         }
                     }
+
+                    Map<String, FullLight> lastLightStateCopy = new HashMap<>(lastLightStates);
+                    for (final FullLight fullLight : lights) {
+                        final String lightId = fullLight.getId();
+                        if (lastLightStateCopy.containsKey(lightId)) {
+                            final FullLight lastFullLight = lastLightStateCopy.remove(lightId);
+                            if (lastFullLight == fullLight) {
+                                continue;
+                            }
+                            final State lastFullLightState = lastFullLight.getState();
+                            lastLightStates.put(lightId, fullLight);
+                            if (!isEqual(lastFullLightState, fullLight.getState())) {
+                                logger.debug("Status update for Hue light {} detected.", lightId);
+                                notifyLightStatusListeners(fullLight, LIGHT_STATE_CHANGED);
+                            }
+                        } else {
+                            lastLightStates.put(lightId, fullLight);
+                            logger.debug("Hue light {} added.", lightId);
+                            notifyLightStatusListeners(fullLight, LIGHT_STATE_ADDED);
+                        }
+                    }
+                    // Check for removed lights
+                    for (Entry<String, FullLight> fullLightEntry : lastLightStateCopy.entrySet()) {
+                        lastLightStates.remove(fullLightEntry.getKey());
+                        logger.debug("Hue light {} removed.", fullLightEntry.getKey());
+                        for (LightStatusListener lightStatusListener : lightStatusListeners) {
+                            try {
+                                lightStatusListener.onLightRemoved(bridge, fullLightEntry.getValue());
+                            } catch (Exception e) {
+                                logger.error("An exception occurred while calling the BridgeHeartbeatListener", e);
+                            }
+                        }
+                    }
                 } catch (UnauthorizedException | IllegalStateException e) {
                     if (isReachable(bridge.getIPAddress())) {
                         lastBridgeConnectionState = false;
@@ -152,6 +190,53 @@ public class HueBridgeHandler extends BaseBridgeHandler {
             }
         }
 
+        /**
+         * Requests only the lights resource of the bridge instead of the full configuration. Lights whose JSON
+         * representation did not change since the last poll are not parsed again, the last known {@link FullLight}
+         * is returned for them instead.
+         *
+         * @return all lights of the bridge or null, if the lights could not be requested and the full configuration
+         *         has to be requested instead
+         */
+        private List<FullLight> getChangedLights() {
+            String url = "http://" + bridge.getIPAddress() + "/api/" + bridge.getUsername() + "/lights";
+            String response = HttpUtil.executeUrl("GET", url, BRIDGE_TIMEOUT);
+            if (response == null) {
+                return null;
+            }
+
+            JsonElement lightsJson;
+            try {
+                lightsJson = jsonParser.parse(response);
+            } catch (JsonParseException e) {
+                logger.debug("Invalid response for the lights of Hue bridge {}: {}", bridge.getIPAddress(),
+                        e.getMessage());
+                return null;
+            }
+            if (!lightsJson.isJsonObject()) {
+                // errors are reported as an array, the full configuration request takes care of them
+                return null;
+            }
+
+            List<FullLight> lights = new ArrayList<>();
+            Map<String, String> lightJson = new HashMap<>();
+            for (Entry<String, JsonElement> entry : lightsJson.getAsJsonObject().entrySet()) {
+                String lightId = entry.getKey();
+                String json = entry.getValue().toString();
+                FullLight lastLight = lastLightStates.get(lightId);
+                if (lastLight != null && json.equals(lastLightJson.get(lightId))) {
+                    lights.add(lastLight);
+                } else {
+                    JsonObject light = entry.getValue().getAsJsonObject();
+                    light.addProperty("id", lightId);
+                    lights.add(gson.fromJson(light, FullLight.class));
+                }
+                lightJson.put(lightId, json);
+            }
+            lastLightJson = lightJson;
+            return lights;
+        }
+
         private boolean isReachable(String ipAddress) {
             try {
                 // note that InetAddress.isReachable is unreliable, see
@@ -192,6 +277,7 @@ public class HueBridgeHandler extends BaseBridgeHandler {
         if (bridge != null) {
             try {
                 bridge.setLightState(light, stateUpdate);
+                scheduleTransitionPolling();
             } catch (DeviceOffException e) {
                 updateLightState(light, LightStateConverter.toOnOffLightState(OnOffType.ON));
                 updateLightState(light, stateUpdate);
@@ -205,6 +291,17 @@ public class HueBridgeHandler extends BaseBridgeHandler {
         }
     }
 
+    /**
+     * Polls the lights once more shortly after a command, so the state the lights reach at the end of their
+     * transition is picked up without waiting for the next regular polling interval.
+     */
+    private synchronized void scheduleTransitionPolling() {
+        if (transitionPollingJob == null || transitionPollingJob.isDone()) {
+            transitionPollingJob = scheduler.schedule(pollingRunnable, TRANSITION_POLLING_DELAY,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
     @Override
     public void dispose() {
         logger.debug("Handler disposed.");
@@ -212,6 +309,12 @@ public class HueBridgeHandler extends BaseBridgeHandler {
             pollingJob.cancel(true);
             pollingJob = null;
         }
+        synchronized (this) {
+            if (transitionPollingJob != null) {
+                transitionPollingJob.cancel(true);
+                transitionPollingJob = null;
+            }
+        }
         if (bridge != null) {
             bridge = null;
         }
@@ -224,7 +327,7 @@ public class HueBridgeHandler extends BaseBridgeHandler {
         if (getConfig().get(HOST) != null) {
             if (bridge == null) {
                 bridge = new HueBridge((String) getConfig().get(HOST));
-                bridge.setTimeout(5000);
+                bridge.setTimeout(BRIDGE_TIMEOUT);
             }
             onUpdate();
         } else {
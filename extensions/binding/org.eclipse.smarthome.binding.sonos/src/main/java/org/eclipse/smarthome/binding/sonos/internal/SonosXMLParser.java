@@ -12,6 +12,7 @@ import java.io.StringReader;
 import java.net.URL;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -23,6 +24,7 @@ import java.util.regex.Pattern;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 import org.xml.sax.XMLReader;
@@ -39,6 +41,12 @@ public class SonosXMLParser {
 
     static final Logger logger = LoggerFactory.getLogger(SonosXMLParser.class);
 
+    private static final ThreadLocal<XMLReader> xmlReaders = new ThreadLocal<XMLReader>();
+
+    private static final Object zoneGroupCacheLock = new Object();
+    private static String cachedZoneGroupXML;
+    private static List<SonosZoneGroup> cachedZoneGroups;
+
     private static MessageFormat METADATA_FORMAT = new MessageFormat(
             "<DIDL-Lite xmlns:dc=\"http://purl.org/dc/elements/1.1/\" "
                     + "xmlns:upnp=\"urn:schemas-upnp-org:metadata-1-0/upnp/\" "
@@ -83,9 +91,7 @@ public class SonosXMLParser {
     public static List<SonosAlarm> getAlarmsFromStringResult(String xml) {
         AlarmHandler handler = new AlarmHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(new InputSource(new StringReader(xml)), handler);
         } catch (IOException e) {
             logger.error("Could not parse Alarms from string '{}'", xml);
         } catch (SAXException s) {
@@ -103,9 +109,7 @@ public class SonosXMLParser {
     public static List<SonosEntry> getEntriesFromString(String xml) {
         EntryHandler handler = new EntryHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(new InputSource(new StringReader(xml)), handler);
         } catch (IOException e) {
             logger.error("Could not parse Entries from string '{}'", xml);
         } catch (SAXException s) {
@@ -124,11 +128,9 @@ public class SonosXMLParser {
      * @throws SAXException
      */
     public static SonosResourceMetaData getResourceMetaData(String xml) throws SAXException {
-        XMLReader reader = XMLReaderFactory.createXMLReader();
         ResourceMetaDataHandler handler = new ResourceMetaDataHandler();
-        reader.setContentHandler(handler);
         try {
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(new InputSource(new StringReader(xml)), handler);
         } catch (IOException e) {
             logger.error("Could not parse Resource MetaData from String '{}'", xml);
         } catch (SAXException s) {
@@ -140,16 +142,21 @@ public class SonosXMLParser {
     /**
      * @param controller
      * @param xml
-     * @return zone group from the given xml
+     * @return zone group from the given xml, the returned list must not be modified
      * @throws IOException
      * @throws SAXException
      */
     public static List<SonosZoneGroup> getZoneGroupFromXML(String xml) {
+        // all zone players report the same zone group state, so it is only parsed once for all of them
+        synchronized (zoneGroupCacheLock) {
+            if (xml != null && xml.equals(cachedZoneGroupXML)) {
+                return cachedZoneGroups;
+            }
+        }
+
         ZoneGroupHandler handler = new ZoneGroupHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(new InputSource(new StringReader(xml)), handler);
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             logger.error("Could not parse ZoneGroup from string '{}'", xml);
@@ -157,16 +164,44 @@ public class SonosXMLParser {
             logger.error("Could not parse ZoneGroup from string '{}'", xml);
         }
 
-        return handler.getGroups();
+        List<SonosZoneGroup> zoneGroups = Collections.unmodifiableList(handler.getGroups());
+        synchronized (zoneGroupCacheLock) {
+            cachedZoneGroupXML = xml;
+            cachedZoneGroups = zoneGroups;
+        }
+        return zoneGroups;
+    }
 
+    /**
+     * Parses the given document with the {@link XMLReader} of the current thread. Creating an {@link XMLReader} is
+     * expensive, as the SAX implementation is looked up every time, so each thread reuses its reader for all the
+     * documents it parses. A document that is parsed while another one is being parsed gets a reader of its own.
+     *
+     * @param source the document to parse
+     * @param handler the handler that receives the content of the document
+     * @throws IOException
+     * @throws SAXException
+     */
+    private static void parse(InputSource source, ContentHandler handler) throws IOException, SAXException {
+        XMLReader reader = xmlReaders.get();
+        if (reader == null) {
+            reader = XMLReaderFactory.createXMLReader();
+        } else {
+            xmlReaders.remove();
+        }
+        try {
+            reader.setContentHandler(handler);
+            reader.parse(source);
+        } finally {
+            reader.setContentHandler(null);
+            xmlReaders.set(reader);
+        }
     }
 
     public static List<String> getRadioTimeFromXML(String xml) {
         OpmlHandler handler = new OpmlHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(new InputSource(new StringReader(xml)), handler);
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             logger.error("Could not parse RadioTime from string '{}'", xml);
@@ -181,9 +216,7 @@ public class SonosXMLParser {
     public static Map<String, String> getRenderingControlFromXML(String xml) {
         RenderingControlEventHandler handler = new RenderingControlEventHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(new InputSource(new StringReader(xml)), handler);
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             logger.error("Could not parse Rendering Control from string '{}'", xml);
@@ -196,9 +229,7 @@ public class SonosXMLParser {
     public static Map<String, String> getAVTransportFromXML(String xml) {
         AVTransportEventHandler handler = new AVTransportEventHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(new InputSource(new StringReader(xml)), handler);
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             logger.error("Could not parse AV Transport from string '{}'", xml);
@@ -211,9 +242,7 @@ public class SonosXMLParser {
     public static SonosMetaData getMetaDataFromXML(String xml) {
         MetaDataHandler handler = new MetaDataHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(new InputSource(new StringReader(xml)), handler);
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             logger.error("Could not parse MetaData from string '{}'", xml);
@@ -829,10 +858,8 @@ public class SonosXMLParser {
     public static String getRoomName(String descriptorXML) {
         RoomNameHandler roomNameHandler = new RoomNameHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(roomNameHandler);
             URL url = new URL(descriptorXML);
-            reader.parse(new InputSource(url.openStream()));
+            parse(new InputSource(url.openStream()), roomNameHandler);
         } catch (IOException | SAXException e) {
             logger.error("Could not parse Sonos room name from string '{}'", descriptorXML);
         }
@@ -867,10 +894,8 @@ public class SonosXMLParser {
     public static String parseModelDescription(URL descriptorURL) {
         ModelNameHandler modelNameHandler = new ModelNameHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(modelNameHandler);
             URL url = new URL(descriptorURL.toString());
-            reader.parse(new InputSource(url.openStream()));
+            parse(new InputSource(url.openStream()), modelNameHandler);
         } catch (IOException | SAXException e) {
             logger.error("Could not parse Sonos model name from string '{}'", descriptorURL.toString());
         }
@@ -52,6 +52,8 @@ public class WemoBindingConstants {
     // List of thing configuration properties
     public static final String UDN = "udn";
     public static final String DEVICE_ID = "deviceID";
+    public static final String REFRESH = "refresh";
+    public static final String EVENT_DRIVEN_REFRESH = "eventDrivenRefresh";
 
     public final static Set<ThingTypeUID> SUPPORTED_BRIDGE_THING_TYPES = ImmutableSet.of(THING_TYPE_BRIDGE);
 
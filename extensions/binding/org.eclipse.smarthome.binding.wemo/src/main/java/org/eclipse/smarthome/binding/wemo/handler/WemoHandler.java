@@ -18,10 +18,9 @@ import java.util.GregorianCalendar;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang.StringUtils;
+import org.eclipse.smarthome.binding.wemo.internal.WemoRefreshJob;
 import org.eclipse.smarthome.binding.wemo.internal.http.WemoHttpCall;
 import org.eclipse.smarthome.config.core.Configuration;
 import org.eclipse.smarthome.config.discovery.DiscoveryListener;
@@ -72,26 +71,24 @@ public class WemoHandler extends BaseThingHandler implements UpnpIOParticipant,
      */
     private int DEFAULT_REFRESH_INTERVAL = 120;
 
-    private ScheduledFuture<?> refreshJob;
-
     private Runnable refreshRunnable = new Runnable() {
 
         @Override
         public void run() {
-            try {
-                updateWemoState();
-            } catch (Exception e) {
-                logger.debug("Exception during poll : {}", e);
-            }
+            updateWemoState();
         }
     };
 
+    private final WemoRefreshJob refreshJob;
+
     public WemoHandler(Thing thing, UpnpIOService upnpIOService) {
 
         super(thing);
 
         logger.debug("Creating a WemoHandler for thing '{}'", getThing().getUID());
 
+        refreshJob = new WemoRefreshJob(getThing().getUID().toString(), refreshRunnable);
+
         if (upnpIOService != null) {
             this.service = upnpIOService;
         } else {
@@ -142,10 +139,7 @@ public class WemoHandler extends BaseThingHandler implements UpnpIOParticipant,
 
         removeSubscription();
 
-        if (refreshJob != null && !refreshJob.isCancelled()) {
-            refreshJob.cancel(true);
-            refreshJob = null;
-        }
+        refreshJob.stop();
     }
 
     @Override
@@ -196,6 +190,7 @@ public class WemoHandler extends BaseThingHandler implements UpnpIOParticipant,
             logger.debug("Received pair '{}':'{}' (service '{}') for thing '{}'",
                     new Object[] { variable, value, service, this.getThing().getUID() });
 
+            refreshJob.valueReceived();
             this.stateMap.put(variable, value);
 
             if (getThing().getThingTypeUID().getId().equals("insight")) {
@@ -352,15 +347,15 @@ public class WemoHandler extends BaseThingHandler implements UpnpIOParticipant,
 
     private synchronized void onUpdate() {
         if (service.isRegistered(this)) {
-            if (refreshJob == null || refreshJob.isCancelled()) {
-                Configuration config = getThing().getConfiguration();
-                int refreshInterval = DEFAULT_REFRESH_INTERVAL;
-                Object refreshConfig = config.get("refresh");
-                if (refreshConfig != null) {
-                    refreshInterval = ((BigDecimal) refreshConfig).intValue();
-                }
-                refreshJob = scheduler.scheduleAtFixedRate(refreshRunnable, 0, refreshInterval, TimeUnit.SECONDS);
+            Configuration config = getThing().getConfiguration();
+            int refreshInterval = DEFAULT_REFRESH_INTERVAL;
+            Object refreshConfig = config.get(REFRESH);
+            if (refreshConfig != null) {
+                refreshInterval = ((BigDecimal) refreshConfig).intValue();
             }
+            Object eventDrivenConfig = config.get(EVENT_DRIVEN_REFRESH);
+            boolean eventDriven = eventDrivenConfig == null || Boolean.valueOf(eventDrivenConfig.toString());
+            refreshJob.start(refreshInterval, 0, eventDriven);
         }
     }
 
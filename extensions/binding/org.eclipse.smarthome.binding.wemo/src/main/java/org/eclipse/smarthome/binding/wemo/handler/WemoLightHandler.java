@@ -12,11 +12,10 @@ import static org.eclipse.smarthome.binding.wemo.WemoBindingConstants.*;
 import java.net.URL;
 import java.util.Collections;
 import java.util.Set;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang.StringEscapeUtils;
 import org.apache.commons.lang.StringUtils;
+import org.eclipse.smarthome.binding.wemo.internal.WemoRefreshJob;
 import org.eclipse.smarthome.binding.wemo.internal.http.WemoHttpCall;
 import org.eclipse.smarthome.config.core.Configuration;
 import org.eclipse.smarthome.core.library.types.IncreaseDecreaseType;
@@ -69,23 +68,21 @@ public class WemoLightHandler extends BaseThingHandler implements UpnpIOParticip
      */
     private int DEFAULT_REFRESH_INTERVAL = 60;
 
-    private ScheduledFuture<?> refreshJob;
-
     private Runnable refreshRunnable = new Runnable() {
 
         @Override
         public void run() {
-            try {
-                getDeviceState();
-            } catch (Exception e) {
-                logger.debug("Exception during poll : {}", e);
-            }
+            getDeviceState();
         }
     };
 
+    private final WemoRefreshJob refreshJob;
+
     public WemoLightHandler(Thing thing, UpnpIOService upnpIOService) {
         super(thing);
 
+        refreshJob = new WemoRefreshJob(thing.getUID().toString(), refreshRunnable);
+
         if (upnpIOService != null) {
             logger.debug("UPnPIOService '{}'", upnpIOService);
             this.service = upnpIOService;
@@ -132,10 +129,7 @@ public class WemoLightHandler extends BaseThingHandler implements UpnpIOParticip
     @Override
     public void bridgeHandlerDisposed(ThingHandler thingHandler, Bridge bridge) {
         this.wemoBridgeHandler = null;
-        if (refreshJob != null && !refreshJob.isCancelled()) {
-            refreshJob.cancel(true);
-            refreshJob = null;
-        }
+        refreshJob.stop();
     }
 
     @Override
@@ -146,10 +140,7 @@ public class WemoLightHandler extends BaseThingHandler implements UpnpIOParticip
             onUpdate();
         } else {
             updateStatus(ThingStatus.OFFLINE);
-            if (refreshJob != null && !refreshJob.isCancelled()) {
-                refreshJob.cancel(true);
-                refreshJob = null;
-            }
+            refreshJob.stop();
         }
     }
 
@@ -159,10 +150,7 @@ public class WemoLightHandler extends BaseThingHandler implements UpnpIOParticip
 
         removeSubscription();
 
-        if (refreshJob != null && !refreshJob.isCancelled()) {
-            refreshJob.cancel(true);
-            refreshJob = null;
-        }
+        refreshJob.stop();
     }
 
     private synchronized WemoBridgeHandler getWemoBridgeHandler() {
@@ -311,6 +299,7 @@ public class WemoLightHandler extends BaseThingHandler implements UpnpIOParticip
             if (wemoURL != null) {
                 String wemoCallResponse = WemoHttpCall.executeCall(wemoURL, soapHeader, content);
                 if (wemoCallResponse != null) {
+                    refreshJob.valueReceived();
                     wemoCallResponse = StringEscapeUtils.unescapeXml(wemoCallResponse);
                     String response = StringUtils.substringBetween(wemoCallResponse, "<CapabilityValue>",
                             "</CapabilityValue>");
@@ -349,6 +338,7 @@ public class WemoLightHandler extends BaseThingHandler implements UpnpIOParticip
     public void onValueReceived(String variable, String value, String service) {
         logger.trace("Received pair '{}':'{}' (service '{}') for thing '{}'",
                 new Object[] { variable, value, service, this.getThing().getUID() });
+        refreshJob.valueReceived();
         String capabilityId = StringUtils.substringBetween(value, "<CapabilityId>", "</CapabilityId>");
         String newValue = StringUtils.substringBetween(value, "<Value>", "</Value>");
         switch (capabilityId) {
@@ -393,12 +383,10 @@ public class WemoLightHandler extends BaseThingHandler implements UpnpIOParticip
 
     private synchronized void onUpdate() {
         if (service.isRegistered(this)) {
-            if (refreshJob == null || refreshJob.isCancelled()) {
-                int refreshInterval = DEFAULT_REFRESH_INTERVAL;
-                logger.trace("Start polling job for LightID '{}'", wemoLightID);
-                refreshJob = scheduler.scheduleAtFixedRate(refreshRunnable, 15, refreshInterval, TimeUnit.SECONDS);
-
-            }
+            Object eventDrivenConfig = getConfig().get(EVENT_DRIVEN_REFRESH);
+            boolean eventDriven = eventDrivenConfig == null || Boolean.valueOf(eventDrivenConfig.toString());
+            logger.trace("Start polling job for LightID '{}'", wemoLightID);
+            refreshJob.start(DEFAULT_REFRESH_INTERVAL, 15, eventDriven);
         }
     }
 
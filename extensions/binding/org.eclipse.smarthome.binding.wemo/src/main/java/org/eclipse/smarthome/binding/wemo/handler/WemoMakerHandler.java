@@ -15,14 +15,13 @@ import java.net.URL;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Set;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 
 import org.apache.commons.lang.StringEscapeUtils;
 import org.apache.commons.lang.StringUtils;
+import org.eclipse.smarthome.binding.wemo.internal.WemoRefreshJob;
 import org.eclipse.smarthome.binding.wemo.internal.http.WemoHttpCall;
 import org.eclipse.smarthome.config.core.Configuration;
 import org.eclipse.smarthome.config.discovery.DiscoveryListener;
@@ -61,6 +60,8 @@ public class WemoMakerHandler extends BaseThingHandler implements UpnpIOParticip
 
     public final static Set<ThingTypeUID> SUPPORTED_THING_TYPES = Collections.singleton(THING_TYPE_MAKER);
 
+    protected final static int SUBSCRIPTION_DURATION = 600;
+
     private UpnpIOService service;
 
     /**
@@ -68,26 +69,24 @@ public class WemoMakerHandler extends BaseThingHandler implements UpnpIOParticip
      */
     private int DEFAULT_REFRESH_INTERVAL = 15;
 
-    private ScheduledFuture<?> refreshJob;
-
     private Runnable refreshRunnable = new Runnable() {
 
         @Override
         public void run() {
-            try {
-                updateWemoState();
-            } catch (Exception e) {
-                logger.debug("Exception during poll : {}", e);
-            }
+            updateWemoState();
         }
     };
 
+    private final WemoRefreshJob refreshJob;
+
     public WemoMakerHandler(Thing thing, UpnpIOService upnpIOService) {
 
         super(thing);
 
         logger.debug("Creating a WemoMakerHandler for thing '{}'", getThing().getUID());
 
+        refreshJob = new WemoRefreshJob(getThing().getUID().toString(), refreshRunnable);
+
         if (upnpIOService != null) {
             this.service = upnpIOService;
         } else {
@@ -103,6 +102,7 @@ public class WemoMakerHandler extends BaseThingHandler implements UpnpIOParticip
 
         if (configuration.get("udn") != null) {
             logger.debug("Initializing WemoMakerHandler for UDN '{}'", configuration.get("udn"));
+            onSubscription();
             onUpdate();
             super.initialize();
         } else {
@@ -118,6 +118,7 @@ public class WemoMakerHandler extends BaseThingHandler implements UpnpIOParticip
                 logger.trace("Discovered UDN '{}' for thing '{}'", result.getProperties().get(UDN),
                         getThing().getUID());
                 updateStatus(ThingStatus.ONLINE);
+                onSubscription();
                 onUpdate();
             }
         }
@@ -135,10 +136,9 @@ public class WemoMakerHandler extends BaseThingHandler implements UpnpIOParticip
     public void dispose() {
         logger.debug("WeMoMakerHandler disposed.");
 
-        if (refreshJob != null && !refreshJob.isCancelled()) {
-            refreshJob.cancel(true);
-            refreshJob = null;
-        }
+        removeSubscription();
+
+        refreshJob.stop();
     }
 
     @Override
@@ -178,25 +178,33 @@ public class WemoMakerHandler extends BaseThingHandler implements UpnpIOParticip
         }
     }
 
-    @SuppressWarnings("unused")
     private synchronized void onSubscription() {
+        if (service.isRegistered(this)) {
+            logger.debug("Setting up WeMo GENA subscription for '{}'", this);
+            service.addSubscription(this, "basicevent1", SUBSCRIPTION_DURATION);
+        }
     }
 
-    @SuppressWarnings("unused")
     private synchronized void removeSubscription() {
+        logger.debug("Removing WeMo GENA subscription for '{}'", this);
+        if (service.isRegistered(this)) {
+            service.removeSubscription(this, "basicevent1");
+            service.unregisterParticipant(this);
+        }
     }
 
     private synchronized void onUpdate() {
         if (service.isRegistered(this)) {
-            if (refreshJob == null || refreshJob.isCancelled()) {
-                Configuration config = getThing().getConfiguration();
-                int refreshInterval = DEFAULT_REFRESH_INTERVAL;
-                Object refreshConfig = config.get("refresh");
-                if (refreshConfig != null) {
-                    refreshInterval = ((BigDecimal) refreshConfig).intValue();
-                }
-                refreshJob = scheduler.scheduleAtFixedRate(refreshRunnable, 0, refreshInterval, TimeUnit.SECONDS);
+            Configuration config = getThing().getConfiguration();
+            int refreshInterval = DEFAULT_REFRESH_INTERVAL;
+            Object refreshConfig = config.get(REFRESH);
+            if (refreshConfig != null) {
+                refreshInterval = ((BigDecimal) refreshConfig).intValue();
             }
+            // only the attribute list events carry the sensor state, so the Maker is polled by default
+            Object eventDrivenConfig = config.get(EVENT_DRIVEN_REFRESH);
+            boolean eventDriven = eventDrivenConfig != null && Boolean.valueOf(eventDrivenConfig.toString());
+            refreshJob.start(refreshInterval, 0, eventDriven);
         }
     }
 
@@ -224,61 +232,10 @@ public class WemoMakerHandler extends BaseThingHandler implements UpnpIOParticip
             if (wemoURL != null) {
                 String wemoCallResponse = WemoHttpCall.executeCall(wemoURL, soapHeader, content);
                 if (wemoCallResponse != null) {
-                    try {
-                        String stringParser = StringUtils.substringBetween(wemoCallResponse, "<attributeList>",
-                                "</attributeList>");
-
-                        // Due to Belkins bad response formatting, we need to run this twice.
-                        stringParser = StringEscapeUtils.unescapeXml(stringParser);
-                        stringParser = StringEscapeUtils.unescapeXml(stringParser);
-
-                        logger.trace("Maker response '{}' for device '{}' received", stringParser, getThing().getUID());
-
-                        stringParser = "<data>" + stringParser + "</data>";
-
-                        DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
-                        DocumentBuilder db = dbf.newDocumentBuilder();
-                        InputSource is = new InputSource();
-                        is.setCharacterStream(new StringReader(stringParser));
-
-                        Document doc = db.parse(is);
-                        NodeList nodes = doc.getElementsByTagName("attribute");
-
-                        // iterate the attributes
-                        for (int i = 0; i < nodes.getLength(); i++) {
-                            Element element = (Element) nodes.item(i);
-
-                            NodeList deviceIndex = element.getElementsByTagName("name");
-                            Element line = (Element) deviceIndex.item(0);
-                            String attributeName = getCharacterDataFromElement(line);
-                            logger.trace("attributeName: " + attributeName);
-
-                            NodeList deviceID = element.getElementsByTagName("value");
-                            line = (Element) deviceID.item(0);
-                            String attributeValue = getCharacterDataFromElement(line);
-                            logger.trace("attributeValue: " + attributeValue);
-
-                            switch (attributeName) {
-                                case "Switch":
-                                    State relayState = attributeValue.equals("0") ? OnOffType.OFF : OnOffType.ON;
-                                    if (relayState != null) {
-                                        logger.debug("New relayState '{}' for device '{}' received", relayState,
-                                                getThing().getUID());
-                                        updateState(CHANNEL_RELAY, relayState);
-                                    }
-                                    break;
-                                case "Sensor":
-                                    State sensorState = attributeValue.equals("1") ? OnOffType.OFF : OnOffType.ON;
-                                    if (sensorState != null) {
-                                        logger.debug("New sensorState '{}' for device '{}' received", sensorState,
-                                                getThing().getUID());
-                                        updateState(CHANNEL_SENSOR, sensorState);
-                                    }
-                                    break;
-                            }
-                        }
-                    } catch (Exception e) {
-                        logger.error("Failed to parse attributeList for WeMo Maker '{}'", this.getThing().getUID(), e);
+                    String attributeList = StringUtils.substringBetween(wemoCallResponse, "<attributeList>",
+                            "</attributeList>");
+                    if (attributeList != null) {
+                        updateAttributes(attributeList);
                     }
                 }
             }
@@ -287,6 +244,69 @@ public class WemoMakerHandler extends BaseThingHandler implements UpnpIOParticip
         }
     }
 
+    /**
+     * Updates the channels from an attribute list of a WeMo Maker, which is either the answer to a poll or the value
+     * of an event.
+     *
+     * @param attributeList the escaped attribute list
+     */
+    private void updateAttributes(String attributeList) {
+        try {
+            // Due to Belkins bad response formatting, we need to run this twice.
+            String stringParser = StringEscapeUtils.unescapeXml(attributeList);
+            stringParser = StringEscapeUtils.unescapeXml(stringParser);
+
+            logger.trace("Maker response '{}' for device '{}' received", stringParser, getThing().getUID());
+
+            stringParser = "<data>" + stringParser + "</data>";
+
+            DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
+            DocumentBuilder db = dbf.newDocumentBuilder();
+            InputSource is = new InputSource();
+            is.setCharacterStream(new StringReader(stringParser));
+
+            Document doc = db.parse(is);
+            NodeList nodes = doc.getElementsByTagName("attribute");
+
+            // iterate the attributes
+            for (int i = 0; i < nodes.getLength(); i++) {
+                Element element = (Element) nodes.item(i);
+
+                NodeList deviceIndex = element.getElementsByTagName("name");
+                Element line = (Element) deviceIndex.item(0);
+                String attributeName = getCharacterDataFromElement(line);
+                logger.trace("attributeName: " + attributeName);
+
+                NodeList deviceID = element.getElementsByTagName("value");
+                line = (Element) deviceID.item(0);
+                String attributeValue = getCharacterDataFromElement(line);
+                logger.trace("attributeValue: " + attributeValue);
+
+                switch (attributeName) {
+                    case "Switch":
+                        State relayState = attributeValue.equals("0") ? OnOffType.OFF : OnOffType.ON;
+                        if (relayState != null) {
+                            logger.debug("New relayState '{}' for device '{}' received", relayState,
+                                    getThing().getUID());
+                            updateState(CHANNEL_RELAY, relayState);
+                        }
+                        break;
+                    case "Sensor":
+                        State sensorState = attributeValue.equals("1") ? OnOffType.OFF : OnOffType.ON;
+                        if (sensorState != null) {
+                            logger.debug("New sensorState '{}' for device '{}' received", sensorState,
+                                    getThing().getUID());
+                            updateState(CHANNEL_SENSOR, sensorState);
+                        }
+                        break;
+                }
+            }
+            refreshJob.valueReceived();
+        } catch (Exception e) {
+            logger.error("Failed to parse attributeList for WeMo Maker '{}'", this.getThing().getUID(), e);
+        }
+    }
+
     public String getWemoURL(String actionService) {
         URL descriptorURL = service.getDescriptorURL(this);
         String wemoURL = null;
@@ -323,6 +343,18 @@ public class WemoMakerHandler extends BaseThingHandler implements UpnpIOParticip
 
     @Override
     public void onValueReceived(String variable, String value, String service) {
+        if (getThing().getStatus() != ThingStatus.ONLINE) {
+            return;
+        }
+        logger.debug("Received pair '{}':'{}' (service '{}') for thing '{}'",
+                new Object[] { variable, value, service, this.getThing().getUID() });
+        if ("attributeList".equals(variable)) {
+            updateAttributes(value);
+        } else if ("BinaryState".equals(variable)) {
+            State relayState = "0".equals(value) ? OnOffType.OFF : OnOffType.ON;
+            logger.debug("New relayState '{}' for device '{}' received", relayState, getThing().getUID());
+            updateState(CHANNEL_RELAY, relayState);
+        }
     }
 
 }
@@ -0,0 +1,142 @@
+/**
+ * Copyright (c) 2014-2016 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.binding.wemo.internal;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link WemoRefreshJob} polls the state of a WeMo device on a thread pool shared by all WeMo devices.
+ * In event driven mode, the UPnP GENA events are the primary source of state updates and a poll is skipped as long as
+ * the device has sent an update within the refresh interval. If a device does not answer a poll, the polling interval
+ * is doubled up to {@link #MAX_BACKOFF} times the refresh interval.
+ *
+ * @author agent - Initial contribution
+ */
+public class WemoRefreshJob {
+
+    private static final String THREAD_POOL_NAME = "wemo";
+
+    /**
+     * The maximum factor the refresh interval is multiplied with while a device is silent.
+     */
+    private static final int MAX_BACKOFF = 8;
+
+    private static final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool(THREAD_POOL_NAME);
+
+    private final Logger logger = LoggerFactory.getLogger(WemoRefreshJob.class);
+
+    private final String name;
+    private final Runnable poll;
+
+    private ScheduledFuture<?> future;
+    private Runnable cycle;
+    private long refreshInterval;
+    private boolean eventDriven;
+    private int backoff = 1;
+    private volatile long lastUpdate;
+
+    /**
+     * Creates a new refresh job.
+     *
+     * @param name the name of the device, used for logging
+     * @param poll the runnable that requests the actual state of the device
+     */
+    public WemoRefreshJob(String name, Runnable poll) {
+        this.name = name;
+        this.poll = poll;
+    }
+
+    /**
+     * Starts polling, if the job isn't running yet.
+     *
+     * @param refreshInterval the refresh interval in seconds
+     * @param initialDelay the delay of the first poll in seconds
+     * @param eventDriven true, if polls should be skipped while the device sends events
+     */
+    public synchronized void start(int refreshInterval, int initialDelay, boolean eventDriven) {
+        if (cycle != null) {
+            return;
+        }
+        this.refreshInterval = TimeUnit.SECONDS.toMillis(refreshInterval);
+        this.eventDriven = eventDriven;
+        this.backoff = 1;
+        logger.trace("Start polling job for '{}' every {} s, event driven: {}", name, refreshInterval, eventDriven);
+        cycle = new Runnable() {
+
+            @Override
+            public void run() {
+                refresh(this);
+            }
+        };
+        future = scheduler.schedule(cycle, initialDelay, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops polling.
+     */
+    public synchronized void stop() {
+        if (future != null) {
+            future.cancel(true);
+            future = null;
+        }
+        cycle = null;
+    }
+
+    /**
+     * Has to be called whenever a state update of the device has been received, either by a GENA event or by a poll.
+     */
+    public void valueReceived() {
+        lastUpdate = System.currentTimeMillis();
+    }
+
+    private void refresh(Runnable current) {
+        long now = System.currentTimeMillis();
+        long age = now - lastUpdate;
+        if (eventDriven && age < refreshInterval) {
+            logger.trace("Skipping poll for '{}', last update received {} ms ago", name, age);
+            synchronized (this) {
+                backoff = 1;
+            }
+            reschedule(current, refreshInterval - age);
+            return;
+        }
+
+        try {
+            poll.run();
+        } catch (Exception e) {
+            logger.debug("Exception during poll : {}", e);
+        }
+
+        long delay;
+        synchronized (this) {
+            if (lastUpdate < now) {
+                backoff = Math.min(backoff * 2, MAX_BACKOFF);
+                logger.debug("No state received for '{}', polling again in {} s", name,
+                        TimeUnit.MILLISECONDS.toSeconds(backoff * refreshInterval));
+            } else {
+                backoff = 1;
+            }
+            delay = backoff * refreshInterval;
+        }
+        reschedule(current, delay);
+    }
+
+    private synchronized void reschedule(Runnable current, long delay) {
+        // a job that has been stopped or restarted meanwhile must not continue
+        if (cycle == current) {
+            future = scheduler.schedule(current, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2014-2016 by the respective copyright holders.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.smarthome.transform.exec.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeFalse;
+
+import org.apache.commons.lang.SystemUtils;
+import org.eclipse.smarthome.core.transform.TransformationException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author agent - Initial contribution
+ */
+public class ExecTransformationServiceTest {
+
+    /** co-processes answering every line with the number of lines they have received so far */
+    private static final String COUNTER = "coprocess:sh@@-c@@n=0; while read line; do n=$((n+1)); echo $n; done";
+    private static final String OTHER_COUNTER = "coprocess:sh@@-c@@n=10; while read line; do n=$((n+1)); echo $n; done";
+
+    private ExecTransformationService processor;
+    private ExecTransformationService otherProcessor;
+
+    @Before
+    public void init() {
+        assumeFalse(SystemUtils.IS_OS_WINDOWS);
+        processor = new ExecTransformationService();
+        otherProcessor = new ExecTransformationService();
+    }
+
+    @After
+    public void tearDown() {
+        if (processor != null) {
+            processor.deactivate();
+            otherProcessor.deactivate();
+        }
+    }
+
+    @Test
+    public void testTransformByCommandLine() throws TransformationException {
+        assertEquals("hello", processor.transform("echo %s", "hello"));
+    }
+
+    @Test
+    public void testTransformByCoProcess() throws TransformationException {
+        assertEquals("1", processor.transform(COUNTER, "a"));
+        assertEquals("2", processor.transform(COUNTER, "b"));
+    }
+
+    @Test
+    public void testDeactivateStopsOnlyOwnCoProcesses() throws TransformationException {
+        assertEquals("1", processor.transform(COUNTER, "a"));
+        assertEquals("11", otherProcessor.transform(OTHER_COUNTER, "a"));
+
+        processor.deactivate();
+
+        // the co-process of the deactivated service has been restarted, the other one is still running
+        assertEquals("1", processor.transform(COUNTER, "b"));
+        assertEquals("12", otherProcessor.transform(OTHER_COUNTER, "b"));
+    }
+
+}
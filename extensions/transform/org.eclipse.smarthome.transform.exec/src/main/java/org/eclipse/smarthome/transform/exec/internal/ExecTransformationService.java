@@ -7,6 +7,10 @@
  */
 package org.eclipse.smarthome.transform.exec.internal;
 
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.eclipse.smarthome.core.transform.TransformationException;
 import org.eclipse.smarthome.core.transform.TransformationService;
 import org.eclipse.smarthome.io.net.exec.ExecUtil;
@@ -21,14 +25,35 @@ import org.slf4j.LoggerFactory;
  */
 public class ExecTransformationService implements TransformationService {
 
+    /**
+     * Command lines starting with this prefix are executed as a co-process, which is kept running and receives the
+     * input data as one line on its standard input for each transformation.
+     */
+    private static final String COPROCESS_PREFIX = "coprocess:";
+
+    private static final int TIMEOUT = 5000;
+
     private final Logger logger = LoggerFactory.getLogger(ExecTransformationService.class);
 
+    /** the command lines of the co-processes started by this service */
+    private final Set<String> coProcessCommandLines = Collections
+            .newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+    protected void deactivate() {
+        for (String coProcessCommandLine : coProcessCommandLines) {
+            ExecUtil.stopCoProcess(coProcessCommandLine);
+        }
+        coProcessCommandLines.clear();
+    }
+
     /**
      * Transforms the input <code>source</code> by the command line.
      * 
      * @param commandLine
      *            the command to execute. Command line should contain %s string,
-     *            which will be replaced by the input data.
+     *            which will be replaced by the input data. If the command line starts with
+     *            <code>coprocess:</code>, the command is started once and the input data is sent as one line to
+     *            its standard input instead, the line it answers with is the result.
      * @param source
      *            the input to transform
      */
@@ -43,8 +68,15 @@ public class ExecTransformationService implements TransformationService {
 
         long startTime = System.currentTimeMillis();
 
-        commandLine = String.format(commandLine, source);
-        String result = ExecUtil.executeCommandLineAndWaitResponse(commandLine, 5000);
+        String result;
+        if (commandLine.startsWith(COPROCESS_PREFIX)) {
+            String coProcessCommandLine = commandLine.substring(COPROCESS_PREFIX.length());
+            coProcessCommandLines.add(coProcessCommandLine);
+            result = ExecUtil.executeCoProcessAndWaitResponse(coProcessCommandLine, source, TIMEOUT);
+        } else {
+            commandLine = String.format(commandLine, source);
+            result = ExecUtil.executeCommandLineAndWaitResponse(commandLine, TIMEOUT);
+        }
         logger.trace("command line execution elapsed {} ms", System.currentTimeMillis() - startTime);
 
         return result;
@@ -8,6 +8,7 @@
 package org.eclipse.smarthome.ui.basic.internal.render;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
@@ -15,7 +16,9 @@ import java.util.Set;
 import org.apache.commons.lang.StringUtils;
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.smarthome.model.sitemap.Chart;
 import org.eclipse.smarthome.model.sitemap.Frame;
+import org.eclipse.smarthome.model.sitemap.Image;
 import org.eclipse.smarthome.model.sitemap.Sitemap;
 import org.eclipse.smarthome.model.sitemap.SitemapProvider;
 import org.eclipse.smarthome.model.sitemap.Widget;
@@ -23,6 +26,8 @@ import org.eclipse.smarthome.ui.basic.internal.WebAppConfig;
 import org.eclipse.smarthome.ui.basic.internal.servlet.WebAppServlet;
 import org.eclipse.smarthome.ui.basic.render.RenderException;
 import org.eclipse.smarthome.ui.basic.render.WidgetRenderer;
+import org.eclipse.smarthome.ui.items.ItemUIRegistry;
+import org.eclipse.smarthome.ui.items.PageCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,13 +48,86 @@ public class PageRenderer extends AbstractWidgetRenderer {
 
     List<WidgetRenderer> widgetRenderers = new ArrayList<WidgetRenderer>();
 
+    private PageCache<String> pageCache;
+
+    @Override
+    public void setItemUIRegistry(ItemUIRegistry itemUIRegistry) {
+        super.setItemUIRegistry(itemUIRegistry);
+        pageCache = new PageCache<>(itemUIRegistry);
+    }
+
+    @Override
+    public void unsetItemUIRegistry(ItemUIRegistry itemUIRegistry) {
+        pageCache.dispose();
+        pageCache = null;
+        super.unsetItemUIRegistry(itemUIRegistry);
+    }
+
     public void addWidgetRenderer(WidgetRenderer widgetRenderer) {
         widgetRenderer.setConfig(config);
         widgetRenderers.add(widgetRenderer);
+        clearPageCache();
     }
 
     public void removeWidgetRenderer(WidgetRenderer widgetRenderer) {
         widgetRenderers.remove(widgetRenderer);
+        clearPageCache();
+    }
+
+    /**
+     * Produces the HTML code for a servlet request like {@link #processPage(String, String, String, EList, boolean)},
+     * but takes it from the page cache, if none of the items of the page has changed since it has been rendered.
+     * Pages with images or charts are always rendered, as their URLs contain the current time.
+     *
+     * @param sitemapModel the sitemap to use
+     * @param page the widget whose children are about to appear on this page, or null for the home page
+     * @param id the id of the parent widget whose children are about to appear on this page
+     * @param sitemap the name of the sitemap
+     * @param label the title of this page
+     * @param children a list of widgets that should appear on this page
+     * @param async true, if this is an asynchronous request. This will use a different HTML skeleton
+     * @return the produced HTML code
+     * @throws RenderException if an error occurs during the processing
+     */
+    public CharSequence processPage(Sitemap sitemapModel, Widget page, final String id, final String sitemap,
+            final String label, final EList<Widget> children, final boolean async) throws RenderException {
+        PageCache<String> cache = pageCache;
+        if (cache == null || !isCacheable(children)) {
+            return processPage(id, sitemap, label, children, async);
+        }
+        Collection<Widget> widgets = new ArrayList<Widget>(children);
+        if (page != null) {
+            widgets.add(page);
+        }
+        return cache.get(sitemapModel, sitemap + "/" + id + "/" + async, widgets,
+                new PageCache.Renderer<String, RenderException>() {
+                    @Override
+                    public String render() throws RenderException {
+                        return processPage(id, sitemap, label, children, async).toString();
+                    }
+                });
+    }
+
+    /**
+     * Removes all pages from the page cache, e.g. if the configuration has changed.
+     */
+    public void clearPageCache() {
+        PageCache<String> cache = pageCache;
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    private boolean isCacheable(EList<Widget> widgets) {
+        for (Widget widget : widgets) {
+            if (widget instanceof Image || widget instanceof Chart) {
+                return false;
+            }
+            if (widget instanceof Frame && !isCacheable(((Frame) widget).getChildren())) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -67,7 +145,7 @@ public class PageRenderer extends AbstractWidgetRenderer {
             throws RenderException {
 
         String snippet = getSnippet(async ? "layer" : "main");
-        snippet = snippet.replaceAll("%id%", id);
+        snippet = StringUtils.replace(snippet, "%id%", id);
 
         // if the label contains a value span, we remove this span as
         // the title of a page/layer cannot deal with this
@@ -191,6 +269,7 @@ public class PageRenderer extends AbstractWidgetRenderer {
         for (WidgetRenderer renderer : widgetRenderers) {
             renderer.setConfig(config);
         }
+        clearPageCache();
     }
 
     public CharSequence renderSitemapList(Set<SitemapProvider> sitemapProviders) throws RenderException {
@@ -95,6 +95,7 @@ public class WebAppServlet extends BaseServlet {
 
     protected void modified(Map<String, Object> configProps) {
         config.applyConfig(configProps);
+        renderer.clearPageCache();
     }
 
     protected void deactivate() {
@@ -154,7 +155,7 @@ public class WebAppServlet extends BaseServlet {
                     res.getWriter().append(getTimeoutResponse()).close();
                     return;
                 }
-                result.append(renderer.processPage(sitemapName, sitemapName, label, sitemap.getChildren(), async));
+                result.append(renderer.processPage(sitemap, null, sitemapName, sitemapName, label, children, async));
             } else if (!widgetId.equals("Colorpicker")) {
                 // we are on some subpage, so we have to render the children of the widget that has been selected
                 Widget w = renderer.getItemUIRegistry().getWidget(sitemap, widgetId);
@@ -172,8 +173,8 @@ public class WebAppServlet extends BaseServlet {
                         res.getWriter().append(getTimeoutResponse()).close();
                         return;
                     }
-                    result.append(renderer.processPage(renderer.getItemUIRegistry().getWidgetId(w), sitemapName, label,
-                            children, async));
+                    result.append(renderer.processPage(sitemap, w, renderer.getItemUIRegistry().getWidgetId(w),
+                            sitemapName, label, children, async));
                 }
             }
         } catch (RenderException e) {
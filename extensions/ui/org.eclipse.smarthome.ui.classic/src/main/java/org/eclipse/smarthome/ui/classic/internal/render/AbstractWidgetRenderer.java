@@ -118,7 +118,8 @@ abstract public class AbstractWidgetRenderer implements WidgetRenderer {
             label = "<span style=\"%labelstyle%\" class=\"iLabel\">" + label.substring(0, index) + "</span>"
                     + label.substring(index);
             // insert the span between the left and right side of the label, if state section exists
-            label = label.replaceAll("\\[", "<span class=\"iValue\" style=\"%valuestyle%\">").replaceAll("\\]",
+            label = StringUtils.replace(
+                    StringUtils.replace(label, "[", "<span class=\"iValue\" style=\"%valuestyle%\">"), "]",
                     "</span>");
         } else {
             label = "<span style=\"%labelstyle%\" class=\"iLabel\">" + label + "</span>";
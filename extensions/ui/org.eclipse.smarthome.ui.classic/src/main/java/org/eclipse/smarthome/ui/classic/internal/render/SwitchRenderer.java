@@ -88,9 +88,9 @@ public class SwitchRenderer extends AbstractWidgetRenderer {
                 state = ((PercentType) state).intValue() > 0 ? OnOffType.ON : OnOffType.OFF;
             }
             if (state.equals(OnOffType.ON)) {
-                snippet = snippet.replaceAll("%checked%", "checked=true");
+                snippet = StringUtils.replace(snippet, "%checked%", "checked=true");
             } else {
-                snippet = snippet.replaceAll("%checked%", "");
+                snippet = StringUtils.replace(snippet, "%checked%", "");
             }
         } else {
             StringBuilder buttons = new StringBuilder();
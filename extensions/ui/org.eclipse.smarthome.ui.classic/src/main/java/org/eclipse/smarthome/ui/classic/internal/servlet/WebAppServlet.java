@@ -91,6 +91,7 @@ public class WebAppServlet extends BaseServlet {
 
     protected void modified(Map<String, Object> configProps) {
         config.applyConfig(configProps);
+        renderer.clearPageCache();
     }
 
     protected void deactivate() {
@@ -139,7 +140,7 @@ public class WebAppServlet extends BaseServlet {
                     res.getWriter().append(getTimeoutResponse()).close();
                     return;
                 }
-                result.append(renderer.processPage("Home", sitemapName, label, sitemap.getChildren(), async));
+                result.append(renderer.processPage(sitemap, null, "Home", sitemapName, label, children, async));
             } else if (!widgetId.equals("Colorpicker")) {
                 // we are on some subpage, so we have to render the children of the widget that has been selected
                 Widget w = renderer.getItemUIRegistry().getWidget(sitemap, widgetId);
@@ -157,8 +158,8 @@ public class WebAppServlet extends BaseServlet {
                         res.getWriter().append(getTimeoutResponse()).close();
                         return;
                     }
-                    result.append(renderer.processPage(renderer.getItemUIRegistry().getWidgetId(w), sitemapName, label,
-                            children, async));
+                    result.append(renderer.processPage(sitemap, w, renderer.getItemUIRegistry().getWidgetId(w),
+                            sitemapName, label, children, async));
                 }
             }
         } catch (RenderException e) {